@@ -0,0 +1,84 @@
+package com.sprint.otboo.recommendation.benchmark;
+
+import com.sprint.otboo.clothing.entity.Clothes;
+import com.sprint.otboo.recommendation.benchmark.WardrobeFixtures.SeasonScenario;
+import com.sprint.otboo.recommendation.benchmark.WardrobeFixtures.WeatherScenario;
+import com.sprint.otboo.recommendation.cache.WardrobeIndex;
+import com.sprint.otboo.recommendation.util.RankedSlots;
+import com.sprint.otboo.recommendation.util.RecommendationEngine;
+import com.sprint.otboo.recommendation.util.RecommendationEngineImpl;
+import com.sprint.otboo.weather.entity.Weather;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 추천 엔진 벤치마크
+ *
+ * <p>
+ * - rankBest: 서비스 진입점(rank)으로 타입별 대표 1개만 유지 (옷장 크기 × 계절 × 날씨)<br>
+ * - rankTop3: 서비스가 실제로 쓰는 깊이, 타입별 상위 3개 힙 유지<br>
+ * - buildIndex: 옷장 인덱스 캐시 미스 시 인덱스 생성 비용 (옷장 크기만 영향)
+ * <p>
+ * 측정 모드/반복 횟수/GC 프로파일러는 build.gradle의 jmh 블록에서 일괄 지정한다.
+ */
+public class RecommendationEngineBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class WardrobeState {
+
+        @Param({"10", "100", "1000", "10000"})
+        int wardrobeSize;
+
+        List<Clothes> clothes;
+        WardrobeIndex index;
+        int[] candidates;
+
+        @Setup
+        public void setUp() {
+            clothes = WardrobeFixtures.wardrobe(wardrobeSize);
+            index = WardrobeIndex.of(0L, clothes, WardrobeFixtures::toOotd);
+            candidates = IntStream.range(0, index.size()).toArray();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WeatherState {
+
+        @Param
+        SeasonScenario season;
+
+        @Param
+        WeatherScenario weather;
+
+        Weather entity;
+        double perceivedTemp;
+
+        @Setup
+        public void setUp() {
+            entity = WardrobeFixtures.weather(season, weather);
+            perceivedTemp = season.perceivedTemp;
+        }
+    }
+
+    private final RecommendationEngine engine = new RecommendationEngineImpl();
+
+    @Benchmark
+    public RankedSlots rankBest(WardrobeState wardrobe, WeatherState weather) {
+        return engine.rank(wardrobe.index, wardrobe.candidates, weather.perceivedTemp, weather.entity, false, 1, 42L);
+    }
+
+    @Benchmark
+    public RankedSlots rankTop3(WardrobeState wardrobe, WeatherState weather) {
+        return engine.rank(wardrobe.index, wardrobe.candidates, weather.perceivedTemp, weather.entity, false, 3, 42L);
+    }
+
+    @Benchmark
+    public WardrobeIndex buildIndex(WardrobeState wardrobe) {
+        return WardrobeIndex.of(0L, wardrobe.clothes, WardrobeFixtures::toOotd);
+    }
+}
@@ -0,0 +1,185 @@
+package com.sprint.otboo.recommendation.benchmark;
+
+import com.sprint.otboo.clothing.dto.data.OotdDto;
+import com.sprint.otboo.clothing.entity.Clothes;
+import com.sprint.otboo.clothing.entity.ClothesAttribute;
+import com.sprint.otboo.clothing.entity.ClothesAttributeDef;
+import com.sprint.otboo.clothing.entity.ClothesType;
+import com.sprint.otboo.weather.entity.PrecipitationType;
+import com.sprint.otboo.weather.entity.SkyStatus;
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WindStrength;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 합성 옷장/날씨 생성기
+ *
+ * <p>
+ * 시드를 고정해 같은 크기면 항상 같은 옷장을 만든다 (실행 간 결과 비교 가능).
+ * 타입 비율과 계절/두께 속성 분포는 실제 옷장에 가깝게 맞췄다.
+ * <ul>
+ *     <li>계절 속성: 20% 없음, 나머지는 4계절 중 하나 (영문/한글 표기 혼용)</li>
+ *     <li>두께 속성: 25% 없음, 10% 두 값 보유, 나머지 한 값</li>
+ *     <li>알 수 없는 속성(색상)도 섞어 속성 해석 비용을 반영</li>
+ * </ul>
+ */
+public final class WardrobeFixtures {
+
+    private static final long SEED = 20251017L;
+
+    // ClothesType 선언 순서와 같은 순서의 출현 가중치 (합 100)
+    private static final int[] TYPE_WEIGHTS = {
+        24, // TOP
+        18, // BOTTOM
+        6,  // DRESS
+        12, // OUTER
+        3,  // UNDERWEAR
+        5,  // ACCESSORY
+        10, // SHOES
+        5,  // SOCKS
+        5,  // HAT
+        5,  // BAG
+        4,  // SCARF
+        3   // ETC
+    };
+
+    private static final String[] SEASON_VALUES = {"SPRING", "SUMMER", "FALL", "WINTER", "봄", "여름", "가을", "겨울"};
+    private static final String[] THICKNESS_VALUES = {"LIGHT", "MEDIUM", "HEAVY", "얇음", "보통", "두꺼움"};
+    private static final String[] COLOR_VALUES = {"Black", "White", "Navy", "Beige", "Red"};
+
+    private static final ClothesAttributeDef SEASON_DEF = definition("계절");
+    private static final ClothesAttributeDef THICKNESS_DEF = definition("thickness");
+    private static final ClothesAttributeDef COLOR_DEF = definition("Color");
+
+    private WardrobeFixtures() {
+    }
+
+    /**
+     * 합성 옷장 생성
+     *
+     * @param size 의상 수
+     * @return 속성까지 채워진 의상 목록
+     */
+    static List<Clothes> wardrobe(int size) {
+        Random random = new Random(SEED + size);
+        List<Clothes> clothes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ClothesType type = pickType(random);
+            clothes.add(Clothes.builder()
+                .id(new UUID(SEED, i))
+                .name(type.name() + "-" + i)
+                .imageUrl("https://example.com/" + i + ".jpg")
+                .type(type)
+                .attributes(attributes(random))
+                .build());
+        }
+        return clothes;
+    }
+
+    static OotdDto toOotd(Clothes clothes) {
+        return new OotdDto(clothes.getId(), clothes.getName(), clothes.getImageUrl(), clothes.getType(), List.of());
+    }
+
+    /**
+     * 계절 대표 체감 온도와 날씨 시나리오로 날씨 생성
+     *
+     * @param season 계절 시나리오
+     * @param scenario 날씨 시나리오
+     * @return 날씨 엔티티 (영속화되지 않음)
+     */
+    static Weather weather(SeasonScenario season, WeatherScenario scenario) {
+        double half = scenario.dailyRange / 2.0;
+        return Weather.builder()
+            .id(new UUID(SEED, season.ordinal() * 31L + scenario.ordinal()))
+            .currentC(season.perceivedTemp)
+            .maxC(season.perceivedTemp + half)
+            .minC(season.perceivedTemp - half)
+            .speedMs(scenario.windSpeed)
+            .asWord(scenario.windSpeed >= 9.0 ? WindStrength.STRONG
+                : scenario.windSpeed >= 4.0 ? WindStrength.MODERATE : WindStrength.WEAK)
+            .skyStatus(scenario.sky)
+            .type(scenario.precipitation)
+            .build();
+    }
+
+    private static ClothesType pickType(Random random) {
+        int roll = random.nextInt(100);
+        ClothesType[] types = ClothesType.values();
+        for (int i = 0; i < types.length; i++) {
+            roll -= TYPE_WEIGHTS[i];
+            if (roll < 0) return types[i];
+        }
+        return ClothesType.ETC;
+    }
+
+    private static List<ClothesAttribute> attributes(Random random) {
+        List<ClothesAttribute> attributes = new ArrayList<>(4);
+        attributes.add(ClothesAttribute.create(null, COLOR_DEF, pick(random, COLOR_VALUES)));
+
+        if (random.nextInt(100) >= 20) {
+            attributes.add(ClothesAttribute.create(null, SEASON_DEF, pick(random, SEASON_VALUES)));
+        }
+
+        int thicknessRoll = random.nextInt(100);
+        if (thicknessRoll >= 25) {
+            attributes.add(ClothesAttribute.create(null, THICKNESS_DEF, pick(random, THICKNESS_VALUES)));
+            if (thicknessRoll >= 90) {
+                attributes.add(ClothesAttribute.create(null, THICKNESS_DEF, pick(random, THICKNESS_VALUES)));
+            }
+        }
+        return attributes;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static ClothesAttributeDef definition(String name) {
+        return ClothesAttributeDef.builder()
+            .id(UUID.nameUUIDFromBytes(name.getBytes()))
+            .name(name)
+            .build();
+    }
+
+    /**
+     * 계절별 대표 체감 온도 (WeatherUtils.classifySeason 구간 안쪽 값)
+     */
+    public enum SeasonScenario {
+        SPRING(19.0),
+        SUMMER(29.0),
+        FALL(11.0),
+        WINTER(-3.0);
+
+        final double perceivedTemp;
+
+        SeasonScenario(double perceivedTemp) {
+            this.perceivedTemp = perceivedTemp;
+        }
+    }
+
+    /**
+     * 추천 규칙 분기를 고르게 타도록 고른 날씨 조합
+     */
+    public enum WeatherScenario {
+        CLEAR_CALM(SkyStatus.CLEAR, PrecipitationType.NONE, 1.5, 3.0),
+        CLOUDY_WINDY(SkyStatus.CLOUDY, PrecipitationType.NONE, 9.5, 4.5),
+        RAIN(SkyStatus.MOSTLY_CLOUDY, PrecipitationType.RAIN, 4.0, 3.0),
+        SNOW(SkyStatus.CLOUDY, PrecipitationType.SNOW, 3.0, 2.0),
+        WIDE_DAILY_RANGE(SkyStatus.CLEAR, PrecipitationType.NONE, 2.0, 10.0);
+
+        final SkyStatus sky;
+        final PrecipitationType precipitation;
+        final double windSpeed;
+        final double dailyRange;
+
+        WeatherScenario(SkyStatus sky, PrecipitationType precipitation, double windSpeed, double dailyRange) {
+            this.sky = sky;
+            this.precipitation = precipitation;
+            this.windSpeed = windSpeed;
+            this.dailyRange = dailyRange;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sprint.otboo.recommendation.benchmark;
+
+import com.sprint.otboo.clothing.entity.attribute.Season;
+import com.sprint.otboo.recommendation.util.WeatherUtils;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * WeatherUtils 벤치마크
+ *
+ * <p>
+ * 상수 폴딩과 분기 예측 편향을 막기 위해 -15~35°C 구간의 고정 시드 입력 SAMPLES개를
+ * 한 번의 호출에서 모두 순회한다 (결과는 호출 1건 기준으로 환산).
+ * 입력에는 민감도 0~5와 계절 경계값 근처 온도가 모두 포함된다.
+ */
+@State(Scope.Benchmark)
+public class WeatherUtilsBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final double[] maxTemps = new double[SAMPLES];
+    private final double[] minTemps = new double[SAMPLES];
+    private final double[] windSpeeds = new double[SAMPLES];
+    private final int[] sensitivities = new int[SAMPLES];
+    private final double[] perceivedTemps = new double[SAMPLES];
+    private final Season[] seasons = new Season[SAMPLES];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20251017L);
+        for (int i = 0; i < SAMPLES; i++) {
+            double min = -15.0 + random.nextDouble() * 45.0;
+            minTemps[i] = min;
+            maxTemps[i] = min + random.nextDouble() * 12.0;
+            windSpeeds[i] = random.nextDouble() * 12.0;
+            sensitivities[i] = random.nextInt(6);
+            perceivedTemps[i] = WeatherUtils.calculatePerceivedTemperature(
+                maxTemps[i], minTemps[i], windSpeeds[i], 0.8, sensitivities[i]);
+            seasons[i] = WeatherUtils.classifySeason(perceivedTemps[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void perceivedFromRange(Blackhole bh) {
+        for (int i = 0; i < SAMPLES; i++) {
+            bh.consume(WeatherUtils.calculatePerceivedTemperature(
+                maxTemps[i], minTemps[i], windSpeeds[i], 0.8, sensitivities[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void perceivedFromCurrent(Blackhole bh) {
+        for (int i = 0; i < SAMPLES; i++) {
+            bh.consume(WeatherUtils.calculatePerceivedTemperature(
+                maxTemps[i], windSpeeds[i], 0.8, sensitivities[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void classifySeason(Blackhole bh) {
+        for (int i = 0; i < SAMPLES; i++) {
+            bh.consume(WeatherUtils.classifySeason(perceivedTemps[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void classifyTemperatureCategory(Blackhole bh) {
+        for (int i = 0; i < SAMPLES; i++) {
+            bh.consume(WeatherUtils.classifyTemperatureCategory(seasons[i], perceivedTemps[i]));
+        }
+    }
+
+    /**
+     * 서비스가 추천 1회마다 거치는 순서 그대로 (체감 온도 → 계절 → 세부 범주)
+     */
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void fullClassification(Blackhole bh) {
+        for (int i = 0; i < SAMPLES; i++) {
+            double perceived = WeatherUtils.calculatePerceivedTemperature(
+                maxTemps[i], minTemps[i], windSpeeds[i], 0.8, sensitivities[i]);
+            Season season = WeatherUtils.classifySeason(perceived);
+            bh.consume(WeatherUtils.classifyTemperatureCategory(season, perceived));
+        }
+    }
+}
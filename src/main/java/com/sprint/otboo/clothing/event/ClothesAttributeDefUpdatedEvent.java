@@ -0,0 +1,7 @@
+package com.sprint.otboo.clothing.event;
+
+public record ClothesAttributeDefUpdatedEvent(
+    String attributeName
+) {
+
+}
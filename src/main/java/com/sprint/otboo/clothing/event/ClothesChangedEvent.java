@@ -0,0 +1,14 @@
+package com.sprint.otboo.clothing.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자 의상이 생성/수정/삭제되었음을 알리는 이벤트
+ *
+ * @param ownerId 의상 소유자 ID
+ */
+public record ClothesChangedEvent(
+    UUID ownerId
+) {
+
+}
@@ -22,7 +22,8 @@ public interface ClothesRepository extends JpaRepository<Clothes, UUID>, Clothes
     @Query("select distinct c from Clothes c " +
         "left join fetch c.attributes a " +
         "left join fetch a.definition " +
-        "where c.user.id = :userId")
+        "where c.user.id = :userId " +
+        "order by c.id")
     List<Clothes> findByUserIdWithAttributes(@Param("userId") UUID userId);
 
     Optional<Clothes> findFirstByType(ClothesType type);
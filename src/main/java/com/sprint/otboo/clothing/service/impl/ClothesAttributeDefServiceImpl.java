@@ -6,6 +6,7 @@ import com.sprint.otboo.clothing.dto.request.ClothesAttributeDefUpdateRequest;
 import com.sprint.otboo.clothing.entity.ClothesAttributeDef;
 import com.sprint.otboo.clothing.event.ClothesAttributeDefCreatedEvent;
 import com.sprint.otboo.clothing.event.ClothesAttributeDefDeletedEvent;
+import com.sprint.otboo.clothing.event.ClothesAttributeDefUpdatedEvent;
 import com.sprint.otboo.clothing.exception.ClothesValidationException;
 import com.sprint.otboo.clothing.mapper.ClothesAttributeDefMapper;
 import com.sprint.otboo.clothing.mapper.ClothesMapper;
@@ -117,6 +118,7 @@ public class ClothesAttributeDefServiceImpl implements ClothesAttributeDefServic
 
         ClothesAttributeDef updated = clothesAttributeDefRepository.save(def);
         log.info("의상 속성 정의 저장 완료 - id: {}", id);
+        eventPublisher.publishEvent(new ClothesAttributeDefUpdatedEvent(updated.getName()));
 
         return clothesMapper.toClothesAttributeDefDto(updated);
     }
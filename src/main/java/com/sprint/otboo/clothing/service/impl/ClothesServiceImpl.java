@@ -8,6 +8,7 @@ import com.sprint.otboo.clothing.entity.Clothes;
 import com.sprint.otboo.clothing.entity.ClothesAttribute;
 import com.sprint.otboo.clothing.entity.ClothesAttributeDef;
 import com.sprint.otboo.clothing.entity.ClothesType;
+import com.sprint.otboo.clothing.event.ClothesChangedEvent;
 import com.sprint.otboo.clothing.exception.ClothesValidationException;
 import com.sprint.otboo.clothing.mapper.ClothesAttributeMapper;
 import com.sprint.otboo.clothing.mapper.ClothesMapper;
@@ -34,6 +35,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -62,6 +64,7 @@ public class ClothesServiceImpl implements ClothesService {
     private final FileStorageService fileStorageService;
     private final UserRepository userRepository;
     private final ClothesAttributeDefRepository defRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ClothesServiceImpl(
         ClothesRepository clothesRepository,
@@ -70,7 +73,8 @@ public class ClothesServiceImpl implements ClothesService {
         ClothesAttributeMapper clothesAttributeMapper,
         @Qualifier("clothingImageStorageService") FileStorageService fileStorageService,
         UserRepository userRepository,
-        ClothesAttributeDefRepository defRepository
+        ClothesAttributeDefRepository defRepository,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.clothesRepository = clothesRepository;
         this.clothesAttributeRepository = clothesAttributeRepository;
@@ -79,6 +83,7 @@ public class ClothesServiceImpl implements ClothesService {
         this.fileStorageService = fileStorageService;
         this.userRepository = userRepository;
         this.defRepository = defRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -141,6 +146,7 @@ public class ClothesServiceImpl implements ClothesService {
 
         Clothes saved = clothesRepository.save(clothes);
         log.info("의상 생성 완료: id = {}, ownerId = {}", saved.getId(), saved.getUser().getId());
+        eventPublisher.publishEvent(new ClothesChangedEvent(saved.getUser().getId()));
 
         return clothesMapper.toDto(saved);
     }
@@ -204,6 +210,7 @@ public class ClothesServiceImpl implements ClothesService {
 
         // 5. 저장
         Clothes saved = clothesRepository.save(updated);
+        eventPublisher.publishEvent(new ClothesChangedEvent(clothes.getUser().getId()));
 
         return clothesMapper.toDto(saved);
     }
@@ -214,6 +221,7 @@ public class ClothesServiceImpl implements ClothesService {
             .orElseThrow(() -> new CustomException(ErrorCode.CLOTHES_NOT_FOUND));
 
         clothesRepository.delete(clothes);
+        eventPublisher.publishEvent(new ClothesChangedEvent(clothes.getUser().getId()));
     }
 
     /**
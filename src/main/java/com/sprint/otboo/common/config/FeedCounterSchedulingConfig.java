@@ -0,0 +1,43 @@
+package com.sprint.otboo.common.config;
+
+import com.sprint.otboo.feed.batch.FeedLikeCountFlusher;
+import com.sprint.otboo.feedsearch.batch.FeedCounterIndexDebouncer;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 피드 카운터 주기 작업 전용 스케줄러.
+ * <p>
+ * 애플리케이션 전체에 {@code @EnableScheduling}을 켜지 않고 이 스케줄러에 직접 등록한다
+ * (다른 {@code @Scheduled} 배치의 실행 여부에 영향을 주지 않는다).
+ * 등록한 작업 빈에 의존하므로 종료 시 스케줄러가 먼저 멈추고, 그 다음 각 작업의 종료 처리가 실행된다.
+ */
+@Configuration
+@Profile("!test")
+public class FeedCounterSchedulingConfig {
+
+    @Bean(name = "feedCounterScheduler")
+    public ThreadPoolTaskScheduler feedCounterScheduler(
+        FeedLikeCountFlusher feedLikeCountFlusher,
+        FeedCounterIndexDebouncer feedCounterIndexDebouncer,
+        @Value("${feed.like-counter.flush-interval-ms:1000}") long flushIntervalMs,
+        @Value("${search.index.counter-debounce-ms:2000}") long counterDebounceMs
+    ) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("feed-counter-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(5);
+        scheduler.initialize();
+
+        scheduler.scheduleWithFixedDelay(feedLikeCountFlusher::scheduledFlush,
+            Duration.ofMillis(Math.max(1L, flushIntervalMs)));
+        scheduler.scheduleWithFixedDelay(feedCounterIndexDebouncer::flush,
+            Duration.ofMillis(Math.max(1L, counterDebounceMs)));
+        return scheduler;
+    }
+}
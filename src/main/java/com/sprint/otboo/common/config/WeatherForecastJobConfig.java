@@ -1,15 +1,34 @@
 package com.sprint.otboo.common.config;
 
-import com.sprint.otboo.weather.batch.task.WeatherCollectTasklet;
+import com.sprint.otboo.weather.batch.partition.WeatherLocationPartitioner;
+import com.sprint.otboo.weather.batch.step.WeatherForecastWriter;
+import com.sprint.otboo.weather.batch.step.WeatherPartitionMetricsListener;
+import com.sprint.otboo.weather.batch.step.WeatherRefreshFilter;
+import com.sprint.otboo.weather.batch.step.WeatherVersionPruneTasklet;
+import com.sprint.otboo.weather.cache.WeatherForecastCache;
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
@@ -18,19 +37,106 @@ public class WeatherForecastJobConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final WeatherForecastCache forecastCache;
+
+    @Value("${weather.batch.grid-size:4}")
+    private int gridSize;
+
+    @Value("${weather.batch.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${weather.batch.skip-limit:1000}")
+    private int skipLimit;
 
     @Bean(name = "weatherForecastJob")
-    public Job weatherForecastJob(Step collectForecastStep) {
+    public Job weatherForecastJob(Step collectForecastStep, Step pruneForecastVersionsStep) {
         return new JobBuilder("weatherForecastJob", jobRepository)
             .incrementer(new RunIdIncrementer())
             .start(collectForecastStep)
+            .next(pruneForecastVersionsStep)
+            .listener(forecastCacheEvictListener())
             .build();
     }
 
+    /** 매니저 스텝: 격자 x 구간으로 나눠 워커 스텝을 제한된 동시성으로 실행 */
     @Bean
-    public Step collectForecastStep(WeatherCollectTasklet tasklet) {
+    public Step collectForecastStep(
+        WeatherLocationPartitioner partitioner,
+        Step collectForecastWorkerStep
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("weather-batch-");
+        executor.setConcurrencyLimit(gridSize);
+
         return new StepBuilder("collectForecastStep", jobRepository)
+            .partitioner("collectForecastWorkerStep", partitioner)
+            .step(collectForecastWorkerStep)
+            .gridSize(gridSize)
+            .taskExecutor(executor)
+            .build();
+    }
+
+    /**
+     * 워커 스텝: 위치 청크 단위 커밋, 재시작 시 reader 상태부터 재개.
+     * 갱신 차례가 아닌(cold/비주기 warm) 위치는 processor에서 걸러 수집하지 않는다.
+     * 청크 트랜잭션은 DB 자원을 잡지 않고(Resourceless), writer가 청크 위치를 한 번에 수집한 뒤
+     * 저장/요약 갱신만 별도 DB 트랜잭션으로 커밋한다 (수집 중 DB 커넥션 미점유).
+     */
+    @Bean
+    public Step collectForecastWorkerStep(
+        JpaPagingItemReader<WeatherLocation> weatherLocationReader,
+        WeatherRefreshFilter refreshFilter,
+        WeatherForecastWriter writer,
+        WeatherPartitionMetricsListener metricsListener
+    ) {
+        return new StepBuilder("collectForecastWorkerStep", jobRepository)
+            .<WeatherLocation, WeatherLocation>chunk(chunkSize, new ResourcelessTransactionManager())
+            .reader(weatherLocationReader)
+            .processor(refreshFilter)
+            .writer(writer)
+            .faultTolerant()
+            .processorNonTransactional()
+            .skip(Exception.class)
+            .skipLimit(skipLimit)
+            .listener((StepExecutionListener) metricsListener)
+            .listener((SkipListener<WeatherLocation, WeatherLocation>) metricsListener)
+            .listener((ChunkListener) writer)
+            .build();
+    }
+
+    /** 이전 발표본 정리: 위치별로 하던 삭제를 잡당 1회 집합 연산으로 수행 */
+    @Bean
+    public Step pruneForecastVersionsStep(WeatherVersionPruneTasklet tasklet) {
+        return new StepBuilder("pruneForecastVersionsStep", jobRepository)
             .tasklet(tasklet, transactionManager)
             .build();
     }
+
+    @Bean
+    @StepScope
+    public JpaPagingItemReader<WeatherLocation> weatherLocationReader(
+        @Value("#{stepExecutionContext['minX']}") Integer minX,
+        @Value("#{stepExecutionContext['maxX']}") Integer maxX
+    ) {
+        return new JpaPagingItemReaderBuilder<WeatherLocation>()
+            .name("weatherLocationReader")
+            .entityManagerFactory(entityManagerFactory)
+            .queryString("SELECT l FROM WeatherLocation l"
+                + " WHERE l.x BETWEEN :minX AND :maxX"
+                + " AND l.latitude IS NOT NULL AND l.longitude IS NOT NULL"
+                + " ORDER BY l.id")
+            .parameterValues(Map.of("minX", minX, "maxX", maxX))
+            .pageSize(chunkSize)
+            .build();
+    }
+
+    // 수집 완료 즉시 격자 캐시를 비워 새 발표본이 다음 요청부터 노출되도록 함
+    private JobExecutionListener forecastCacheEvictListener() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                forecastCache.evictAll();
+            }
+        };
+    }
 }
@@ -6,7 +6,6 @@ import com.sprint.otboo.weather.integration.owm.client.OwmForecastClient;
 import com.sprint.otboo.weather.integration.owm.client.OwmForecastClientImpl;
 import com.sprint.otboo.weather.integration.owm.mapper.DefaultWindStrengthResolver;
 import com.sprint.otboo.weather.integration.owm.mapper.WindStrengthResolver;
-import com.sprint.otboo.weather.integration.spi.WeatherDataClient;
 import io.netty.channel.ChannelOption;
 import java.time.Duration;
 import java.util.Locale;
@@ -49,8 +48,9 @@ public class WeatherOwmConfig {
         );
     }
 
+    // WeatherDataClient(동기) + ReactiveWeatherDataClient(비동기) 모두로 주입되도록 구현 타입으로 등록
     @Bean
-    public WeatherDataClient weatherDataClient(OwmForecastClient client) {
+    public OwmClientAdapter weatherDataClient(OwmForecastClient client) {
         return new OwmClientAdapter(client);
     }
 
@@ -0,0 +1,72 @@
+package com.sprint.otboo.feed.batch;
+
+import com.sprint.otboo.feed.counter.FeedLikeCounter;
+import com.sprint.otboo.feedsearch.event.FeedCountersChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link FeedLikeCounter}에 누적된 좋아요 증감을 feeds.like_count에 주기적으로 일괄 반영
+ *
+ * <p>
+ * 증감을 더하는 UPDATE라 여러 인스턴스가 동시에 반영해도 값이 섞이지 않고,
+ * 피드 ID 순으로 갱신해 인스턴스 간 행 잠금 순서를 맞춘다.
+ * 반영이 끝난 피드는 커밋 이후 검색 문서의 카운터를 갱신하고, 실패하면 증감을 되돌려 다음 주기에 다시 시도한다.
+ * 주기 실행은 전용 스케줄러(FeedCounterSchedulingConfig)가 맡는다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class FeedLikeCountFlusher {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ADD_LIKE_COUNT_SQL =
+        "UPDATE feeds SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+    private final FeedLikeCounter counter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    void flush() {
+        Map<UUID, Long> drained = counter.drain();
+        if (drained.isEmpty()) return;
+
+        List<Map.Entry<UUID, Long>> rows = drained.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .toList();
+        try {
+            txTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, row.getValue());
+                    ps.setObject(2, row.getKey());
+                });
+                rows.forEach(row -> eventPublisher.publishEvent(new FeedCountersChangedEvent(row.getKey())));
+            });
+            log.debug("[FeedLikeCountFlusher] like_count 반영: feeds={}", rows.size());
+        } catch (Exception e) {
+            counter.restore(drained);
+            log.warn("[FeedLikeCountFlusher] like_count 반영 실패, 다음 주기에 재시도: feeds={}", rows.size(), e);
+        }
+    }
+}
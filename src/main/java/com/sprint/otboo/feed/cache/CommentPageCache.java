@@ -0,0 +1,96 @@
+package com.sprint.otboo.feed.cache;
+
+import com.sprint.otboo.common.dto.CursorPageResponse;
+import com.sprint.otboo.feed.dto.data.CommentDto;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드별 최신 댓글 첫 페이지 캐시.
+ * <p>
+ * 인기 피드를 열 때마다 실행되던 댓글 조회를 줄이기 위한 캐시로, 커서 없는 첫 페이지만 (피드, limit) 단위로 보관한다.
+ * 항목은 조회 전에 받은 피드의 댓글 version({@link CommentVersionStore})과 함께 저장하고,
+ * 현재 version과 같을 때만 응답한다. version은 댓글 생성/피드 삭제 커밋 이후 Redis에서 올라가므로
+ * 다른 인스턴스에서 생긴 변경도 다음 조회부터 반영되고, TTL은 메모리 회수용이다.
+ * <p>
+ * 무효화 직전에 DB를 읽은 요청이 이전 페이지를 넣더라도 이전 version으로 저장되므로 응답되지 않는다.
+ */
+@Slf4j
+@Component
+public class CommentPageCache {
+
+    private final long ttlMs;
+    private final int maxFeeds;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    public CommentPageCache(
+        @Value("${feed.comment-cache.ttl-seconds:300}") long ttlSeconds,
+        @Value("${feed.comment-cache.max-feeds:10000}") int maxFeeds
+    ) {
+        this.ttlMs = Duration.ofSeconds(Math.max(1L, ttlSeconds)).toMillis();
+        this.maxFeeds = Math.max(1, maxFeeds);
+    }
+
+    /**
+     * 캐시된 첫 페이지
+     *
+     * @param version 현재 댓글 version ({@link CommentVersionStore#current(UUID)})
+     * @return 없거나 만료되었거나 version이 다르면 null
+     */
+    public CursorPageResponse<CommentDto> get(UUID feedId, int limit, long version) {
+        Entry entry = entries.get(feedId);
+        if (entry == null) return null;
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(feedId, entry);
+            return null;
+        }
+        if (entry.version() != version) return null;
+        return entry.pages().get(limit);
+    }
+
+    /**
+     * 첫 페이지 저장 (이미 더 새 version의 항목이 있으면 저장하지 않음)
+     *
+     * @param version DB 조회 전에 받은 댓글 version
+     */
+    public void put(UUID feedId, int limit, long version, CursorPageResponse<CommentDto> page) {
+        Entry entry = entries.compute(feedId, (id, current) ->
+            current == null
+                || current.expiresAt() <= System.currentTimeMillis()
+                || current.version() < version
+                ? new Entry(version, new ConcurrentHashMap<>(), System.currentTimeMillis() + ttlMs)
+                : current);
+        if (entry.version() != version) return;
+
+        entry.pages().put(limit, page);
+        if (entries.size() > maxFeeds) {
+            trim();
+        }
+    }
+
+    /** 이 인스턴스의 항목을 바로 비운다 (다른 인스턴스는 version으로 무효화) */
+    public void evict(UUID feedId) {
+        entries.remove(feedId);
+    }
+
+    /** 용량 초과 시 만료 시각이 이른 피드부터 10%를 비운다 */
+    private void trim() {
+        int excess = entries.size() - maxFeeds + Math.max(1, maxFeeds / 10);
+        entries.entrySet().stream()
+            .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+            .limit(excess)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(entries::remove);
+        log.debug("[comment-cache] trimmed {} feeds", excess);
+    }
+
+    private record Entry(long version, Map<Integer, CursorPageResponse<CommentDto>> pages, long expiresAt) {}
+}
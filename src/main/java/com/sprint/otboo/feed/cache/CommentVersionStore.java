@@ -0,0 +1,67 @@
+package com.sprint.otboo.feed.cache;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드별 댓글 version (Redis INCR, 만료 없음)
+ * <p>
+ * 댓글이 생성되거나 피드가 삭제되면 커밋 이후 1씩 올린다.
+ * 모든 인스턴스가 같은 값을 보므로, 다른 인스턴스에서 생긴 변경도 다음 조회부터 캐시를 무효화한다.
+ * <p>
+ * Redis 장애 시 조회는 {@link #UNKNOWN}을 반환하며, 이 경우 댓글 첫 페이지 캐시를 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentVersionStore {
+
+    public static final String KEY_PREFIX = "comment:version:";
+    public static final long UNKNOWN = -1L;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public static String key(UUID feedId) {
+        return KEY_PREFIX + feedId;
+    }
+
+    /**
+     * 현재 댓글 version 조회
+     *
+     * @param feedId 피드 ID
+     * @return 댓글 version (한 번도 바뀐 적 없으면 0), Redis 장애 시 {@link #UNKNOWN}
+     */
+    public long current(UUID feedId) {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(key(feedId));
+        } catch (RuntimeException e) {
+            log.warn("[comment-version] read failed. feed={}, cause={}", feedId, e.getMessage());
+            return UNKNOWN;
+        }
+        if (value == null) return 0L;
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("[comment-version] malformed value. feed={}, value={}", feedId, value);
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * 댓글 생성/피드 삭제 시 댓글 version 증가
+     *
+     * @param feedId 피드 ID
+     */
+    public void bump(UUID feedId) {
+        try {
+            redisTemplate.opsForValue().increment(key(feedId));
+        } catch (RuntimeException e) {
+            log.warn("[comment-version] bump failed. feed={}, cause={}", feedId, e.getMessage());
+        }
+    }
+}
@@ -148,7 +148,10 @@ public interface FeedApi {
 
         @Parameter(description = "authorIdEqual")
         @RequestParam(name = "authorIdEqual", required = false)
-        UUID authorIdEqual
+        UUID authorIdEqual,
+
+        @Parameter(hidden = true)
+        CustomUserDetails principal
     );
 
     @Operation(summary = " 피드 수정", description = "피드 수정 API")
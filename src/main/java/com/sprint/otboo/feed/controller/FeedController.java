@@ -55,7 +55,8 @@ public class FeedController implements FeedApi {
         @RequestParam(required = false) String keywordLike,
         @RequestParam(name = "skyStatusEqual", required = false) SkyStatus skyStatusEqual,
         @RequestParam(name = "precipitationTypeEqual", required = false) PrecipitationType precipitationTypeEqual,
-        @RequestParam(name = "authorIdEqual", required = false) UUID authorIdEqual
+        @RequestParam(name = "authorIdEqual", required = false) UUID authorIdEqual,
+        @AuthenticationPrincipal CustomUserDetails principal
     ) {
         log.info(
             "[FeedController] 피드 목록 조회 요청: cursor={}, idAfter={}, limit={}, sortBy={}, sortDirection={}, keywordLike={}, skyStatusEqual={}, precipitationTypeEqual={}, authorIdEqual={}",
@@ -71,7 +72,8 @@ public class FeedController implements FeedApi {
             keywordLike,
             skyStatusEqual,
             precipitationTypeEqual,
-            authorIdEqual
+            authorIdEqual,
+            principal != null ? principal.getUserId() : null
         );
 
         log.info("[FeedController] 피드 목록 조회 완료: count={}, hasNext={}",
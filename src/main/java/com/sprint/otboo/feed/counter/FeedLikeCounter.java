@@ -0,0 +1,95 @@
+package com.sprint.otboo.feed.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 아직 DB(feeds.like_count)에 반영되지 않은 피드별 좋아요 증감 누적기
+ *
+ * <p>
+ * 좋아요 등록/취소는 피드 행을 갱신하지 않고 여기에 증감만 더한다.
+ * 피드마다 {@link LongAdder}를 두어 같은 피드에 요청이 몰려도 스레드끼리 경합하지 않으며,
+ * {@code FeedLikeCountFlusher}가 주기적으로 {@link #drain()}해 한 번에 DB에 반영한다.
+ * 조회 시에는 {@link #pending(UUID)}을 더해 반영 전 증감까지 보여준다.
+ * <p>
+ * 인스턴스별 메모리 누적이므로 다른 인스턴스의 증감은 flush 이후에 보인다.
+ */
+@Component
+public class FeedLikeCounter {
+
+    private final Map<UUID, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    // 직전 drain에서 0이라 떼어낸 누적기. 떼어내는 순간 증가 중이던 요청의 값을 다음 drain에서 회수
+    private Map<UUID, LongAdder> retired = new HashMap<>();
+
+    /**
+     * 증감 누적 (트랜잭션 안이면 커밋 이후에 반영)
+     *
+     * @param feedId 피드 ID
+     * @param delta 증감 값 (좋아요 +1, 취소 -1)
+     */
+    public void add(UUID feedId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(feedId, delta);
+                }
+            });
+            return;
+        }
+        apply(feedId, delta);
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 증감
+     */
+    public long pending(UUID feedId) {
+        LongAdder adder = deltas.get(feedId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 증감을 꺼내고 0으로 초기화 (flush 스레드 전용)
+     *
+     * @return 피드별 증감 (0인 피드는 제외)
+     */
+    public synchronized Map<UUID, Long> drain() {
+        Map<UUID, Long> drained = new HashMap<>();
+        retired.forEach((feedId, adder) -> collect(drained, feedId, adder.sumThenReset()));
+        retired = new HashMap<>();
+
+        deltas.forEach((feedId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                collect(drained, feedId, delta);
+            } else if (deltas.remove(feedId, adder)) {
+                retired.put(feedId, adder);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 증감을 되돌려 다음 flush에서 다시 시도
+     */
+    public void restore(Map<UUID, Long> drained) {
+        drained.forEach(this::apply);
+    }
+
+    private void apply(UUID feedId, long delta) {
+        deltas.computeIfAbsent(feedId, id -> new LongAdder()).add(delta);
+    }
+
+    private static void collect(Map<UUID, Long> drained, UUID feedId, long delta) {
+        if (delta != 0) {
+            drained.merge(feedId, delta, Long::sum);
+        }
+    }
+}
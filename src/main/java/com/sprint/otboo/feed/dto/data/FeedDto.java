@@ -20,4 +20,13 @@ public record FeedDto(
     boolean likedByMe
 ) {
 
+    public FeedDto withLikeCount(long likeCount) {
+        return new FeedDto(id, createdAt, updatedAt, author, weather, ootds, content, likeCount,
+            commentCount, likedByMe);
+    }
+
+    public FeedDto withLikedByMe(boolean likedByMe) {
+        return new FeedDto(id, createdAt, updatedAt, author, weather, ootds, content, likeCount,
+            commentCount, likedByMe);
+    }
 }
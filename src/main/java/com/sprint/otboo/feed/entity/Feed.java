@@ -6,6 +6,7 @@ import com.sprint.otboo.user.entity.User;
 import com.sprint.otboo.weather.entity.Weather;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
@@ -36,10 +37,12 @@ public class Feed extends BaseUpdatableEntity {
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "like_count", nullable = false)
+    // FeedLikeCountFlusher가 증감 UPDATE로만 갱신 (엔티티 변경 감지가 덮어쓰지 않도록 updatable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
     private long likeCount;
 
-    @Column(name = "comment_count", nullable = false)
+    // 댓글 생성 시 증감 UPDATE로만 갱신 (엔티티 변경 감지가 덮어쓰지 않도록 updatable = false)
+    @Column(name = "comment_count", nullable = false, updatable = false)
     private long commentCount;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -55,7 +58,7 @@ public class Feed extends BaseUpdatableEntity {
     @JoinColumn(
         name = "weather_id",
         nullable = false,
-        foreignKey = @ForeignKey(name = "fk_feeds_weather")
+        foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)
     )
     private Weather weather;
 
@@ -81,15 +84,7 @@ public class Feed extends BaseUpdatableEntity {
         this.feedClothes.add(link);
     }
 
-    public void increaseLikeCount() {
-        this.likeCount = this.likeCount + 1;
-    }
-
     public void softDelete() {
         this.deleted = true;
     }
-
-    public void decreaseLikeCount() {
-        this.likeCount = this.likeCount - 1;
-    }
 }
@@ -0,0 +1,9 @@
+package com.sprint.otboo.feed.event;
+
+import java.util.UUID;
+
+public record CommentChangedEvent(
+    UUID feedId
+) {
+
+}
@@ -0,0 +1,40 @@
+package com.sprint.otboo.feed.listener;
+
+import com.sprint.otboo.feed.cache.CommentPageCache;
+import com.sprint.otboo.feed.cache.CommentVersionStore;
+import com.sprint.otboo.feed.event.CommentChangedEvent;
+import com.sprint.otboo.feedsearch.event.FeedDeletedEvent;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 댓글 생성/피드 삭제 시 댓글 첫 페이지 캐시를 무효화
+ *
+ * <p>커밋 이후에 공용 댓글 version을 올려야 모든 인스턴스의 다음 조회가 변경된 데이터를 읽는다.
+ * 이 인스턴스의 캐시 항목은 바로 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentPageCacheListener {
+
+    private final CommentVersionStore commentVersionStore;
+    private final CommentPageCache commentPageCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentChanged(CommentChangedEvent event) {
+        invalidate(event.feedId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFeedDeleted(FeedDeletedEvent event) {
+        invalidate(event.feedId());
+    }
+
+    private void invalidate(UUID feedId) {
+        commentVersionStore.bump(feedId);
+        commentPageCache.evict(feedId);
+    }
+}
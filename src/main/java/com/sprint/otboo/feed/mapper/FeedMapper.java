@@ -44,6 +44,9 @@ public interface FeedMapper {
     })
     FeedDoc toDoc(Feed feed);
 
+    // 검색 문서(_source)의 필드가 FeedDto와 같으므로 그대로 복사 (likedByMe는 문서에 저장된 기본값)
+    FeedDto toDto(FeedDoc doc);
+
     @Named("toMillis")
     public static Instant toMillis(Instant t) {
         return (t == null) ? null : Instant.ofEpochMilli(t.toEpochMilli());
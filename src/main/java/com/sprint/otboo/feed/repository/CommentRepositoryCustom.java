@@ -12,6 +12,4 @@ public interface CommentRepositoryCustom {
         UUID idAfter,
         int limit
     );
-
-    long countByFeedId(UUID feedId);
 }
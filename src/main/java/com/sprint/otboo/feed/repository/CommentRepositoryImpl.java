@@ -66,13 +66,4 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
 
         return result;
     }
-
-    public long countByFeedId(UUID feedId) {
-        Long cnt = queryFactory
-            .select(comment.count())
-            .from(comment)
-            .where(comment.feed.id.eq(feedId))
-            .fetchOne();
-        return cnt != null ? cnt : 0L;
-    }
 }
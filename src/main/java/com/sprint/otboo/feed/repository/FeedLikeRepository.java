@@ -1,8 +1,14 @@
 package com.sprint.otboo.feed.repository;
 
 import com.sprint.otboo.feed.entity.FeedLike;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,5 +16,27 @@ public interface FeedLikeRepository extends JpaRepository<FeedLike, UUID> {
 
     boolean existsByFeedIdAndUserId(UUID feedId, UUID userId);
 
-    int deleteByFeedIdAndUserId(UUID feedId, UUID userId);
+    // 중복 확인 없이 INSERT 한 번으로 등록. 이미 좋아요했거나 사용자가 없으면 0 반환
+    @Modifying
+    @Query(value = """
+        INSERT INTO feed_likes (id, feed_id, user_id, created_at)
+        SELECT :id, :feedId, :userId, :createdAt
+        WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = :userId)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(
+        @Param("id") UUID id,
+        @Param("feedId") UUID feedId,
+        @Param("userId") UUID userId,
+        @Param("createdAt") Instant createdAt
+    );
+
+    // 엔티티를 읽지 않고 DELETE 한 번으로 삭제
+    @Modifying
+    @Query("DELETE FROM FeedLike fl WHERE fl.feed.id = :feedId AND fl.user.id = :userId")
+    int deleteByFeedIdAndUserId(@Param("feedId") UUID feedId, @Param("userId") UUID userId);
+
+    // 피드 목록 한 페이지의 좋아요 여부를 한 번에 조회 (uq_feed_likes(feed_id, user_id) 인덱스 사용)
+    @Query("SELECT fl.feed.id FROM FeedLike fl WHERE fl.user.id = :userId AND fl.feed.id IN :feedIds")
+    Set<UUID> findLikedFeedIds(@Param("userId") UUID userId, @Param("feedIds") Collection<UUID> feedIds);
 }
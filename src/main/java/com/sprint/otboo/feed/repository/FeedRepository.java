@@ -1,8 +1,12 @@
 package com.sprint.otboo.feed.repository;
 
 import com.sprint.otboo.feed.entity.Feed;
+import com.sprint.otboo.feedsearch.dto.FeedCounters;
+import com.sprint.otboo.feedsearch.dto.FeedVersion;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -18,4 +22,29 @@ public interface FeedRepository extends JpaRepository<Feed, UUID>, FeedRepositor
             order by f.updatedAt asc, f.id asc
         """)
     List<UUID> findDeletedIdsSince(Instant updatedAt, UUID id, Pageable pageable);
+
+    // 피드 엔티티를 읽지 않고 작성자 ID만 조회 (존재 확인 겸용)
+    @Query("select f.author.id from Feed f where f.id = :feedId")
+    Optional<UUID> findAuthorIdById(UUID feedId);
+
+    // 댓글 수를 읽지 않고 원자적으로 증가
+    @Modifying
+    @Query(value = "UPDATE feeds SET comment_count = comment_count + 1 WHERE id = :feedId", nativeQuery = true)
+    int incrementCommentCount(UUID feedId);
+
+    // 검색 문서 카운터 부분 갱신용 (삭제된 피드는 제외)
+    @Query("""
+            select new com.sprint.otboo.feedsearch.dto.FeedCounters(f.id, f.likeCount, f.commentCount)
+            from Feed f
+            where f.id in :ids and f.deleted = false
+        """)
+    List<FeedCounters> findCountersByIdIn(Collection<UUID> ids);
+
+    // 검색 문서 최신 여부 확인용 (삭제된 피드는 제외)
+    @Query("""
+            select new com.sprint.otboo.feedsearch.dto.FeedVersion(f.id, f.updatedAt)
+            from Feed f
+            where f.id in :ids and f.deleted = false
+        """)
+    List<FeedVersion> findVersionsByIdIn(Collection<UUID> ids);
 }
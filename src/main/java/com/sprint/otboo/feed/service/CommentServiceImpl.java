@@ -3,13 +3,17 @@ package com.sprint.otboo.feed.service;
 import com.sprint.otboo.common.dto.CursorPageResponse;
 import com.sprint.otboo.common.exception.feed.FeedNotFoundException;
 import com.sprint.otboo.common.exception.user.UserNotFoundException;
+import com.sprint.otboo.feed.cache.CommentPageCache;
+import com.sprint.otboo.feed.cache.CommentVersionStore;
 import com.sprint.otboo.feed.dto.data.CommentDto;
 import com.sprint.otboo.feed.entity.Comment;
 import com.sprint.otboo.feed.entity.Feed;
+import com.sprint.otboo.feed.event.CommentChangedEvent;
 import com.sprint.otboo.feed.event.FeedCommentedEvent;
 import com.sprint.otboo.feed.mapper.CommentMapper;
 import com.sprint.otboo.feed.repository.CommentRepository;
 import com.sprint.otboo.feed.repository.FeedRepository;
+import com.sprint.otboo.feedsearch.event.FeedCountersChangedEvent;
 import com.sprint.otboo.user.entity.User;
 import com.sprint.otboo.user.repository.UserRepository;
 import java.util.List;
@@ -31,6 +35,8 @@ public class CommentServiceImpl implements CommentService {
     private final CommentMapper commentMapper;
     private final UserRepository userRepository;
     private final FeedRepository feedRepository;
+    private final CommentPageCache commentPageCache;
+    private final CommentVersionStore commentVersionStore;
     private final ApplicationEventPublisher eventPublisher;
 
     @Override
@@ -51,8 +57,12 @@ public class CommentServiceImpl implements CommentService {
             .build();
 
         Comment saved = commentRepository.save(entity);
+        feedRepository.incrementCommentCount(feedId);
         log.debug("[CommentServiceImpl] 댓글 생성 완료: commentId={}", saved.getId());
 
+        eventPublisher.publishEvent(new CommentChangedEvent(feedId));
+        eventPublisher.publishEvent(new FeedCountersChangedEvent(feedId));
+
         eventPublisher.publishEvent(new FeedCommentedEvent(
             feed.getAuthor().getId(),
             author.getId(),
@@ -68,7 +78,20 @@ public class CommentServiceImpl implements CommentService {
         int limit) {
         log.debug("[CommentServiceImpl] 댓글 조회 시작: feedId={}, cursor={}, idAfter={}, limit={}",
             feedId, cursor, idAfter, limit);
-        feedRepository.findById(feedId)
+
+        // 커서 없는 첫 페이지는 캐시에서 응답 (DB 조회 전에 받은 댓글 version과 함께 저장/검증)
+        boolean firstPage = cursor == null && idAfter == null;
+        long version = firstPage ? commentVersionStore.current(feedId) : CommentVersionStore.UNKNOWN;
+        boolean cacheable = version != CommentVersionStore.UNKNOWN;
+        if (cacheable) {
+            CursorPageResponse<CommentDto> cached = commentPageCache.get(feedId, limit, version);
+            if (cached != null) {
+                log.debug("[CommentServiceImpl] 댓글 첫 페이지 캐시 적중: feedId={}", feedId);
+                return cached;
+            }
+        }
+
+        Feed feed = feedRepository.findById(feedId)
             .orElseThrow(() -> FeedNotFoundException.withId(feedId));
 
         List<Comment> fetched = commentRepository.findByFeedId(feedId, cursor, idAfter, limit);
@@ -78,7 +101,8 @@ public class CommentServiceImpl implements CommentService {
         log.debug("[CommentServiceImpl] fetched={}, rows={}, hasNext={}", fetched.size(),
             rows.size(), hasNext);
 
-        long totalCount = commentRepository.countByFeedId(feedId);
+        // count(*) 대신 댓글 생성 시 유지되는 피드의 댓글 수 사용
+        long totalCount = feed.getCommentCount();
         log.debug("[CommentServiceImpl] totalCount={}", totalCount);
 
         List<CommentDto> data = rows.stream()
@@ -106,6 +130,10 @@ public class CommentServiceImpl implements CommentService {
             sortDirection
         );
 
+        if (cacheable) {
+            commentPageCache.put(feedId, limit, version, response);
+        }
+
         log.info(
             "[CommentServiceImpl] 댓글 조회 완료: nextCursor={}, nextIdAfter={}, hasNext={}, size={}",
             nextCursor, nextIdAfter, hasNext, rows.size());
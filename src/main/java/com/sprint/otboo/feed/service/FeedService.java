@@ -21,7 +21,8 @@ public interface FeedService {
         String keywordLike,
         SkyStatus skyStatus,
         PrecipitationType precipitationType,
-        UUID authorId);
+        UUID authorId,
+        UUID viewerId);
 
     FeedDto update(UUID authorId, UUID feedId, FeedUpdateRequest request);
 
@@ -16,7 +16,11 @@ import com.sprint.otboo.feed.dto.request.FeedUpdateRequest;
 import com.sprint.otboo.feed.entity.Feed;
 import com.sprint.otboo.feed.event.FeedCreatedEvent;
 import com.sprint.otboo.feed.mapper.FeedMapper;
+import com.sprint.otboo.feed.counter.FeedLikeCounter;
+import com.sprint.otboo.feed.repository.FeedLikeRepository;
 import com.sprint.otboo.feed.repository.FeedRepository;
+import com.sprint.otboo.feedsearch.dto.FeedDoc;
+import com.sprint.otboo.feedsearch.dto.FeedVersion;
 import com.sprint.otboo.feedsearch.event.FeedChangedEvent;
 import com.sprint.otboo.feedsearch.event.FeedDeletedEvent;
 import com.sprint.otboo.feedsearch.repository.FeedSearchRepository;
@@ -28,10 +32,12 @@ import com.sprint.otboo.weather.entity.Weather;
 import com.sprint.otboo.weather.repository.WeatherRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -42,6 +48,8 @@ import java.util.stream.Collectors;
 public class FeedServiceImpl implements FeedService {
 
     private final FeedRepository feedRepository;
+    private final FeedLikeRepository feedLikeRepository;
+    private final FeedLikeCounter feedLikeCounter;
     private final UserRepository userRepository;
     private final WeatherRepository weatherRepository;
     private final ClothesRepository clothesRepository;
@@ -53,6 +61,15 @@ public class FeedServiceImpl implements FeedService {
     private static final Set<String> ALLOWED_SORT_BY = Set.of("createdAt", "likeCount");
     private static final Set<String> ALLOWED_SORT_DIR = Set.of("ASCENDING", "DESCENDING");
 
+    // true: 검색 결과 문서(_source)로 응답 구성, 불완전한 문서만 DB 조회 / false: ID만 받아 DB에서 재조회
+    @Value("${feed.read.hydrate-from-index:true}")
+    private boolean hydrateFromIndex;
+
+    // 문서의 updatedAt은 변경 커밋 직후 재색인으로 맞춰지므로 기본은 검사하지 않음 (ES 조회 1회로 응답)
+    // true: 페이지마다 DB의 (id, updatedAt)을 조회해 오래된 문서는 DB에서 다시 읽고 삭제된 피드는 제외
+    @Value("${feed.read.verify-index-version:false}")
+    private boolean verifyIndexVersion;
+
     @Override
     @Transactional
     public FeedDto create(FeedCreateRequest request) {
@@ -127,52 +144,143 @@ public class FeedServiceImpl implements FeedService {
         String keywordLike,
         SkyStatus skyStatus,
         PrecipitationType precipitationType,
-        UUID authorId
+        UUID authorId,
+        UUID viewerId
     ) {
 
         log.info(
-            "[FeedService] getFeeds in: cursor={}, idAfter={}, limit={}, sortBy={}, sortDirection={}, keyword={}, skyStatus={}, precipitationType={}, authorId={}",
+            "[FeedService] getFeeds in: cursor={}, idAfter={}, limit={}, sortBy={}, sortDirection={}, keyword={}, skyStatus={}, precipitationType={}, authorId={}, viewerId={}",
             cursor, idAfter, limit, sortBy, sortDirection,
             keywordLike,
-            skyStatus, precipitationType, authorId
+            skyStatus, precipitationType, authorId, viewerId
         );
         validatePaging(limit, sortBy, sortDirection);
 
-        CursorPageResponse<UUID> idPage = esFeedRepository.searchIds(
-            cursor, idAfter, limit, sortBy, sortDirection,
-            keywordLike, skyStatus, precipitationType, authorId
-        );
-
-        List<UUID> ids = idPage.data();
+        CursorPageResponse<?> page;
         List<FeedDto> data;
-        if (ids.isEmpty()) {
-            data = List.of();
+        if (hydrateFromIndex) {
+            CursorPageResponse<FeedDoc> docPage = esFeedRepository.searchDocs(
+                cursor, idAfter, limit, sortBy, sortDirection,
+                keywordLike, skyStatus, precipitationType, authorId
+            );
+            page = docPage;
+            data = hydrateFromDocs(docPage.data());
         } else {
-            List<Feed> rows = feedRepository.findAllById(ids);
-            Map<UUID, Integer> order = new HashMap<>();
-            for (int i = 0; i < ids.size(); i++) {
-                order.put(ids.get(i), i);
-            }
-            data = rows.stream()
-                .sorted(Comparator.comparingInt(f -> order.get(f.getId())))
-                .map(feedMapper::toDto)
-                .toList();
+            CursorPageResponse<UUID> idPage = esFeedRepository.searchIds(
+                cursor, idAfter, limit, sortBy, sortDirection,
+                keywordLike, skyStatus, precipitationType, authorId
+            );
+            page = idPage;
+            data = hydrateFromDatabase(idPage.data());
         }
+        data = resolveLikedByMe(data.stream().map(this::withPendingLikes).toList(), viewerId);
 
         long total = esFeedRepository.countByFilters(keywordLike, skyStatus, precipitationType,
             authorId);
 
         return new CursorPageResponse<>(
             data,
-            idPage.nextCursor(),
-            idPage.nextIdAfter(),
-            idPage.hasNext(),
+            page.nextCursor(),
+            page.nextIdAfter(),
+            page.hasNext(),
             total,
             sortBy,
             sortDirection
         );
     }
 
+    /**
+     * 검색 문서로 DTO 구성. 작성자/날씨/의상이 빠진 문서(이전 형식으로 색인된 문서)만 DB에서 다시 읽는다.
+     * DB에도 없는 피드(색인 삭제 전 제거된 피드)는 제외한다.
+     * 버전 검사를 켜면 DB보다 오래된 문서도 다시 읽는다.
+     */
+    private List<FeedDto> hydrateFromDocs(List<FeedDoc> docs) {
+        if (docs.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Instant> versions = verifyIndexVersion ? findVersions(docs) : null;
+        List<FeedDoc> present = versions == null
+            ? docs
+            : docs.stream().filter(d -> versions.containsKey(d.id())).toList();
+
+        List<UUID> staleIds = present.stream()
+            .filter(d -> !isFresh(d, versions))
+            .map(FeedDoc::id)
+            .toList();
+        Map<UUID, FeedDto> reloaded = new HashMap<>();
+        if (!staleIds.isEmpty()) {
+            log.debug("[FeedService] 불완전하거나 오래된 검색 문서 DB 조회: ids={}", staleIds);
+            for (FeedDto dto : hydrateFromDatabase(staleIds)) {
+                reloaded.put(dto.id(), dto);
+            }
+        }
+
+        List<FeedDto> data = new ArrayList<>(present.size());
+        for (FeedDoc doc : present) {
+            FeedDto dto = isFresh(doc, versions) ? feedMapper.toDto(doc) : reloaded.get(doc.id());
+            if (dto != null) {
+                data.add(dto);
+            }
+        }
+        return data;
+    }
+
+    /** 페이지 피드의 DB updatedAt (삭제된 피드는 없음). 검색 문서와 같은 밀리초 정밀도로 맞춘다 */
+    private Map<UUID, Instant> findVersions(List<FeedDoc> docs) {
+        Map<UUID, Instant> versions = new HashMap<>();
+        for (FeedVersion version : feedRepository.findVersionsByIdIn(docs.stream().map(FeedDoc::id).toList())) {
+            versions.put(version.id(), FeedMapper.toMillis(version.updatedAt()));
+        }
+        return versions;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 증감을 더해 거의 실시간 likeCount 제공
+     */
+    private FeedDto withPendingLikes(FeedDto dto) {
+        long pending = feedLikeCounter.pending(dto.id());
+        return pending == 0 ? dto : dto.withLikeCount(Math.max(0L, dto.likeCount() + pending));
+    }
+
+    /**
+     * 조회자의 좋아요 여부를 페이지 단위 쿼리 1회로 반영 (페이지 크기와 무관하게 고정 비용)
+     */
+    private List<FeedDto> resolveLikedByMe(List<FeedDto> data, UUID viewerId) {
+        if (viewerId == null || data.isEmpty()) {
+            return data;
+        }
+        Set<UUID> liked = feedLikeRepository.findLikedFeedIds(
+            viewerId, data.stream().map(FeedDto::id).toList());
+        if (liked.isEmpty()) {
+            return data;
+        }
+        return data.stream()
+            .map(d -> liked.contains(d.id()) ? d.withLikedByMe(true) : d)
+            .toList();
+    }
+
+    private static boolean isFresh(FeedDoc doc, Map<UUID, Instant> versions) {
+        return doc.author() != null && doc.weather() != null && doc.ootds() != null
+            && (versions == null || Objects.equals(doc.updatedAt(), versions.get(doc.id())));
+    }
+
+    /** ID 순서대로 피드를 DB에서 읽어 DTO 구성 (작성자/날씨/의상 지연 로딩) */
+    private List<FeedDto> hydrateFromDatabase(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Feed> rows = feedRepository.findAllById(ids);
+        Map<UUID, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.put(ids.get(i), i);
+        }
+        return rows.stream()
+            .sorted(Comparator.comparingInt(f -> order.get(f.getId())))
+            .map(feedMapper::toDto)
+            .toList();
+    }
+
     @Override
     @Transactional
     public void delete(UUID userId, UUID feedId) {
@@ -2,14 +2,12 @@ package com.sprint.otboo.feed.service;
 
 import com.sprint.otboo.common.exception.feed.FeedNotFoundException;
 import com.sprint.otboo.common.exception.user.UserNotFoundException;
-import com.sprint.otboo.feed.entity.Feed;
-import com.sprint.otboo.feed.entity.FeedLike;
+import com.sprint.otboo.feed.counter.FeedLikeCounter;
 import com.sprint.otboo.feed.event.FeedLikedEvent;
 import com.sprint.otboo.feed.repository.FeedLikeRepository;
 import com.sprint.otboo.feed.repository.FeedRepository;
-import com.sprint.otboo.feedsearch.event.FeedChangedEvent;
-import com.sprint.otboo.user.entity.User;
 import com.sprint.otboo.user.repository.UserRepository;
+import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +15,13 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 좋아요 등록/취소
+ *
+ * <p>
+ * feed_likes에는 INSERT/DELETE 한 번만 실행하고 피드 행은 갱신하지 않는다.
+ * likeCount 증감은 {@link FeedLikeCounter}에 누적되어 주기적으로 DB와 검색 인덱스에 반영된다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,6 +30,7 @@ public class LikeServiceImpl implements LikeService {
     private final FeedRepository feedRepository;
     private final UserRepository userRepository;
     private final FeedLikeRepository feedLikeRepository;
+    private final FeedLikeCounter feedLikeCounter;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -32,24 +38,23 @@ public class LikeServiceImpl implements LikeService {
     public void addLike(UUID feedId, UUID userId) {
         log.debug("[LikeServiceImpl] 좋아요 등록 요청: feedId={}, userId={}",
             feedId, userId);
-        Feed feed = feedRepository.findById(feedId)
+        UUID authorId = feedRepository.findAuthorIdById(feedId)
             .orElseThrow(() -> FeedNotFoundException.withId(feedId));
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> UserNotFoundException.withId(userId));
 
-        boolean exists = feedLikeRepository.existsByFeedIdAndUserId(feedId, userId);
-        if (exists) {
+        int inserted = feedLikeRepository.insertIfAbsent(UUID.randomUUID(), feedId, userId, Instant.now());
+        if (inserted == 0) {
+            // 실패한 경우에만 원인 확인 (사용자 없음 / 이미 좋아요)
+            if (!userRepository.existsById(userId)) {
+                throw UserNotFoundException.withId(userId);
+            }
             log.debug("[LikeServiceImpl] 좋아요가 이미 존재함: feedId={}, userId={}", feedId, userId);
             return;
         }
-        feedLikeRepository.save(FeedLike.builder().feed(feed).user(user).build());
-        feed.increaseLikeCount();
+        feedLikeCounter.add(feedId, 1);
 
-        eventPublisher.publishEvent(new FeedLikedEvent(feed.getAuthor().getId(), user.getId()));
-        eventPublisher.publishEvent(new FeedChangedEvent(feed.getId()));
+        eventPublisher.publishEvent(new FeedLikedEvent(authorId, userId));
 
-        log.debug("[LikeServiceImpl] 좋아요 등록 완료: feedId={}, userId={}, likeCount={}",
-            feedId, userId, feed.getLikeCount());
+        log.debug("[LikeServiceImpl] 좋아요 등록 완료: feedId={}, userId={}", feedId, userId);
     }
 
     @Transactional
@@ -57,28 +62,19 @@ public class LikeServiceImpl implements LikeService {
     public void removeLike(UUID feedId, UUID userId) {
         log.debug("[LikeServiceImpl] 좋아요 삭제 요청: feedId={}, userId={}", feedId, userId);
 
-        Feed feed = feedRepository.findById(feedId)
-            .orElseThrow(() -> FeedNotFoundException.withId(feedId));
-        userRepository.findById(userId)
-            .orElseThrow(() -> UserNotFoundException.withId(userId));
-
-        boolean exists = feedLikeRepository.existsByFeedIdAndUserId(feedId, userId);
-        if (!exists) {
+        int deleted = feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId);
+        if (deleted == 0) {
+            if (!feedRepository.existsById(feedId)) {
+                throw FeedNotFoundException.withId(feedId);
+            }
+            if (!userRepository.existsById(userId)) {
+                throw UserNotFoundException.withId(userId);
+            }
             log.debug("[LikeServiceImpl] 좋아요가 존재하지 않음: feedId={}, userId={}", feedId, userId);
             return;
         }
+        feedLikeCounter.add(feedId, -1);
 
-        int deleted = feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId);
-        if (deleted > 0) {
-            if (feed.getLikeCount() > 0) {
-                feed.decreaseLikeCount();
-            }
-            log.debug("[LikeServiceImpl] 좋아요 삭제 완료: feedId={}, userId={}, likeCount={}",
-                feedId, userId, feed.getLikeCount());
-        } else {
-            log.warn("[LikeServiceImpl] deleteByFeedIdAndUserId가 0건 반환: feedId={}, userId={}",
-                feedId, userId);
-        }
-        eventPublisher.publishEvent(new FeedChangedEvent(feed.getId()));
+        log.debug("[LikeServiceImpl] 좋아요 삭제 완료: feedId={}, userId={}", feedId, userId);
     }
 }
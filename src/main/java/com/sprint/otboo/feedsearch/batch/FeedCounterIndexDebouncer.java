@@ -0,0 +1,67 @@
+package com.sprint.otboo.feedsearch.batch;
+
+import com.sprint.otboo.feed.repository.FeedRepository;
+import com.sprint.otboo.feedsearch.dto.FeedCounters;
+import com.sprint.otboo.feedsearch.event.FeedCountersChangedEvent;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요/댓글 수 변경을 피드별로 모아 검색 문서 카운터를 부분 갱신
+ *
+ * <p>
+ * 이벤트마다 색인하지 않고 변경된 피드 ID만 모아 두었다가, debounce 주기마다
+ * DB의 최신 카운터를 한 번에 읽어 bulk 부분 갱신한다.
+ * 한 주기 안에 같은 피드에 변경이 몰려도 색인 요청은 한 번이다.
+ * 실패한 피드는 다음 주기에 다시 시도한다. 주기 실행은 전용 스케줄러(FeedCounterSchedulingConfig)가 맡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCounterIndexDebouncer {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final FeedRepository feedRepository;
+    private final FeedIndexer feedIndexer;
+
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCountersChanged(FeedCountersChangedEvent e) {
+        pending.add(e.feedId());
+    }
+
+    public void flush() {
+        List<UUID> ids = drain();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            try {
+                List<FeedCounters> counters = feedRepository.findCountersByIdIn(chunk);
+                feedIndexer.bulkUpdateCounters(counters);
+            } catch (Exception ex) {
+                pending.addAll(chunk);
+                log.warn("[FeedCounterIndexDebouncer] 카운터 부분 갱신 실패, 다음 주기에 재시도: feeds={}",
+                    chunk.size(), ex);
+            }
+        }
+    }
+
+    private List<UUID> drain() {
+        List<UUID> ids = new ArrayList<>();
+        for (Iterator<UUID> it = pending.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        return ids;
+    }
+}
@@ -4,6 +4,7 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.Refresh;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.sprint.otboo.feedsearch.dto.FeedCounters;
 import com.sprint.otboo.feedsearch.dto.FeedDoc;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -22,6 +24,8 @@ public class FeedIndexer {
     @Value("${app.index.write-alias:feed-write}")
     private String indexAlias;
 
+    private static final String DOCUMENT_MISSING = "document_missing_exception";
+
     private final ElasticsearchClient es;
 
     public void bulkUpsert(List<FeedDoc> docs) throws IOException {
@@ -61,6 +65,36 @@ public class FeedIndexer {
         }
     }
 
+    /**
+     * likeCount/commentCount만 부분 갱신 (문서 전체를 다시 직렬화하지 않음).
+     * 아직 색인되지 않았거나 삭제된 문서는 건너뛴다.
+     */
+    public void bulkUpdateCounters(List<FeedCounters> counters) throws IOException {
+        if (counters == null || counters.isEmpty()) {
+            return;
+        }
+        BulkRequest.Builder builder = new BulkRequest.Builder().refresh(Refresh.False);
+        counters.forEach(c -> builder.operations(op -> op.update(u -> u
+            .index(indexAlias)
+            .id(c.id().toString())
+            .action(a -> a.doc(Map.of("likeCount", c.likeCount(), "commentCount", c.commentCount())))
+        )));
+
+        BulkResponse response = es.bulk(builder.build());
+        if (response.errors()) {
+            boolean failed = response.items().stream()
+                .anyMatch(item -> item.error() != null
+                    && !DOCUMENT_MISSING.equals(item.error().type()));
+            if (failed) {
+                log.warn("[FeedIndexer] counter update bulk 실패");
+                throw new IOException();
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("[FeedIndexer] counter update 완료: {}", counters.size());
+        }
+    }
+
     public long count() throws IOException {
         return es.count(c -> c.index(indexAlias)).count();
     }
@@ -0,0 +1,10 @@
+package com.sprint.otboo.feedsearch.dto;
+
+import java.util.UUID;
+
+/**
+ * 검색 문서 부분 갱신용 카운터 (likeCount, commentCount)
+ */
+public record FeedCounters(UUID id, long likeCount, long commentCount) {
+
+}
@@ -0,0 +1,11 @@
+package com.sprint.otboo.feedsearch.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 검색 문서 최신 여부 확인용 피드 버전 (id, updatedAt)
+ */
+public record FeedVersion(UUID id, Instant updatedAt) {
+
+}
@@ -0,0 +1,12 @@
+package com.sprint.otboo.feedsearch.event;
+
+import java.util.UUID;
+
+/**
+ * 좋아요/댓글 수만 바뀐 경우 (문서 전체 재색인 대신 카운터만 부분 갱신)
+ */
+public record FeedCountersChangedEvent(
+    UUID feedId
+) {
+
+}
@@ -36,6 +36,10 @@ public class RedisLockHelper {
         }
     }
 
+    public boolean isHeld(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
     public boolean runWithLock(String key, Duration ttl, Runnable task) {
         String token = acquire(key, ttl);
         if (token == null) {
@@ -1,6 +1,7 @@
 package com.sprint.otboo.feedsearch.repository;
 
 import com.sprint.otboo.common.dto.CursorPageResponse;
+import com.sprint.otboo.feedsearch.dto.FeedDoc;
 import com.sprint.otboo.weather.entity.PrecipitationType;
 import com.sprint.otboo.weather.entity.SkyStatus;
 import java.util.UUID;
@@ -19,6 +20,18 @@ public interface FeedSearchRepositoryCustom {
         UUID authorId
     );
 
+    CursorPageResponse<FeedDoc> searchDocs(
+        String cursor,
+        UUID idAfter,
+        int limit,
+        String sortBy,
+        String sortDirection,
+        String keywordLike,
+        SkyStatus skyStatus,
+        PrecipitationType precipitationType,
+        UUID authorId
+    );
+
     long countByFilters(
         String keywordLike,
         SkyStatus skyStatus,
@@ -81,7 +81,42 @@ public class FeedSearchRepositoryImpl implements FeedSearchRepositoryCustom {
     }
 
     /**
-     * 피드 ID 목록을 커서 페이지네이션으로 조회한다.
+     * 피드 ID 목록을 커서 페이지네이션으로 조회한다. ({@link #searchDocs}와 같은 조건, 문서 대신 ID만 반환)
+     */
+    @Override
+    public CursorPageResponse<UUID> searchIds(
+        String cursor,
+        UUID idAfter,
+        int limit,
+        String sortBy,
+        String sortDirection,
+        String keywordLike,
+        SkyStatus skyStatus,
+        PrecipitationType precipitationType,
+        UUID authorId
+    ) {
+        CursorPageResponse<FeedDoc> docs = searchDocs(
+            cursor, idAfter, limit, sortBy, sortDirection,
+            keywordLike, skyStatus, precipitationType, authorId
+        );
+
+        List<UUID> ids = docs.data().stream()
+            .map(d -> UUID.fromString(String.valueOf(Objects.requireNonNull(d.id()))))
+            .toList();
+
+        return new CursorPageResponse<>(
+            ids,
+            docs.nextCursor(),
+            docs.nextIdAfter(),
+            docs.hasNext(),
+            docs.totalCount(),
+            docs.sortBy(),
+            docs.sortDirection()
+        );
+    }
+
+    /**
+     * 피드 문서(_source) 목록을 커서 페이지네이션으로 조회한다.
      *
      * @param cursor            직전 페이지의 1차 정렬 필드 값(문자열). likeCount/createdAt 값이 들어온다.
      * @param idAfter           직전 페이지의 마지막 문서 id(UUID). search_after의 2번째 키
@@ -92,10 +127,10 @@ public class FeedSearchRepositoryImpl implements FeedSearchRepositoryCustom {
      * @param skyStatus         하늘 상태 필터 (선택)
      * @param precipitationType 강수 유형 필터 (선택)
      * @param authorId          작성자 ID 필터 (선택)
-     * @return ID 목록과 다음 커서 정보가 포함된 {@link CursorPageResponse}
+     * @return 문서 목록과 다음 커서 정보가 포함된 {@link CursorPageResponse}
      */
     @Override
-    public CursorPageResponse<UUID> searchIds(
+    public CursorPageResponse<FeedDoc> searchDocs(
         String cursor,
         UUID idAfter,
         int limit,
@@ -129,8 +164,8 @@ public class FeedSearchRepositoryImpl implements FeedSearchRepositoryCustom {
         boolean hasNext = raw.size() > limit;
         List<SearchHit<FeedDoc>> page = hasNext ? raw.subList(0, limit) : raw;
 
-        List<UUID> ids = page.stream()
-            .map(h -> UUID.fromString(String.valueOf(Objects.requireNonNull(h.getContent().id()))))
+        List<FeedDoc> docs = page.stream()
+            .map(SearchHit::getContent)
             .toList();
 
         String nextCursor = null;
@@ -143,7 +178,7 @@ public class FeedSearchRepositoryImpl implements FeedSearchRepositoryCustom {
         }
 
         return new CursorPageResponse<>(
-            ids,
+            docs,
             nextCursor,
             nextIdAfter,
             hasNext,
@@ -0,0 +1,202 @@
+package com.sprint.otboo.recommendation.batch;
+
+import com.sprint.otboo.clothing.entity.ClothesType;
+import com.sprint.otboo.clothing.entity.attribute.Season;
+import com.sprint.otboo.clothing.entity.attribute.Thickness;
+import com.sprint.otboo.recommendation.cache.OutfitCooccurrenceIndex;
+import com.sprint.otboo.recommendation.cache.WardrobeIndex;
+import com.sprint.otboo.recommendation.util.WeatherUtils;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 피드 착장(feed_clothes)과 피드 날씨(feeds.weather_id)로 {@link OutfitCooccurrenceIndex} 생성
+ *
+ * <p>
+ * 최근 lookback-days 동안의 피드를 (피드, 의상) 순으로 스트리밍 조회해 피드 단위로 누적한다.
+ * 계절/두께 속성은 옷장 인덱스와 같은 규칙으로 비트마스크로 바꾸고,
+ * 피드 날씨 버킷은 추천 서비스와 같은 방식(온도 민감도 0)으로 판별한다.
+ */
+@Slf4j
+@Component
+public class OutfitCooccurrenceMiner {
+
+    private static final int FETCH_SIZE = 1000;
+
+    // 계절/두께 속성만 붙여서 (피드, 의상)별로 정렬
+    private static final String SELECT_FEED_OUTFITS_SQL = """
+        SELECT fc.feed_id, c.id AS clothes_id, c.type,
+               w.current_c, w.max_c, w.min_c, w.speed_ms,
+               d.name AS attribute_name, a.value AS attribute_value
+        FROM feeds f
+        JOIN weathers w ON w.id = f.weather_id
+        JOIN feed_clothes fc ON fc.feed_id = f.id
+        JOIN clothes c ON c.id = fc.clothes_id
+        LEFT JOIN (clothes_attribute a
+                   JOIN clothes_attributes_def d
+                     ON d.id = a.definition_id
+                    AND (LOWER(d.name) = 'season' OR d.name IN ('계절', 'thickness', '두께')))
+          ON a.clothes_id = c.id
+        WHERE f.deleted = false
+          AND f.created_at >= ?
+        ORDER BY fc.feed_id, c.id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration lookback;
+    private final int minFeeds;
+
+    public OutfitCooccurrenceMiner(
+        JdbcTemplate jdbcTemplate,
+        @Value("${recommendation.cooccurrence.lookback-days:365}") long lookbackDays,
+        @Value("${recommendation.cooccurrence.min-feeds:30}") int minFeeds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookback = Duration.ofDays(Math.max(1L, lookbackDays));
+        this.minFeeds = minFeeds;
+    }
+
+    /**
+     * 동시 등장 인덱스 생성 (읽기 전용 트랜잭션 안에서 커서로 스트리밍)
+     *
+     * @return 새 인덱스
+     */
+    @Transactional(readOnly = true)
+    public OutfitCooccurrenceIndex mine() {
+        Accumulator accumulator = new Accumulator();
+        jdbcTemplate.query(
+            con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_FEED_OUTFITS_SQL);
+                ps.setFetchSize(FETCH_SIZE);
+                ps.setTimestamp(1, Timestamp.from(Instant.now().minus(lookback)));
+                return ps;
+            },
+            accumulator
+        );
+        accumulator.flushFeed();
+
+        log.info("[outfit-cooccurrence] mined feeds={}, rows={}", accumulator.feeds, accumulator.rows);
+        return accumulator.builder.build(minFeeds);
+    }
+
+    /** (피드, 의상) 정렬 순서를 이용해 의상 → 피드 단위로 누적 */
+    private static final class Accumulator implements RowCallbackHandler {
+
+        private final OutfitCooccurrenceIndex.Builder builder = OutfitCooccurrenceIndex.builder();
+
+        private UUID feedId;
+        private int bucket = -1;
+        private int[] features = new int[8];
+        private int featureCount;
+
+        private UUID clothesId;
+        private int typeOrdinal = -1;
+        private int seasonMask;
+        private boolean seasonSeen;
+        private int thicknessMask;
+
+        private long feeds;
+        private long rows;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            rows++;
+            UUID rowFeedId = rs.getObject("feed_id", UUID.class);
+            UUID rowClothesId = rs.getObject("clothes_id", UUID.class);
+
+            if (!rowFeedId.equals(feedId)) {
+                flushFeed();
+                feedId = rowFeedId;
+                bucket = bucketOf(rs);
+            }
+            if (!rowClothesId.equals(clothesId)) {
+                flushClothes();
+                clothesId = rowClothesId;
+                typeOrdinal = typeOrdinalOf(rs.getString("type"));
+            }
+
+            String name = rs.getString("attribute_name");
+            String value = rs.getString("attribute_value");
+            if (name == null || value == null) return;
+
+            // 옷장 인덱스와 동일: 계절은 첫 번째 속성만, 두께는 모든 값을 합친다
+            if (WardrobeIndex.isSeasonAttribute(name)) {
+                if (!seasonSeen) {
+                    seasonSeen = true;
+                    Season season = value.isBlank() ? null : Season.fromString(value);
+                    seasonMask = season == null ? 0 : WardrobeIndex.bit(season);
+                }
+            } else if (WardrobeIndex.isThicknessAttribute(name)) {
+                Thickness thickness = Thickness.fromString(value);
+                if (thickness != null) thicknessMask |= WardrobeIndex.bit(thickness);
+            }
+        }
+
+        private void flushClothes() {
+            if (clothesId != null && typeOrdinal >= 0) {
+                if (featureCount == features.length) {
+                    features = Arrays.copyOf(features, featureCount * 2);
+                }
+                features[featureCount++] = OutfitCooccurrenceIndex.feature(typeOrdinal, seasonMask, thicknessMask);
+            }
+            clothesId = null;
+            typeOrdinal = -1;
+            seasonMask = 0;
+            seasonSeen = false;
+            thicknessMask = 0;
+        }
+
+        void flushFeed() {
+            flushClothes();
+            if (feedId != null && bucket >= 0 && featureCount > 0) {
+                builder.addFeed(bucket, Arrays.copyOf(features, featureCount));
+                feeds++;
+            }
+            feedId = null;
+            bucket = -1;
+            featureCount = 0;
+        }
+
+        private static int typeOrdinalOf(String type) {
+            try {
+                return ClothesType.valueOf(type).ordinal();
+            } catch (IllegalArgumentException | NullPointerException e) {
+                return -1;
+            }
+        }
+
+        private static int bucketOf(ResultSet rs) throws SQLException {
+            BigDecimal max = rs.getBigDecimal("max_c");
+            BigDecimal min = rs.getBigDecimal("min_c");
+            BigDecimal current = rs.getBigDecimal("current_c");
+            BigDecimal speed = rs.getBigDecimal("speed_ms");
+            double windSpeed = speed != null ? speed.doubleValue() : 0.0;
+
+            double perceivedTemp;
+            if (max != null && min != null) {
+                perceivedTemp = WeatherUtils.calculatePerceivedTemperature(
+                    max.doubleValue(), min.doubleValue(), windSpeed, 0.8, 0);
+            } else if (current != null) {
+                perceivedTemp = WeatherUtils.calculatePerceivedTemperature(current.doubleValue(), windSpeed, 0.8, 0);
+            } else {
+                return -1;
+            }
+
+            Season season = WeatherUtils.classifySeason(perceivedTemp);
+            return OutfitCooccurrenceIndex.bucket(season, WeatherUtils.classifyTemperatureCategory(season, perceivedTemp));
+        }
+    }
+}
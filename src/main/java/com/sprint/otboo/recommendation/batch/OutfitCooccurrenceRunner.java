@@ -0,0 +1,43 @@
+package com.sprint.otboo.recommendation.batch;
+
+import com.sprint.otboo.recommendation.cache.OutfitCooccurrenceCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시와 매일 새벽 의상 동시 등장 인덱스를 다시 만들어 교체
+ *
+ * <p>실패하면 기존 인덱스를 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class OutfitCooccurrenceRunner {
+
+    private final OutfitCooccurrenceMiner miner;
+    private final OutfitCooccurrenceCache cache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnceOnStart() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${recommendation.cooccurrence.cron:0 20 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        try {
+            cache.replace(miner.mine());
+        } catch (Exception e) {
+            log.error("[outfit-cooccurrence] rebuild failed, keeping previous index", e);
+        }
+    }
+}
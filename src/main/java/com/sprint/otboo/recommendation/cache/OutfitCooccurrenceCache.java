@@ -0,0 +1,25 @@
+package com.sprint.otboo.recommendation.cache;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 사용 중인 {@link OutfitCooccurrenceIndex} 보관소.
+ * <p>
+ * 인덱스는 오프라인 작업이 새로 만든 뒤 참조 하나를 바꿔 끼우는 방식으로 교체되므로,
+ * 요청 경로는 항상 완성된 인덱스 하나만 본다. 적재 전에는 빈 인덱스(기존 Fallback 규칙 사용)를 반환한다.
+ */
+@Component
+public class OutfitCooccurrenceCache {
+
+    private final AtomicReference<OutfitCooccurrenceIndex> current =
+        new AtomicReference<>(OutfitCooccurrenceIndex.empty());
+
+    public OutfitCooccurrenceIndex get() {
+        return current.get();
+    }
+
+    public void replace(OutfitCooccurrenceIndex index) {
+        current.set(index);
+    }
+}
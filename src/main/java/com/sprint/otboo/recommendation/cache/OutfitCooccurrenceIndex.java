@@ -0,0 +1,250 @@
+package com.sprint.otboo.recommendation.cache;
+
+import com.sprint.otboo.clothing.entity.ClothesType;
+import com.sprint.otboo.clothing.entity.attribute.Season;
+import com.sprint.otboo.recommendation.entity.TemperatureCategory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 피드 착장에서 추출한 의상 동시 등장(co-occurrence) 인덱스 (불변)
+ *
+ * <p>
+ * 피드 날씨의 체감 온도로 (계절 × 온도 범주) 버킷을 나누고, 버킷마다 다음 값을 센다.
+ * <ul>
+ *     <li>feedCounts: 버킷의 피드 수</li>
+ *     <li>typeCounts: 해당 타입 의상이 포함된 피드 수</li>
+ *     <li>pairs: 특징 a, b가 한 피드에 함께 등장한 횟수 (a == b면 단독 등장 횟수)</li>
+ * </ul>
+ * 특징(feature)은 (타입 ordinal, 계절 비트, 두께 비트)를 11비트로 합친 값이고,
+ * 키는 (버킷, 특징 a, 특징 b)를 int 하나로 합쳐 원시 배열 해시 테이블에 보관한다.
+ * 조회는 배열 접근만으로 끝나며 요청 경로에서 SQL을 실행하지 않는다.
+ */
+public final class OutfitCooccurrenceIndex {
+
+    private static final int TYPE_COUNT = ClothesType.values().length;
+    private static final int CATEGORY_COUNT = TemperatureCategory.values().length;
+    public static final int BUCKETS = Season.values().length * CATEGORY_COUNT;
+
+    // 특징 = type(4비트) | season 마스크(4비트) | thickness 마스크(3비트)
+    private static final int FEATURE_BITS = 11;
+
+    private static final OutfitCooccurrenceIndex EMPTY =
+        new OutfitCooccurrenceIndex(new int[BUCKETS], new int[BUCKETS * TYPE_COUNT], new IntIntTable(2), Integer.MAX_VALUE);
+
+    private final int[] feedCounts;
+    private final int[] typeCounts;
+    private final IntIntTable pairs;
+    private final int minFeeds;
+
+    private OutfitCooccurrenceIndex(int[] feedCounts, int[] typeCounts, IntIntTable pairs, int minFeeds) {
+        this.feedCounts = feedCounts;
+        this.typeCounts = typeCounts;
+        this.pairs = pairs;
+        this.minFeeds = minFeeds;
+    }
+
+    public static OutfitCooccurrenceIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static int bucket(Season season, TemperatureCategory category) {
+        return season.ordinal() * CATEGORY_COUNT + category.ordinal();
+    }
+
+    public static int feature(int typeOrdinal, int seasonMask, int thicknessMask) {
+        return (typeOrdinal << 7) | ((seasonMask & 0xF) << 3) | (thicknessMask & 0x7);
+    }
+
+    public static int feature(WardrobeIndex wardrobe, int position) {
+        return feature(wardrobe.typeOrdinal(position), wardrobe.seasonMask(position), wardrobe.thicknessMask(position));
+    }
+
+    private static int key(int bucket, int a, int b) {
+        return (bucket << (FEATURE_BITS * 2)) | (a << FEATURE_BITS) | b;
+    }
+
+    private static int typeOf(int feature) {
+        return feature >>> 7;
+    }
+
+    /**
+     * 버킷의 피드 수가 판단에 충분한지 (부족하면 호출자는 기존 규칙을 사용)
+     */
+    public boolean covers(int bucket) {
+        return feedCounts[bucket] >= minFeeds;
+    }
+
+    public int feeds(int bucket) {
+        return feedCounts[bucket];
+    }
+
+    public int count(int bucket, int featureA, int featureB) {
+        return pairs.get(key(bucket, featureA, featureB));
+    }
+
+    /**
+     * 비어 있는 타입 슬롯 채우기
+     *
+     * <p>
+     * - 채울지 여부: 해당 버킷 피드 중 이 타입이 포함된 비율을 확률로 사용<br>
+     * - 후보 선택: 이미 고른 의상들과 함께 등장한 횟수 합 → 단독 등장 횟수 순 (동점은 무작위)
+     *
+     * @param bucket 날씨 버킷 ({@link #covers(int)}가 true여야 함)
+     * @param type 비어 있는 타입
+     * @param wardrobe 사용자 옷장 인덱스
+     * @param candidates 해당 타입 의상의 옷장 위치 (1개 이상)
+     * @param chosen 지금까지 고른 의상의 옷장 위치
+     * @param random 난수
+     * @return 채울 의상의 옷장 위치, 채우지 않으면 -1
+     */
+    public int fill(int bucket, ClothesType type, WardrobeIndex wardrobe, int[] candidates, List<Integer> chosen,
+        Random random
+    ) {
+        double support = (double) typeCounts[bucket * TYPE_COUNT + type.ordinal()] / feedCounts[bucket];
+        if (random.nextDouble() >= support) return -1;
+
+        int[] chosenFeatures = new int[chosen.size()];
+        for (int i = 0; i < chosenFeatures.length; i++) {
+            chosenFeatures[i] = feature(wardrobe, chosen.get(i));
+        }
+
+        long bestScore = -1;
+        int best = -1;
+        int ties = 0;
+        for (int candidate : candidates) {
+            int f = feature(wardrobe, candidate);
+            long together = 0;
+            for (int c : chosenFeatures) {
+                together += pairs.get(key(bucket, c, f));
+            }
+            long score = (together << 32) | pairs.get(key(bucket, f, f));
+            if (score > bestScore) {
+                bestScore = score;
+                best = candidate;
+                ties = 1;
+            } else if (score == bestScore && random.nextInt(++ties) == 0) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 인덱스 빌더 (단일 스레드 전용, build 이후 재사용 불가)
+     */
+    public static final class Builder {
+
+        private final int[] feedCounts = new int[BUCKETS];
+        private final int[] typeCounts = new int[BUCKETS * TYPE_COUNT];
+        private final IntIntTable pairs = new IntIntTable(1024);
+
+        private Builder() {
+        }
+
+        /**
+         * 피드 한 건의 착장 반영
+         *
+         * @param bucket 피드 날씨 버킷
+         * @param features 피드 의상 특징 목록 (중복은 한 번만 센다)
+         */
+        public Builder addFeed(int bucket, int[] features) {
+            int[] distinct = Arrays.stream(features).distinct().toArray();
+            if (distinct.length == 0) return this;
+
+            feedCounts[bucket]++;
+            boolean[] seenTypes = new boolean[TYPE_COUNT];
+            for (int a : distinct) {
+                int type = typeOf(a);
+                if (!seenTypes[type]) {
+                    seenTypes[type] = true;
+                    typeCounts[bucket * TYPE_COUNT + type]++;
+                }
+                for (int b : distinct) {
+                    pairs.increment(key(bucket, a, b));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @param minFeeds 버킷을 사용할 최소 피드 수
+         */
+        public OutfitCooccurrenceIndex build(int minFeeds) {
+            return new OutfitCooccurrenceIndex(feedCounts, typeCounts, pairs, Math.max(1, minFeeds));
+        }
+    }
+
+    /**
+     * int → int 개방 주소(선형 탐사) 해시 테이블 (키는 0 이상, 없는 키는 0)
+     */
+    private static final class IntIntTable {
+
+        private static final int FREE = -1;
+
+        private int[] keys;
+        private int[] values;
+        private int size;
+
+        IntIntTable(int capacity) {
+            int n = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+            keys = new int[n];
+            values = new int[n];
+            Arrays.fill(keys, FREE);
+        }
+
+        int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                int k = keys[i];
+                if (k == key) return values[i];
+                if (k == FREE) return 0;
+            }
+        }
+
+        void increment(int key) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (keys[i] != FREE && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == FREE) {
+                keys[i] = key;
+                if (++size * 2 > keys.length) {
+                    values[i] = 1;
+                    grow();
+                    return;
+                }
+            }
+            values[i]++;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            Arrays.fill(keys, FREE);
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == FREE) continue;
+                int i = mix(oldKeys[j]) & mask;
+                while (keys[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
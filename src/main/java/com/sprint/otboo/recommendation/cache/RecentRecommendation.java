@@ -0,0 +1,19 @@
+package com.sprint.otboo.recommendation.cache;
+
+import com.sprint.otboo.clothing.entity.ClothesType;
+import java.util.UUID;
+
+/**
+ * 최근 추천 윈도우의 항목 (추천 1회에 포함된 의상 1벌)
+ *
+ * @param recommendedAt 추천 시각 (epoch ms, 같은 추천에 포함된 의상은 같은 값)
+ * @param clothesId 추천된 의상 ID
+ * @param type 추천된 의상 타입
+ */
+public record RecentRecommendation(
+    long recommendedAt,
+    UUID clothesId,
+    ClothesType type
+) {
+
+}
@@ -0,0 +1,132 @@
+package com.sprint.otboo.recommendation.cache;
+
+import com.sprint.otboo.clothing.entity.ClothesType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 최근 추천 의상 윈도우 (Redis ZSET, score = 추천 시각 epoch ms).
+ * <p>
+ * member = "{추천 시각}:{의상 ID}:{의상 타입}" 이므로 같은 의상이 여러 번 추천되어도 회차별로 남는다.
+ * 최근 추천 제외와 Dress ↔ Top&Bottom 상호 배타 판단을 ZRANGEBYSCORE 한 번으로 처리하며,
+ * 윈도우를 벗어난 항목은 기록 시 잘라내고 키 자체도 윈도우만큼만 유지한다.
+ * <p>
+ * Redis 장애 시 기록은 건너뛰고 조회는 빈 윈도우로 처리한다 (추천 다양성만 일시적으로 낮아짐).
+ */
+@Slf4j
+@Component
+public class RecentRecommendationWindow {
+
+    public static final String KEY_PREFIX = "recommendation:recent:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration window;
+
+    public RecentRecommendationWindow(
+        StringRedisTemplate redisTemplate,
+        @Value("${recommendation.recent-window.minutes:10}") long windowMinutes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.window = Duration.ofMinutes(Math.max(1L, windowMinutes));
+    }
+
+    public static String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    /**
+     * 추천 1회 기록 (추가 + 윈도우 밖 항목 제거 + 만료 갱신을 한 트랜잭션으로)
+     *
+     * @param userId 추천 대상 사용자 ID
+     * @param clothes 이번 추천에 포함된 의상 목록
+     */
+    public void record(UUID userId, List<RecentRecommendation> clothes) {
+        if (clothes.isEmpty()) return;
+
+        String key = key(userId);
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        long latest = 0L;
+        for (RecentRecommendation item : clothes) {
+            tuples.add(new DefaultTypedTuple<>(toMember(item), (double) item.recommendedAt()));
+            latest = Math.max(latest, item.recommendedAt());
+        }
+        long cutoff = latest - window.toMillis();
+
+        try {
+            redisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.multi();
+                    ops.opsForZSet().add(key, tuples);
+                    ops.opsForZSet().removeRangeByScore(key, 0, cutoff);
+                    ops.expire(key, window);
+                    return ops.exec();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("[recent-recommendation] record failed. user={}, cause={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 윈도우 안의 최근 추천 항목 조회 (최신순)
+     *
+     * @param userId 추천 대상 사용자 ID
+     * @param now 기준 시각 (epoch ms)
+     * @return 최근 추천 항목 목록, Redis 장애 시 빈 목록
+     */
+    public List<RecentRecommendation> recent(UUID userId, long now) {
+        Set<String> members;
+        try {
+            members = redisTemplate.opsForZSet()
+                .reverseRangeByScore(key(userId), now - window.toMillis() + 1, Double.POSITIVE_INFINITY);
+        } catch (RuntimeException e) {
+            log.warn("[recent-recommendation] read failed, continuing without history. user={}, cause={}",
+                userId, e.getMessage());
+            return List.of();
+        }
+
+        List<RecentRecommendation> result = new ArrayList<>();
+        if (members == null) return result;
+        for (String member : members) {
+            RecentRecommendation item = fromMember(member);
+            if (item != null) result.add(item);
+        }
+        return result;
+    }
+
+    static String toMember(RecentRecommendation item) {
+        return item.recommendedAt() + ":" + item.clothesId() + ":" + item.type().name();
+    }
+
+    static RecentRecommendation fromMember(String member) {
+        if (member == null) return null;
+        String[] parts = member.split(":", 3);
+        if (parts.length != 3) return null;
+        try {
+            return new RecentRecommendation(
+                Long.parseLong(parts[0]),
+                UUID.fromString(parts[1]),
+                ClothesType.valueOf(parts[2])
+            );
+        } catch (IllegalArgumentException e) {
+            log.debug("[recent-recommendation] skip malformed member: {}", member);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.sprint.otboo.recommendation.cache;
+
+import com.sprint.otboo.recommendation.util.RankedSlots;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 짧은 TTL의 추천 결과 캐시.
+ * <p>
+ * 같은 날씨로 추천 화면을 반복 새로고침할 때 엔진 평가와 이력 저장을 건너뛰기 위한 캐시로,
+ * 키는 (사용자, 날씨, 옷장 version, 온도 민감도)이다.
+ * 옷장 version({@link WardrobeVersionStore})은 의상이 바뀔 때만 올라가므로 별도 무효화가 필요 없고,
+ * 옷장 인덱스가 다시 만들어져도 내용이 같으면 기존 결과가 그대로 적중한다.
+ * <p>
+ * 캐시 적중 시에는 저장된 타입별 순위에서 회차마다 다음 대안을 골라 결과를 순환시킨다.
+ * 예열(prewarm)로 미리 계산한 항목은 아직 보여준 적이 없으므로 첫 적중에 대표 추천을 그대로 반환하고
+ * ({@link Hit#firstShown()}, 호출자가 이력/최근 윈도우를 기록), 아침 요청 집중 시간까지 남도록 별도 TTL을 쓴다.
+ */
+@Slf4j
+@Component
+public class RecommendationResultCache {
+
+    private final long ttlMs;
+    private final Duration prewarmTtl;
+    private final int maxEntries;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public RecommendationResultCache(
+        @Value("${recommendation.result-cache.ttl-seconds:60}") long ttlSeconds,
+        @Value("${recommendation.result-cache.prewarm-ttl-minutes:90}") long prewarmTtlMinutes,
+        @Value("${recommendation.result-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.ttlMs = Duration.ofSeconds(Math.max(1L, ttlSeconds)).toMillis();
+        this.prewarmTtl = Duration.ofMinutes(Math.max(1L, prewarmTtlMinutes));
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 캐시된 결과를 다음 회차로 순환시켜 반환
+     *
+     * @param key 캐시 키
+     * @param wardrobe 키의 version과 같은 옷장 인덱스
+     * @return 이번 회차 추천 결과, 없거나 만료되었으면 null
+     */
+    public Hit next(Key key, WardrobeIndex wardrobe) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.rotate(wardrobe);
+    }
+
+    /**
+     * 추천 결과 저장
+     *
+     * @param key 캐시 키
+     * @param ranked 엔진의 타입별 순위
+     * @param recommended 최종 추천 의상의 옷장 위치 (Fallback/상호 배타 적용 후)
+     */
+    public void put(Key key, RankedSlots ranked, int[] recommended) {
+        store(key, new Entry(ranked, recommended, System.currentTimeMillis() + ttlMs, new AtomicInteger()));
+    }
+
+    /**
+     * 예열 결과 저장 (첫 적중 시 대표 추천부터 반환)
+     *
+     * @param key 캐시 키
+     * @param ranked 엔진의 타입별 순위
+     * @param recommended 최종 추천 의상의 옷장 위치
+     */
+    public void putPrewarmed(Key key, RankedSlots ranked, int[] recommended) {
+        store(key, new Entry(ranked, recommended, System.currentTimeMillis() + prewarmTtl.toMillis(),
+            new AtomicInteger(-1)));
+    }
+
+    /**
+     * 예열 항목 TTL (예열한 옷장 인덱스도 이 기간 동안 유지해야 첫 요청이 DB를 읽지 않는다)
+     */
+    public Duration prewarmTtl() {
+        return prewarmTtl;
+    }
+
+    /**
+     * 만료되지 않은 항목 존재 여부 (예열 중복 계산 방지)
+     */
+    public boolean contains(Key key) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.expiresAt() > System.currentTimeMillis();
+    }
+
+    private void store(Key key, Entry entry) {
+        entries.put(key, entry);
+        if (entries.size() > maxEntries) {
+            trim();
+        }
+    }
+
+    /** 용량 초과 시 만료 시각이 이른 항목부터 10%를 비운다 */
+    private void trim() {
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        entries.entrySet().stream()
+            .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+            .limit(excess)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(entries::remove);
+        log.debug("[recommendation-cache] trimmed {} entries", excess);
+    }
+
+    public record Key(UUID userId, UUID weatherId, long wardrobeVersion, int temperatureSensitivity) {}
+
+    /**
+     * 캐시 적중 결과
+     *
+     * @param positions 이번 회차 추천 의상의 옷장 위치
+     * @param firstShown 예열된 결과를 처음 보여주는 회차 여부 (true면 아직 이력/최근 윈도우에 기록되지 않음)
+     */
+    public record Hit(int[] positions, boolean firstShown) {}
+
+    private record Entry(RankedSlots ranked, int[] recommended, long expiresAt, AtomicInteger rounds) {
+
+        /**
+         * 최종 추천의 타입 구성은 유지하고, 각 타입은 순위 안에서 회차만큼 다음 대안으로 교체
+         * (순위에 없는 Fallback 의상은 그대로 둔다)
+         */
+        Hit rotate(WardrobeIndex wardrobe) {
+            // 일반 항목은 1회차부터, 예열 항목은 0회차(대표 추천)부터 시작하므로 0회차는 예열 결과의 첫 노출
+            int round = rounds.incrementAndGet();
+            int[] result = new int[recommended.length];
+            for (int i = 0; i < recommended.length; i++) {
+                int picked = ranked.pick(wardrobe.type(recommended[i]), round);
+                result[i] = picked >= 0 ? picked : recommended[i];
+            }
+            return new Hit(result, round == 0);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.sprint.otboo.recommendation.cache;
+
+import com.sprint.otboo.clothing.dto.data.OotdDto;
+import com.sprint.otboo.clothing.entity.Clothes;
+import com.sprint.otboo.clothing.entity.ClothesAttribute;
+import com.sprint.otboo.clothing.entity.ClothesAttributeDef;
+import com.sprint.otboo.clothing.entity.ClothesType;
+import com.sprint.otboo.clothing.entity.attribute.Season;
+import com.sprint.otboo.clothing.entity.attribute.Thickness;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 추천용 사용자 옷장 인덱스 (불변)
+ *
+ * <p>
+ * 의상 한 벌을 위치(position) 하나로 두고, 추천 판정에 필요한 값만 원시 배열로 보관한다.
+ * <ul>
+ *     <li>types: {@link ClothesType} ordinal</li>
+ *     <li>seasonMasks: 계절 속성 비트 (0 = 계절 제한 없음)</li>
+ *     <li>thicknessMasks: 두께 속성 비트 (0 = 두께 제한 없음)</li>
+ *     <li>ootds: 응답용 DTO (빌드 시 한 번만 변환)</li>
+ * </ul>
+ * 추천 경로는 이 인덱스만 읽으며 JPA 엔티티를 다루지 않는다.
+ * <p>
+ * version은 인덱스를 만들 때 읽은 {@link WardrobeVersionStore} 값이다. 의상이 바뀔 때만 올라가므로
+ * 인덱스를 다시 만들어도 옷장 내용이 같으면 version이 유지된다 (추천 결과 캐시 키로 사용).
+ */
+public final class WardrobeIndex {
+
+    private static final ClothesType[] TYPES = ClothesType.values();
+
+    private static final WardrobeIndex EMPTY =
+        new WardrobeIndex(0L, new UUID[0], new byte[0], new byte[0], new byte[0], new OotdDto[0]);
+
+    private final long version;
+    private final UUID[] ids;
+    private final byte[] types;
+    private final byte[] seasonMasks;
+    private final byte[] thicknessMasks;
+    private final OotdDto[] ootds;
+
+    private WardrobeIndex(long version, UUID[] ids, byte[] types, byte[] seasonMasks, byte[] thicknessMasks,
+        OotdDto[] ootds
+    ) {
+        this.version = version;
+        this.ids = ids;
+        this.types = types;
+        this.seasonMasks = seasonMasks;
+        this.thicknessMasks = thicknessMasks;
+        this.ootds = ootds;
+    }
+
+    public static WardrobeIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 의상 엔티티 목록으로 인덱스 생성 (타입이 없는 의상은 제외)
+     *
+     * @param version 옷장 version
+     * @param clothes 속성/정의까지 로딩된 의상 목록
+     * @param toOotd 응답 DTO 변환 함수
+     * @return 옷장 인덱스
+     */
+    public static WardrobeIndex of(long version, List<Clothes> clothes, Function<Clothes, OotdDto> toOotd) {
+        List<Clothes> typed = clothes.stream()
+            .filter(c -> c.getType() != null)
+            .toList();
+        if (typed.isEmpty()) {
+            return version == EMPTY.version ? EMPTY
+                : new WardrobeIndex(version, EMPTY.ids, EMPTY.types, EMPTY.seasonMasks, EMPTY.thicknessMasks, EMPTY.ootds);
+        }
+
+        int n = typed.size();
+        UUID[] ids = new UUID[n];
+        byte[] types = new byte[n];
+        byte[] seasonMasks = new byte[n];
+        byte[] thicknessMasks = new byte[n];
+        OotdDto[] ootds = new OotdDto[n];
+
+        for (int i = 0; i < n; i++) {
+            Clothes c = typed.get(i);
+            ids[i] = c.getId();
+            types[i] = (byte) c.getType().ordinal();
+            seasonMasks[i] = (byte) seasonMaskOf(c);
+            thicknessMasks[i] = (byte) thicknessMaskOf(c);
+            ootds[i] = toOotd.apply(c);
+        }
+        return new WardrobeIndex(version, ids, types, seasonMasks, thicknessMasks, ootds);
+    }
+
+    /**
+     * 계절 속성 비트마스크
+     *
+     * <p>
+     * - 속성명이 "season" 또는 "계절"인 첫 번째 속성만 사용
+     * - 값이 없거나 enum에 매핑되지 않으면 0 (제한 없음)
+     */
+    public static int seasonMaskOf(Clothes clothes) {
+        for (ClothesAttribute attr : clothes.getAttributes()) {
+            ClothesAttributeDef definition = attr.getDefinition();
+            if (definition == null || !isSeasonAttribute(definition.getName())) continue;
+
+            String value = attr.getValue();
+            if (value == null || value.isBlank()) return 0;
+            Season season = Season.fromString(value);
+            return season == null ? 0 : bit(season);
+        }
+        return 0;
+    }
+
+    /**
+     * 두께 속성 비트마스크
+     *
+     * <p>
+     * - 속성명이 "thickness" 또는 "두께"인 모든 속성 값을 합친다
+     * - enum에 매핑되지 않는 값은 무시
+     */
+    public static int thicknessMaskOf(Clothes clothes) {
+        int mask = 0;
+        for (ClothesAttribute attr : clothes.getAttributes()) {
+            ClothesAttributeDef definition = attr.getDefinition();
+            if (definition == null || !isThicknessAttribute(definition.getName())) continue;
+
+            Thickness thickness = Thickness.fromString(attr.getValue());
+            if (thickness != null) mask |= bit(thickness);
+        }
+        return mask;
+    }
+
+    public static int bit(Season season) {
+        return 1 << season.ordinal();
+    }
+
+    public static int bit(Thickness thickness) {
+        return 1 << thickness.ordinal();
+    }
+
+    public static boolean isSeasonAttribute(String name) {
+        return "season".equalsIgnoreCase(name) || "계절".equals(name);
+    }
+
+    public static boolean isThicknessAttribute(String name) {
+        return "thickness".equals(name) || "두께".equals(name);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public UUID id(int position) {
+        return ids[position];
+    }
+
+    public int typeOrdinal(int position) {
+        return types[position];
+    }
+
+    public ClothesType type(int position) {
+        return TYPES[types[position]];
+    }
+
+    public int seasonMask(int position) {
+        return seasonMasks[position];
+    }
+
+    public int thicknessMask(int position) {
+        return thicknessMasks[position];
+    }
+
+    public OotdDto ootd(int position) {
+        return ootds[position];
+    }
+}
@@ -0,0 +1,111 @@
+package com.sprint.otboo.recommendation.cache;
+
+import com.sprint.otboo.clothing.entity.Clothes;
+import com.sprint.otboo.clothing.repository.ClothesRepository;
+import com.sprint.otboo.recommendation.mapper.RecommendationMapper;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 {@link WardrobeIndex} Read-through 캐시.
+ * <p>
+ * 의상 생성/수정/삭제 시 해당 사용자 항목을, 속성 정의 변경 시 전체를 무효화한다.
+ * 항목은 만들 때 읽은 옷장 version({@link WardrobeVersionStore})을 가지며, 조회 시 현재 version과 다르면
+ * 다시 로딩하므로 다른 인스턴스에서 발생한 변경도 바로 반영된다 (Redis 장애 시에는 TTL 만료로 반영).
+ * <p>
+ * 로딩은 computeIfAbsent 안에서 수행되므로, 로딩 중 도착한 무효화는 로딩이 끝난 뒤 적용되어
+ * 오래된 인덱스가 남지 않는다.
+ */
+@Slf4j
+@Component
+public class WardrobeIndexCache {
+
+    private final ClothesRepository clothesRepository;
+    private final WardrobeVersionStore wardrobeVersionStore;
+    private final RecommendationMapper recommendationMapper;
+    private final long ttlMs;
+    private final int maxEntries;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    public WardrobeIndexCache(
+        ClothesRepository clothesRepository,
+        WardrobeVersionStore wardrobeVersionStore,
+        RecommendationMapper recommendationMapper,
+        @Value("${recommendation.wardrobe-cache.ttl-minutes:30}") long ttlMinutes,
+        @Value("${recommendation.wardrobe-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.clothesRepository = clothesRepository;
+        this.wardrobeVersionStore = wardrobeVersionStore;
+        this.recommendationMapper = recommendationMapper;
+        this.ttlMs = Duration.ofMinutes(Math.max(1L, ttlMinutes)).toMillis();
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    public WardrobeIndex get(UUID userId) {
+        long version = wardrobeVersionStore.current(userId);
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() > System.currentTimeMillis()
+            && (version == WardrobeVersionStore.UNKNOWN || entry.index().version() == version)) {
+            return entry.index();
+        }
+        if (entry != null) {
+            entries.remove(userId, entry);
+        }
+
+        Entry loaded = entries.computeIfAbsent(userId, id -> load(id, version));
+        if (entries.size() > maxEntries) {
+            trim();
+        }
+        return loaded.index();
+    }
+
+    /**
+     * 항목 만료 시각을 최소 주어진 기간 뒤로 연장 (예열 결과가 남아 있는 동안 인덱스도 유지)
+     *
+     * @param userId 옷장 소유자 ID
+     * @param ttl 지금부터 유지할 기간
+     */
+    public void retain(UUID userId, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        entries.computeIfPresent(userId, (id, entry) -> entry.expiresAt() >= expiresAt
+            ? entry
+            : new Entry(entry.index(), expiresAt));
+    }
+
+    public void evict(UUID userId) {
+        entries.remove(userId);
+    }
+
+    public void evictAll() {
+        int size = entries.size();
+        entries.clear();
+        log.debug("[wardrobe-cache] evicted {} wardrobe entries", size);
+    }
+
+    private Entry load(UUID userId, long version) {
+        List<Clothes> clothes = clothesRepository.findByUserIdWithAttributes(userId);
+        WardrobeIndex index = WardrobeIndex.of(version, clothes, recommendationMapper::toOotdDto);
+        return new Entry(index, System.currentTimeMillis() + ttlMs);
+    }
+
+    /** 용량 초과 시 만료 시각이 이른 항목부터 10%를 비운다 */
+    private void trim() {
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        entries.entrySet().stream()
+            .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+            .limit(excess)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(entries::remove);
+    }
+
+    private record Entry(WardrobeIndex index, long expiresAt) {}
+}
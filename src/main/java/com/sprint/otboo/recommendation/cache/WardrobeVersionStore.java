@@ -0,0 +1,86 @@
+package com.sprint.otboo.recommendation.cache;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 옷장 version (Redis INCR, 만료 없음)
+ * <p>
+ * 의상이 생성/수정/삭제될 때마다 사용자 키를, 속성 정의가 바뀔 때마다 공용 키를 1씩 올린다.
+ * 옷장 version은 두 값의 합이며, 두 값 모두 증가만 하므로 어느 쪽이 바뀌어도 version이 달라진다.
+ * 인덱스를 다시 만들어도 옷장 내용이 그대로면 version이 유지되고, 모든 인스턴스가 같은 값을 본다.
+ * <p>
+ * Redis 장애 시 조회는 {@link #UNKNOWN}을 반환하며, 이 경우 추천 결과 캐시를 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WardrobeVersionStore {
+
+    public static final String KEY_PREFIX = "recommendation:wardrobe-version:";
+    public static final String DEFINITIONS_KEY = KEY_PREFIX + "definitions";
+    public static final long UNKNOWN = -1L;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public static String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    /**
+     * 현재 옷장 version 조회
+     *
+     * @param userId 옷장 소유자 ID
+     * @return 옷장 version (한 번도 바뀐 적 없으면 0), Redis 장애 시 {@link #UNKNOWN}
+     */
+    public long current(UUID userId) {
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(List.of(key(userId), DEFINITIONS_KEY));
+        } catch (RuntimeException e) {
+            log.warn("[wardrobe-version] read failed. user={}, cause={}", userId, e.getMessage());
+            return UNKNOWN;
+        }
+        if (values == null) return UNKNOWN;
+
+        long version = 0L;
+        for (String value : values) {
+            if (value == null) continue;
+            try {
+                version += Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                log.warn("[wardrobe-version] malformed value. user={}, value={}", userId, value);
+                return UNKNOWN;
+            }
+        }
+        return version;
+    }
+
+    /**
+     * 의상 변경 시 사용자 옷장 version 증가
+     *
+     * @param userId 옷장 소유자 ID
+     */
+    public void bump(UUID userId) {
+        increment(key(userId));
+    }
+
+    /**
+     * 속성 정의 변경 시 전체 옷장 version 증가
+     */
+    public void bumpDefinitions() {
+        increment(DEFINITIONS_KEY);
+    }
+
+    private void increment(String key) {
+        try {
+            redisTemplate.opsForValue().increment(key);
+        } catch (RuntimeException e) {
+            log.warn("[wardrobe-version] bump failed. key={}, cause={}", key, e.getMessage());
+        }
+    }
+}
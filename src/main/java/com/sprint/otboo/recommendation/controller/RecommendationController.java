@@ -6,9 +6,13 @@ import com.sprint.otboo.common.exception.ErrorCode;
 import com.sprint.otboo.recommendation.controller.api.RecommendationApi;
 import com.sprint.otboo.recommendation.dto.data.RecommendationDto;
 import com.sprint.otboo.recommendation.service.RecommendationService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -29,6 +33,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/recommendations")
 public class RecommendationController implements RecommendationApi {
 
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final RecommendationService recommendationService;
 
     /**
@@ -58,6 +64,47 @@ public class RecommendationController implements RecommendationApi {
         return ResponseEntity.ok(dto);
     }
 
+    /**
+     * 여러 날짜의 추천 의상을 한 번에 조회
+     * <p>
+     * weatherIds가 있으면 해당 날씨들 기준, 없으면 locationId의 from부터 days일치 일자별 예보 기준
+     *
+     * @param weatherIds 날씨 정보 ID 목록 (선택)
+     * @param locationId 날씨 위치 ID (weatherIds 미지정 시 필수)
+     * @param from 시작 날짜 (기본: 오늘, KST)
+     * @param days 일수 (기본 5)
+     * @return 날씨별 추천 의상 목록
+     */
+    @Override
+    @GetMapping("/batch")
+    public ResponseEntity<List<RecommendationDto>> getRecommendationsBatch(
+        @RequestParam(required = false) List<UUID> weatherIds,
+        @RequestParam(required = false) UUID locationId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(defaultValue = "5") int days
+    ) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UUID userId = extractUserId(authentication);
+
+        List<RecommendationDto> dtos;
+        if (weatherIds != null && !weatherIds.isEmpty()) {
+            log.info("다일 추천 요청 수신: 사용자 ID = {}, 날씨 ID 수 = {}", userId, weatherIds.size());
+            dtos = recommendationService.getRecommendations(userId, weatherIds);
+        } else if (locationId != null) {
+            LocalDate start = from != null ? from : LocalDate.now(KST);
+            log.info("다일 추천 요청 수신: 사용자 ID = {}, 위치 ID = {}, 시작일 = {}, 일수 = {}",
+                userId, locationId, start, days);
+            dtos = recommendationService.getRecommendations(userId, locationId, start, days);
+        } else {
+            throw new CustomException(
+                ErrorCode.INVALID_INPUT,
+                new IllegalArgumentException("weatherIds 또는 locationId 중 하나는 필요합니다.")
+            );
+        }
+
+        return ResponseEntity.ok(dtos);
+    }
+
     /**
      * 인증 정보에서 사용자 ID(UUID) 추출
      *
@@ -4,12 +4,15 @@ import com.sprint.otboo.common.dto.ErrorResponse;
 import com.sprint.otboo.recommendation.dto.data.RecommendationDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -54,4 +57,22 @@ public interface RecommendationApi {
     ResponseEntity<RecommendationDto> getRecommendations(
         @Parameter(description = "날씨 정보 ID", required = true) @RequestParam UUID weatherId
     );
+
+    @Operation(summary = "다일 추천 조회", description = "여러 날씨(날씨 ID 목록 또는 위치+기간)에 대한 추천 의상을 한 번에 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "다일 추천 조회 성공",
+            content = @Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = RecommendationDto.class)))
+        ),
+        @ApiResponse(responseCode = "400", description = "요청 파라미터 오류 (조회 기준 누락, 허용 일수 초과)",
+            content = @Content(mediaType = "*/*", schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "날씨 정보 없음",
+            content = @Content(mediaType = "*/*", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<List<RecommendationDto>> getRecommendationsBatch(
+        @Parameter(description = "날씨 정보 ID 목록 (최대 7개)") @RequestParam(required = false) List<UUID> weatherIds,
+        @Parameter(description = "날씨 위치 ID (weatherIds 미지정 시 필수)") @RequestParam(required = false) UUID locationId,
+        @Parameter(description = "시작 날짜 (yyyy-MM-dd, 기본: 오늘)") @RequestParam(required = false) LocalDate from,
+        @Parameter(description = "일수 (1~7, 기본 5)") @RequestParam(defaultValue = "5") int days
+    );
 }
\ No newline at end of file
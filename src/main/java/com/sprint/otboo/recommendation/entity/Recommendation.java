@@ -4,6 +4,7 @@ import com.sprint.otboo.common.base.BaseEntity;
 import com.sprint.otboo.user.entity.User;
 import com.sprint.otboo.weather.entity.Weather;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
@@ -35,7 +36,7 @@ public class Recommendation extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "weather_id", nullable = false,
-        foreignKey = @ForeignKey(name = "fk_recommendations_weather"))
+        foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Weather weather;
 
     @Builder.Default
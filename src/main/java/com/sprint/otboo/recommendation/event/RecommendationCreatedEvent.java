@@ -0,0 +1,18 @@
+package com.sprint.otboo.recommendation.event;
+
+import com.sprint.otboo.recommendation.cache.RecentRecommendation;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 추천 이력이 저장되었음을 알리는 이벤트
+ *
+ * @param userId 추천 대상 사용자 ID
+ * @param clothes 이번 추천에 포함된 의상 목록
+ */
+public record RecommendationCreatedEvent(
+    UUID userId,
+    List<RecentRecommendation> clothes
+) {
+
+}
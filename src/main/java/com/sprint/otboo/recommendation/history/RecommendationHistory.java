@@ -0,0 +1,24 @@
+package com.sprint.otboo.recommendation.history;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기로 저장할 추천 이력 1건 (recommendations 1행 + recommendation_clothes N행)
+ *
+ * @param id 추천 ID (요청 시점에 발급)
+ * @param userId 추천 대상 사용자 ID
+ * @param weatherId 참조한 날씨 ID
+ * @param createdAt 추천 시각
+ * @param clothesIds 추천된 의상 ID 목록
+ */
+public record RecommendationHistory(
+    UUID id,
+    UUID userId,
+    UUID weatherId,
+    Instant createdAt,
+    List<UUID> clothesIds
+) {
+
+}
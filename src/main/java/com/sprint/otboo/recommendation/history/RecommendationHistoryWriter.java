@@ -0,0 +1,183 @@
+package com.sprint.otboo.recommendation.history;
+
+import com.sprint.otboo.recommendation.repository.RecommendationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 추천 이력 Write-behind 저장기.
+ * <p>
+ * 추천 응답은 이력 행에 의존하지 않으므로, 요청 스레드는 큐에 넣기만 하고
+ * 전용 스레드가 batch-size 건이 모이거나 flush-interval-ms가 지나면 JDBC 배치로 저장한다.
+ * <p>
+ * - 큐는 queue-capacity로 제한되며, 가득 차면 이력을 버리고 dropped 지표로 남긴다 (요청 지연 방지)<br>
+ * - 웹 서버보다 늦게 멈추도록 phase를 낮춰, 종료 시 처리 중이던 요청의 이력까지 비우고 멈춘다<br>
+ * - 지표: recommendation.history.{enqueued, written, dropped, failed}, queue.size, flush
+ */
+@Slf4j
+@Component
+public class RecommendationHistoryWriter implements SmartLifecycle {
+
+    // 웹 서버(graceful shutdown 포함)보다 먼저 시작하고 나중에 멈춤
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long POLL_SLICE_MS = 100L;
+
+    private final RecommendationRepository recommendationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<RecommendationHistory> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long shutdownTimeoutMs;
+
+    private final Counter enqueued;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public RecommendationHistoryWriter(
+        RecommendationRepository recommendationRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${recommendation.history.queue-capacity:10000}") int queueCapacity,
+        @Value("${recommendation.history.batch-size:200}") int batchSize,
+        @Value("${recommendation.history.flush-interval-ms:200}") long flushIntervalMs,
+        @Value("${recommendation.history.shutdown-timeout-ms:10000}") long shutdownTimeoutMs
+    ) {
+        this.recommendationRepository = recommendationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1L, flushIntervalMs);
+        this.shutdownTimeoutMs = Math.max(0L, shutdownTimeoutMs);
+
+        this.enqueued = meterRegistry.counter("recommendation.history.enqueued");
+        this.written = meterRegistry.counter("recommendation.history.written");
+        this.dropped = meterRegistry.counter("recommendation.history.dropped");
+        this.failed = meterRegistry.counter("recommendation.history.failed");
+        this.flushTimer = meterRegistry.timer("recommendation.history.flush");
+        Gauge.builder("recommendation.history.queue.size", queue, BlockingQueue::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 추천 이력 저장 요청 (요청 스레드에서 호출, 블로킹 없음)
+     *
+     * @param history 저장할 추천 이력
+     */
+    public void enqueue(RecommendationHistory history) {
+        if (!running) {
+            // 기동 전/종료 후에는 큐를 비울 스레드가 없으므로 바로 저장
+            flush(List.of(history));
+            return;
+        }
+        if (queue.offer(history)) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+            log.warn("[recommendation-history] queue full, dropping history. id={}, user={}",
+                history.id(), history.userId());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        worker = new Thread(this::drainLoop, "recommendation-history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("[recommendation-history] writer did not finish within {}ms, remaining={}",
+                shutdownTimeoutMs, queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        List<RecommendationHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+        // 중단 시 남은 이력까지 저장
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) flush(batch);
+    }
+
+    /**
+     * 첫 이력이 들어온 뒤 batch-size가 차거나 flush-interval-ms가 지날 때까지 모은다.
+     * 종료 신호를 놓치지 않도록 대기는 POLL_SLICE_MS 단위로 끊는다.
+     */
+    private void collect(List<RecommendationHistory> batch) throws InterruptedException {
+        RecommendationHistory first = queue.poll(POLL_SLICE_MS, TimeUnit.MILLISECONDS);
+        if (first == null) return;
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize && running) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) return;
+
+            long wait = Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_SLICE_MS));
+            RecommendationHistory next = queue.poll(wait, TimeUnit.NANOSECONDS);
+            if (next != null) batch.add(next);
+        }
+    }
+
+    private void flush(List<RecommendationHistory> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                status -> recommendationRepository.insertHistories(batch)));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("[recommendation-history] batch insert failed. size={}", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sprint.otboo.recommendation.listener;
+
+import com.sprint.otboo.recommendation.cache.RecentRecommendationWindow;
+import com.sprint.otboo.recommendation.event.RecommendationCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 추천 이력 저장 후 최근 추천 윈도우에 기록
+ *
+ * <p>커밋된 추천만 기록해야 롤백된 추천이 다음 추천에서 제외되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentRecommendationListener {
+
+    private final RecentRecommendationWindow recentRecommendationWindow;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRecommendationCreated(RecommendationCreatedEvent event) {
+        recentRecommendationWindow.record(event.userId(), event.clothes());
+    }
+}
@@ -0,0 +1,28 @@
+package com.sprint.otboo.recommendation.listener;
+
+import com.sprint.otboo.recommendation.prewarm.RecommendationPrewarmer;
+import com.sprint.otboo.weather.event.WeatherForecastRefreshedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예보 배치 완료 후 추천 결과 캐시 예열
+ *
+ * <p>배치 스레드를 붙잡지 않도록 전용 단일 스레드 실행기에서 처리한다.
+ * 이전 예열이 아직 진행 중이면 이번 요청은 버려진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationPrewarmListener {
+
+    private final RecommendationPrewarmer recommendationPrewarmer;
+
+    @Async("recommendationPrewarmExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleForecastRefreshed(WeatherForecastRefreshedEvent event) {
+        recommendationPrewarmer.prewarm(event.forecastedAt());
+    }
+}
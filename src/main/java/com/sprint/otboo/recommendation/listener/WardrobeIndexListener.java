@@ -0,0 +1,70 @@
+package com.sprint.otboo.recommendation.listener;
+
+import com.sprint.otboo.clothing.event.ClothesAttributeDefCreatedEvent;
+import com.sprint.otboo.clothing.event.ClothesAttributeDefDeletedEvent;
+import com.sprint.otboo.clothing.event.ClothesAttributeDefUpdatedEvent;
+import com.sprint.otboo.clothing.event.ClothesChangedEvent;
+import com.sprint.otboo.recommendation.cache.WardrobeIndexCache;
+import com.sprint.otboo.recommendation.cache.WardrobeVersionStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 의상/속성 정의 변경 시 옷장 version을 올리고 추천용 옷장 인덱스를 무효화
+ *
+ * <p>커밋 이후에 무효화해야 다음 로딩이 변경된 데이터를 읽는다.
+ * version은 모든 인스턴스가 공유하므로 다른 인스턴스의 옷장 인덱스와 추천 결과 캐시도 다음 조회에서 갱신된다.
+ * 트랜잭션 밖에서 발행된 이벤트(삭제 등)도 즉시 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WardrobeIndexListener {
+
+    private final WardrobeIndexCache wardrobeIndexCache;
+    private final WardrobeVersionStore wardrobeVersionStore;
+
+    /**
+     * 의상이 생성/수정/삭제되면 소유자의 옷장 version을 올리고 옷장 인덱스를 무효화
+     *
+     * @param event 의상 소유자 ID를 담은 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleClothesChanged(ClothesChangedEvent event) {
+        wardrobeVersionStore.bump(event.ownerId());
+        wardrobeIndexCache.evict(event.ownerId());
+    }
+
+    /**
+     * 속성 정의가 추가되면 전체 옷장 인덱스를 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAttributeDefCreated(ClothesAttributeDefCreatedEvent event) {
+        evictAll(event.attributeName());
+    }
+
+    /**
+     * 속성 정의가 수정되면(이름 변경 포함) 전체 옷장 인덱스를 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAttributeDefUpdated(ClothesAttributeDefUpdatedEvent event) {
+        evictAll(event.attributeName());
+    }
+
+    /**
+     * 속성 정의가 삭제되면 전체 옷장 인덱스를 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAttributeDefDeleted(ClothesAttributeDefDeletedEvent event) {
+        evictAll(event.attributeName());
+    }
+
+    private void evictAll(String attributeName) {
+        log.debug("[WardrobeIndexListener] attribute def changed: {}", attributeName);
+        wardrobeVersionStore.bumpDefinitions();
+        wardrobeIndexCache.evictAll();
+    }
+}
@@ -0,0 +1,167 @@
+package com.sprint.otboo.recommendation.prewarm;
+
+import com.sprint.otboo.recommendation.service.RecommendationService;
+import com.sprint.otboo.user.entity.UserProfile;
+import com.sprint.otboo.user.repository.UserProfileRepository;
+import com.sprint.otboo.weather.cache.WeatherLocationGridIndex;
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import com.sprint.otboo.weather.repository.WeatherLocationRepository;
+import com.sprint.otboo.weather.repository.WeatherRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예보 배치 완료 후 오늘 추천을 미리 계산해 결과 캐시를 채우는 예열기
+ *
+ * <p>
+ * 아침 배치 직후 추천 요청이 몰리는 구간을 캐시 조회로 바꾸기 위해,
+ * 이번 배치로 예보가 갱신된 격자마다 해당 격자(user_profiles.x/y)의 사용자 추천을 계산한다.
+ * <ul>
+ *     <li>격자별 날씨: 날씨 API가 내려주는 것과 같은 대표 위치/대표 행 (현재 시각과 다음 시각 KST)</li>
+ *     <li>처리 속도: 초당 rate-per-second명으로 제한해 요청 처리 여력을 남긴다</li>
+ *     <li>사용자별 실패는 로그만 남기고 다음 사용자로 진행</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RecommendationPrewarmer {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final WeatherLocationRepository locationRepository;
+    private final WeatherLocationGridIndex gridIndex;
+    private final WeatherRepository weatherRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final RecommendationService recommendationService;
+    private final boolean enabled;
+    private final long intervalNanos;
+
+    public RecommendationPrewarmer(
+        WeatherLocationRepository locationRepository,
+        WeatherLocationGridIndex gridIndex,
+        WeatherRepository weatherRepository,
+        UserProfileRepository userProfileRepository,
+        RecommendationService recommendationService,
+        @Value("${recommendation.prewarm.enabled:true}") boolean enabled,
+        @Value("${recommendation.prewarm.rate-per-second:20}") int ratePerSecond
+    ) {
+        this.locationRepository = locationRepository;
+        this.gridIndex = gridIndex;
+        this.weatherRepository = weatherRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.recommendationService = recommendationService;
+        this.enabled = enabled;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+    }
+
+    /**
+     * 갱신된 격자의 사용자 추천 예열
+     *
+     * @param forecastedAt 이번 배치 예보 스냅샷의 수집 시각
+     * @return 새로 계산한 추천 수
+     */
+    public int prewarm(Instant forecastedAt) {
+        if (!enabled) return 0;
+
+        long startedAt = System.nanoTime();
+        ZonedDateTime nowKst = Instant.now().atZone(KST);
+        Map<Long, UUID> cells = refreshedCells(forecastedAt);
+
+        int warmed = 0;
+        long nextSlot = System.nanoTime();
+        for (Map.Entry<Long, UUID> cell : cells.entrySet()) {
+            List<Weather> weathers = todayWeathers(cell.getValue(), nowKst);
+            if (weathers.isEmpty()) continue;
+
+            int x = (int) (cell.getKey() >> 32);
+            int y = (int) cell.getKey().longValue();
+            for (UserProfile profile : userProfileRepository.findAllByXAndY(x, y)) {
+                int sensitivity = profile.getTemperatureSensitivity() != null ? profile.getTemperatureSensitivity() : 0;
+                for (Weather weather : weathers) {
+                    // 처리 속도 제한: 사용자/날씨 1건마다 다음 슬롯까지 대기
+                    nextSlot = pace(nextSlot);
+                    if (Thread.currentThread().isInterrupted()) {
+                        log.info("[recommendation-prewarm] interrupted after {} recommendations", warmed);
+                        return warmed;
+                    }
+                    warmed += warm(profile.getUserId(), sensitivity, weather) ? 1 : 0;
+                }
+            }
+        }
+
+        log.info("[recommendation-prewarm] cells={}, warmed={}, elapsedMs={}",
+            cells.size(), warmed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return warmed;
+    }
+
+    /**
+     * 격자(x, y) → 날씨 API가 사용하는 대표 위치 ID (격자 인덱스에 없으면 갱신된 위치 그대로)
+     */
+    private Map<Long, UUID> refreshedCells(Instant forecastedAt) {
+        Map<Long, UUID> cells = new LinkedHashMap<>();
+        for (WeatherLocation location : locationRepository.findRefreshedInUserProfileGrids(forecastedAt)) {
+            long key = ((long) location.getX() << 32) | (location.getY() & 0xFFFFFFFFL);
+            cells.computeIfAbsent(key, k -> gridIndex.find(location.getX(), location.getY())
+                .map(WeatherLocationGridIndex.Cell::locationId)
+                .orElse(location.getId()));
+        }
+        return cells;
+    }
+
+    /**
+     * 오늘(KST) 대표 날씨: 현재 시각과 다음 시각 기준 (정시 직후 요청도 적중하도록, 같은 행이면 1건)
+     */
+    private List<Weather> todayWeathers(UUID locationId, ZonedDateTime nowKst) {
+        LocalDate today = nowKst.toLocalDate();
+        List<Weather> weathers = new ArrayList<>(2);
+        int lastHour = Math.min(23, nowKst.getHour() + 1);
+        for (int hour = nowKst.getHour(); hour <= lastHour; hour++) {
+            weatherRepository.findDailyRepresentatives(locationId, hour, today).stream()
+                .filter(w -> w.getForecastAt().atZone(KST).toLocalDate().equals(today))
+                .findFirst()
+                .filter(w -> weathers.stream().noneMatch(existing -> existing.getId().equals(w.getId())))
+                .ifPresent(weathers::add);
+        }
+        return weathers;
+    }
+
+    private boolean warm(UUID userId, int sensitivity, Weather weather) {
+        try {
+            return recommendationService.prewarm(userId, sensitivity, weather);
+        } catch (RuntimeException e) {
+            log.warn("[recommendation-prewarm] failed: userId={}, weatherId={}", userId, weather.getId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 다음 슬롯 시각까지 대기
+     *
+     * @return 그 다음 슬롯 시각 (nanoTime). 인터럽트되면 인터럽트 플래그를 복원한다
+     */
+    private long pace(long slot) {
+        long waitNanos = slot - System.nanoTime();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return slot;
+            }
+        }
+        // 밀린 만큼 몰아서 처리하지 않도록 현재 시각 기준으로 다음 슬롯을 잡는다
+        return Math.max(slot, System.nanoTime()) + intervalNanos;
+    }
+}
@@ -9,7 +9,8 @@ import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface RecommendationRepository extends JpaRepository<Recommendation, UUID> {
+public interface RecommendationRepository extends JpaRepository<Recommendation, UUID>,
+    RecommendationRepositoryCustom {
 
     List<Recommendation> findByUser_IdAndCreatedAtAfter(UUID userId, Instant after);
 }
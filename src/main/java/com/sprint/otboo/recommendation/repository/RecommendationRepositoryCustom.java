@@ -0,0 +1,16 @@
+package com.sprint.otboo.recommendation.repository;
+
+import com.sprint.otboo.recommendation.history.RecommendationHistory;
+import java.util.List;
+
+public interface RecommendationRepositoryCustom {
+
+    /**
+     * 추천 이력을 JDBC 배치로 INSERT ( recommendations → recommendation_clothes 순 )
+     * <p>
+     * 기록 사이에 삭제된 사용자/의상을 참조하는 행, 이미 저장된 추천 ID는 건너뜀
+     *
+     * @param histories 저장할 추천 이력
+     * */
+    void insertHistories(List<RecommendationHistory> histories);
+}
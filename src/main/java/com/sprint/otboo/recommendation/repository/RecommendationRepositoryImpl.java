@@ -0,0 +1,73 @@
+package com.sprint.otboo.recommendation.repository;
+
+import com.sprint.otboo.recommendation.history.RecommendationHistory;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RecommendationRepositoryImpl implements RecommendationRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 비동기 저장이라 요청 이후 사용자가 탈퇴했을 수 있으므로 존재할 때만 INSERT
+    private static final String INSERT_RECOMMENDATION_SQL = """
+        INSERT INTO recommendations (id, user_id, weather_id, created_at)
+        SELECT ?, ?, ?, ?
+        WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    // 같은 이유로 삭제된 의상, 저장되지 않은 추천은 건너뜀
+    private static final String INSERT_RECOMMENDATION_CLOTHES_SQL = """
+        INSERT INTO recommendation_clothes (id, recommendation_id, clothes_id)
+        SELECT ?, ?, ?
+        WHERE EXISTS (SELECT 1 FROM recommendations r WHERE r.id = ?)
+          AND EXISTS (SELECT 1 FROM clothes c WHERE c.id = ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertHistories(List<RecommendationHistory> histories) {
+        if (histories.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_RECOMMENDATION_SQL, histories, BATCH_SIZE, (ps, h) -> {
+            ps.setObject(1, h.id());
+            ps.setObject(2, h.userId());
+            ps.setObject(3, h.weatherId());
+            setInstant(ps, 4, h.createdAt());
+            ps.setObject(5, h.userId());
+        });
+
+        List<UUID[]> rows = new ArrayList<>();
+        for (RecommendationHistory h : histories) {
+            for (UUID clothesId : h.clothesIds()) {
+                rows.add(new UUID[]{h.id(), clothesId});
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_RECOMMENDATION_CLOTHES_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, row[0]);
+            ps.setObject(3, row[1]);
+            ps.setObject(4, row[0]);
+            ps.setObject(5, row[1]);
+        });
+    }
+
+    private static void setInstant(PreparedStatement ps, int index, Instant value) throws SQLException {
+        ps.setTimestamp(index, Timestamp.from(value), Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+    }
+}
@@ -1,9 +1,18 @@
 package com.sprint.otboo.recommendation.service;
 
 import com.sprint.otboo.recommendation.dto.data.RecommendationDto;
+import com.sprint.otboo.weather.entity.Weather;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 public interface RecommendationService {
 
     RecommendationDto getRecommendation(UUID userId, UUID weatherId);
+
+    List<RecommendationDto> getRecommendations(UUID userId, List<UUID> weatherIds);
+
+    List<RecommendationDto> getRecommendations(UUID userId, UUID locationId, LocalDate from, int days);
+
+    boolean prewarm(UUID userId, int temperatureSensitivity, Weather weather);
 }
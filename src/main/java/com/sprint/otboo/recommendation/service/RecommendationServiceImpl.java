@@ -1,35 +1,46 @@
 package com.sprint.otboo.recommendation.service;
 
-import com.sprint.otboo.clothing.entity.Clothes;
+import com.sprint.otboo.clothing.dto.data.OotdDto;
 import com.sprint.otboo.clothing.entity.ClothesType;
 import com.sprint.otboo.clothing.entity.attribute.Season;
-import com.sprint.otboo.clothing.repository.ClothesRepository;
 import com.sprint.otboo.common.exception.CustomException;
 import com.sprint.otboo.common.exception.ErrorCode;
+import com.sprint.otboo.recommendation.cache.OutfitCooccurrenceCache;
+import com.sprint.otboo.recommendation.cache.OutfitCooccurrenceIndex;
+import com.sprint.otboo.recommendation.cache.RecentRecommendation;
+import com.sprint.otboo.recommendation.cache.RecentRecommendationWindow;
+import com.sprint.otboo.recommendation.cache.RecommendationResultCache;
+import com.sprint.otboo.recommendation.cache.WardrobeIndex;
+import com.sprint.otboo.recommendation.cache.WardrobeIndexCache;
+import com.sprint.otboo.recommendation.cache.WardrobeVersionStore;
 import com.sprint.otboo.recommendation.dto.data.RecommendationDto;
-import com.sprint.otboo.recommendation.entity.Recommendation;
-import com.sprint.otboo.recommendation.entity.RecommendationClothes;
-import com.sprint.otboo.recommendation.mapper.RecommendationMapper;
-import com.sprint.otboo.recommendation.repository.RecommendationRepository;
+import com.sprint.otboo.recommendation.event.RecommendationCreatedEvent;
+import com.sprint.otboo.recommendation.history.RecommendationHistory;
+import com.sprint.otboo.recommendation.history.RecommendationHistoryWriter;
+import com.sprint.otboo.recommendation.util.RankedSlots;
 import com.sprint.otboo.recommendation.util.RecommendationEngine;
 import com.sprint.otboo.recommendation.util.WeatherUtils;
-import com.sprint.otboo.user.entity.User;
 import com.sprint.otboo.user.entity.UserProfile;
 import com.sprint.otboo.user.repository.UserProfileRepository;
 import com.sprint.otboo.weather.entity.Weather;
 import com.sprint.otboo.weather.repository.WeatherRepository;
 import java.time.Instant;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,8 +53,11 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>사용자 의상 조회</li>
  *   <li>사용자 프로필 기반 체감온도 계산</li>
  *   <li>최근 추천 기록을 반영하여 추천 엔진 실행</li>
- *   <li>누락된 의상 타입에 대해 확률적 Fallback 적용</li>
+ *   <li>누락된 의상 타입에 대해 Fallback 적용 (비슷한 날씨 피드의 동시 등장 인덱스 우선, 없으면 확률적)</li>
  *   <li>Dress ↔ Top & Bottom 상호 배타 규칙 유동적 적용</li>
+ *   <li>여러 날짜 추천 시 옷장/프로필/최근 이력 1회 조회</li>
+ *   <li>같은 조건 재요청 시 결과 캐시에서 타입별 대안 순환 (엔진/이력 저장 생략)</li>
+ *   <li>예보 배치 완료 후 결과 캐시 예열 (이력 저장 없이 캐시에만 저장)</li>
  * </ul>
  */
 @Slf4j
@@ -51,12 +65,23 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RecommendationServiceImpl implements RecommendationService {
 
-    private final RecommendationRepository recommendationRepository;
-    private final RecommendationMapper recommendationMapper;
-    private final ClothesRepository clothesRepository;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 다일 추천 최대 일수 (예보 제공 범위 5일 + 여유)
+    private static final int MAX_BATCH_DAYS = 7;
+
+    // 타입별로 유지할 순위 수 (대표 1 + 캐시 적중 시 순환할 대안)
+    private static final int RANKING_DEPTH = 3;
+
     private final WeatherRepository weatherRepository;
     private final UserProfileRepository userProfileRepository;
     private final RecommendationEngine recommendationEngine;
+    private final WardrobeIndexCache wardrobeIndexCache;
+    private final RecommendationResultCache recommendationResultCache;
+    private final OutfitCooccurrenceCache outfitCooccurrenceCache;
+    private final RecentRecommendationWindow recentRecommendationWindow;
+    private final RecommendationHistoryWriter historyWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 ID와 날씨 ID를 기반으로 추천 의상을 생성하고 DTO로 반환
@@ -67,33 +92,182 @@ public class RecommendationServiceImpl implements RecommendationService {
      * @throws CustomException 사용자 또는 날씨 정보가 존재하지 않을 경우
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public RecommendationDto getRecommendation(UUID userId, UUID weatherId) {
         // 1. 날씨 조회
         Weather weather = weatherRepository.findByIdWithLocation(weatherId)
             .orElseThrow(() -> new CustomException(ErrorCode.WEATHER_NOT_FOUND));
 
-        // 2. 사용자 의상 조회
-        List<Clothes> userClothes = clothesRepository.findByUserIdWithAttributes(userId);
+        // 2. 사용자 옷장 인덱스 조회 (캐시, JPA 엔티티 미사용)
+        WardrobeIndex wardrobe = wardrobeIndexCache.get(userId);
 
         // 2-1. 사용자의 옷장이 비어있는 경우
-        if (userClothes.isEmpty()) {
+        if (wardrobe.isEmpty()) {
             log.warn("[Recommendation] 사용자 의상 없음 → 추천 진행 불가, 빈 DTO 반환: 사용자 ID = {}", userId);
-            Recommendation emptyRecommendation = Recommendation.builder()
-                .user(User.builder().id(userId).build())
-                .weather(weather)
-                .build();
-            return recommendationMapper.toDto(emptyRecommendation);
+            return new RecommendationDto(weather.getId(), userId, List.of());
         }
 
         // 3. 사용자 프로필 조회 (온도 민감도)
-        UserProfile profile = userProfileRepository.findByUserId(userId)
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        int tempSensitivity = loadTemperatureSensitivity(userId);
+
+        // 3-1. 같은 조건의 최근 추천 결과가 있으면 대안만 순환해 반환 (엔진/이력 저장 생략)
+        //      예열 결과의 첫 노출이면 이력/최근 윈도우는 이번에 기록
+        long now = System.currentTimeMillis();
+        CachedRecommendation cached = cachedRecommendation(userId, weather, wardrobe, tempSensitivity, now);
+        if (cached != null) {
+            if (cached.firstShown()) {
+                recordRecent(userId, List.of(cached.result()), now);
+            }
+            return cached.result();
+        }
 
-        // null 방어: 기본값 0
-        Integer ts = profile.getTemperatureSensitivity();
-        int tempSensitivity = (ts != null) ? ts : 0;
+        // 3-2. 최근 10분 내 추천 이력 조회 (Redis 윈도우, 최신순)
+        List<RecentRecommendation> recentRecommendations = recentRecommendationWindow.recent(userId, now);
+
+        RecommendationDto result = recommendFor(
+            userId, weather, wardrobe, tempSensitivity, recentRecommendations, now, new Random(), false);
+        recordRecent(userId, List.of(result), now);
+        return result;
+    }
+
+    /**
+     * 여러 날씨(예: 5일 예보)에 대한 추천을 한 번에 생성
+     * <p>
+     * 옷장 인덱스, 프로필, 최근 추천 이력은 한 번만 조회하고 날씨별로 엔진만 다시 평가한다.
+     * 앞 날짜에 추천한 의상은 다음 날짜 평가에서 최근 추천으로 보고 제외한다.
+     *
+     * @param userId 추천 대상 사용자 ID
+     * @param weatherIds 참조할 날씨 ID 목록 (응답은 같은 순서, 중복 제거)
+     * @return 날씨별 추천 결과
+     * @throws CustomException 날씨 정보가 없거나 요청 일수가 허용 범위를 벗어난 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecommendationDto> getRecommendations(UUID userId, List<UUID> weatherIds) {
+        List<UUID> ids = weatherIds.stream().distinct().toList();
+        validateBatchSize(ids.size());
+
+        Map<UUID, Weather> weathersById = weatherRepository.findAllByIdInWithLocation(ids).stream()
+            .collect(Collectors.toMap(Weather::getId, Function.identity()));
+
+        List<Weather> weathers = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Weather weather = weathersById.get(id);
+            if (weather == null) {
+                throw new CustomException(ErrorCode.WEATHER_NOT_FOUND);
+            }
+            weathers.add(weather);
+        }
+        return recommendAll(userId, weathers);
+    }
+
+    /**
+     * 위치의 일자별 대표 예보(배치 요약) 기준으로 from부터 days일치 추천을 한 번에 생성
+     *
+     * @param userId 추천 대상 사용자 ID
+     * @param locationId 날씨 위치 ID
+     * @param from 시작 날짜 (KST)
+     * @param days 일수
+     * @return 날짜순 추천 결과 (예보가 없는 날짜는 제외)
+     * @throws CustomException 요청 일수가 허용 범위를 벗어난 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecommendationDto> getRecommendations(UUID userId, UUID locationId, LocalDate from, int days) {
+        validateBatchSize(days);
+
+        int targetHour = Instant.now().atZone(KST).getHour();
+        List<Weather> weathers = weatherRepository.findDailyRepresentatives(locationId, targetHour, from).stream()
+            .filter(w -> w.getForecastAt().atZone(KST).toLocalDate().isBefore(from.plusDays(days)))
+            .toList();
+        return recommendAll(userId, weathers);
+    }
+
+    private List<RecommendationDto> recommendAll(UUID userId, List<Weather> weathers) {
+        if (weathers.isEmpty()) return List.of();
+
+        WardrobeIndex wardrobe = wardrobeIndexCache.get(userId);
+        if (wardrobe.isEmpty()) {
+            log.warn("[Recommendation] 사용자 의상 없음 → 추천 진행 불가, 빈 DTO 반환: 사용자 ID = {}", userId);
+            return weathers.stream()
+                .map(w -> new RecommendationDto(w.getId(), userId, List.of()))
+                .toList();
+        }
+
+        int tempSensitivity = loadTemperatureSensitivity(userId);
+        long now = System.currentTimeMillis();
+        List<RecentRecommendation> exclusions = new ArrayList<>(recentRecommendationWindow.recent(userId, now));
+        Random random = new Random();
+
+        // 엔진 평가는 메모리 내 배열 순회라 날짜별 병렬화 이득이 없으므로 순차 처리
+        List<RecommendationDto> results = new ArrayList<>(weathers.size());
+        List<RecommendationDto> generated = new ArrayList<>(weathers.size());
+        for (int day = 0; day < weathers.size(); day++) {
+            CachedRecommendation cached =
+                cachedRecommendation(userId, weathers.get(day), wardrobe, tempSensitivity, now + day);
+            RecommendationDto result;
+            if (cached == null) {
+                result = recommendFor(userId, weathers.get(day), wardrobe, tempSensitivity,
+                    exclusions, now + day, random, false);
+                generated.add(result);
+            } else {
+                result = cached.result();
+                if (cached.firstShown()) generated.add(result);
+            }
+            results.add(result);
+            // 다음 날짜가 같은 의상을 다시 고르지 않도록 이번 날짜 추천을 최신 회차로 앞에 추가 (상호 배타 집계도 날짜별 회차)
+            exclusions.addAll(0, toRecent(result, now + day));
+        }
 
+        // 최근 추천 윈도우에는 다일 추천 전체를 한 회차로 기록
+        recordRecent(userId, generated, now);
+        return results;
+    }
+
+    /**
+     * 추천 결과를 미리 계산해 결과 캐시에 저장 (예보 배치 완료 후 예열)
+     * <p>
+     * 아직 사용자에게 보여준 추천이 아니므로 이력 저장/최근 윈도우 기록은 첫 노출 시점으로 미룬다.
+     * 첫 요청이 옷장을 다시 읽지 않도록 옷장 인덱스도 예열 TTL 동안 유지한다.
+     *
+     * @param userId 추천 대상 사용자 ID
+     * @param temperatureSensitivity 사용자 온도 민감도 (프로필 일괄 조회 값)
+     * @param weather 참조할 날씨 (위치 포함)
+     * @return 새로 계산해 저장했으면 true, 옷장이 비었거나 이미 캐시되어 있으면 false
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean prewarm(UUID userId, int temperatureSensitivity, Weather weather) {
+        WardrobeIndex wardrobe = wardrobeIndexCache.get(userId);
+        if (wardrobe.isEmpty() || !isCacheable(wardrobe)) return false;
+        if (recommendationResultCache.contains(resultKey(userId, weather, wardrobe, temperatureSensitivity))) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        List<RecentRecommendation> recentRecommendations = recentRecommendationWindow.recent(userId, now);
+        recommendFor(userId, weather, wardrobe, temperatureSensitivity, recentRecommendations, now, new Random(), true);
+        wardrobeIndexCache.retain(userId, recommendationResultCache.prewarmTtl());
+        return true;
+    }
+
+    /**
+     * 한 날씨에 대한 추천 생성 (옷장/민감도/최근 이력은 호출자가 조회해 전달)
+     *
+     * @param userId 추천 대상 사용자 ID
+     * @param weather 참조할 날씨
+     * @param wardrobe 사용자 옷장 인덱스 (비어있지 않음)
+     * @param tempSensitivity 사용자 온도 민감도
+     * @param recentRecommendations 최근 추천 기록 (최신순)
+     * @param now 이번 추천 시각 (epoch ms)
+     * @param random Fallback 선택용 난수
+     * @param prewarm 예열 여부 (true면 이력 저장 없이 결과 캐시에만 저장)
+     * @return 추천 결과 (예열이면 null). 최근 추천 윈도우 기록은 호출자가 {@link #recordRecent}로 한다
+     */
+    private RecommendationDto recommendFor(UUID userId, Weather weather, WardrobeIndex wardrobe,
+        int tempSensitivity, List<RecentRecommendation> recentRecommendations, long now, Random random,
+        boolean prewarm
+    ) {
         // 4. 체감 온도 계산
         //    - 최고ㆍ최저 온도 존재 시: 해당 값 기준으로 체감 온도 계산
         //    - 최고ㆍ최저 온도 없을 시: 현재 온도 기준으로 체감 온도 계산
@@ -145,101 +319,195 @@ public class RecommendationServiceImpl implements RecommendationService {
         Season season = WeatherUtils.classifySeason(perceivedTemp);
         log.info("[Recommendation] 체감 온도 기준 판별된 계절: {}", season);
 
-        // 5. 최근 10분 내 추천 이력 조회
-        Instant cutoff = LocalDateTime.now()
-            .minusMinutes(10)
-            .atZone(ZoneId.systemDefault())
-            .toInstant();
-        List<Recommendation> recentRecommendations =
-            recommendationRepository.findByUser_IdAndCreatedAtAfter(userId, cutoff);
-
-        // 6. 최근 추천된 옷 ID 수집
+        // 5. 최근 추천된 옷 ID 수집
         Set<UUID> recentlyRecommendedIds = recentRecommendations.stream()
-            .flatMap(r -> r.getRecommendationClothes().stream())
-            .map(rc -> rc.getClothes().getId())
+            .map(RecentRecommendation::clothesId)
             .collect(Collectors.toSet());
 
-        // 7. 최근 추천된 옷 제외
-        List<Clothes> filteredClothes = userClothes.stream()
-            .filter(c -> !recentlyRecommendedIds.contains(c.getId()))
-            .toList();
+        // 6. 최근 추천된 옷 제외 (옷장 위치 기준)
+        int[] candidates = IntStream.range(0, wardrobe.size())
+            .filter(i -> !recentlyRecommendedIds.contains(wardrobe.id(i)))
+            .toArray();
 
-        // 7-1. 최소 1개 추천 보장 (랜덤 선택으로 다양성 유지)
-        if (filteredClothes.isEmpty() && !userClothes.isEmpty()) {
+        // 6-1. 최소 1개 추천 보장 (랜덤 선택으로 다양성 유지)
+        if (candidates.length == 0) {
             // 사용자 의상 중 하나를 랜덤으로 선택
-            Random random = new Random();
-            Clothes fallbackClothes = userClothes.get(random.nextInt(userClothes.size()));
-            filteredClothes = List.of(fallbackClothes);
-            log.info("[Recommendation] 최소 1개 추천 보장: {}", fallbackClothes.getName());
+            int fallbackPosition = random.nextInt(wardrobe.size());
+            candidates = new int[]{fallbackPosition};
+            log.info("[Recommendation] 최소 1개 추천 보장: {}", wardrobe.ootd(fallbackPosition).name());
         }
 
-        // 8. 최근 추천 제외 후 비어있으면 전체로 재시도 (추천할 옷 부족 시)
-        if (filteredClothes.isEmpty()) {
-            log.info("[Recommendation] 최근 추천 제외 후 남은 의상이 없어 재추천 허용으로 전환");
-            filteredClothes = userClothes;
+        // 7. 추천 엔진 실행 → 타입별 적합도 1위 의상 선택
+        //    동점은 (사용자, 날씨, 추천 시각) 시드로 정해 회차마다 달라지되 같은 회차는 재현 가능
+        long seed = Objects.hash(userId, weather.getId(), now);
+        RankedSlots ranked = recommendationEngine.rank(
+            wardrobe, candidates, perceivedTemp, weather, false, RANKING_DEPTH, seed);
+        List<Integer> recommended = new ArrayList<>();
+        for (int position : ranked.best()) {
+            recommended.add(position);
         }
 
-        // 9. 추천 엔진 실행 → 사용자의 옷 중 체감 온도에 적합한 옷 필터링
-        List<Clothes> recommended = new ArrayList<>(recommendationEngine.recommend(
-            filteredClothes, perceivedTemp, weather, false
-        ));
-
-        // 10. 추천된 의상 타입 로그
+        // 8. 추천된 의상 타입 로그
         if (!recommended.isEmpty()) {
             String types = recommended.stream()
-                .map(Clothes::getType)
+                .map(wardrobe::type)
                 .map(Enum::name)
                 .distinct()
                 .collect(Collectors.joining(", "));
             log.info("[Recommendation] 추천된 의상 타입: {}", types);
         }
 
-        // 10-1. Fallback 적용: 누락된 타입 보충
-        Random random = new Random();
+        // 9. Fallback 적용: 누락된 타입 보충
+        //    비슷한 날씨(계절 × 온도 범주) 피드 데이터가 충분하면 동시 등장 인덱스로 채울지/무엇을 채울지 결정
         int fallbackCount = 0;
+        OutfitCooccurrenceIndex cooccurrence = outfitCooccurrenceCache.get();
+        int bucket = OutfitCooccurrenceIndex.bucket(season, WeatherUtils.classifyTemperatureCategory(season, perceivedTemp));
+        boolean useCooccurrence = cooccurrence.covers(bucket);
 
         for (ClothesType type : ClothesType.values()) {
-            boolean hasType = recommended.stream().anyMatch(c -> c.getType() == type);
+            boolean hasType = recommended.stream().anyMatch(i -> wardrobe.type(i) == type);
             if (!hasType) {
                 // 사용자 소유 의상 중 해당 타입 검색
-                List<Clothes> fallbackCandidates = userClothes.stream()
-                    .filter(c -> c.getType() == type)
-                    .toList();
-
-                if (!fallbackCandidates.isEmpty() && random.nextDouble() < 0.5) {
+                int[] fallbackCandidates = IntStream.range(0, wardrobe.size())
+                    .filter(i -> wardrobe.type(i) == type)
+                    .toArray();
+                if (fallbackCandidates.length == 0) continue;
+
+                if (useCooccurrence) {
+                    // 피드에서 이 타입이 등장한 비율로 채우고, 이미 고른 의상과 자주 함께 입은 의상 선택
+                    int fallback = cooccurrence.fill(bucket, type, wardrobe, fallbackCandidates, recommended, random);
+                    if (fallback >= 0) {
+                        recommended.add(fallback);
+                        log.info("[Fallback] {} 타입 의상 미존재 → '{}' 대체 추천 (동시 등장 기반)", type, wardrobe.ootd(fallback).name());
+                        fallbackCount++;
+                    }
+                } else if (random.nextDouble() < 0.5) {
                     // 하나 랜덤 선택
-                    Clothes fallback = fallbackCandidates.get(random.nextInt(fallbackCandidates.size()));
+                    int fallback = fallbackCandidates[random.nextInt(fallbackCandidates.length)];
                     recommended.add(fallback);
-                    log.info("[Fallback] {} 타입 의상 미존재 → '{}' 대체 추천 (확률적 적용)", type, fallback.getName());
+                    log.info("[Fallback] {} 타입 의상 미존재 → '{}' 대체 추천 (확률적 적용)", type, wardrobe.ootd(fallback).name());
                     fallbackCount++;
                 }
             }
         }
-        // 10-2. Fallback 적용 요약 로그
+        // 9-1. Fallback 적용 요약 로그
         log.info("[Fallback Summary] {}개 타입 의상 Fallback 적용", fallbackCount);
 
-        // 10-3. 상호 배타 적용
-        applyMutualExclusion(recommended, recentRecommendations);
-
-        // 11. 추천 엔티티 구성
-        Recommendation recommendation = Recommendation.builder()
-            .user(User.builder().id(userId).build())
-            .weather(weather)
-            .build();
-
-        // 12. 추천된 옷들을 RecommendationClothes로 묶어서 연결
-        recommended.forEach(c -> recommendation.addRecommendationClothes(
-            RecommendationClothes.builder()
-                .clothes(c)
-                .recommendation(recommendation)
-                .build()
+        // 9-2. 상호 배타 적용
+        applyMutualExclusion(wardrobe, recommended, recentRecommendations);
+
+        int[] positions = recommended.stream().mapToInt(Integer::intValue).toArray();
+
+        // 9-3. 예열: 결과 캐시에만 저장 (첫 요청 시 대표 추천부터 제공)
+        if (prewarm) {
+            recommendationResultCache.putPrewarmed(
+                resultKey(userId, weather, wardrobe, tempSensitivity), ranked, positions);
+            return null;
+        }
+
+        // 10. 추천 이력 저장 요청 (Write-behind, 응답은 이력 행에 의존하지 않음)
+        enqueueHistory(userId, weather, wardrobe, positions, now);
+
+        // 11. 결과 캐시 저장 (같은 조건 재요청 시 대안 순환)
+        if (isCacheable(wardrobe)) {
+            recommendationResultCache.put(
+                resultKey(userId, weather, wardrobe, tempSensitivity),
+                ranked,
+                positions
+            );
+        }
+
+        // 12. 캐시된 DTO로 응답 구성
+        List<OotdDto> clothes = recommended.stream()
+            .map(wardrobe::ootd)
+            .toList();
+        return new RecommendationDto(weather.getId(), userId, clothes);
+    }
+
+    /**
+     * 결과 캐시 적중 시 다음 회차 추천 DTO 구성
+     * <p>
+     * 예열 결과를 처음 보여주는 회차면 이력 저장을 요청한다. 최근 윈도우 기록은 호출자가 {@link #recordRecent}로 한다.
+     *
+     * @param now 이번 추천 시각 (epoch ms)
+     * @return 캐시 적중 시 추천 결과, 아니면 null
+     */
+    private CachedRecommendation cachedRecommendation(UUID userId, Weather weather, WardrobeIndex wardrobe,
+        int tempSensitivity, long now
+    ) {
+        if (!isCacheable(wardrobe)) return null;
+        RecommendationResultCache.Hit hit =
+            recommendationResultCache.next(resultKey(userId, weather, wardrobe, tempSensitivity), wardrobe);
+        if (hit == null) return null;
+
+        log.info("[Recommendation] 결과 캐시 적중 → 대안 순환: 사용자 ID = {}, 날씨 ID = {}, 예열 결과 첫 노출 = {}",
+            userId, weather.getId(), hit.firstShown());
+        if (hit.firstShown()) {
+            enqueueHistory(userId, weather, wardrobe, hit.positions(), now);
+        }
+        List<OotdDto> clothes = Arrays.stream(hit.positions())
+            .mapToObj(wardrobe::ootd)
+            .toList();
+        return new CachedRecommendation(new RecommendationDto(weather.getId(), userId, clothes), hit.firstShown());
+    }
+
+    private void enqueueHistory(UUID userId, Weather weather, WardrobeIndex wardrobe, int[] positions, long now) {
+        historyWriter.enqueue(new RecommendationHistory(
+            UUID.randomUUID(),
+            userId,
+            weather.getId(),
+            Instant.ofEpochMilli(now),
+            Arrays.stream(positions).mapToObj(wardrobe::id).toList()
         ));
+    }
 
-        // 13. 추천 이력 저장
-        recommendationRepository.save(recommendation);
+    /**
+     * 최근 추천 윈도우에 한 회차로 기록 (커밋 후 리스너가 Redis에 반영)
+     *
+     * @param results 이번 회차 추천 결과 (여러 날짜면 모두 같은 회차)
+     * @param now 회차 시각 (epoch ms)
+     */
+    private void recordRecent(UUID userId, List<RecommendationDto> results, long now) {
+        List<RecentRecommendation> clothes = results.stream()
+            .flatMap(result -> toRecent(result, now).stream())
+            .distinct()
+            .toList();
+        if (clothes.isEmpty()) return;
+        eventPublisher.publishEvent(new RecommendationCreatedEvent(userId, clothes));
+    }
+
+    private static List<RecentRecommendation> toRecent(RecommendationDto result, long recommendedAt) {
+        return result.clothes().stream()
+            .map(ootd -> new RecentRecommendation(recommendedAt, ootd.clothesId(), ootd.type()))
+            .toList();
+    }
+
+    /**
+     * 옷장 version을 알 수 없으면(Redis 장애) 변경 여부를 판단할 수 없으므로 결과 캐시를 쓰지 않는다
+     */
+    private static boolean isCacheable(WardrobeIndex wardrobe) {
+        return wardrobe.version() != WardrobeVersionStore.UNKNOWN;
+    }
+
+    private RecommendationResultCache.Key resultKey(UUID userId, Weather weather, WardrobeIndex wardrobe,
+        int tempSensitivity
+    ) {
+        return new RecommendationResultCache.Key(userId, weather.getId(), wardrobe.version(), tempSensitivity);
+    }
+
+    private int loadTemperatureSensitivity(UUID userId) {
+        UserProfile profile = userProfileRepository.findByUserId(userId)
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 14. 엔티티 → DTO 변환 후 반환
-        return recommendationMapper.toDto(recommendation);
+        // null 방어: 기본값 0
+        Integer ts = profile.getTemperatureSensitivity();
+        return (ts != null) ? ts : 0;
+    }
+
+    private void validateBatchSize(int days) {
+        if (days < 1 || days > MAX_BATCH_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
     }
 
     /**
@@ -248,44 +516,61 @@ public class RecommendationServiceImpl implements RecommendationService {
      * <p>규칙:
      * <ul>
      *   <li>최근 n회 추천 내역을 기반으로 Dress 또는 Top & Bottom 과다 출현 시 이번 추천에서 일부 제거</li>
+     *   <li>같은 추천 시각을 가진 항목을 한 회차로 본다</li>
      *   <li>추천 다양성을 위해 매번 무조건 제거하지 않고 조건부 적용</li>
      * </ul>
      *
-     * @param recommended 이번 추천 목록
-     * @param recentRecommendations 최근 추천 기록
+     * @param wardrobe 사용자 옷장 인덱스
+     * @param recommended 이번 추천 목록 (옷장 위치)
+     * @param recentRecommendations 최근 추천 기록 (최신순)
      */
-    private void applyMutualExclusion(List<Clothes> recommended, List<Recommendation> recentRecommendations) {
+    private void applyMutualExclusion(WardrobeIndex wardrobe, List<Integer> recommended,
+        List<RecentRecommendation> recentRecommendations
+    ) {
         // 최근 3회 기준
         int recentLimit = 3;
 
-        // 최근 추천 기록을 생성일 기준 내림차순으로 정렬하고, 최근 3회만 추출
-        List<Recommendation> recent = recentRecommendations.stream()
-            .sorted(Comparator.comparing(Recommendation::getCreatedAt).reversed())
+        // 최근 추천 기록은 최신순이므로, 앞에서부터 서로 다른 추천 시각 3개만 추출
+        Set<Long> recentRounds = recentRecommendations.stream()
+            .map(RecentRecommendation::recommendedAt)
+            .distinct()
             .limit(recentLimit)
+            .collect(Collectors.toSet());
+        List<RecentRecommendation> recent = recentRecommendations.stream()
+            .filter(r -> recentRounds.contains(r.recommendedAt()))
             .toList();
 
         // 최근 N회 추천 내에서 Dress 타입 의상 등장 횟수 계산
         long dressCount = recent.stream()
-            .flatMap(r -> r.getRecommendationClothes().stream())
-            .filter(rc -> rc.getClothes().getType() == ClothesType.DRESS)
+            .filter(r -> r.type() == ClothesType.DRESS)
             .count();
 
         // 최근 N회 추천 내에서 Top 또는 Bottom 타입 의상 등장 횟수 계산
         long topOrBottomCount = recent.stream()
-            .flatMap(r -> r.getRecommendationClothes().stream())
-            .filter(rc -> rc.getClothes().getType() == ClothesType.TOP
-                || rc.getClothes().getType() == ClothesType.BOTTOM)
+            .filter(r -> isTopOrBottom(r.type()))
             .count();
 
         // Dress가 최근 N회 중 2회 이상 추천되었고, 이번 추천에 Top&Bottom 포함 시 Dress 제거
-        if (dressCount >= 2 && recommended.stream().anyMatch(c -> c.getType() == ClothesType.TOP || c.getType() == ClothesType.BOTTOM)) {
-            recommended.removeIf(c -> c.getType() == ClothesType.DRESS);
+        if (dressCount >= 2 && recommended.stream().anyMatch(i -> isTopOrBottom(wardrobe.type(i)))) {
+            recommended.removeIf(i -> wardrobe.type(i) == ClothesType.DRESS);
             log.info("[MutualExclusion] Dress 과다 추천 → 이번 추천에서 Dress 제거");
         }
         // Top&Bottom이 최근 N회 중 2회 이상 추천되었고, 이번 추천에 Dress 포함 시 Top&Bottom 제거
-        else if (topOrBottomCount >= 2 && recommended.stream().anyMatch(c -> c.getType() == ClothesType.DRESS)) {
-            recommended.removeIf(c -> c.getType() == ClothesType.TOP || c.getType() == ClothesType.BOTTOM);
+        else if (topOrBottomCount >= 2 && recommended.stream().anyMatch(i -> wardrobe.type(i) == ClothesType.DRESS)) {
+            recommended.removeIf(i -> isTopOrBottom(wardrobe.type(i)));
             log.info("[MutualExclusion] Top&Bottom 과다 추천 → 이번 추천에서 Top&Bottom 제거");
         }
     }
-}
\ No newline at end of file
+
+    private boolean isTopOrBottom(ClothesType type) {
+        return type == ClothesType.TOP || type == ClothesType.BOTTOM;
+    }
+
+    /**
+     * 결과 캐시 적중 결과
+     *
+     * @param result 이번 회차 추천 결과
+     * @param firstShown 예열 결과의 첫 노출 여부 (최근 윈도우 기록 대상)
+     */
+    private record CachedRecommendation(RecommendationDto result, boolean firstShown) {}
+}
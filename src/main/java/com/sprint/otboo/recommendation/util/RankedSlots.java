@@ -0,0 +1,78 @@
+package com.sprint.otboo.recommendation.util;
+
+import com.sprint.otboo.clothing.entity.ClothesType;
+import java.util.Arrays;
+
+/**
+ * 타입(슬롯)별 점수 순위 추천 결과 (불변)
+ *
+ * <p>
+ * slots[타입 ordinal] = 해당 타입 상위 k개 의상의 옷장 위치 (점수 내림차순, 없으면 빈 배열).
+ * 첫 번째 값이 슬롯 대표 추천이고, 나머지는 같은 슬롯의 대안이다.
+ */
+public final class RankedSlots {
+
+    private static final ClothesType[] TYPES = ClothesType.values();
+    private static final int[] NONE = new int[0];
+
+    private final int[][] slots;
+
+    /**
+     * @param slots 타입 ordinal별 순위 배열 (null 원소는 빈 슬롯으로 취급)
+     */
+    public RankedSlots(int[][] slots) {
+        this.slots = new int[TYPES.length][];
+        for (int type = 0; type < TYPES.length; type++) {
+            int[] ranked = type < slots.length ? slots[type] : null;
+            this.slots[type] = ranked != null ? ranked : NONE;
+        }
+    }
+
+    /**
+     * 슬롯별 대표 추천 (타입 순서, 타입별 1개)
+     *
+     * @return 추천된 의상의 옷장 위치 배열
+     */
+    public int[] best() {
+        int count = 0;
+        for (int[] ranked : slots) {
+            if (ranked.length > 0) count++;
+        }
+
+        int[] result = new int[count];
+        int i = 0;
+        for (int[] ranked : slots) {
+            if (ranked.length > 0) result[i++] = ranked[0];
+        }
+        return result;
+    }
+
+    /**
+     * 한 슬롯의 순위 목록 (대표 추천 포함, 점수 내림차순)
+     *
+     * @param type 의상 타입
+     * @return 옷장 위치 배열 (복사본)
+     */
+    public int[] alternates(ClothesType type) {
+        return Arrays.copyOf(slots[type.ordinal()], slots[type.ordinal()].length);
+    }
+
+    /**
+     * 회차별로 슬롯 순위를 순환하며 하나 선택 (0회차 = 대표 추천)
+     *
+     * @param type 의상 타입
+     * @param round 회차 (0 이상)
+     * @return 옷장 위치, 빈 슬롯이면 -1
+     */
+    public int pick(ClothesType type, int round) {
+        int[] ranked = slots[type.ordinal()];
+        return ranked.length == 0 ? -1 : ranked[Math.floorMod(round, ranked.length)];
+    }
+
+    public boolean isEmpty() {
+        for (int[] ranked : slots) {
+            if (ranked.length > 0) return false;
+        }
+        return true;
+    }
+}
@@ -1,18 +1,21 @@
 package com.sprint.otboo.recommendation.util;
 
-import com.sprint.otboo.clothing.entity.Clothes;
+import com.sprint.otboo.recommendation.cache.WardrobeIndex;
 import com.sprint.otboo.weather.entity.Weather;
-import java.util.List;
 
 public interface RecommendationEngine {
 
     /**
-     * 계절 및 세부 온도 범주를 기반으로 의상 추천
+     * 옷장 인덱스 기반 점수 순위 추천 (타입별 상위 k개)
      *
-     * @param clothes 사용자 의상 목록
+     * @param wardrobe 사용자 옷장 인덱스
+     * @param candidates 추천 후보 위치 배열
      * @param perceivedTemp 체감 온도
      * @param weather 날씨 정보
-     * @return 추천 의상 리스트
+     * @param k 타입별로 유지할 순위 수 (1 이상)
+     * @param seed 동점 순서 결정용 시드 (같은 시드면 같은 결과)
+     * @return 타입별 순위 (대표 추천 + 대안)
      */
-    List<Clothes> recommend(List<Clothes> clothes, double perceivedTemp, Weather weather, boolean excludeDress);
+    RankedSlots rank(WardrobeIndex wardrobe, int[] candidates, double perceivedTemp, Weather weather,
+        boolean excludeDress, int k, long seed);
 }
\ No newline at end of file
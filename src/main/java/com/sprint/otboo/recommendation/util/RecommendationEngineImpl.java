@@ -1,26 +1,14 @@
 package com.sprint.otboo.recommendation.util;
 
-import com.sprint.otboo.clothing.entity.Clothes;
-import com.sprint.otboo.clothing.entity.ClothesAttribute;
 import com.sprint.otboo.clothing.entity.ClothesType;
 import com.sprint.otboo.clothing.entity.attribute.Season;
 import com.sprint.otboo.clothing.entity.attribute.Thickness;
+import com.sprint.otboo.recommendation.cache.WardrobeIndex;
 import com.sprint.otboo.recommendation.entity.TemperatureCategory;
-import com.sprint.otboo.weather.dto.data.HumidityDto;
-import com.sprint.otboo.weather.dto.data.PrecipitationDto;
-import com.sprint.otboo.weather.dto.data.TemperatureDto;
-import com.sprint.otboo.weather.dto.data.WeatherDto;
-import com.sprint.otboo.weather.dto.data.WindSpeedDto;
-import com.sprint.otboo.weather.dto.response.WeatherLocationResponse;
 import com.sprint.otboo.weather.entity.PrecipitationType;
 import com.sprint.otboo.weather.entity.SkyStatus;
 import com.sprint.otboo.weather.entity.Weather;
-import java.math.BigDecimal;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
 import org.springframework.stereotype.Service;
 
 /**
@@ -28,89 +16,263 @@ import org.springframework.stereotype.Service;
  * <p>
  * 계절, 체감온도, 세부 온도 범주, 일교차 및 의류 속성 기반으로
  * 사용자가 보유한 의상 중 적합한 의상 추천
+ * <p>
+ * 상태를 갖지 않는다. 요청마다 날씨 조건을 {@link RuleTable}로 한 번 컴파일하고,
+ * 각 의상은 타입 ordinal 배열 조회와 계절/두께 비트마스크 비교만으로 판정한다 (동시 요청 간 간섭 없음).
  */
 @Service
 public class RecommendationEngineImpl implements RecommendationEngine {
 
-    // 추천 기준 풍속 (m/s)
-    private double windSpeed;
+    private static final ClothesType[] TYPES = ClothesType.values();
+    private static final Thickness[] THICKNESSES = Thickness.values();
 
     /**
-     * 사용자의 의상 리스트와 체감온도, 날씨 정보를 기반으로
-     * 추천 의상 리스트를 반환
+     * 옷장 인덱스 기반 점수 순위 추천
      *
      * <p>
-     * - 계절, 세부 온도 범주, 타입, 두께 및 날씨 규칙을 적용
-     * - 동일 타입 의상이 여러 개일 경우, 타입별로 1개만 선택
+     * 규칙을 통과한 의상마다 적합도 점수({@link RuleTable#score})를 매기고,
+     * 타입별 크기 k의 최소 힙에 한 번의 순회로 유지한다 (O(n log k), 중간 컬렉션 없음).
+     * 같은 점수는 seed와 의상 ID로 만든 값으로 순서를 정하므로, 같은 seed면 후보 순서와 무관하게 같은 결과가 나온다.
      *
-     * @param clothes 사용자 의상 리스트
+     * @param wardrobe 사용자 옷장 인덱스
+     * @param candidates 추천 후보 위치 배열
      * @param perceivedTemp 체감 온도 (°C)
      * @param weather 날씨 정보
      * @param excludeDress Dress 타입을 추천에서 제외할지 여부
-     * @return 추천 대상 의상 리스트 (타입별 1개)
+     * @param k 타입별로 유지할 순위 수 (1 이상)
+     * @param seed 동점 순서 결정용 시드
+     * @return 타입별 상위 k개 순위
      */
     @Override
-    public List<Clothes> recommend(List<Clothes> clothes, double perceivedTemp, Weather weather, boolean excludeDress
+    public RankedSlots rank(WardrobeIndex wardrobe, int[] candidates, double perceivedTemp, Weather weather,
+        boolean excludeDress, int k, long seed
     ) {
-        // 풍속 초기화
-        this.windSpeed = (weather.getSpeedMs() != null) ? weather.getSpeedMs() : 0.0;
-
-        // 1. 계절 판별 (봄 / 여름 / 가을 / 겨울)
+        if (k < 1) {
+            throw new IllegalArgumentException("k는 1 이상이어야 합니다: " + k);
+        }
         Season season = WeatherUtils.classifySeason(perceivedTemp);
-
-        // 2. 세부 온도 범주 판별 (각 계절 내 LOW / HIGH 구간)
         TemperatureCategory category = WeatherUtils.classifyTemperatureCategory(season, perceivedTemp);
+        RuleTable rules = RuleTable.compile(season, category, weather);
+
+        // 타입별 최소 힙 (루트 = 현재 k개 중 최하위), 해당 타입 후보가 나올 때만 할당
+        long[][] heapKeys = new long[TYPES.length][];
+        int[][] heapPositions = new int[TYPES.length][];
+        int[] heapSizes = new int[TYPES.length];
+
+        for (int position : candidates) {
+            int type = wardrobe.typeOrdinal(position);
+            if (excludeDress && type == ClothesType.DRESS.ordinal()) continue;
+
+            int score = rules.score(type, wardrobe.seasonMask(position), wardrobe.thicknessMask(position));
+            if (score < 0) continue;
+
+            // 상위 32비트 = 점수, 하위 32비트 = 동점 순서
+            long key = ((long) score << 32) | (tieBreak(seed, wardrobe.id(position)) & 0xFFFFFFFFL);
+            if (heapKeys[type] == null) {
+                heapKeys[type] = new long[k];
+                heapPositions[type] = new int[k];
+            }
+            heapSizes[type] = offer(heapKeys[type], heapPositions[type], heapSizes[type], key, position);
+        }
 
-        // 3. 추천 필터링
-        List<Clothes> filtered = clothes.stream()
-            .filter(c -> !(excludeDress && c.getType() == ClothesType.DRESS))
-            .filter(c -> matchesSeasonAndCategory(c, season, category, weather))
-            .toList();
+        int[][] slots = new int[TYPES.length][];
+        for (int type = 0; type < TYPES.length; type++) {
+            if (heapSizes[type] > 0) {
+                slots[type] = drainDescending(heapKeys[type], heapPositions[type], heapSizes[type]);
+            }
+        }
+        return new RankedSlots(slots);
+    }
 
-        // 4. 타입별 그룹화 후 첫 번째 요소 선택
-        Map<ClothesType, List<Clothes>> groupedByType = filtered.stream()
-            .collect(Collectors.groupingBy(Clothes::getType));
+    /**
+     * 크기 제한 최소 힙에 후보 추가
+     *
+     * @return 추가 후 힙 크기
+     */
+    private static int offer(long[] keys, int[] positions, int size, long key, int position) {
+        if (size < keys.length) {
+            keys[size] = key;
+            positions[size] = position;
+            siftUp(keys, positions, size);
+            return size + 1;
+        }
+        if (key > keys[0]) {
+            keys[0] = key;
+            positions[0] = position;
+            siftDown(keys, positions, 0, size);
+        }
+        return size;
+    }
 
-        // 5. 타입별 첫 번째 요소 선택 후 반환
-        return groupedByType.values().stream()
-            .map(list -> list.get(0))
-            .toList();
+    /**
+     * 힙을 비우며 점수 내림차순 위치 배열 생성 (최하위부터 꺼내 뒤에서부터 채움)
+     */
+    private static int[] drainDescending(long[] keys, int[] positions, int size) {
+        int[] result = new int[size];
+        for (int last = size - 1; last >= 0; last--) {
+            result[last] = positions[0];
+            keys[0] = keys[last];
+            positions[0] = positions[last];
+            siftDown(keys, positions, 0, last);
+        }
+        return result;
+    }
+
+    private static void siftUp(long[] keys, int[] positions, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= keys[index]) return;
+            swap(keys, positions, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] keys, int[] positions, int index, int size) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) return;
+            int smallest = left + 1 < size && keys[left + 1] < keys[left] ? left + 1 : left;
+            if (keys[index] <= keys[smallest]) return;
+            swap(keys, positions, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(long[] keys, int[] positions, int a, int b) {
+        long key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        int position = positions[a];
+        positions[a] = positions[b];
+        positions[b] = position;
     }
 
     /**
-     * 계절 + 세부 온도 범주 + 날씨 기반 필터링
+     * seed와 의상 ID로 만든 동점 순서 값 (SplitMix64 혼합)
+     */
+    static int tieBreak(long seed, UUID clothesId) {
+        long z = seed ^ clothesId.getMostSignificantBits() ^ Long.rotateLeft(clothesId.getLeastSignificantBits(), 32);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+
+    /**
+     * 요청 단위로 컴파일된 추천 결정 테이블
      *
      * <p>
-     * 1) 의상 season 속성 필터 적용( nullable )
-     * 2) 일교차 기반 OUTER 강제 추천
-     * 3) 타입 + 두께 필터( nullable ) 적용
-     *
-     * @param clothes 의상
-     * @param season 계절
-     * @param category 세부 온도 범주
-     * @param weather 날씨 정보
-     * @return 추천 가능 여부
+     * - typeAllowed[type]: 타입 규칙(계절/범주/하늘/강수/풍속) 통과 여부
+     * - allowedThickness[type]: 두께 규칙을 통과하는 두께 비트마스크
+     * - forcedOuter: 일교차 기반 OUTER 강제 추천 여부 (타입/두께 규칙 무시)
+     * <p>
+     * 불변이며 요청 스레드 안에서만 사용된다.
      */
-    private boolean matchesSeasonAndCategory(Clothes clothes, Season season, TemperatureCategory category, Weather weather) {
-        // 1. 의상 season 속성 필터
-        if (!matchesClothesSeasonAttribute(clothes, season)) {
-            return false; // 계절 속성 불일치면 추천 제외
+    static final class RuleTable {
+
+        private final int seasonBit;
+        private final boolean forcedOuter;
+        private final boolean[] typeAllowed;
+        private final int[] allowedThickness;
+
+        private RuleTable(Season season, boolean forcedOuter, boolean[] typeAllowed, int[] allowedThickness) {
+            this.seasonBit = WardrobeIndex.bit(season);
+            this.forcedOuter = forcedOuter;
+            this.typeAllowed = typeAllowed;
+            this.allowedThickness = allowedThickness;
+        }
+
+        /**
+         * 계절 + 세부 온도 범주 + 날씨 조건을 결정 테이블로 컴파일
+         *
+         * @param season 계절
+         * @param category 세부 온도 범주
+         * @param weather 날씨 정보
+         * @return 결정 테이블
+         */
+        static RuleTable compile(Season season, TemperatureCategory category, Weather weather) {
+            double windSpeed = safeDouble(weather.getSpeedMs());
+            PrecipitationType precipitation = weather.getType();
+            SkyStatus sky = weather.getSkyStatus();
+
+            boolean[] typeAllowed = new boolean[TYPES.length];
+            int[] allowedThickness = new int[TYPES.length];
+            for (ClothesType type : TYPES) {
+                typeAllowed[type.ordinal()] = matchesTypeRuleOnly(type, season, category, precipitation, sky, windSpeed);
+                for (Thickness thickness : THICKNESSES) {
+                    if (isSuitableThickness(type, thickness, season, category)) {
+                        allowedThickness[type.ordinal()] |= WardrobeIndex.bit(thickness);
+                    }
+                }
+            }
+
+            boolean forcedOuter = isForcedOuterRecommendation(season, weather, sky, windSpeed);
+            return new RuleTable(season, forcedOuter, typeAllowed, allowedThickness);
+        }
+
+        /**
+         * 해당 타입이 일교차 기반 강제 추천 대상인지 여부 (OUTER 전용)
+         */
+        boolean isForced(ClothesType type) {
+            return type == ClothesType.OUTER && forcedOuter;
         }
 
-        // 2. 일교차 기반 OUTER 강제 추천
-        if (isForcedOuterRecommendation(clothes, season, weather)) {
-            return true;
+        /**
+         * 계절 + 세부 온도 범주 + 날씨 기반 필터링
+         *
+         * <p>
+         * 1) 의상 season 속성 필터 적용( 0 = 제한 없음 )
+         * 2) 일교차 기반 OUTER 강제 추천
+         * 3) 타입 + 두께 필터( 0 = 제한 없음 ) 적용
+         *
+         * @param type 의상 타입 ordinal
+         * @param seasonMask 의상 계절 비트마스크
+         * @param thicknessMask 의상 두께 비트마스크
+         * @return 추천 가능 여부
+         */
+        boolean matches(int type, int seasonMask, int thicknessMask) {
+            // 1. 계절 속성 불일치면 추천 제외
+            if (seasonMask != 0 && (seasonMask & seasonBit) == 0) return false;
+
+            // 2. 일교차 기반 OUTER 강제 추천
+            if (forcedOuter && type == ClothesType.OUTER.ordinal()) return true;
+
+            // 3. 타입 + 두께 기반 규칙 적용
+            return typeAllowed[type] && (thicknessMask & ~allowedThickness[type]) == 0;
         }
 
-        // 3. 타입 + 두께 기반 규칙 적용
-        return matchesTypeAndThickness(clothes, season, category, weather);
+        /**
+         * 적합도 점수 ({@link #matches}를 통과하지 못하면 -1)
+         *
+         * <p>
+         * 속성으로 적합함이 확인된 의상을 속성이 없어 규칙을 그냥 통과한 의상보다 앞에 둔다.
+         * <ul>
+         *     <li>계절 속성이 현재 계절과 일치: +2</li>
+         *     <li>두께 속성이 모두 현재 규칙의 허용 두께: +2</li>
+         *     <li>두께 속성이 하나뿐(허용 범위 안에서 명확): +1</li>
+         * </ul>
+         *
+         * @param type 의상 타입 ordinal
+         * @param seasonMask 의상 계절 비트마스크
+         * @param thicknessMask 의상 두께 비트마스크
+         * @return 0 이상의 점수, 추천 불가면 -1
+         */
+        int score(int type, int seasonMask, int thicknessMask) {
+            if (!matches(type, seasonMask, thicknessMask)) return -1;
+
+            int score = 0;
+            if (seasonMask != 0) score += 2;
+            if (thicknessMask != 0 && (thicknessMask & ~allowedThickness[type]) == 0) {
+                score += 2;
+                if (Integer.bitCount(thicknessMask) == 1) score += 1;
+            }
+            return score;
+        }
     }
 
     /**
      * 일교차 및 기상 조건 기반 OUTER 강제 추천 여부 판단
      *
      * <p>
-     * - OUTER 타입이 아니면 추천하지 않음
      * - 최고/최저 온도 기준으로 일교차 계산 후 규칙 적용
      *   <ul>
      *       <li>규칙 1: 봄/가을 & 일교차 ≥ 6°C</li>
@@ -122,161 +284,77 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      *       <li>서브 2: 체감온도 15~19°C & 풍속 ≥ 3.0m/s & 구름 많음</li>
      *   </ul>
      *
-     * @param clothes 의상
      * @param season 계절
      * @param weather 날씨 정보
+     * @param sky 하늘 상태 (nullable)
+     * @param windSpeed 풍속 (m/s)
      * @return 강제 추천 대상이면 true, 아니면 false
      */
-    private boolean isForcedOuterRecommendation(Clothes clothes, Season season, Weather weather) {
-        // OUTER 타입이 아니면 false
-        if (clothes.getType() != ClothesType.OUTER) {
+    private static boolean isForcedOuterRecommendation(Season season, Weather weather, SkyStatus sky, double windSpeed) {
+        // 봄/가을이 아니면 어떤 규칙도 적용되지 않음
+        if (season != Season.SPRING && season != Season.FALL) {
             return false;
         }
 
-        // 날씨 DTO 생성
-        WeatherDto weatherDto = toWeatherDto(weather);
+        double current = safeDouble(weather.getCurrentC());
+        double max = safeDouble(weather.getMaxC());
+        double min = safeDouble(weather.getMinC());
+        boolean cloudy = sky == SkyStatus.MOSTLY_CLOUDY || sky == SkyStatus.CLOUDY;
 
         // 최고ㆍ최저 온도 없으면 current 온도로 fallback
-        double maxTemp = weatherDto.temperature().max() != 0.0
-            ? weatherDto.temperature().max()
-            : weatherDto.temperature().current();
-
-        double minTemp = weatherDto.temperature().min() != 0.0
-            ? weatherDto.temperature().min()
-            : weatherDto.temperature().current();
+        double maxTemp = max != 0.0 ? max : current;
+        double minTemp = min != 0.0 ? min : current;
 
         // 일교차 계산
         double dailyRange = WeatherUtils.calculateDailyRange(maxTemp, minTemp);
 
-        // 정규 규칙: 최고ㆍ최저 온도로 체감온도가 계산된 경우
-        // 규칙 1: 봄/가을 & 일교차 6도 이상
-        boolean rule1 = (season == Season.SPRING || season == Season.FALL)
-            && dailyRange >= 6;
+        // 규칙 1: 일교차 6도 이상
+        boolean rule1 = dailyRange >= 6;
 
-        // 규칙 2: 봄/가을 & 일교차 4도 이상 & 풍속 >= 3m/s & 구름 많음
-        SkyStatus skyStatus = SkyStatus.valueOf(weatherDto.skyStatus());
-        boolean rule2 = (season == Season.SPRING || season == Season.FALL)
-            && dailyRange >= 4
-            && windSpeed >= 3.0
-            && (skyStatus == SkyStatus.MOSTLY_CLOUDY || skyStatus == SkyStatus.CLOUDY);
+        // 규칙 2: 일교차 4도 이상 & 풍속 >= 3m/s & 구름 많음
+        boolean rule2 = dailyRange >= 4 && windSpeed >= 3.0 && cloudy;
 
         // 서브 규칙: 최고ㆍ최저 온도 없어서 fallback인 경우(현재 온도 기준)
-        boolean usedFallback = (weatherDto.temperature().max() == 0.0 || weatherDto.temperature().min() == 0.0);
+        boolean usedFallback = (max == 0.0 || min == 0.0);
 
         // 서브 1: 낮은 온도 범위 10~14°C & 풍속 ≥ 2.5m/s
         boolean subRule1 = usedFallback
-            && (season == Season.SPRING || season == Season.FALL)
-            && weatherDto.temperature().current() >= 10.0
-            && weatherDto.temperature().current() <= 14.0
+            && current >= 10.0 && current <= 14.0
             && windSpeed >= 2.5;
 
         // 서브 2: 높은 온도 범위 15~19°C & 풍속 ≥ 3.0m/s & 구름 많음
         boolean subRule2 = usedFallback
-            && (season == Season.SPRING || season == Season.FALL)
-            && weatherDto.temperature().current() >= 15.0
-            && weatherDto.temperature().current() <= 19.0
+            && current >= 15.0 && current <= 19.0
             && windSpeed >= 3.0
-            && (skyStatus == SkyStatus.MOSTLY_CLOUDY || skyStatus == SkyStatus.CLOUDY);
+            && cloudy;
 
         // 최종 반환
         return rule1 || rule2 || subRule1 || subRule2;
     }
 
-    /**
-     * 의상 속성 이름과 값을 기반으로 계절 속성 필터링
-     *
-     * <p>
-     * - 속성명이 "season" 또는 "계절"이면 필터 적용
-     * - value가 SPRING, SUMMER, FALL, WINTER, 또는 한글 "봄", "여름", "가을", "겨울"이면 enum 변환
-     * - 변환 실패 시 필터 통과
-     *
-     * @param clothes 사용자 의상
-     * @param currentSeason 현재 분기된 계절
-     * @return 추천 가능 여부
-     */
-    private boolean matchesClothesSeasonAttribute(Clothes clothes, Season currentSeason) {
-        // 의상 속성 중 계절 속성 탐색
-        Optional<ClothesAttribute> seasonAttrOpt = clothes.getAttributes().stream()
-            .filter(attr -> attr.getDefinition() != null
-                && ("season".equalsIgnoreCase(attr.getDefinition().getName())
-                || "계절".equals(attr.getDefinition().getName())))
-            .findFirst();
-
-        if (seasonAttrOpt.isEmpty()) {
-            return true; // 속성 없으면 통과
-        }
-
-        String value = seasonAttrOpt.get().getValue();
-        if (value == null || value.isBlank()) {
-            return true; // 값 없으면 통과
-        }
-
-        Season clothesSeason = Season.fromString(value);
-        if (clothesSeason == null) {
-            return true; // enum에 매핑되지 않으면 통과
-        }
-
-        return clothesSeason == currentSeason; // 값이 존재하면 비교
-    }
-
-    /**
-     * 타입 + 두께 통합 필터
-     *
-     * @param clothes 의상
-     * @param season 계절
-     * @param category 세부 온도 범주
-     * @param weather 날씨 정보
-     * @return 추천 가능 여부
-     */
-    private boolean matchesTypeAndThickness(Clothes clothes, Season season, TemperatureCategory category, Weather weather) {
-        return matchesTypeRuleOnly(clothes, season, category, weather)
-            && matchesThicknessRule(clothes, season, category);
-    }
-
     /**
      * 타입 기반 필터
      *
-     * @param clothes 의상
+     * @param type 의상 타입
      * @param season 계절
      * @param category 세부 온도 범주
-     * @param weather 날씨 정보
+     * @param precipitation 강수 형태 (nullable)
+     * @param sky 하늘 상태 (nullable)
+     * @param windSpeed 풍속 (m/s)
      * @return 추천 가능 여부
      */
-    private boolean matchesTypeRuleOnly(Clothes clothes, Season season, TemperatureCategory category, Weather weather) {
-        return switch (clothes.getType()) {
-            case OUTER -> matchesOuterRule(season, category, weather);
-            case DRESS -> matchesDressRule(season, category, weather);
-            case HAT -> matchesHatRule(season, category, weather);
-            case SCARF -> matchesScarfRule(season, category, weather);
+    private static boolean matchesTypeRuleOnly(ClothesType type, Season season, TemperatureCategory category,
+        PrecipitationType precipitation, SkyStatus sky, double windSpeed
+    ) {
+        return switch (type) {
+            case OUTER -> matchesOuterRule(season, category, precipitation, sky);
+            case DRESS -> matchesDressRule(season, precipitation, windSpeed);
+            case HAT -> matchesHatRule(season, category, precipitation, sky);
+            case SCARF -> matchesScarfRule(season, category, windSpeed);
             default -> true; // TOP, BOTTOM, UNDERWEAR, ACCESSORY, SHOES, SOCKS, ETC 등 기본 추천
         };
     }
 
-    /**
-     * 의상 속성 이름과 값을 기반으로 두께 속성 필터링
-     *
-     * <p>
-     * - 속성명이 "thickness" 또는 "두께"이면 필터 적용
-     * - value가 LIGHT, MEDIUM, HEAVY, 또는 한글 "얇음", "가벼움", "보통", "두꺼움", "무거움" 이면 enum 변환
-     * - 변환 실패 시 규칙 적용 없이 통과
-     *
-     * @param clothes 사용자 의상
-     * @param season 계절
-     * @param category 세부 온도 범주
-     * @return 두께 필터 통과 여부
-     */
-    private boolean matchesThicknessRule(Clothes clothes, Season season, TemperatureCategory category) {
-        // 허용 속성명 목록
-        List<String> validNames = List.of("thickness", "두께");
-
-        // 의상 속성 중 thickness 관련 속성 검색 후 변환 및 규칙 적용
-        return clothes.getAttributes().stream()
-            .filter(attr -> attr.getDefinition() != null
-                && validNames.contains(attr.getDefinition().getName()))
-            .map(attr -> Thickness.fromString(attr.getValue()))
-            .allMatch(thick -> thick == null || isSuitableThickness(clothes.getType(), thick, season, category));
-    }
-
     /**
      * OUTER 전용 추천 규칙
      * <ul>
@@ -286,11 +364,13 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      *     <li>WINTER: 무조건 추천</li>
      * </ul>
      */
-    private boolean matchesOuterRule(Season season, TemperatureCategory category, Weather weather) {
+    private static boolean matchesOuterRule(Season season, TemperatureCategory category,
+        PrecipitationType precipitation, SkyStatus sky
+    ) {
         return switch (season) {
             case SPRING -> ((category == TemperatureCategory.LOW)
-                || (category == TemperatureCategory.HIGH && weather.getType() == PrecipitationType.RAIN));
-            case SUMMER -> (category == TemperatureCategory.LOW && weather.getSkyStatus() == SkyStatus.CLEAR);
+                || (category == TemperatureCategory.HIGH && precipitation == PrecipitationType.RAIN));
+            case SUMMER -> (category == TemperatureCategory.LOW && sky == SkyStatus.CLEAR);
             case FALL -> category == TemperatureCategory.HIGH;
             case WINTER -> true;
         };
@@ -305,12 +385,14 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      *     <li>WINTER: 눈 오는 날</li>
      * </ul>
      */
-    private boolean matchesHatRule(Season season, TemperatureCategory category, Weather weather) {
+    private static boolean matchesHatRule(Season season, TemperatureCategory category,
+        PrecipitationType precipitation, SkyStatus sky
+    ) {
         return switch (season) {
-            case SPRING -> category == TemperatureCategory.HIGH && weather.getSkyStatus() == SkyStatus.CLEAR;
-            case SUMMER -> weather.getSkyStatus() == SkyStatus.CLEAR;
+            case SPRING -> category == TemperatureCategory.HIGH && sky == SkyStatus.CLEAR;
+            case SUMMER -> sky == SkyStatus.CLEAR;
             case FALL -> category == TemperatureCategory.HIGH;
-            case WINTER -> weather.getType() == PrecipitationType.SNOW;
+            case WINTER -> precipitation == PrecipitationType.SNOW;
         };
     }
 
@@ -323,11 +405,11 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      *     <li>WINTER: 눈 제외</li>
      * </ul>
      */
-    private boolean matchesDressRule(Season season, TemperatureCategory category, Weather weather) {
+    private static boolean matchesDressRule(Season season, PrecipitationType precipitation, double windSpeed) {
         // 지역 변수로 조건 정의
-        boolean rainWithWind3 = weather.getType() == PrecipitationType.RAIN && windSpeed >= 3.0;
+        boolean rainWithWind3 = precipitation == PrecipitationType.RAIN && windSpeed >= 3.0;
         boolean windOver5 = windSpeed >= 5.0;
-        boolean snow = weather.getType() == PrecipitationType.SNOW;
+        boolean snow = precipitation == PrecipitationType.SNOW;
 
         return switch (season) {
             case SPRING -> !rainWithWind3 && !windOver5;
@@ -345,7 +427,7 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      *     <li>WINTER: 무조건 추천</li>
      * </ul>
      */
-    private boolean matchesScarfRule(Season season, TemperatureCategory category, Weather weather) {
+    private static boolean matchesScarfRule(Season season, TemperatureCategory category, double windSpeed) {
         return switch (season) {
             case SPRING, SUMMER -> false;
             case FALL -> category == TemperatureCategory.LOW || windSpeed > 5;
@@ -365,7 +447,7 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      * @param category 세부 온도 범주
      * @return 해당 의상이 계절과 두께 규칙에 적합한지 여부
      */
-    private boolean isSuitableThickness(ClothesType type, Thickness thickness, Season season, TemperatureCategory category
+    private static boolean isSuitableThickness(ClothesType type, Thickness thickness, Season season, TemperatureCategory category
     ) {
         // thickness 값이 없으면 규칙 적용하지 않고 통과
         if (thickness == null) return true;
@@ -385,7 +467,7 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      *   FALL: HIGH -> 얇음 또는 중간, LOW -> 중간 또는 두꺼움
      *   WINTER: 두꺼움
      */
-    private boolean isOuterSuitable(Thickness thickness, Season season, TemperatureCategory category) {
+    private static boolean isOuterSuitable(Thickness thickness, Season season, TemperatureCategory category) {
         return switch (season) {
             case SPRING -> category == TemperatureCategory.HIGH
                 ? thickness == Thickness.LIGHT || thickness == Thickness.MEDIUM
@@ -405,7 +487,7 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      *   FALL: HIGH -> 중간, LOW -> 중간 또는 두꺼움
      *   WINTER: 두꺼움
      */
-    private boolean isDressSuitable(Thickness thickness, Season season, TemperatureCategory category) {
+    private static boolean isDressSuitable(Thickness thickness, Season season, TemperatureCategory category) {
         return switch (season) {
             case SPRING -> category == TemperatureCategory.HIGH
                 ? thickness == Thickness.LIGHT || thickness == Thickness.MEDIUM
@@ -425,7 +507,7 @@ public class RecommendationEngineImpl implements RecommendationEngine {
      *   FALL: HIGH -> 중간, LOW -> 중간 또는 두꺼움
      *   WINTER: 두꺼움
      */
-    private boolean isTopBottomSuitable(Thickness thickness, Season season, TemperatureCategory category) {
+    private static boolean isTopBottomSuitable(Thickness thickness, Season season, TemperatureCategory category) {
         return switch (season) {
             case SPRING -> category == TemperatureCategory.HIGH
                 ? thickness == Thickness.LIGHT || thickness == Thickness.MEDIUM
@@ -438,99 +520,13 @@ public class RecommendationEngineImpl implements RecommendationEngine {
         };
     }
 
-    /**
-     * Weather 엔티티를 WeatherDto로 변환
-     *
-     * <p>
-     * - RecommendationEngine 내부에서만 사용되는 내부 변환 로직
-     * - 각 속성(위치, 강수, 습도, 온도, 풍속)을 DTO로 매핑
-     * - null 안전 처리(safeDouble) 적용
-     *
-     * @param weather 변환할 Weather 엔티티
-     * @return WeatherDto로 변환된 날씨 정보
-     */
-    private WeatherDto toWeatherDto(Weather weather) {
-        // 위치 정보
-        WeatherLocationResponse locationResponse = new WeatherLocationResponse(
-            weather.getLocation() != null ? safeDouble(weather.getLocation().getLatitude()) : 0.0,
-            weather.getLocation() != null ? safeDouble(weather.getLocation().getLongitude()) : 0.0,
-            weather.getLocation() != null ? safeInt(weather.getLocation().getX()) : 0,
-            weather.getLocation() != null ? safeInt(weather.getLocation().getY()) : 0,
-            weather.getLocation() != null && weather.getLocation().getLocationNames() != null
-                ? Arrays.stream(weather.getLocation().getLocationNames().split("/"))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .toList()
-                : List.of()
-        );
-
-        // 강수
-        PrecipitationDto precipitation = new PrecipitationDto(
-            weather.getType() != null ? weather.getType().name() : "NONE",
-            safeDouble(weather.getAmountMm()),
-            safeDouble(weather.getProbability())
-        );
-
-        // 습도
-        HumidityDto humidity = new HumidityDto(
-            safeDouble(weather.getCurrentPct()),
-            safeDouble(weather.getComparedPct())
-        );
-
-        // 온도
-        TemperatureDto temperature = new TemperatureDto(
-            safeDouble(weather.getCurrentC()),
-            safeDouble(weather.getComparedC()),
-            safeDouble(weather.getMinC()),
-            safeDouble(weather.getMaxC())
-        );
-
-        // 풍속
-        WindSpeedDto windSpeed = new WindSpeedDto(
-            safeDouble(weather.getSpeedMs()),
-            weather.getAsWord() != null ? weather.getAsWord().name() : ""
-        );
-
-        return new WeatherDto(
-            weather.getId(),
-            weather.getForecastedAt(),
-            weather.getForecastAt(),
-            locationResponse,
-            weather.getSkyStatus() != null ? weather.getSkyStatus().name() : "",
-            precipitation,
-            humidity,
-            temperature,
-            windSpeed
-        );
-    }
-
-    /**
-     * null 안전한 BigDecimal → double 변환
-     *
-     * @param value 변환할 BigDecimal 값
-     * @return value가 null이면 0.0, 아니면 double 값
-     */
-    private double safeDouble(BigDecimal value) {
-        return value != null ? value.doubleValue() : 0.0;
-    }
-
     /**
      * null 안전한 Double → double 변환
      *
      * @param value 변환할 Double 값
      * @return value가 null이면 0.0, 아니면 double 값
      */
-    private double safeDouble(Double value) {
+    private static double safeDouble(Double value) {
         return value != null ? value : 0.0;
     }
-
-    /**
-     * null 안전한 Integer → int 변환
-     *
-     * @param value 변환할 Integer 값
-     * @return value가 null이면 0, 아니면 int 값
-     */
-    private int safeInt(Integer value) {
-        return value != null ? value : 0;
-    }
-}
\ No newline at end of file
+}
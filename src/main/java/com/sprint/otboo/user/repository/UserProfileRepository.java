@@ -1,6 +1,7 @@
 package com.sprint.otboo.user.repository;
 
 import com.sprint.otboo.user.entity.UserProfile;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,4 +12,7 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, UUID>
 
     Optional<UserProfile> findByUserId(UUID userId);
 
+    // 추천 예열: 같은 격자의 사용자 프로필
+    List<UserProfile> findAllByXAndY(Integer x, Integer y);
+
 }
@@ -1,10 +1,15 @@
 package com.sprint.otboo.weather.batch;
 
+import com.sprint.otboo.weather.event.WeatherForecastRefreshedEvent;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -17,16 +22,23 @@ public class WeatherForecastJobScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job weatherForecastJob;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "${weather.batch.cron:0 30 * * * *}")
     public void run() {
+        long executionTime = System.currentTimeMillis();
         try {
-            jobLauncher.run(
+            JobExecution execution = jobLauncher.run(
                 weatherForecastJob,
                 new JobParametersBuilder()
-                    .addLong("executionTime", System.currentTimeMillis())
+                    .addLong("executionTime", executionTime)
                     .toJobParameters()
             );
+
+            // 정상 완료 시에만 후속 작업(추천 예열 등)에 알림. 스냅샷 forecastedAt = executionTime
+            if (execution.getStatus() == BatchStatus.COMPLETED) {
+                eventPublisher.publishEvent(new WeatherForecastRefreshedEvent(Instant.ofEpochMilli(executionTime)));
+            }
         } catch (Exception e) {
             log.error("weatherForecastJob failed", e);
         }
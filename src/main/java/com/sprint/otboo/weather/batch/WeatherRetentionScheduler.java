@@ -0,0 +1,26 @@
+package com.sprint.otboo.weather.batch;
+
+import com.sprint.otboo.weather.service.WeatherRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class WeatherRetentionScheduler {
+
+    private final WeatherRetentionService retentionService;
+
+    @Scheduled(cron = "${weather.retention.cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        try {
+            retentionService.runRetention();
+        } catch (Exception e) {
+            log.error("weather retention failed", e);
+        }
+    }
+}
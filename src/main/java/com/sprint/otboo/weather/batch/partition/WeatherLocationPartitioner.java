@@ -0,0 +1,57 @@
+package com.sprint.otboo.weather.batch.partition;
+
+import com.sprint.otboo.weather.repository.WeatherLocationRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * KMA 격자 x 좌표 구간으로 위치를 나눈다.
+ * 파티션 컨텍스트: minX, maxX (양 끝 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherLocationPartitioner implements Partitioner {
+
+    public static final String MIN_X = "minX";
+    public static final String MAX_X = "maxX";
+
+    private final WeatherLocationRepository locationRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        Integer minX = locationRepository.findMinX();
+        Integer maxX = locationRepository.findMaxX();
+        if (minX == null || maxX == null) {
+            // 위치가 없으면 빈 구간 파티션 1개 (리더가 즉시 종료)
+            partitions.put("partition0", range(0, -1));
+            return partitions;
+        }
+
+        int span = maxX - minX + 1;
+        int size = Math.max(1, (span + Math.max(1, gridSize) - 1) / Math.max(1, gridSize));
+
+        int index = 0;
+        for (int from = minX; from <= maxX; from += size) {
+            int to = Math.min(maxX, from + size - 1);
+            partitions.put("partition" + index++, range(from, to));
+        }
+
+        log.info("[weather-batch] x range {}..{} split into {} partitions", minX, maxX, partitions.size());
+        return partitions;
+    }
+
+    private static ExecutionContext range(int minX, int maxX) {
+        ExecutionContext context = new ExecutionContext();
+        context.putInt(MIN_X, minX);
+        context.putInt(MAX_X, maxX);
+        return context;
+    }
+}
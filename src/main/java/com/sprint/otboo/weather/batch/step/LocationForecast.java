@@ -0,0 +1,23 @@
+package com.sprint.otboo.weather.batch.step;
+
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import java.util.List;
+
+/**
+ * 위치 한 곳의 수집 결과 (processor → writer)
+ *
+ * @param location 수집 위치
+ * @param snapshots 저장할 예보 스냅샷 (수집 실패/빈 응답이면 비어 있음)
+ * @param failed 업스트림 수집 실패 여부
+ */
+public record LocationForecast(
+    WeatherLocation location,
+    List<Weather> snapshots,
+    boolean failed
+) {
+
+    public static LocationForecast failed(WeatherLocation location) {
+        return new LocationForecast(location, List.of(), true);
+    }
+}
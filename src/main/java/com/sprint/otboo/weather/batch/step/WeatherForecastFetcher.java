@@ -0,0 +1,126 @@
+package com.sprint.otboo.weather.batch.step;
+
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import com.sprint.otboo.weather.integration.owm.WeatherOwmProperties;
+import com.sprint.otboo.weather.integration.owm.mapper.OwmForecastAssembler;
+import com.sprint.otboo.weather.integration.owm.mapper.OwmForecastDailyAggregator;
+import com.sprint.otboo.weather.integration.owm.mapper.OwmForecastDailyAggregator.DailyTemperature;
+import com.sprint.otboo.weather.integration.owm.mapper.WindStrengthResolver;
+import com.sprint.otboo.weather.integration.spi.ReactiveWeatherDataClient;
+import com.sprint.otboo.weather.integration.spi.WeatherDataClient.CollectedForecast;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 위치 청크의 예보를 OWM에서 한 번에 수집해 스냅샷으로 변환 (논블로킹 재시도).
+ * <p>
+ * 청크의 위치들을 하나의 리액티브 파이프라인({@code flatMap}, 동시 요청 수 제한)으로 수집하고
+ * 청크 경계에서 한 번만 대기하므로, 위치마다 스레드를 점유하지 않는다.
+ * writer가 DB 트랜잭션을 시작하기 전에 호출하므로 수집 중에는 DB 커넥션을 점유하지 않는다.
+ * 실패한 위치는 예외 대신 실패 결과로 돌려 writer가 건너뛰고 건수만 기록한다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class WeatherForecastFetcher {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final ReactiveWeatherDataClient dataClient;   // OWM 등 수집기 (SPI, 논블로킹)
+    private final WindStrengthResolver windStrengthResolver;
+    private final WeatherOwmProperties owmProps;
+
+    private final Locale owmDefaultLocale = Locale.KOREAN;
+
+    // 수집(발표/산출) 시각 → forecastedAt. 재시작 시에도 같은 값이 되도록 잡 파라미터 사용
+    @Value("#{jobParameters['executionTime']}")
+    private Long executionTime;
+
+    // 잡 전체 동시 요청 상한. 파티션이 병렬로 실행되므로 파티션 수로 나눠 적용
+    @Value("${weather.batch.fetch-concurrency:16}")
+    private int fetchConcurrency;
+
+    @Value("${weather.batch.grid-size:4}")
+    private int gridSize;
+
+    /**
+     * 위치들의 예보를 동시에 수집 (호출 스레드는 전체 완료까지 한 번만 대기)
+     *
+     * @param locations 수집할 위치 (위경도 없는 위치는 빈 결과)
+     * @return 위치별 수집 결과 (순서 보장 없음, 실패한 위치는 {@link LocationForecast#failed})
+     */
+    public List<LocationForecast> fetchAll(List<? extends WeatherLocation> locations) {
+        if (locations.isEmpty()) return List.of();
+
+        Instant ingestedAt = (executionTime != null) ? Instant.ofEpochMilli(executionTime) : Instant.now();
+        Retry retry = Retry.backoff(Math.max(0, owmProps.retryMaxAttempts() - 1),
+                Duration.ofMillis(Math.max(1L, owmProps.retryBackoffMs())))
+            .jitter(0.2)
+            .filter(WeatherForecastFetcher::isRetryable);
+
+        List<LocationForecast> results = Flux.fromIterable(locations)
+            .flatMap(loc -> fetch(loc, ingestedAt, retry), Math.max(1, fetchConcurrency / Math.max(1, gridSize)))
+            .collectList()
+            .block();
+        return (results != null) ? results : List.of();
+    }
+
+    private Mono<LocationForecast> fetch(WeatherLocation loc, Instant ingestedAt, Retry retry) {
+        if (loc.getLatitude() == null || loc.getLongitude() == null) {
+            return Mono.just(new LocationForecast(loc, List.of(), false));
+        }
+        return dataClient.fetchAsync(
+                loc.getLatitude().doubleValue(),
+                loc.getLongitude().doubleValue(),
+                owmDefaultLocale
+            )
+            .retryWhen(retry)
+            .map(collected -> collected.isEmpty()
+                ? new LocationForecast(loc, List.<Weather>of(), false)
+                : new LocationForecast(loc, assemble(loc, collected, ingestedAt), false))
+            .defaultIfEmpty(new LocationForecast(loc, List.of(), false))
+            .onErrorResume(e -> {
+                log.warn("[weather-batch] location {} fetch failed: {}", loc.getId(), e.toString());
+                return Mono.just(LocationForecast.failed(loc));
+            });
+    }
+
+    private List<Weather> assemble(WeatherLocation loc, List<CollectedForecast> collected, Instant ingestedAt) {
+        // 일자별 일 최저/최고 집계(KST) → 위치별 어셈블러 생성
+        Map<LocalDate, DailyTemperature> dailyMap = OwmForecastDailyAggregator.aggregate(collected, KST);
+        OwmForecastAssembler owmAssembler = new OwmForecastAssembler(
+            owmProps.probabilityPercent(),
+            windStrengthResolver,
+            dailyMap,
+            KST
+        );
+        return collected.stream()
+            .map(cf -> owmAssembler.toEntity(loc, cf, ingestedAt))
+            .toList();
+    }
+
+    // 4xx(429 제외)는 재시도해도 같은 결과이므로 즉시 실패 처리
+    private static boolean isRetryable(Throwable t) {
+        if (t instanceof WebClientResponseException e) {
+            int code = e.getStatusCode().value();
+            return code == 429 || code >= 500;
+        }
+        return true;
+    }
+}
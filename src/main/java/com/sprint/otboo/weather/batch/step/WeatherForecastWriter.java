@@ -0,0 +1,113 @@
+package com.sprint.otboo.weather.batch.step;
+
+import static com.sprint.otboo.weather.batch.step.WeatherPartitionMetricsListener.LOCATIONS_FAILED;
+import static com.sprint.otboo.weather.batch.step.WeatherPartitionMetricsListener.SNAPSHOTS_COLLECTED;
+
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import com.sprint.otboo.weather.service.WeatherDailySummaryWriter;
+import com.sprint.otboo.weather.service.WeatherSnapshotWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 갱신 대상 위치 청크 → 업스트림 수집(트랜잭션 밖, 청크당 한 번 대기) → DB 트랜잭션에서 신규 발표본 저장 + 일자별 요약 갱신.
+ * <p>
+ * 워커 스텝의 청크 트랜잭션은 DB 자원을 잡지 않으므로(ResourcelessTransactionManager),
+ * 수집 중에는 DB 커넥션을 점유하지 않고 저장 구간만 별도 트랜잭션으로 커밋한다.
+ * 수집 결과는 청크가 커밋될 때까지 보관해 스킵 스캔(단건 재쓰기) 시 다시 수집하지 않는다.
+ * <p>
+ * 수집 스냅샷/실패 위치 수는 청크가 커밋된 뒤에만 스텝 ExecutionContext에 더한다.
+ * 롤백된 청크(스킵 스캔 포함)의 값은 버린다.
+ */
+@Component
+@StepScope
+public class WeatherForecastWriter implements ItemWriter<WeatherLocation>, ChunkListener {
+
+    private final WeatherForecastFetcher fetcher;
+    private final WeatherSnapshotWriter snapshotWriter;
+    private final WeatherDailySummaryWriter summaryWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    // 현재 청크에서 수집한 결과 (청크 커밋 시 비움)
+    private final Map<UUID, LocationForecast> fetched = new HashMap<>();
+
+    // 현재 청크 트랜잭션에서 누적 중인 값 (파티션마다 별도 인스턴스)
+    private long pendingSnapshots;
+    private long pendingFailed;
+
+    public WeatherForecastWriter(
+        WeatherForecastFetcher fetcher,
+        WeatherSnapshotWriter snapshotWriter,
+        WeatherDailySummaryWriter summaryWriter,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.fetcher = fetcher;
+        this.snapshotWriter = snapshotWriter;
+        this.summaryWriter = summaryWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void write(Chunk<? extends WeatherLocation> chunk) {
+        List<? extends WeatherLocation> missing = chunk.getItems().stream()
+            .filter(loc -> !fetched.containsKey(loc.getId()))
+            .toList();
+        for (LocationForecast forecast : fetcher.fetchAll(missing)) {
+            fetched.put(forecast.location().getId(), forecast);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (WeatherLocation location : chunk.getItems()) {
+                persist(fetched.get(location.getId()));
+            }
+        });
+    }
+
+    private void persist(LocationForecast forecast) {
+        if (forecast.failed()) {
+            pendingFailed++;
+            return;
+        }
+        if (forecast.snapshots().isEmpty()) return;
+
+        snapshotWriter.appendNewVersions(forecast.location().getId(), forecast.snapshots());
+        // 조회 API가 계산 없이 읽도록 일자별 대표/파생 값을 위치당 한 번 산출
+        summaryWriter.refresh(forecast.location().getId());
+        pendingSnapshots += forecast.snapshots().size();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        reset();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        ExecutionContext ec = context.getStepContext().getStepExecution().getExecutionContext();
+        ec.putLong(SNAPSHOTS_COLLECTED, ec.getLong(SNAPSHOTS_COLLECTED, 0L) + pendingSnapshots);
+        ec.putLong(LOCATIONS_FAILED, ec.getLong(LOCATIONS_FAILED, 0L) + pendingFailed);
+        reset();
+        fetched.clear();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        reset();
+    }
+
+    private void reset() {
+        pendingSnapshots = 0;
+        pendingFailed = 0;
+    }
+}
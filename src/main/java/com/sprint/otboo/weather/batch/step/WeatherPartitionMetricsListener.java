@@ -0,0 +1,58 @@
+package com.sprint.otboo.weather.batch.step;
+
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티션(워커 스텝)별 처리량을 스텝 ExecutionContext에 기록한다.
+ * 파티션이 병렬로 실행되므로 상태는 리스너가 아닌 각 StepExecution에 둔다.
+ * (수집 스냅샷/실패 위치 수는 {@link WeatherForecastWriter}가 청크 커밋 이후 누적한다)
+ */
+@Slf4j
+@Component
+public class WeatherPartitionMetricsListener implements
+    StepExecutionListener,
+    SkipListener<WeatherLocation, WeatherLocation> {
+
+    public static final String SNAPSHOTS_COLLECTED = "snapshots.collected";
+    public static final String LOCATIONS_FAILED = "locations.failed";
+    public static final String ELAPSED_MS = "elapsed.ms";
+    public static final String LOCATIONS_PER_SEC = "throughput.locationsPerSec";
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime start = stepExecution.getStartTime();
+        long elapsedMs = (start == null) ? 0L : Duration.between(start, LocalDateTime.now()).toMillis();
+        long written = stepExecution.getWriteCount();
+        double perSec = elapsedMs > 0 ? written * 1000.0 / elapsedMs : written;
+
+        ExecutionContext ec = stepExecution.getExecutionContext();
+        ec.putLong(ELAPSED_MS, elapsedMs);
+        ec.putDouble(LOCATIONS_PER_SEC, Math.round(perSec * 100.0) / 100.0);
+
+        log.info("[weather-batch] {} read={}, filtered={}, written={}, failed={}, skipped={}, snapshots={}, elapsedMs={}, locations/s={}",
+            stepExecution.getStepName(),
+            stepExecution.getReadCount(),
+            stepExecution.getFilterCount(),
+            written,
+            ec.getLong(LOCATIONS_FAILED, 0L),
+            stepExecution.getSkipCount(),
+            ec.getLong(SNAPSHOTS_COLLECTED, 0L),
+            elapsedMs,
+            ec.getDouble(LOCATIONS_PER_SEC));
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void onSkipInWrite(WeatherLocation item, Throwable t) {
+        log.warn("[weather-batch] location {} write failed: {}", item.getId(), t.toString());
+    }
+}
@@ -0,0 +1,35 @@
+package com.sprint.otboo.weather.batch.step;
+
+import com.sprint.otboo.weather.batch.step.WeatherRefreshPlanner.RefreshPlan;
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이번 실행에 갱신할 차례가 아닌 위치를 거른다 (null 반환 = 필터, 스텝 filterCount에 집계).
+ * 걸러진 위치는 업스트림 호출/DB 쓰기가 모두 생략된다.
+ */
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class WeatherRefreshFilter implements ItemProcessor<WeatherLocation, WeatherLocation> {
+
+    private final WeatherRefreshPlanner planner;
+
+    @Value("#{jobParameters['executionTime']}")
+    private Long executionTime;
+
+    private RefreshPlan plan;
+
+    @Override
+    public WeatherLocation process(WeatherLocation location) {
+        if (plan == null) {
+            plan = planner.planFor(executionTime != null ? Instant.ofEpochMilli(executionTime) : Instant.now());
+        }
+        return plan.isDue(location.getId()) ? location : null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.sprint.otboo.weather.batch.step;
+
+import com.sprint.otboo.weather.cache.WeatherLocationAccessTracker;
+import com.sprint.otboo.weather.repository.WeatherLocationRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수요 기반 갱신 계획.
+ * <p>
+ * - hot: 최근 hot-window 안에 조회된 위치 → 매 실행 갱신<br>
+ * - warm: warm-window 안에 조회됐거나 사용자 프로필 격자에 속한 위치 → warm-interval-runs 실행마다 갱신<br>
+ * - cold: 그 외 → 배치 갱신 안 함 (조회 시 on-demand 수집 경로가 처리)
+ * <p>
+ * 파티션(워커 스텝)들이 같은 계획을 쓰도록 실행 시각(executionTime)별로 한 번만 계산한다.
+ * 조회 기록을 읽지 못하면 전체 갱신으로 폴백한다.
+ */
+@Slf4j
+@Component
+public class WeatherRefreshPlanner {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final WeatherLocationAccessTracker accessTracker;
+    private final WeatherLocationRepository locationRepository;
+    private final boolean demandDriven;
+    private final Duration hotWindow;
+    private final Duration warmWindow;
+    private final int warmIntervalRuns;
+
+    private final AtomicReference<RefreshPlan> current = new AtomicReference<>();
+
+    public WeatherRefreshPlanner(
+        WeatherLocationAccessTracker accessTracker,
+        WeatherLocationRepository locationRepository,
+        @Value("${weather.refresh.demand-driven:true}") boolean demandDriven,
+        @Value("${weather.refresh.hot-window-hours:24}") long hotWindowHours,
+        @Value("${weather.refresh.warm-window-days:7}") long warmWindowDays,
+        @Value("${weather.refresh.warm-interval-runs:3}") int warmIntervalRuns
+    ) {
+        this.accessTracker = accessTracker;
+        this.locationRepository = locationRepository;
+        this.demandDriven = demandDriven;
+        this.hotWindow = Duration.ofHours(hotWindowHours);
+        this.warmWindow = Duration.ofDays(warmWindowDays);
+        this.warmIntervalRuns = Math.max(1, warmIntervalRuns);
+    }
+
+    public RefreshPlan planFor(Instant executionTime) {
+        RefreshPlan plan = current.get();
+        if (plan != null && plan.executionTime().equals(executionTime)) return plan;
+
+        synchronized (this) {
+            plan = current.get();
+            if (plan == null || !plan.executionTime().equals(executionTime)) {
+                plan = build(executionTime);
+                current.set(plan);
+            }
+            return plan;
+        }
+    }
+
+    private RefreshPlan build(Instant executionTime) {
+        if (!demandDriven) return RefreshPlan.all(executionTime);
+
+        long now = executionTime.toEpochMilli();
+        long hotSince = now - hotWindow.toMillis();
+        long warmSince = now - warmWindow.toMillis();
+        // 정시 기준 실행 번호로 warm 주기 판단 (매시 실행 기준, 재시작해도 같은 결과)
+        boolean warmRun = executionTime.atZone(KST).getHour() % warmIntervalRuns == 0;
+
+        try {
+            accessTracker.evictBefore(warmSince);
+            Map<UUID, Long> accessed = accessTracker.accessedSince(warmSince);
+
+            Set<UUID> hot = new HashSet<>();
+            Set<UUID> warm = new HashSet<>(locationRepository.findIdsInUserProfileGrids());
+            accessed.forEach((id, lastAccess) -> {
+                if (lastAccess >= hotSince) hot.add(id);
+                else warm.add(id);
+            });
+            warm.removeAll(hot);
+
+            Set<UUID> due = new HashSet<>(hot);
+            if (warmRun) due.addAll(warm);
+
+            log.info("[weather-batch] refresh plan: hot={}, warm={} ({}), due={}",
+                hot.size(), warm.size(), warmRun ? "included" : "skipped", due.size());
+            return new RefreshPlan(executionTime, false, Set.copyOf(due));
+        } catch (RuntimeException e) {
+            log.warn("[weather-batch] access records unavailable, refreshing all locations", e);
+            return RefreshPlan.all(executionTime);
+        }
+    }
+
+    public record RefreshPlan(Instant executionTime, boolean all, Set<UUID> due) {
+
+        static RefreshPlan all(Instant executionTime) {
+            return new RefreshPlan(executionTime, true, Set.of());
+        }
+
+        public boolean isDue(UUID locationId) {
+            return all || due.contains(locationId);
+        }
+    }
+}
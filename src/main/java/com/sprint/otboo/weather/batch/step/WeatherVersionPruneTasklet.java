@@ -0,0 +1,37 @@
+package com.sprint.otboo.weather.batch.step;
+
+import com.sprint.otboo.weather.repository.WeatherRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 완료 후 잡 단위로 1회, 최신 발표본이 있는 이전 발표본을 집합 연산으로 정리한다.
+ * 조회 구간(어제 00:00 KST~) 이전 데이터는 보존 정책에서 삭제하므로 대상에서 제외한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherVersionPruneTasklet implements Tasklet {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final WeatherRepository weatherRepository;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Instant from = LocalDate.now(KST).minusDays(1).atStartOfDay(KST).toInstant();
+        int deleted = weatherRepository.deleteSupersededVersionsSince(from);
+
+        contribution.incrementWriteCount(deleted);
+        log.info("[weather-batch] pruned {} superseded forecast versions since {}", deleted, from);
+        return RepeatStatus.FINISHED;
+    }
+}
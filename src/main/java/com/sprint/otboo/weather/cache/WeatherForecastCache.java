@@ -0,0 +1,104 @@
+package com.sprint.otboo.weather.cache;
+
+import com.sprint.otboo.weather.dto.data.WeatherDto;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * KMA 격자(x, y) 단위 예보 Read-through 캐시.
+ * <p>
+ * 만료 시각은 다음 배치 실행 시각(weather.batch.cron)과 다음 정시 중 빠른 쪽으로 정렬한다.
+ * (대표 시각이 매 정시 바뀌므로 정시 경계도 함께 고려)
+ */
+@Slf4j
+@Component
+public class WeatherForecastCache {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Clock clock = Clock.systemDefaultZone();
+    private final CronExpression batchCron;
+    private final Duration staleAfter;
+
+    public WeatherForecastCache(
+        @Value("${weather.batch.cron:0 30 * * * *}") String batchCron,
+        @Value("${weather.cache.stale-grace-minutes:10}") long staleGraceMinutes
+    ) {
+        this.batchCron = CronExpression.parse(batchCron);
+        this.staleAfter = batchInterval(this.batchCron, clock).plusMinutes(Math.max(0L, staleGraceMinutes));
+    }
+
+    public Optional<List<WeatherDto>> get(int x, int y) {
+        long key = gridKey(x, y);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.forecasts());
+    }
+
+    public void put(int x, int y, List<WeatherDto> forecasts) {
+        if (forecasts == null || forecasts.isEmpty()) {
+            return;
+        }
+        entries.put(gridKey(x, y), new Entry(List.copyOf(forecasts), nextExpiry()));
+    }
+
+    public void evict(int x, int y) {
+        entries.remove(gridKey(x, y));
+    }
+
+    public void evictAll() {
+        int size = entries.size();
+        entries.clear();
+        log.debug("[weather-cache] evicted {} grid entries", size);
+    }
+
+    /** 수집 시각(forecastedAt)이 직전 배치 주기 + 유예 시간 안에 있으면 최신으로 본다 */
+    public boolean isFresh(Instant collectedAt) {
+        if (collectedAt == null) {
+            return false;
+        }
+        return collectedAt.isAfter(clock.instant().minus(staleAfter));
+    }
+
+    private Instant nextExpiry() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime nextRun = batchCron.next(now);
+        ZonedDateTime nextHour = now.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        if (nextRun == null || nextHour.isBefore(nextRun)) {
+            return nextHour.toInstant();
+        }
+        return nextRun.toInstant();
+    }
+
+    private static Duration batchInterval(CronExpression cron, Clock clock) {
+        ZonedDateTime first = cron.next(ZonedDateTime.now(clock));
+        ZonedDateTime second = (first == null) ? null : cron.next(first);
+        if (first == null || second == null) {
+            return Duration.ofHours(1);
+        }
+        return Duration.between(first, second);
+    }
+
+    static long gridKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    private record Entry(List<WeatherDto> forecasts, Instant expiresAt) {}
+}
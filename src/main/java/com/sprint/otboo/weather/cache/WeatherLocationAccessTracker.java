@@ -0,0 +1,70 @@
+package com.sprint.otboo.weather.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위치별 마지막 조회 시각 기록 (Redis ZSET, score = epoch ms).
+ * <p>
+ * 배치가 이 값으로 위치를 hot/warm/cold로 나눠 갱신 주기를 정한다.
+ * 같은 위치는 인스턴스당 일정 간격에 한 번만 기록하며, Redis 장애는 조회 흐름에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+public class WeatherLocationAccessTracker {
+
+    public static final String ACCESS_KEY = "weather:location:access";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long recordIntervalMs;
+    private final Map<UUID, Long> lastRecorded = new ConcurrentHashMap<>();
+
+    public WeatherLocationAccessTracker(
+        StringRedisTemplate redisTemplate,
+        @Value("${weather.refresh.access-record-interval-seconds:60}") long recordIntervalSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.recordIntervalMs = Math.max(0L, recordIntervalSeconds) * 1000L;
+    }
+
+    public void recordAccess(UUID locationId) {
+        long now = System.currentTimeMillis();
+        Long prev = lastRecorded.get(locationId);
+        if (prev != null && now - prev < recordIntervalMs) return;
+        lastRecorded.put(locationId, now);
+
+        try {
+            redisTemplate.opsForZSet().add(ACCESS_KEY, locationId.toString(), now);
+        } catch (RuntimeException e) {
+            log.debug("[weather-access] record failed. location={}, cause={}", locationId, e.getMessage());
+        }
+    }
+
+    /** sinceMs 이후 조회된 위치 → 마지막 조회 시각(ms) */
+    public Map<UUID, Long> accessedSince(long sinceMs) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+            .rangeByScoreWithScores(ACCESS_KEY, sinceMs, Double.POSITIVE_INFINITY);
+
+        Map<UUID, Long> result = new HashMap<>();
+        if (tuples == null) return result;
+        for (TypedTuple<String> t : tuples) {
+            if (t.getValue() == null || t.getScore() == null) continue;
+            result.put(UUID.fromString(t.getValue()), t.getScore().longValue());
+        }
+        return result;
+    }
+
+    /** beforeMs 이전에 마지막으로 조회된 위치 기록 제거 (ZSET 크기 유지) */
+    public long evictBefore(long beforeMs) {
+        Long removed = redisTemplate.opsForZSet().removeRangeByScore(ACCESS_KEY, 0, beforeMs - 1);
+        return removed == null ? 0L : removed;
+    }
+}
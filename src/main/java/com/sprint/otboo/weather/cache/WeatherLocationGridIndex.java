@@ -0,0 +1,122 @@
+package com.sprint.otboo.weather.cache;
+
+import com.sprint.otboo.weather.dto.response.WeatherLocationResponse;
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import com.sprint.otboo.weather.mapper.WeatherMapper;
+import com.sprint.otboo.weather.repository.WeatherLocationRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * KMA 격자(x, y) → 위치 상주 인덱스.
+ * <p>
+ * 격자 범위(0..500, DB 체크 제약과 동일)를 1차원 배열로 펼쳐 보관하므로 조회에 DB 왕복이 없다.
+ * 기동 시 전체 위치로 채우고, 신규 격자는 격자별(스트라이프) 락 안에서 한 번만 생성/커밋한 뒤 등록한다.
+ */
+@Slf4j
+@Component
+public class WeatherLocationGridIndex {
+
+    static final int GRID_MAX = 500;
+    private static final int WIDTH = GRID_MAX + 1;
+    private static final int LOCK_STRIPES = 256;
+
+    private final AtomicReferenceArray<Cell> cells = new AtomicReferenceArray<>(WIDTH * WIDTH);
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final WeatherLocationRepository repository;
+    private final WeatherMapper mapper;
+    private final TransactionTemplate requiresNew;
+
+    public WeatherLocationGridIndex(
+        WeatherLocationRepository repository,
+        WeatherMapper mapper,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /** 기동 완료 시 저장된 위치로 인덱스를 채운다 (격자당 가장 먼저 생성된 위치를 대표로 사용) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<WeatherLocation> all = new ArrayList<>(repository.findAll());
+        all.sort(Comparator.comparing(WeatherLocation::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())));
+        int registered = 0;
+        for (WeatherLocation location : all) {
+            if (register(location)) registered++;
+        }
+        log.info("[weather-location] grid index warmed: {} cells from {} locations", registered, all.size());
+    }
+
+    public Optional<Cell> find(int x, int y) {
+        if (!inRange(x, y)) return Optional.empty();
+        return Optional.ofNullable(cells.get(index(x, y)));
+    }
+
+    /**
+     * 격자에 위치가 없으면 factory로 만든 엔티티를 별도 트랜잭션으로 저장(커밋)하고 등록한다.
+     * 같은 격자의 동시 요청은 락에서 대기하다 먼저 만든 위치를 공유한다.
+     */
+    public Cell getOrCreate(int x, int y, Supplier<WeatherLocation> factory) {
+        Optional<Cell> hit = find(x, y);
+        if (hit.isPresent()) return hit.get();
+
+        synchronized (lockFor(x, y)) {
+            hit = find(x, y);
+            if (hit.isPresent()) return hit.get();
+
+            // 다른 인스턴스가 이미 만든 격자면 재사용, 아니면 외부 조회(factory)는 트랜잭션 밖에서 수행
+            WeatherLocation location = repository.findFirstByXAndY(x, y)
+                .orElseGet(() -> {
+                    WeatherLocation created = factory.get();
+                    return requiresNew.execute(status -> repository.save(created));
+                });
+            register(location);
+            return find(x, y).orElseGet(() -> toCell(location));
+        }
+    }
+
+    /** 이미 등록된 격자는 덮어쓰지 않는다 */
+    public boolean register(WeatherLocation location) {
+        if (location == null || location.getX() == null || location.getY() == null) return false;
+        if (!inRange(location.getX(), location.getY())) return false;
+        return cells.compareAndSet(index(location.getX(), location.getY()), null, toCell(location));
+    }
+
+    private Cell toCell(WeatherLocation location) {
+        return new Cell(location.getId(), mapper.toLocationResponse(location));
+    }
+
+    private Object lockFor(int x, int y) {
+        int h = inRange(x, y) ? index(x, y) : (31 * x + y);
+        return locks[Math.floorMod(h, LOCK_STRIPES)];
+    }
+
+    private static boolean inRange(int x, int y) {
+        return x >= 0 && x <= GRID_MAX && y >= 0 && y <= GRID_MAX;
+    }
+
+    private static int index(int x, int y) {
+        return x * WIDTH + y;
+    }
+
+    public record Cell(UUID locationId, WeatherLocationResponse response) {}
+}
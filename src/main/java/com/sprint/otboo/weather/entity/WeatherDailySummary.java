@@ -0,0 +1,51 @@
+package com.sprint.otboo.weather.entity;
+
+import com.sprint.otboo.common.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+
+/**
+ * 위치별 일자 대표 예보 (배치에서 산출).
+ * <p>
+ * 조회 시각(KST 시, 0~23)마다 날짜별 대표 {@link Weather} 행을 가리킨다.
+ * 일 최저/최고 기온과 전일 대비 값은 요약 갱신 시 weathers 행에 기록하므로, id로 읽어도 같은 값을 본다.
+ */
+@Entity
+@Table(
+    name = "weather_daily_summaries",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uq_weather_daily_summaries_loc_hour_date",
+        columnNames = {"location_id", "target_hour", "forecast_date"}
+    )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class WeatherDailySummary extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(
+        name = "location_id",
+        nullable = false,
+        foreignKey = @ForeignKey(name = "fk_weather_daily_summaries_location")
+    )
+    private WeatherLocation location;
+
+    @Column(name = "target_hour", nullable = false)
+    private Integer targetHour;
+
+    @Column(name = "forecast_date", nullable = false)
+    private LocalDate forecastDate;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(
+        name = "weather_id",
+        nullable = false,
+        foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)   // weathers는 파티션 테이블 (id 단독 유니크 없음)
+    )
+    private Weather weather;
+}
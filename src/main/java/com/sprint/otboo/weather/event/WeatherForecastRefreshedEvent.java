@@ -0,0 +1,14 @@
+package com.sprint.otboo.weather.event;
+
+import java.time.Instant;
+
+/**
+ * 예보 배치(weatherForecastJob)가 정상 완료되었음을 알리는 이벤트
+ *
+ * @param forecastedAt 이번 배치가 저장한 예보 스냅샷의 수집 시각 (갱신된 위치 식별용)
+ */
+public record WeatherForecastRefreshedEvent(
+    Instant forecastedAt
+) {
+
+}
@@ -1,8 +1,11 @@
 package com.sprint.otboo.weather.integration.kakao.client;
 
 import com.sprint.otboo.weather.integration.kakao.dto.KakaoCoord2RegioncodeResponse;
+import reactor.core.publisher.Mono;
 
 public interface KakaoLocalClient {
 
     KakaoCoord2RegioncodeResponse coord2RegionCode(double longitude, double latitude);
+
+    Mono<KakaoCoord2RegioncodeResponse> coord2RegionCodeAsync(double longitude, double latitude);
 }
@@ -32,6 +32,11 @@ public class KakaoLocalClientImpl implements KakaoLocalClient {
 
     @Override
     public KakaoCoord2RegioncodeResponse coord2RegionCode(double longitude, double latitude) {
+        return coord2RegionCodeAsync(longitude, latitude).block();
+    }
+
+    @Override
+    public Mono<KakaoCoord2RegioncodeResponse> coord2RegionCodeAsync(double longitude, double latitude) {
         String uri = UriComponentsBuilder.fromPath("/v2/local/geo/coord2regioncode.json")
             .queryParam("x", longitude)
             .queryParam("y", latitude)
@@ -108,7 +113,6 @@ public class KakaoLocalClientImpl implements KakaoLocalClient {
                     return new WeatherProviderException(ErrorCode.WEATHER_PROVIDER_ERROR);
                 }
                 return t;
-            })
-            .block();
+            });
     }
 }
@@ -2,8 +2,11 @@ package com.sprint.otboo.weather.integration.kma.client;
 
 import com.sprint.otboo.weather.integration.kma.dto.KmaForecastResponse;
 import java.util.Map;
+import reactor.core.publisher.Mono;
 
 public interface KmaShortTermForecastClient {
 
     KmaForecastResponse getVilageFcst(Map<String, String> params);
-}
\ No newline at end of file
+
+    Mono<KmaForecastResponse> getVilageFcstAsync(Map<String, String> params);
+}
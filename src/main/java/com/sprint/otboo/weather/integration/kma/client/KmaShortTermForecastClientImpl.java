@@ -1,139 +1,250 @@
 package com.sprint.otboo.weather.integration.kma.client;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.otboo.weather.integration.kma.WeatherKmaProperties;
 import com.sprint.otboo.weather.integration.kma.dto.KmaForecastItem;
 import com.sprint.otboo.weather.integration.kma.dto.KmaForecastResponse;
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.SocketTimeoutException;
-import java.net.URL;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.retry.Retry;
 
 @Slf4j
 public class KmaShortTermForecastClientImpl implements KmaShortTermForecastClient {
 
+    private static final int MAX_PAGES = 50; // 안전장치
+    private static final int MAX_CONCURRENT_PAGES = 4; // 2페이지 이후 동시 호출 상한 (API 호출 제한 고려)
+
     private final WeatherKmaProperties props;
     private final ObjectMapper objectMapper;
+    private final WebClient webClient;
 
     public KmaShortTermForecastClientImpl(WeatherKmaProperties props, ObjectMapper objectMapper) {
+        this(props, objectMapper, defaultWebClient(props));
+    }
+
+    public KmaShortTermForecastClientImpl(WeatherKmaProperties props, ObjectMapper objectMapper, WebClient webClient) {
         this.props = props;
         this.objectMapper = objectMapper;
+        this.webClient = webClient;
     }
 
     @Override
     public KmaForecastResponse getVilageFcst(Map<String, String> params) {
-        int attempts = 0;
-        int maxAttempts = Math.max(1, props.retryMaxAttempts());
-        long backoffMs = Math.max(0L, props.retryBackoffMs());
-
-        while (true) {
-            attempts++;
-            try {
-                return fetchAllPages(params);
-
-            } catch (RetryableHttpStatusException e) {
-                if (attempts >= maxAttempts) {
-                    throw new RuntimeException("KMA retry exceeded for status=" + e.getStatusCode(), e);
-                }
-                sleepWithJitter(backoffMs, attempts);
-
-            } catch (NonRetryableHttpStatusException e) {
-                throw new RuntimeException("KMA non-retryable status=" + e.getStatusCode(), e);
-
-            } catch (SocketTimeoutException e) {
-                if (attempts >= maxAttempts) {
-                    throw new RuntimeException("KMA request failed after retries", e);
-                }
-                sleepWithJitter(backoffMs, attempts);
-
-            } catch (IOException e) {
-                if (attempts >= maxAttempts) {
-                    throw new RuntimeException("KMA request failed after retries", e);
-                }
-                sleepWithJitter(backoffMs, attempts);
-            }
-        }
+        return getVilageFcstAsync(params).block();
     }
 
-    /** 모든 페이지 순회/병합 */
-    private KmaForecastResponse fetchAllPages(Map<String, String> baseParams) throws IOException {
-        List<KmaForecastItem> all = new ArrayList<>();
+    @Override
+    public Mono<KmaForecastResponse> getVilageFcstAsync(Map<String, String> params) {
+        return fetchAllPages(params);
+    }
 
-        int pageNo = 1;
-        int totalCount = Integer.MAX_VALUE;
+    /** 1페이지의 totalCount로 남은 페이지 수를 계산해 나머지는 제한된 동시성으로 조회/병합(페이지 순서 유지) */
+    private Mono<KmaForecastResponse> fetchAllPages(Map<String, String> baseParams) {
         int numOfRows = Integer.parseInt(
             baseParams.getOrDefault("numOfRows", String.valueOf(props.numOfRows()))
         );
 
-        while (all.size() < totalCount) {
-            Map<String, String> p = new LinkedHashMap<>(baseParams);
-            p.put("pageNo", String.valueOf(pageNo));
+        return fetchOnePage(baseParams, 1)
+            .flatMap(first -> {
+                int totalCount = first.totalCount > 0 ? first.totalCount : first.items.size();
+                int lastPage = Math.min(MAX_PAGES, (totalCount + numOfRows - 1) / Math.max(1, numOfRows));
 
-            Page page = fetchOnePage(p);
-            if (page.items.isEmpty()) break;
-
-            if (pageNo == 1) {
-                totalCount = page.totalCount > 0 ? page.totalCount : page.items.size();
-            }
-            all.addAll(page.items);
+                if (first.items.isEmpty() || first.items.size() < numOfRows || lastPage <= 1) {
+                    return Mono.just(merge(List.of(first)));
+                }
 
-            if (page.items.size() < numOfRows) break; // 마지막 페이지 추정
+                return Flux.range(2, lastPage - 1)
+                    .flatMapSequential(pageNo -> fetchOnePage(baseParams, pageNo), MAX_CONCURRENT_PAGES)
+                    .takeWhile(page -> !page.items.isEmpty())
+                    .collectList()
+                    .map(rest -> {
+                        List<Page> pages = new ArrayList<>(rest.size() + 1);
+                        pages.add(first);
+                        pages.addAll(rest);
+                        return merge(pages);
+                    });
+            });
+    }
 
-            pageNo++;
-            if (pageNo > 50) break; // 안전장치
+    private static KmaForecastResponse merge(List<Page> pages) {
+        List<KmaForecastItem> all = new ArrayList<>();
+        for (Page page : pages) {
+            all.addAll(page.items);
         }
-
         KmaForecastResponse merged = new KmaForecastResponse();
         merged.setResultCode("00");
         merged.setItems(all);
         return merged;
     }
 
-    /** 단일 페이지 호출 + totalCount/아이템 파싱 */
-    private Page fetchOnePage(Map<String, String> params) throws IOException {
-        String url = buildUrlWithParams(props.baseUrl(), params);
-        String body = httpGet(url, props.connectTimeoutMs(), props.readTimeoutMs());
+    /** 단일 페이지 호출(논블로킹 재시도 포함) + totalCount/아이템 파싱 */
+    private Mono<Page> fetchOnePage(Map<String, String> baseParams, int pageNo) {
+        Map<String, String> p = new LinkedHashMap<>(baseParams);
+        p.put("pageNo", String.valueOf(pageNo));
+        String url = buildUrlWithParams(props.baseUrl(), p);
 
-        JsonNode root = objectMapper.readTree(body);
-        JsonNode header = root.path("response").path("header");
-        String resultCode = header.path("resultCode").asText(null);
-        String resultMsg  = header.path("resultMsg").asText("");
+        int maxAttempts = Math.max(1, props.retryMaxAttempts());
+        long backoffMs = Math.max(1L, props.retryBackoffMs());
+
+        return Mono.defer(() -> httpGet(url))
+            .timeout(Duration.ofMillis((long) props.connectTimeoutMs() + props.readTimeoutMs()))
+            .retryWhen(Retry.backoff(maxAttempts - 1, Duration.ofMillis(backoffMs))
+                .jitter(0.2)
+                .filter(KmaShortTermForecastClientImpl::isRetryable)
+                .onRetryExhaustedThrow((spec, signal) ->
+                    new RuntimeException("KMA request failed after retries", signal.failure())))
+            .flatMap(body -> Mono.fromCallable(() -> parsePage(body)))
+            .onErrorMap(NonRetryableHttpStatusException.class,
+                e -> new RuntimeException("KMA non-retryable status=" + e.getStatusCode(), e))
+            .onErrorMap(IOException.class, e -> new RuntimeException("KMA request failed", e));
+    }
+
+    /** readTree 없이 스트리밍 파서로 header/body/items만 골라 읽는다 */
+    private Page parsePage(byte[] body) throws IOException {
+        PageReader reader = new PageReader();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Invalid response (not an object). bodyHead=" + head(body));
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("response".equals(field)) {
+                    reader.readResponse(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
 
-        if (resultCode == null || resultCode.isBlank()) {
+        if (reader.resultCode == null || reader.resultCode.isBlank()) {
             throw new IOException("Invalid response (no resultCode). bodyHead=" + head(body));
         }
-        if (!"00".equals(resultCode)) {
-            throw new IOException("KMA error resultCode=" + resultCode + " msg=" + resultMsg);
+        if (!"00".equals(reader.resultCode)) {
+            throw new IOException("KMA error resultCode=" + reader.resultCode + " msg=" + reader.resultMsg);
+        }
+        return new Page(reader.totalCount, reader.items);
+    }
+
+    /** response.header / response.body.items.item[] 스트리밍 리더 */
+    private static final class PageReader {
+        String resultCode;
+        String resultMsg = "";
+        int totalCount = -1;
+        final List<KmaForecastItem> items = new ArrayList<>();
+
+        void readResponse(JsonParser p) throws IOException {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                return;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "header" -> readHeader(p);
+                    case "body" -> readBody(p);
+                    default -> p.skipChildren();
+                }
+            }
+        }
+
+        private void readHeader(JsonParser p) throws IOException {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                return;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "resultCode" -> resultCode = p.getValueAsString();
+                    case "resultMsg" -> resultMsg = p.getValueAsString("");
+                    default -> p.skipChildren();
+                }
+            }
+        }
+
+        private void readBody(JsonParser p) throws IOException {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                return;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "totalCount" -> totalCount = p.getValueAsInt(-1);
+                    case "items" -> readItems(p);
+                    default -> p.skipChildren();
+                }
+            }
+        }
+
+        // 결과가 없으면 items가 ""로 오기도 하므로 객체일 때만 읽는다
+        private void readItems(JsonParser p) throws IOException {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                return;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if ("item".equals(field) && p.currentToken() == JsonToken.START_ARRAY) {
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        items.add(readItem(p));
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
         }
 
-        JsonNode bodyNode  = root.path("response").path("body");
-        int totalCount     = bodyNode.path("totalCount").asInt(-1);
-
-        List<KmaForecastItem> items = new ArrayList<>();
-        JsonNode itemArray = bodyNode.path("items").path("item");
-        if (itemArray.isArray()) {
-            for (JsonNode n : itemArray) {
-                KmaForecastItem it = new KmaForecastItem();
-                it.setCategory(n.path("category").asText(null));
-                it.setFcstDate(n.path("fcstDate").asText(null));
-                it.setFcstTime(n.path("fcstTime").asText(null));
-                it.setFcstValue(n.path("fcstValue").asText(null));
-                items.add(it);
+        private static KmaForecastItem readItem(JsonParser p) throws IOException {
+            String category = null, fcstDate = null, fcstTime = null, fcstValue = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    // 카테고리/일자/시각은 종류가 적어 intern으로 중복 문자열을 공유
+                    case "category" -> category = intern(p.getValueAsString());
+                    case "fcstDate" -> fcstDate = intern(p.getValueAsString());
+                    case "fcstTime" -> fcstTime = intern(p.getValueAsString());
+                    case "fcstValue" -> fcstValue = p.getValueAsString();
+                    default -> p.skipChildren();
+                }
             }
+            return new KmaForecastItem(category, fcstDate, fcstTime, fcstValue);
         }
 
-        return new Page(totalCount, items);
+        private static String intern(String s) {
+            return s == null ? null : s.intern();
+        }
     }
 
     private static final class Page {
@@ -147,7 +258,22 @@ public class KmaShortTermForecastClientImpl implements KmaShortTermForecastClien
 
     // ================= HTTP/유틸 =================
 
-    private String buildUrlWithParams(String baseUrl, Map<String, String> params) throws IOException {
+    private static WebClient defaultWebClient(WeatherKmaProperties props) {
+        HttpClient httpClient = HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, props.connectTimeoutMs())
+            .responseTimeout(Duration.ofMillis(props.readTimeoutMs()))
+            .doOnConnected(conn -> conn
+                .addHandlerLast(new ReadTimeoutHandler(props.readTimeoutMs(), TimeUnit.MILLISECONDS)));
+
+        return WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
+            .defaultHeader(HttpHeaders.USER_AGENT, "otboo-weather/1.0")
+            .build();
+    }
+
+    private String buildUrlWithParams(String baseUrl, Map<String, String> params) {
         StringBuilder sb = new StringBuilder();
         sb.append(baseUrl).append("?");
 
@@ -173,89 +299,61 @@ public class KmaShortTermForecastClientImpl implements KmaShortTermForecastClien
         return sb.toString();
     }
 
-    private String httpGet(String urlString, int connectTimeoutMs, int readTimeoutMs) throws IOException {
-        HttpURLConnection con = null;
-        try {
-            URL url = new URL(urlString);
-            con = (HttpURLConnection) url.openConnection();
-
-            con.setRequestMethod("GET");
-            con.setConnectTimeout(connectTimeoutMs);
-            con.setReadTimeout(readTimeoutMs);
-            con.setInstanceFollowRedirects(false);
-            con.setUseCaches(false);
-            con.setDoInput(true);
-
-            con.setRequestProperty("Accept", "application/json");
-            con.setRequestProperty("Accept-Encoding", "identity");
-            con.setRequestProperty("Connection", "close");
-            con.setRequestProperty("User-Agent", "otboo-weather/1.0");
-
-            log.debug("[KMA] GET {}", UrlMasker.maskAuthKey(urlString));
-            int code = con.getResponseCode();
-            String contentType = con.getHeaderField("Content-Type");
-
-            InputStream is = (code >= 200 && code < 300) ? con.getInputStream() : con.getErrorStream();
-            if (is == null) throw new IOException("Empty response stream (code=" + code + ")");
-            String body = readFully(is);
-
-            log.debug("[KMA] resp code={} ctype={} len={} head={}", code, contentType, body.length(), head(body));
-
-            String ctype = contentType == null ? "" : contentType.toLowerCase();
-            if (!ctype.contains("json")) {
-                throw new RetryableHttpStatusException(code == 0 ? 503 : code);
-            }
-            if (code == 429 || code >= 500) {
-                throw new RetryableHttpStatusException(code);
-            }
-            if (code >= 400) {
-                throw new NonRetryableHttpStatusException(code, head(body));
-            }
-            return body;
-        } finally {
-            if (con != null) {
-                try { con.disconnect(); } catch (Exception ignore) {}
-            }
-        }
+    private Mono<byte[]> httpGet(String urlString) {
+        log.debug("[KMA] GET {}", UrlMasker.maskAuthKey(urlString));
+
+        // 이미 인코딩된 URL이므로 URI로 넘겨 이중 인코딩 방지
+        return webClient.get()
+            .uri(URI.create(urlString))
+            .exchangeToMono(resp -> {
+                int code = resp.statusCode().value();
+                String contentType = resp.headers().contentType().map(MediaType::toString).orElse("");
+
+                return resp.bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(body -> {
+                        if (log.isDebugEnabled()) {
+                            log.debug("[KMA] resp code={} ctype={} len={} head={}",
+                                code, contentType, body.length, head(body));
+                        }
+
+                        String ctype = contentType.toLowerCase();
+                        if (!ctype.contains("json")) {
+                            return Mono.error(new RetryableHttpStatusException(code == 0 ? 503 : code));
+                        }
+                        if (code == 429 || code >= 500) {
+                            return Mono.error(new RetryableHttpStatusException(code));
+                        }
+                        if (code >= 400) {
+                            return Mono.error(new NonRetryableHttpStatusException(code, head(body)));
+                        }
+                        return Mono.just(body);
+                    });
+            });
     }
 
-    private String readFully(InputStream is) throws IOException {
-        try (BufferedInputStream bin = new BufferedInputStream(is);
-            ByteArrayOutputStream bout = new ByteArrayOutputStream(4096)) {
-            byte[] buf = new byte[4096];
-            int r;
-            while ((r = bin.read(buf)) != -1) {
-                bout.write(buf, 0, r);
-            }
-            return bout.toString(StandardCharsets.UTF_8);
-        }
+    private static boolean isRetryable(Throwable t) {
+        Throwable root = Exceptions.unwrap(t);
+        return root instanceof RetryableHttpStatusException
+            || root instanceof TimeoutException
+            || root instanceof WebClientRequestException
+            || root instanceof PrematureCloseException
+            || root instanceof ReadTimeoutException;
     }
 
-    private String encode(String s) throws IOException {
-        return URLEncoder.encode(s, StandardCharsets.UTF_8.name());
+    private String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
     }
 
-    private String encodeMaybe(String s) throws IOException {
+    private String encodeMaybe(String s) {
         if (s.contains("%")) return s; // 이미 인코딩된 값
         return encode(s);
     }
 
-    private void sleep(long ms) {
-        if (ms <= 0) return;
-        try { Thread.sleep(ms); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
-    }
-
-    // 간단한 지터(backoff * attempts ± 20%)
-    private void sleepWithJitter(long baseBackoffMs, int attempts) {
-        long base = Math.max(0L, baseBackoffMs) * Math.max(1, attempts);
-        long jitter = Math.round(base * 0.2 * (Math.random() - 0.5) * 2);
-        sleep(base + jitter);
-    }
-
-    private String head(String s) {
-        if (s == null) return "";
-        int n = Math.min(160, s.length());
-        return s.substring(0, n).replaceAll("\\s+", " ");
+    private String head(byte[] body) {
+        if (body == null) return "";
+        int n = Math.min(160, body.length);
+        return new String(body, 0, n, StandardCharsets.UTF_8).replaceAll("\\s+", " ");
     }
 
     private static class RetryableHttpStatusException extends IOException {
@@ -7,6 +7,15 @@ public class KmaForecastItem {
     private String fcstTime;
     private String fcstValue;
 
+    public KmaForecastItem() {}
+
+    public KmaForecastItem(String category, String fcstDate, String fcstTime, String fcstValue) {
+        this.category = category;
+        this.fcstDate = fcstDate;
+        this.fcstTime = fcstTime;
+        this.fcstValue = fcstValue;
+    }
+
     public String getCategory() { return category; }
     public void setCategory(String category) { this.category = category; }
     public String getFcstDate() { return fcstDate; }
@@ -2,13 +2,15 @@ package com.sprint.otboo.weather.integration.owm.client;
 
 import com.sprint.otboo.weather.integration.owm.mapper.OwmForecastMapper;
 import com.sprint.otboo.weather.integration.owm.dto.OwmForecastResponse;
+import com.sprint.otboo.weather.integration.spi.ReactiveWeatherDataClient;
 import com.sprint.otboo.weather.integration.spi.WeatherDataClient;
 import java.util.List;
 import java.util.Locale;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
 
 @RequiredArgsConstructor
-public class OwmClientAdapter implements WeatherDataClient {
+public class OwmClientAdapter implements WeatherDataClient, ReactiveWeatherDataClient {
 
     private final OwmForecastClient client;
 
@@ -17,4 +19,10 @@ public class OwmClientAdapter implements WeatherDataClient {
         OwmForecastResponse res = client.get5Day3Hour(latitude, longitude, locale);
         return OwmForecastMapper.toCollected(res);
     }
+
+    @Override
+    public Mono<List<CollectedForecast>> fetchAsync(double latitude, double longitude, Locale locale) {
+        return client.get5Day3HourAsync(latitude, longitude, locale)
+            .map(OwmForecastMapper::toCollected);
+    }
 }
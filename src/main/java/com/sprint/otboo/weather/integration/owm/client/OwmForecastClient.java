@@ -2,7 +2,10 @@ package com.sprint.otboo.weather.integration.owm.client;
 
 import com.sprint.otboo.weather.integration.owm.dto.OwmForecastResponse;
 import java.util.Locale;
+import reactor.core.publisher.Mono;
 
 public interface OwmForecastClient {
     OwmForecastResponse get5Day3Hour(double lat, double lon, Locale locale);
+
+    Mono<OwmForecastResponse> get5Day3HourAsync(double lat, double lon, Locale locale);
 }
@@ -4,6 +4,7 @@ import com.sprint.otboo.weather.integration.owm.dto.OwmForecastResponse;
 import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @RequiredArgsConstructor
 public class OwmForecastClientImpl implements OwmForecastClient {
@@ -16,6 +17,11 @@ public class OwmForecastClientImpl implements OwmForecastClient {
 
     @Override
     public OwmForecastResponse get5Day3Hour(double lat, double lon, Locale locale) {
+        return get5Day3HourAsync(lat, lon, locale).block();
+    }
+
+    @Override
+    public Mono<OwmForecastResponse> get5Day3HourAsync(double lat, double lon, Locale locale) {
         return client.get()
             .uri(uriBuilder -> uriBuilder
                 .path("/forecast")
@@ -27,8 +33,7 @@ public class OwmForecastClientImpl implements OwmForecastClient {
                 .build()
             )
             .retrieve()
-            .bodyToMono(OwmForecastResponse.class)
-            .block();
+            .bodyToMono(OwmForecastResponse.class);
     }
 
     private String normalizeLang(Locale locale) {
@@ -0,0 +1,15 @@
+package com.sprint.otboo.weather.integration.spi;
+
+import com.sprint.otboo.weather.integration.spi.WeatherDataClient.CollectedForecast;
+import java.util.List;
+import java.util.Locale;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link WeatherDataClient}의 논블로킹 버전.
+ * 배치 수집처럼 많은 좌표를 적은 스레드로 동시에 호출할 때 사용한다.
+ */
+public interface ReactiveWeatherDataClient {
+
+    Mono<List<CollectedForecast>> fetchAsync(double latitude, double longitude, Locale locale);
+}
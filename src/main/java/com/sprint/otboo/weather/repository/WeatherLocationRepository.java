@@ -2,9 +2,13 @@ package com.sprint.otboo.weather.repository;
 
 import com.sprint.otboo.weather.entity.WeatherLocation;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +16,23 @@ public interface WeatherLocationRepository extends JpaRepository<WeatherLocation
 
     Optional<WeatherLocation> findFirstByLatitudeAndLongitude(BigDecimal latitude, BigDecimal longitude);
     Optional<WeatherLocation> findFirstByXAndY(int x, int y);
+
+    // 배치 파티셔닝용 격자 x 범위
+    @Query("SELECT MIN(l.x) FROM WeatherLocation l")
+    Integer findMinX();
+
+    @Query("SELECT MAX(l.x) FROM WeatherLocation l")
+    Integer findMaxX();
+
+    // 사용자 프로필 위치와 같은 격자의 위치 (추천 등에서 조회될 수 있으므로 갱신 대상 유지)
+    @Query("SELECT DISTINCT l.id FROM WeatherLocation l, UserProfile p WHERE p.x = l.x AND p.y = l.y")
+    List<UUID> findIdsInUserProfileGrids();
+
+    // 이번 배치(forecastedAt)로 예보가 갱신된 위치 중 사용자 프로필이 있는 격자의 위치 (추천 예열 대상)
+    @Query("""
+        SELECT l FROM WeatherLocation l
+        WHERE EXISTS (SELECT 1 FROM UserProfile p WHERE p.x = l.x AND p.y = l.y)
+          AND EXISTS (SELECT 1 FROM Weather w WHERE w.location = l AND w.forecastedAt = :forecastedAt)
+    """)
+    List<WeatherLocation> findRefreshedInUserProfileGrids(@Param("forecastedAt") Instant forecastedAt);
 }
@@ -0,0 +1,201 @@
+package com.sprint.otboo.weather.repository;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * weathers 일(KST) 단위 범위 파티션 관리 (PostgreSQL 전용 DDL).
+ * <p>
+ * 파티션 이름은 {@code weathers_pYYYYMMDD}, 범위는 해당 일 00:00(KST) 이상 ~ 다음 날 00:00(KST) 미만.
+ * 파티션이 없던 구간의 행은 기본 파티션({@code weathers_default})에 들어가므로, 생성 시 옮겨 담은 뒤 연결한다.
+ * 아카이브({@code weathers_archive})는 (MINVALUE ~ 마지막으로 삭제한 일의 다음 날) 범위 파티션으로,
+ * 삭제한 일 파티션에서 추천/피드가 참조하던 행만 담는다.
+ * 여러 인스턴스가 동시에 실행해도 되도록 DDL은 트랜잭션 단위 advisory lock 안에서 수행한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class WeatherPartitionRepository {
+
+    static final String ARCHIVE_PARTITION = "weathers_archive";
+    static final String DEFAULT_PARTITION = "weathers_default";
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern DAILY_PARTITION = Pattern.compile("^weathers_p(\\d{8})$");
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('weathers_partition'))";
+
+    private static final String IS_PARTITIONED_SQL = """
+        SELECT EXISTS (
+            SELECT 1 FROM pg_partitioned_table pt
+            WHERE pt.partrelid = to_regclass('weathers')
+        )
+        """;
+
+    private static final String LIST_PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = to_regclass('weathers')
+        """;
+
+    // 아카이브도 DETACH 한 상태에서 직접 INSERT (범위 검사는 다시 연결할 때 수행)
+    private static final String ARCHIVE_REFERENCED_SQL = """
+        INSERT INTO weathers_archive
+        SELECT p.* FROM %s p
+        WHERE EXISTS (SELECT 1 FROM recommendations r WHERE r.weather_id = p.id)
+           OR EXISTS (SELECT 1 FROM feeds f WHERE f.weather_id = p.id)
+        """;
+
+    // 아카이브 범위로 넘어가는 기본 파티션 행: 참조 중인 행만 아카이브로 옮기고 나머지는 삭제
+    private static final String ARCHIVE_EXPIRED_DEFAULT_SQL = """
+        WITH expired AS (
+            DELETE FROM weathers_default
+            WHERE forecast_at < CAST(? AS TIMESTAMPTZ)
+            RETURNING *
+        )
+        INSERT INTO weathers_archive
+        SELECT e.* FROM expired e
+        WHERE EXISTS (SELECT 1 FROM recommendations r WHERE r.weather_id = e.id)
+           OR EXISTS (SELECT 1 FROM feeds f WHERE f.weather_id = e.id)
+        """;
+
+    private static final String MOVE_FROM_DEFAULT_SQL = """
+        WITH moved AS (
+            DELETE FROM weathers_default
+            WHERE forecast_at >= CAST(? AS TIMESTAMPTZ) AND forecast_at < CAST(? AS TIMESTAMPTZ)
+            RETURNING *
+        )
+        INSERT INTO %s SELECT * FROM moved
+        """;
+
+    // weathers(id)는 파티션 키를 포함하지 않아 FK를 둘 수 없으므로, 보존 작업 후 끊긴 참조를 직접 센다
+    private static final String COUNT_DANGLING_REFERENCES_SQL = """
+        SELECT
+            (SELECT COUNT(*) FROM feeds f
+             WHERE NOT EXISTS (SELECT 1 FROM weathers w WHERE w.id = f.weather_id))
+          + (SELECT COUNT(*) FROM recommendations r
+             WHERE NOT EXISTS (SELECT 1 FROM weathers w WHERE w.id = r.weather_id))
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean partitioned;
+
+    /**
+     * 운영 DB(PostgreSQL)에서 weathers가 파티션 테이블인지 (H2 등에서는 false).
+     * 조회에 성공한 결과만 캐시하고, 일시적인 DB 오류는 이번 호출만 false로 보고 다음 호출에서 다시 확인한다.
+     */
+    public boolean isPartitioned() {
+        Boolean cached = partitioned;
+        if (cached != null) return cached;
+
+        try {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName()
+            );
+            boolean result = "PostgreSQL".equalsIgnoreCase(product)
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class));
+            partitioned = result;
+            return result;
+        } catch (DataAccessException e) {
+            log.warn("[weather-partition] partition check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /** 현재 연결된 일 파티션의 날짜(KST) 목록 */
+    public List<LocalDate> findDailyPartitionDays() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class).stream()
+            .map(DAILY_PARTITION::matcher)
+            .filter(Matcher::matches)
+            .map(m -> LocalDate.parse(m.group(1), SUFFIX))
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * 일 파티션 생성. 이미 있으면 아무것도 하지 않는다.
+     * @return 새로 만들었으면 true
+     */
+    @Transactional
+    public boolean createDailyPartition(LocalDate day) {
+        jdbcTemplate.execute(LOCK_SQL);
+
+        String name = partitionName(day);
+        if (exists(name)) return false;
+
+        String from = boundary(day);
+        String to = boundary(day.plusDays(1));
+
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE weathers INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update(MOVE_FROM_DEFAULT_SQL.formatted(name), from, to);
+        jdbcTemplate.execute(
+            "ALTER TABLE weathers ATTACH PARTITION " + name + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')"
+        );
+
+        log.info("[weather-partition] created {} (moved {} rows from {})", name, moved, DEFAULT_PARTITION);
+        return true;
+    }
+
+    /**
+     * 일 파티션을 분리해 참조 중인 행만 아카이브로 옮기고 삭제한다 (일 파티션 행 단위 DELETE 없음).
+     * 아카이브 범위를 해당 일의 다음 날까지 넓혀 다시 연결하므로, 오래된 날짜부터 순서대로 호출해야 한다.
+     * @return 아카이브로 옮긴 행 수
+     */
+    @Transactional
+    public int archiveAndDropDailyPartition(LocalDate day) {
+        jdbcTemplate.execute(LOCK_SQL);
+
+        String name = partitionName(day);
+        if (!exists(name)) return 0;
+
+        String upper = boundary(day.plusDays(1));
+
+        jdbcTemplate.execute("ALTER TABLE weathers DETACH PARTITION " + name);
+        jdbcTemplate.execute("ALTER TABLE weathers DETACH PARTITION " + ARCHIVE_PARTITION);
+        int archived = jdbcTemplate.update(ARCHIVE_REFERENCED_SQL.formatted(name));
+        archived += jdbcTemplate.update(ARCHIVE_EXPIRED_DEFAULT_SQL, upper);
+        jdbcTemplate.execute("DROP TABLE " + name);
+        jdbcTemplate.execute(
+            "ALTER TABLE weathers ATTACH PARTITION " + ARCHIVE_PARTITION
+                + " FOR VALUES FROM (MINVALUE) TO ('" + upper + "')"
+        );
+
+        log.info("[weather-partition] dropped {} (archived {} referenced rows, {} < {})",
+            name, archived, ARCHIVE_PARTITION, upper);
+        return archived;
+    }
+
+    /** weathers에 없는 예보를 가리키는 피드/추천 수 (FK 대신 보존 작업에서 점검) */
+    public long countDanglingWeatherReferences() {
+        Long count = jdbcTemplate.queryForObject(COUNT_DANGLING_REFERENCES_SQL, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private boolean exists(String name) {
+        return Objects.nonNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, name));
+    }
+
+    static String partitionName(LocalDate day) {
+        return "weathers_p" + day.format(SUFFIX);
+    }
+
+    // 예: 2025-10-26T00:00+09:00 (KST 자정)
+    private static String boundary(LocalDate day) {
+        return day.atStartOfDay(KST).toOffsetDateTime().toString();
+    }
+}
@@ -1,7 +1,10 @@
 package com.sprint.otboo.weather.repository;
 
 import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherDailySummary;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,7 +16,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface WeatherRepository extends JpaRepository<Weather, UUID> {
+public interface WeatherRepository extends JpaRepository<Weather, UUID>, WeatherRepositoryCustom {
 
     Optional<Weather> findByLocationIdAndForecastAtAndForecastedAt(
         UUID locationId, Instant forecastAt, Instant forecastedAt
@@ -48,37 +51,38 @@ public interface WeatherRepository extends JpaRepository<Weather, UUID> {
         return findRangeOrderedWithLocation(locationId, from, to);
     }
 
-    // 동일 forecastAt의 이전 발표본 삭제
-    @Modifying
-    @Query(value = """
-    DELETE
-    FROM weathers w
-    WHERE w.location_id = :locationId
-      AND w.forecast_at BETWEEN :from AND :to
-      AND w.forecasted_at < (
-          SELECT MAX(w2.forecasted_at)
-          FROM weathers w2
-          WHERE w2.location_id = w.location_id
-            AND w2.forecast_at = w.forecast_at
-      )
-      -- 추천에서 참조 중이면 삭제하지 않음
-      AND NOT EXISTS (
-          SELECT 1
-          FROM recommendations r
-          WHERE r.weather_id = w.id
-      )
-    """,
-        nativeQuery = true)
-    int deleteOlderVersionsInRange(
+    // 배치가 산출한 일자별 요약을 조회 시각(KST 시) 기준으로 대표 행과 함께 한 번에 조회
+    @Query("""
+        SELECT s FROM WeatherDailySummary s
+        JOIN FETCH s.weather w
+        JOIN FETCH w.location l
+        WHERE s.location.id = :locationId
+          AND s.targetHour = :targetHour
+          AND s.forecastDate >= :fromDate
+        ORDER BY s.forecastDate ASC
+    """)
+    List<WeatherDailySummary> findDailySummaries(
         @Param("locationId") UUID locationId,
-        @Param("from") Instant from,
-        @Param("to") Instant to
+        @Param("targetHour") int targetHour,
+        @Param("fromDate") LocalDate fromDate
     );
 
-    // 이미 지난 예보 중 오래된 데이터 삭제
+    // 날짜별 대표 행 (파생 값은 요약 갱신 시 행에 기록되어 있음)
+    default List<Weather> findDailyRepresentatives(UUID locationId, int targetHour, LocalDate fromDate) {
+        return findDailySummaries(locationId, targetHour, fromDate).stream()
+            .map(WeatherDailySummary::getWeather)
+            .toList();
+    }
+
+    // 이미 지난 예보 중 오래된 데이터 삭제 (파티션이 없는 환경용. 추천/피드가 참조하는 행은 유지)
     @Modifying
     @Transactional
-    @Query(value = "DELETE FROM weathers WHERE forecast_at < :cutoff", nativeQuery = true)
+    @Query(value = """
+        DELETE FROM weathers w
+        WHERE w.forecast_at < :cutoff
+          AND NOT EXISTS (SELECT 1 FROM recommendations r WHERE r.weather_id = w.id)
+          AND NOT EXISTS (SELECT 1 FROM feeds f WHERE f.weather_id = w.id)
+    """, nativeQuery = true)
     int deletePastForecastsBefore(@Param("cutoff") Instant cutoff);
 
     // 특정 Weather ID로 Weather와 연관된 Location을 함께 조회
@@ -88,4 +92,12 @@ public interface WeatherRepository extends JpaRepository<Weather, UUID> {
     WHERE w.id = :weatherId
 """)
     Optional<Weather> findByIdWithLocation(@Param("weatherId") UUID weatherId);
+
+    // 여러 Weather ID를 Location과 함께 한 번에 조회 (다일 추천)
+    @Query("""
+    SELECT w FROM Weather w
+    JOIN FETCH w.location l
+    WHERE w.id IN :weatherIds
+""")
+    List<Weather> findAllByIdInWithLocation(@Param("weatherIds") Collection<UUID> weatherIds);
 }
@@ -0,0 +1,50 @@
+package com.sprint.otboo.weather.repository;
+
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherDailySummary;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface WeatherRepositoryCustom {
+
+    /**
+     * 예보 스냅샷을 JDBC 배치로 INSERT 하고, (location_id, forecast_at, forecasted_at)가 이미 있으면 건너뜀
+     *
+     * @param snapshots id/createdAt이 채워진 스냅샷 ( {@code Weather#getLocation()} 필수 )
+     * @return 행별 INSERT 여부 ( snapshots와 같은 순서 )
+     * */
+    boolean[] insertIgnoringDuplicates(List<Weather> snapshots);
+
+    /**
+     * 동일 위치/예보 시각에 더 최신 발표본이 있는 이전 발표본을 한 번에 삭제 ( 추천/피드/요약에서 참조 중인 행은 유지 )
+     *
+     * @param from forecast_at 하한 ( 이전 구간은 보존 정책 대상 )
+     * @return 삭제 건수
+     * */
+    int deleteSupersededVersionsSince(Instant from);
+
+    /**
+     * 일 최저/최고 기온, 전일 대비 기온/습도 차를 행별로 JDBC 배치 UPDATE ( id + forecast_at 으로 파티션 지정 )
+     *
+     * @param rows id/forecastAt과 파생 값(minC/maxC/comparedC/comparedPct)이 채워진 스냅샷
+     * */
+    void updateDerivedValues(List<Weather> rows);
+
+    /**
+     * 위치의 일자별 대표 요약을 (시각, 날짜) 단위로 upsert ( 대표 행이 바뀐 행만 UPDATE, 없는 행만 INSERT )
+     *
+     * @param summaries id/createdAt이 채워진 요약 ( {@code getWeather()} 필수 )
+     * @return INSERT/UPDATE 한 행 수
+     * */
+    int upsertDailySummaries(UUID locationId, List<WeatherDailySummary> summaries);
+
+    /**
+     * 보존 기간이 지난 일자별 요약 삭제
+     *
+     * @param date 이 날짜(KST) 이전 요약을 삭제
+     * @return 삭제 건수
+     * */
+    int deleteDailySummariesBefore(LocalDate date);
+}
@@ -0,0 +1,251 @@
+package com.sprint.otboo.weather.repository;
+
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherDailySummary;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class WeatherRepositoryImpl implements WeatherRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 충돌 대상은 uq_weathers_loc_target_ver 뿐이므로(id는 신규 UUID) 대상 컬럼을 생략
+    private static final String INSERT_IGNORE_SQL = """
+        INSERT INTO weathers (
+            id, created_at, location_id, forecasted_at, forecast_at,
+            sky_status, as_word, type,
+            speed_ms, current_pct, compared_pct, current_c, compared_c,
+            min_c, max_c, amount_mm, probability
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String DELETE_SUPERSEDED_SQL = """
+        DELETE
+        FROM weathers w
+        WHERE w.forecast_at >= ?
+          AND EXISTS (
+              SELECT 1
+              FROM weathers w2
+              WHERE w2.location_id = w.location_id
+                AND w2.forecast_at = w.forecast_at
+                AND w2.forecasted_at > w.forecasted_at
+          )
+          -- 추천/피드/일자별 요약에서 참조 중이면 삭제하지 않음 (weathers는 파티션 테이블이라 FK가 없음)
+          AND NOT EXISTS (
+              SELECT 1
+              FROM recommendations r
+              WHERE r.weather_id = w.id
+          )
+          AND NOT EXISTS (
+              SELECT 1
+              FROM feeds f
+              WHERE f.weather_id = w.id
+          )
+          AND NOT EXISTS (
+              SELECT 1
+              FROM weather_daily_summaries s
+              WHERE s.weather_id = w.id
+          )
+        """;
+
+    // weathers는 forecast_at 파티션 테이블이므로 파티션 키를 함께 지정해 해당 파티션만 탐색
+    private static final String UPDATE_DERIVED_SQL = """
+        UPDATE weathers
+        SET min_c = ?, max_c = ?, compared_c = ?, compared_pct = ?
+        WHERE id = ? AND forecast_at = ?
+        """;
+
+    private static final String SELECT_SUMMARIES_SQL = """
+        SELECT target_hour, forecast_date, weather_id
+        FROM weather_daily_summaries
+        WHERE location_id = ?
+          AND forecast_date BETWEEN ? AND ?
+        """;
+
+    private static final String UPDATE_SUMMARY_SQL = """
+        UPDATE weather_daily_summaries
+        SET weather_id = ?
+        WHERE location_id = ? AND target_hour = ? AND forecast_date = ?
+        """;
+
+    // 배치와 온디맨드 수집이 동시에 같은 위치를 갱신해도 유니크 충돌로 실패하지 않도록 건너뜀 (다음 갱신에서 반영)
+    private static final String INSERT_SUMMARY_SQL = """
+        INSERT INTO weather_daily_summaries (
+            id, created_at, location_id, target_hour, forecast_date, weather_id
+        ) VALUES (?, ?, ?, ?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String DELETE_SUMMARIES_BEFORE_SQL = """
+        DELETE FROM weather_daily_summaries WHERE forecast_date < ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean[] insertIgnoringDuplicates(List<Weather> snapshots) {
+        boolean[] inserted = new boolean[snapshots.size()];
+        if (snapshots.isEmpty()) return inserted;
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, snapshots, BATCH_SIZE, WeatherRepositoryImpl::bind);
+
+        // reWriteBatchedInserts 등으로 행별 결과가 SUCCESS_NO_INFO(-2)면 ON CONFLICT로 건너뛴 행과 구분할 수 없으므로
+        // 신규 UUID가 실제로 저장되었는지 다시 확인한다
+        List<Integer> unknown = new ArrayList<>();
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    unknown.add(i);
+                }
+                inserted[i++] = count > 0;
+            }
+        }
+        if (!unknown.isEmpty()) {
+            Set<UUID> existing = findExistingIds(unknown.stream().map(idx -> snapshots.get(idx).getId()).toList());
+            for (int idx : unknown) {
+                inserted[idx] = existing.contains(snapshots.get(idx).getId());
+            }
+        }
+        return inserted;
+    }
+
+    private Set<UUID> findExistingIds(List<UUID> ids) {
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            String placeholders = chunk.stream().map(id -> "?").collect(Collectors.joining(", "));
+            existing.addAll(jdbcTemplate.queryForList(
+                "SELECT id FROM weathers WHERE id IN (" + placeholders + ")", UUID.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    @Override
+    public int deleteSupersededVersionsSince(Instant from) {
+        return jdbcTemplate.update(DELETE_SUPERSEDED_SQL, ps -> setInstant(ps, 1, from));
+    }
+
+    @Override
+    public void updateDerivedValues(List<Weather> rows) {
+        if (rows.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPDATE_DERIVED_SQL, rows, BATCH_SIZE, (ps, w) -> {
+            setDouble(ps, 1, w.getMinC());
+            setDouble(ps, 2, w.getMaxC());
+            setDouble(ps, 3, w.getComparedC());
+            setDouble(ps, 4, w.getComparedPct());
+            ps.setObject(5, w.getId());
+            setInstant(ps, 6, w.getForecastAt());
+        });
+    }
+
+    @Override
+    public int upsertDailySummaries(UUID locationId, List<WeatherDailySummary> summaries) {
+        if (summaries.isEmpty()) return 0;
+
+        LocalDate from = summaries.stream().map(WeatherDailySummary::getForecastDate).min(LocalDate::compareTo).get();
+        LocalDate to = summaries.stream().map(WeatherDailySummary::getForecastDate).max(LocalDate::compareTo).get();
+        Map<SummaryKey, UUID> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_SUMMARIES_SQL, rs -> {
+            existing.put(
+                new SummaryKey(rs.getInt("target_hour"), rs.getDate("forecast_date").toLocalDate()),
+                rs.getObject("weather_id", UUID.class)
+            );
+        }, locationId, Date.valueOf(from), Date.valueOf(to));
+
+        List<WeatherDailySummary> inserts = new ArrayList<>();
+        List<WeatherDailySummary> updates = new ArrayList<>();
+        for (WeatherDailySummary s : summaries) {
+            UUID current = existing.get(new SummaryKey(s.getTargetHour(), s.getForecastDate()));
+            if (current == null) {
+                inserts.add(s);
+            } else if (!current.equals(s.getWeather().getId())) {
+                updates.add(s);
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SUMMARY_SQL, updates, BATCH_SIZE, (ps, s) -> {
+                ps.setObject(1, s.getWeather().getId());
+                ps.setObject(2, locationId);
+                ps.setInt(3, s.getTargetHour());
+                ps.setDate(4, Date.valueOf(s.getForecastDate()));
+            });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SUMMARY_SQL, inserts, BATCH_SIZE, (ps, s) -> {
+                ps.setObject(1, s.getId());
+                setInstant(ps, 2, s.getCreatedAt());
+                ps.setObject(3, locationId);
+                ps.setInt(4, s.getTargetHour());
+                ps.setDate(5, Date.valueOf(s.getForecastDate()));
+                ps.setObject(6, s.getWeather().getId());
+            });
+        }
+        return inserts.size() + updates.size();
+    }
+
+    @Override
+    public int deleteDailySummariesBefore(LocalDate date) {
+        return jdbcTemplate.update(DELETE_SUMMARIES_BEFORE_SQL, ps -> ps.setDate(1, Date.valueOf(date)));
+    }
+
+    private static void bind(PreparedStatement ps, Weather w) throws SQLException {
+        ps.setObject(1, w.getId());
+        setInstant(ps, 2, w.getCreatedAt());
+        ps.setObject(3, w.getLocation().getId());
+        setInstant(ps, 4, w.getForecastedAt());
+        setInstant(ps, 5, w.getForecastAt());
+        ps.setString(6, w.getSkyStatus().name());
+        ps.setString(7, w.getAsWord().name());
+        ps.setString(8, w.getType().name());
+        setDouble(ps, 9, w.getSpeedMs());
+        setDouble(ps, 10, w.getCurrentPct());
+        setDouble(ps, 11, w.getComparedPct());
+        setDouble(ps, 12, w.getCurrentC());
+        setDouble(ps, 13, w.getComparedC());
+        setDouble(ps, 14, w.getMinC());
+        setDouble(ps, 15, w.getMaxC());
+        setDouble(ps, 16, w.getAmountMm());
+        setDouble(ps, 17, w.getProbability());
+    }
+
+    // TIMESTAMPTZ/TIMESTAMP 모두 UTC 기준으로 저장되도록 캘린더 지정
+    private static void setInstant(PreparedStatement ps, int index, Instant value) throws SQLException {
+        ps.setTimestamp(index, Timestamp.from(value), Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.NUMERIC);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+
+    private record SummaryKey(int targetHour, LocalDate forecastDate) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.sprint.otboo.weather.service;
+
+import com.sprint.otboo.weather.entity.Weather;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 일자별 대표 예보 산출 (순수 계산).
+ * <p>
+ * - 예보 시각별 최신 발표본 선별<br>
+ * - 날짜(KST)별 일 최저/최고 기온<br>
+ * - 전일 같은 시각 대표 대비 기온/습도 차<br>
+ * - 조회 시각(시) 기준 대표 행: 정시 일치 우선, 없으면 가장 가까운 시각
+ */
+public final class WeatherDailySummaryCalculator {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private WeatherDailySummaryCalculator() {
+    }
+
+    /** 예보 시각 오름차순, 같은 시각이면 최신 발표본 하나만 남김 */
+    public static List<Weather> latestPerForecastAt(List<Weather> snapshots) {
+        List<Weather> ordered = snapshots.stream()
+            .filter(w -> w.getForecastAt() != null)
+            .sorted(Comparator
+                .comparing(Weather::getForecastAt)
+                .thenComparing(Weather::getForecastedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            )
+            .toList();
+
+        List<Weather> result = new ArrayList<>();
+        Instant currentKey = null;
+        for (Weather w : ordered) {
+            if (!Objects.equals(currentKey, w.getForecastAt())) {
+                result.add(w);
+                currentKey = w.getForecastAt();
+            }
+        }
+        return result;
+    }
+
+    /** 날짜(KST)별로 묶고, 각 행에 일 최저/최고와 전일 대비 기온/습도 차를 반영한 사본을 만든다 */
+    public static TreeMap<LocalDate, List<Weather>> withDerivedValues(List<Weather> latest) {
+        TreeMap<LocalDate, List<Weather>> byDay = latest.stream().collect(Collectors.groupingBy(
+            w -> w.getForecastAt().atZone(KST).toLocalDate(),
+            TreeMap::new,
+            Collectors.toList()
+        ));
+
+        TreeMap<LocalDate, List<Weather>> result = new TreeMap<>();
+        List<Weather> prevDay = null;
+
+        for (Map.Entry<LocalDate, List<Weather>> e : byDay.entrySet()) {
+            List<Weather> ws = e.getValue();
+
+            DoubleSummaryStatistics stat = ws.stream()
+                .map(Weather::getCurrentC)
+                .filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue)
+                .summaryStatistics();
+            double min = stat.getCount() > 0 ? stat.getMin() : 0.0;
+            double max = stat.getCount() > 0 ? stat.getMax() : 0.0;
+
+            List<Weather> enriched = new ArrayList<>(ws.size());
+            for (Weather w : ws) {
+                Weather prev = (prevDay != null)
+                    ? representative(prevDay, w.getForecastAt().atZone(KST).getHour())
+                    : null;
+
+                enriched.add(w.toBuilder()
+                    .minC(min)
+                    .maxC(max)
+                    .comparedC(diff(w.getCurrentC(), prev != null ? prev.getCurrentC() : null))
+                    .comparedPct(diff(w.getCurrentPct(), prev != null ? prev.getCurrentPct() : null))
+                    .build());
+            }
+
+            result.put(e.getKey(), enriched);
+            prevDay = ws;
+        }
+        return result;
+    }
+
+    /** 하루치 행 중 targetHour(KST) 대표 */
+    public static Weather representative(List<Weather> dayRows, int targetHour) {
+        LocalTime targetTime = LocalTime.of(targetHour, 0);
+
+        return dayRows.stream()
+            .filter(w -> {
+                LocalTime lt = w.getForecastAt().atZone(KST).toLocalTime();
+                return lt.getHour() == targetHour && lt.getMinute() == 0;
+            })
+            .findFirst()
+            .orElseGet(() -> dayRows.stream()
+                .min(Comparator.comparingLong(w -> {
+                    LocalTime lt = w.getForecastAt().atZone(KST).toLocalTime();
+                    return Math.abs(Duration.between(lt, targetTime).toMinutes());
+                }))
+                .orElse(dayRows.get(0)));
+    }
+
+    private static Double diff(Double current, Double previous) {
+        return (current != null && previous != null) ? current - previous : null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.sprint.otboo.weather.service;
+
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherDailySummary;
+import com.sprint.otboo.weather.repository.WeatherRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일자별 대표 예보 요약 갱신.
+ * <p>
+ * 수집 시점에 위치별로 한 번만 대표 행/최저·최고/전일 대비 값을 계산해 저장하므로,
+ * 날씨 조회는 요약 테이블 단건 인덱스 조회로 끝나고 읽기 경로에서 쓰기가 발생하지 않는다.
+ * 파생 값은 weathers 행에 기록해 id로 읽는 경로(추천/피드)도 같은 값을 보며, 값이 바뀐 행만 UPDATE 한다.
+ * 요약은 (시각, 날짜) 단위로 대표 행이 바뀐 행만 upsert 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherDailySummaryWriter {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int HOURS_PER_DAY = 24;
+
+    // NUMERIC 왕복 시 생기는 부동소수 오차는 변경으로 보지 않음
+    private static final double DERIVED_EPSILON = 1e-6;
+
+    private final WeatherRepository weatherRepository;
+
+    /**
+     * 호출자 트랜잭션(배치 청크 등)에 참여해 요약을 갱신한다.
+     * @return INSERT/UPDATE 한 요약 행 수
+     */
+    @Transactional
+    public int refresh(UUID locationId) {
+        return rebuild(locationId);
+    }
+
+    /**
+     * 별도 트랜잭션(REQUIRES_NEW)으로 커밋하므로, 수집 리더가 반환하면 대기 중이던 요청도 바로 조회된다.
+     * @return INSERT/UPDATE 한 요약 행 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int refreshAndCommit(UUID locationId) {
+        return rebuild(locationId);
+    }
+
+    /** 어제 00:00(KST) ~ +4일 23:59:59(KST) 최신본 → 바뀐 파생 값 반영 → 시각(0~23)별 날짜 대표 upsert */
+    private int rebuild(UUID locationId) {
+        LocalDate todayKst = Instant.now().atZone(KST).toLocalDate();
+        Instant from = todayKst.minusDays(1).atStartOfDay(KST).toInstant();
+        Instant to = todayKst.plusDays(4).atTime(23, 59, 59).atZone(KST).toInstant();
+
+        List<Weather> latest = WeatherDailySummaryCalculator.latestPerForecastAt(
+            weatherRepository.findRangeOrdered(locationId, from, to)
+        );
+        if (latest.isEmpty()) return 0;
+
+        TreeMap<LocalDate, List<Weather>> byDay = WeatherDailySummaryCalculator.withDerivedValues(latest);
+        weatherRepository.updateDerivedValues(changedRows(latest, byDay));
+
+        Instant now = Instant.now();
+        List<WeatherDailySummary> summaries = new ArrayList<>(HOURS_PER_DAY * byDay.size());
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            for (Map.Entry<LocalDate, List<Weather>> e : byDay.entrySet()) {
+                Weather rep = WeatherDailySummaryCalculator.representative(e.getValue(), hour);
+                summaries.add(WeatherDailySummary.builder()
+                    .id(UUID.randomUUID())
+                    .createdAt(now)
+                    .location(rep.getLocation())
+                    .targetHour(hour)
+                    .forecastDate(e.getKey())
+                    .weather(rep)
+                    .build());
+            }
+        }
+
+        int written = weatherRepository.upsertDailySummaries(locationId, summaries);
+        log.debug("[weather-summary] location={} days={} written={}/{}", locationId, byDay.size(), written, summaries.size());
+        return written;
+    }
+
+    /** 저장된 값과 파생 값이 다른 행만 (수집 직후 행은 공급자 값을 그대로 갖고 있음) */
+    private static List<Weather> changedRows(List<Weather> stored, TreeMap<LocalDate, List<Weather>> byDay) {
+        Map<UUID, Weather> storedById = new HashMap<>(stored.size() * 2);
+        for (Weather w : stored) {
+            storedById.put(w.getId(), w);
+        }
+
+        List<Weather> changed = new ArrayList<>();
+        for (List<Weather> day : byDay.values()) {
+            for (Weather w : day) {
+                Weather before = storedById.get(w.getId());
+                if (before == null
+                    || !same(before.getMinC(), w.getMinC())
+                    || !same(before.getMaxC(), w.getMaxC())
+                    || !same(before.getComparedC(), w.getComparedC())
+                    || !same(before.getComparedPct(), w.getComparedPct())) {
+                    changed.add(w);
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean same(Double a, Double b) {
+        if (a == null || b == null) return a == b;
+        return Math.abs(a - b) < DERIVED_EPSILON;
+    }
+}
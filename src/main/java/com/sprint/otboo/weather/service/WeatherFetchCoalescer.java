@@ -0,0 +1,125 @@
+package com.sprint.otboo.weather.service;
+
+import com.sprint.otboo.feedsearch.redis.RedisLockHelper;
+import com.sprint.otboo.weather.entity.Weather;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위치(locationId) 단위 업스트림 예보 수집 Single-flight.
+ * <p>
+ * 1) JVM 내부: 동일 위치의 동시 요청은 진행 중인 수집 1건의 결과를 공유한다.
+ * 2) 클러스터: Redis 락을 잡은 인스턴스만 수집/저장하고, 나머지는 락 해제까지 대기 후 빈 결과를 받는다.
+ *    (빈 결과 = 저장소 재조회 신호. 수집기는 커밋까지 끝낸 뒤 락을 해제한다)
+ */
+@Slf4j
+@Component
+public class WeatherFetchCoalescer {
+
+    private static final String LOCK_KEY_PREFIX = "weather:fetch:lock:";
+    private static final long POLL_INTERVAL_MS = 100L;
+
+    private final Map<UUID, CompletableFuture<List<Weather>>> inFlight = new ConcurrentHashMap<>();
+
+    private final RedisLockHelper lockHelper;
+    private final Duration lockTtl;
+    private final long waitTimeoutMs;
+
+    public WeatherFetchCoalescer(
+        RedisLockHelper lockHelper,
+        @Value("${weather.fetch.lock-ttl-seconds:10}") long lockTtlSeconds,
+        @Value("${weather.fetch.wait-timeout-ms:3000}") long waitTimeoutMs
+    ) {
+        this.lockHelper = lockHelper;
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    public List<Weather> execute(UUID locationId, Supplier<List<Weather>> loader) {
+        CompletableFuture<List<Weather>> mine = new CompletableFuture<>();
+        CompletableFuture<List<Weather>> running = inFlight.putIfAbsent(locationId, mine);
+        if (running != null) {
+            return awaitShared(locationId, running);
+        }
+
+        try {
+            List<Weather> result = runClusterWide(locationId, loader);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(locationId, mine);
+        }
+    }
+
+    private List<Weather> runClusterWide(UUID locationId, Supplier<List<Weather>> loader) {
+        String lockKey = LOCK_KEY_PREFIX + locationId;
+
+        String token;
+        try {
+            token = lockHelper.acquire(lockKey, lockTtl);
+        } catch (RuntimeException e) {
+            // Redis 장애 시 JVM 내부 합치기만으로 진행
+            log.warn("[weather-fetch] redis lock unavailable, fetching locally. location={}", locationId, e);
+            return loader.get();
+        }
+
+        if (token == null) {
+            waitForRelease(lockKey);
+            return List.of();
+        }
+
+        try {
+            return loader.get();
+        } finally {
+            try {
+                lockHelper.release(lockKey, token);
+            } catch (RuntimeException e) {
+                log.warn("[weather-fetch] failed to release lock. key={}", lockKey, e);
+            }
+        }
+    }
+
+    private List<Weather> awaitShared(UUID locationId, CompletableFuture<List<Weather>> running) {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("[weather-fetch] shared fetch timed out. location={}", locationId);
+            return List.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void waitForRelease(String lockKey) {
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        try {
+            while (System.currentTimeMillis() < deadline && lockHelper.isHeld(lockKey)) {
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("[weather-fetch] failed to poll lock. key={}", lockKey, e);
+        }
+    }
+}
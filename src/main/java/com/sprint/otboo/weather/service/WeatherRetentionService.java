@@ -0,0 +1,109 @@
+package com.sprint.otboo.weather.service;
+
+import com.sprint.otboo.weather.repository.WeatherPartitionRepository;
+import com.sprint.otboo.weather.repository.WeatherRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 예보 보존 정책.
+ * <p>
+ * - 파티션 환경: 앞으로 쓸 일 파티션을 미리 만들고, 보존 기간이 지난 일 파티션은 통째로 삭제(참조 행은 아카이브).
+ *   weathers를 참조하는 FK가 없으므로 정리 후 끊긴 참조가 있는지 점검한다<br>
+ * - 파티션이 없는 환경(H2 등): 기준 시각 이전 행을 DELETE (참조 행 유지)
+ */
+@Slf4j
+@Service
+public class WeatherRetentionService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final WeatherPartitionRepository partitionRepository;
+    private final WeatherRepository weatherRepository;
+    private final int retentionDays;
+    private final int aheadDays;
+
+    public WeatherRetentionService(
+        WeatherPartitionRepository partitionRepository,
+        WeatherRepository weatherRepository,
+        @Value("${weather.retention.days:7}") int retentionDays,
+        @Value("${weather.retention.partition-ahead-days:7}") int aheadDays
+    ) {
+        this.partitionRepository = partitionRepository;
+        this.weatherRepository = weatherRepository;
+        this.retentionDays = Math.max(1, retentionDays);
+        this.aheadDays = Math.max(1, aheadDays);
+    }
+
+    /** 기동 직후 수집이 기본 파티션으로 새지 않도록 파티션부터 준비 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareOnStartup() {
+        try {
+            ensureFuturePartitions(today());
+        } catch (RuntimeException e) {
+            log.warn("[weather-retention] partition preparation failed on startup", e);
+        }
+    }
+
+    /** 미래 파티션 생성 + 보존 기간 경과분 정리 */
+    public void runRetention() {
+        LocalDate today = today();
+        LocalDate cutoffDay = today.minusDays(retentionDays);
+
+        int created = ensureFuturePartitions(today);
+
+        int dropped = 0;
+        long removed = 0;
+        if (partitionRepository.isPartitioned()) {
+            for (LocalDate day : partitionRepository.findDailyPartitionDays()) {
+                if (!day.isBefore(cutoffDay)) break;   // 날짜 오름차순
+                partitionRepository.archiveAndDropDailyPartition(day);
+                dropped++;
+            }
+            warnDanglingReferences();
+        } else {
+            Instant cutoff = cutoffDay.atStartOfDay(KST).toInstant();
+            removed = weatherRepository.deletePastForecastsBefore(cutoff);
+        }
+        int summaries = weatherRepository.deleteDailySummariesBefore(cutoffDay);
+
+        log.info("[weather-retention] cutoff={} partitions(created={}, dropped={}) rowsDeleted={} summariesDeleted={}",
+            cutoffDay, created, dropped, removed, summaries);
+    }
+
+    /** FK가 없으므로 아카이브 누락 등으로 예보를 잃은 피드/추천이 생기면 알린다 */
+    private void warnDanglingReferences() {
+        try {
+            long dangling = partitionRepository.countDanglingWeatherReferences();
+            if (dangling > 0) {
+                log.warn("[weather-retention] {} feeds/recommendations reference missing weathers rows", dangling);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[weather-retention] dangling reference check failed", e);
+        }
+    }
+
+    /** 어제 ~ +aheadDays 일 파티션 보장 (예보 구간은 최대 5일) */
+    private int ensureFuturePartitions(LocalDate today) {
+        if (!partitionRepository.isPartitioned()) return 0;
+
+        List<LocalDate> existing = partitionRepository.findDailyPartitionDays();
+        int created = 0;
+        for (LocalDate day = today.minusDays(1); !day.isAfter(today.plusDays(aheadDays)); day = day.plusDays(1)) {
+            if (existing.contains(day)) continue;
+            if (partitionRepository.createDailyPartition(day)) created++;
+        }
+        return created;
+    }
+
+    private static LocalDate today() {
+        return Instant.now().atZone(KST).toLocalDate();
+    }
+}
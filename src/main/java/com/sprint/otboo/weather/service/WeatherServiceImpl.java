@@ -1,5 +1,7 @@
 package com.sprint.otboo.weather.service;
 
+import com.sprint.otboo.weather.cache.WeatherForecastCache;
+import com.sprint.otboo.weather.cache.WeatherLocationGridIndex;
 import com.sprint.otboo.weather.dto.data.WeatherDto;
 import com.sprint.otboo.weather.dto.response.WeatherLocationResponse;
 import com.sprint.otboo.weather.entity.Weather;
@@ -14,29 +16,20 @@ import com.sprint.otboo.weather.mapper.WeatherMapper;
 import com.sprint.otboo.weather.repository.WeatherLocationRepository;
 import com.sprint.otboo.weather.repository.WeatherRepository;
 import java.math.BigDecimal;
-import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.DoubleSummaryStatistics;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.TreeMap;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -45,6 +38,7 @@ public class WeatherServiceImpl implements WeatherService {
 
     private final WeatherLocationQueryService locationQueryService;
     private final WeatherLocationRepository locationRepository;
+    private final WeatherLocationGridIndex gridIndex;
 
     private final WeatherDataClient weatherDataClient;
     private final WindStrengthResolver windStrengthResolver;
@@ -53,188 +47,104 @@ public class WeatherServiceImpl implements WeatherService {
 
     private final WeatherRepository weatherRepository;
     private final WeatherMapper weatherMapper;
+    private final WeatherForecastCache forecastCache;
+    private final WeatherFetchCoalescer fetchCoalescer;
+    private final WeatherSnapshotWriter snapshotWriter;
+    private final WeatherDailySummaryWriter summaryWriter;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     @Override
-    @Transactional
     public List<WeatherDto> getWeather(Double latitude, Double longitude) {
 
         WeatherLocationResponse locDto = locationQueryService.getWeatherLocation(latitude, longitude);
-        WeatherLocation location = resolveLocationEntity(locDto);
 
-        try {
-            // 1) OWM 3시간 예보 수집
-            List<CollectedForecast> collected = weatherDataClient.fetch(
-                locDto.latitude(), locDto.longitude(), owmDefaultLocale
-            );
+        // 0) 격자 캐시 조회 (다음 배치 실행 전까지 유효)
+        Optional<List<WeatherDto>> cached = forecastCache.get(locDto.x(), locDto.y());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-            if (collected == null || collected.isEmpty()) {
-                log.warn("OWM returned empty forecast. Falling back to cached data. lat={}, lon={}",
-                    locDto.latitude(), locDto.longitude());
-                List<Weather> material = withFiveDayRangeFromStore(location.getId(), List.of());
-                return toTop5Dtos(material);
-            }
+        WeatherLocation location = resolveLocationEntity(locDto);
 
-            // 2) 날짜별 일 최저/최고 집계 (KST)
-            ZoneId zone = KST;
-            Map<LocalDate, OwmForecastDailyAggregator.DailyTemperature> dailyMap =
-                OwmForecastDailyAggregator.aggregate(collected, zone);
+        // 0-1) 배치가 미리 계산한 일자별 대표(요약)가 최신이면 업스트림 호출 생략
+        List<Weather> summarized = findDailyRepresentatives(location.getId());
+        if (forecastCache.isFresh(latestForecastedAt(summarized))) {
+            List<WeatherDto> dtos = toDtos(summarized);
+            forecastCache.put(locDto.x(), locDto.y(), dtos);
+            return dtos;
+        }
 
-            // 3) 요청 스코프 어셈블러
-            OwmForecastAssembler owmAssembler = new OwmForecastAssembler(
-                owmProps.probabilityPercent(), windStrengthResolver, dailyMap, zone
+        try {
+            // 1) 동일 위치 동시 요청은 수집 1건으로 합침 (JVM 내부 + Redis 락)
+            //    리더가 스냅샷과 요약을 모두 커밋한 뒤 반환하므로 이후에는 재조회만 한다
+            List<Weather> persisted = fetchCoalescer.execute(
+                location.getId(), () -> collectAndPersist(location, locDto)
             );
 
-            // 4) 엔티티 변환
-            Instant ingestedAt = Instant.now();
-            List<Weather> rawSnapshots = collected.stream()
-                .map(cf -> owmAssembler.toEntity(location, cf, ingestedAt))
-                .toList();
-
-            // 5) 중복 방지 저장
-            List<Weather> persisted = persistDedup(location.getId(), rawSnapshots);
-
-            // 6) 어제~+4일 구간 로드(Δ 계산 위해 전일 포함)
-            List<Weather> material = withFiveDayRangeFromStore(location.getId(), persisted);
+            List<Weather> reloaded = findDailyRepresentatives(location.getId());
+            if (reloaded.isEmpty()) {
+                return toDtos(summarized);
+            }
 
-            // 7) 일자별 대표 및 ΔT/Δ습도 계산 → DB 반영 + DTO 반환
-            return toTop5Dtos(material);
+            List<WeatherDto> dtos = toDtos(reloaded);
+            if (!persisted.isEmpty()) {
+                forecastCache.put(locDto.x(), locDto.y(), dtos);
+            }
+            return dtos;
 
         } catch (RuntimeException e) {
             log.warn("OWM upstream error. Falling back to cached data. lat={}, lon={}",
                 locDto.latitude(), locDto.longitude(), e);
 
-            List<Weather> material = withFiveDayRangeFromStore(location.getId(), List.of());
-            if (!material.isEmpty()) {
-                return toTop5Dtos(material);
+            if (!summarized.isEmpty()) {
+                return toDtos(summarized);
             }
             throw e;
         }
     }
 
-    /** 어제 00:00(KST) ~ +4일 23:59:59(KST) 구간 캐시 + 최신본만 선별 */
-    private List<Weather> withFiveDayRangeFromStore(UUID locationId, List<Weather> base) {
-        LocalDate todayKst = Instant.now().atZone(KST).toLocalDate();
-        ZonedDateTime fromZdt = todayKst.minusDays(1).atStartOfDay(KST);
-        ZonedDateTime toZdt = todayKst.plusDays(4).atTime(23, 59, 59).atZone(KST);
-
-        Instant from = fromZdt.toInstant();
-        Instant to = toZdt.toInstant();
-
-        List<Weather> range = weatherRepository.findRangeOrdered(locationId, from, to);
-
-        List<Weather> merged = new ArrayList<>(base.size() + range.size());
-        merged.addAll(base);
-        merged.addAll(range);
-
-        return pickLatestPerForecastAt(
-            merged.stream()
-                .sorted(Comparator
-                    .comparing(Weather::getForecastAt)
-                    .thenComparing(Weather::getForecastedAt, Comparator.nullsLast(Comparator.reverseOrder()))
-                )
-                .toList()
+    /** OWM 3시간 예보 수집 → 엔티티 변환 → 중복 방지 저장 + 일자별 요약 갱신(각각 별도 트랜잭션 커밋) */
+    private List<Weather> collectAndPersist(WeatherLocation location, WeatherLocationResponse locDto) {
+        List<CollectedForecast> collected = weatherDataClient.fetch(
+            locDto.latitude(), locDto.longitude(), owmDefaultLocale
         );
-    }
-
-    /** 일자별 대표 + ΔT, Δ습도 계산 */
-    private List<Weather> aggregatePerDaySameHour(List<Weather> snapshots) {
-        if (snapshots == null || snapshots.isEmpty()) return List.of();
-
-        LocalDate todayKst = Instant.now().atZone(KST).toLocalDate();
-        int targetHour = Instant.now().atZone(KST).getHour();
-        LocalTime targetTime = LocalTime.of(targetHour, 0);
-
-        List<Weather> futureOrToday = snapshots.stream()
-            .filter(w -> w.getForecastAt() != null)
-            .filter(w -> !w.getForecastAt().atZone(KST).toLocalDate().isBefore(todayKst.minusDays(1)))
-            .sorted(Comparator.comparing(Weather::getForecastAt))
-            .toList();
-        if (futureOrToday.isEmpty()) return List.of();
-
-        Map<LocalDate, List<Weather>> byDay = futureOrToday.stream().collect(Collectors.groupingBy(
-            w -> w.getForecastAt().atZone(KST).toLocalDate(),
-            TreeMap::new,
-            Collectors.toList()
-        ));
 
-        Map<LocalDate, double[]> minMaxByDay = new LinkedHashMap<>();
-        Map<LocalDate, Weather> repByDay = new LinkedHashMap<>();
-
-        for (Map.Entry<LocalDate, List<Weather>> e : byDay.entrySet()) {
-            LocalDate day = e.getKey();
-            List<Weather> ws = e.getValue();
-
-            DoubleSummaryStatistics stat = ws.stream()
-                .map(Weather::getCurrentC)
-                .filter(Objects::nonNull)
-                .mapToDouble(Double::doubleValue)
-                .summaryStatistics();
-            double min = stat.getCount() > 0 ? stat.getMin() : 0.0;
-            double max = stat.getCount() > 0 ? stat.getMax() : 0.0;
-            minMaxByDay.put(day, new double[]{min, max});
-
-            Weather exact = ws.stream()
-                .filter(w -> {
-                    LocalTime lt = w.getForecastAt().atZone(KST).toLocalTime();
-                    return lt.getHour() == targetHour && lt.getMinute() == 0;
-                })
-                .findFirst().orElse(null);
-
-            Weather rep = (exact != null) ? exact
-                : ws.stream()
-                    .min(Comparator.comparingLong(w -> {
-                        LocalTime lt = w.getForecastAt().atZone(KST).toLocalTime();
-                        return Math.abs(Duration.between(lt, targetTime).toMinutes());
-                    }))
-                    .orElse(ws.get(0));
-
-            repByDay.put(day, rep);
+        if (collected == null || collected.isEmpty()) {
+            log.warn("OWM returned empty forecast. Falling back to cached data. lat={}, lon={}",
+                locDto.latitude(), locDto.longitude());
+            return List.of();
         }
 
-        List<LocalDate> days = new ArrayList<>(repByDay.keySet());
-        List<Weather> result = new ArrayList<>(days.size());
-
-        Double prevTemp = null;
-        Double prevHumidity = null;
-
-        for (LocalDate day : days) {
-            Weather rep = repByDay.get(day);
-            double[] mm = minMaxByDay.get(day);
+        // 날짜별 일 최저/최고 집계 (KST) → 요청 스코프 어셈블러
+        Map<LocalDate, OwmForecastDailyAggregator.DailyTemperature> dailyMap =
+            OwmForecastDailyAggregator.aggregate(collected, KST);
 
-            Double currentTemp = rep.getCurrentC();
-            Double comparedTemp = (prevTemp != null && currentTemp != null)
-                ? currentTemp - prevTemp : null;
-            prevTemp = currentTemp;
-
-            Double currentHumidity = rep.getCurrentPct();
-            Double comparedHumidity = (prevHumidity != null && currentHumidity != null)
-                ? currentHumidity - prevHumidity : null;
-            prevHumidity = currentHumidity;
+        OwmForecastAssembler owmAssembler = new OwmForecastAssembler(
+            owmProps.probabilityPercent(), windStrengthResolver, dailyMap, KST
+        );
 
-            Weather enriched = rep.toBuilder()
-                .minC(mm[0])
-                .maxC(mm[1])
-                .comparedC(comparedTemp)
-                .comparedPct(comparedHumidity)
-                .build();
+        Instant ingestedAt = Instant.now();
+        List<Weather> rawSnapshots = collected.stream()
+            .map(cf -> owmAssembler.toEntity(location, cf, ingestedAt))
+            .toList();
 
-            result.add(enriched);
-        }
+        List<Weather> persisted = snapshotWriter.persistDedup(location.getId(), rawSnapshots);
 
-        return result;
+        // 모두 이미 있던 발표본이어도 요약이 없을 수 있으므로(배치 이전 데이터) 항상 갱신
+        summaryWriter.refreshAndCommit(location.getId());
+        return persisted;
     }
 
-    /** 대표 행을 DB에도 반영 */
-    private List<WeatherDto> toTop5Dtos(List<Weather> material) {
-        List<Weather> dailyRepresentatives = aggregatePerDaySameHour(material);
-
-        // comparedC/comparedPct/minC/maxC 저장
-        if (!dailyRepresentatives.isEmpty()) {
-            weatherRepository.saveAll(dailyRepresentatives);
-        }
+    /** 어제(KST)부터 현재 시각(KST 시) 기준 날짜별 대표 행 → 요약 테이블 단건 인덱스 조회 */
+    private List<Weather> findDailyRepresentatives(UUID locationId) {
+        ZonedDateTime nowKst = Instant.now().atZone(KST);
+        return weatherRepository.findDailyRepresentatives(
+            locationId, nowKst.getHour(), nowKst.toLocalDate().minusDays(1)
+        );
+    }
 
+    private List<WeatherDto> toDtos(List<Weather> dailyRepresentatives) {
         List<Weather> top5 = dailyRepresentatives.size() > 5
             ? dailyRepresentatives.subList(0, 5)
             : dailyRepresentatives;
@@ -242,64 +152,20 @@ public class WeatherServiceImpl implements WeatherService {
         return top5.stream().map(weatherMapper::toWeatherDto).toList();
     }
 
-    private static List<Weather> pickLatestPerForecastAt(List<Weather> ordered) {
-        List<Weather> result = new ArrayList<>();
-        Instant currentKey = null;
-        for (Weather w : ordered) {
-            if (!Objects.equals(currentKey, w.getForecastAt())) {
-                result.add(w);
-                currentKey = w.getForecastAt();
-            }
-        }
-        return result;
-    }
-
-    private List<Weather> persistDedup(UUID locationId, List<Weather> snapshots) {
-        if (snapshots.isEmpty()) return List.of();
-
-        Instant minAt = snapshots.stream()
-            .map(Weather::getForecastAt)
-            .filter(Objects::nonNull)
-            .min(Comparator.naturalOrder())
-            .orElse(Instant.now());
-
-        Instant maxAt = snapshots.stream()
-            .map(Weather::getForecastAt)
+    private static Instant latestForecastedAt(List<Weather> snapshots) {
+        return snapshots.stream()
+            .map(Weather::getForecastedAt)
             .filter(Objects::nonNull)
             .max(Comparator.naturalOrder())
-            .orElse(Instant.now());
-
-        List<Weather> existed = weatherRepository
-            .findAllByLocationIdAndForecastAtBetweenOrderByForecastAtAscForecastedAtDesc(locationId, minAt, maxAt);
-
-        Set<String> existedKeys = existed.stream()
-            .map(w -> key(w.getForecastAt(), w.getForecastedAt()))
-            .collect(Collectors.toSet());
-
-        List<Weather> toSave = snapshots.stream()
-            .filter(w -> !existedKeys.contains(key(w.getForecastAt(), w.getForecastedAt())))
-            .toList();
-
-        if (!toSave.isEmpty()) {
-            try {
-                weatherRepository.saveAll(toSave);
-                weatherRepository.deleteOlderVersionsInRange(locationId, minAt, maxAt);
-            } catch (DataIntegrityViolationException e) {
-                log.warn("Concurrent insert detected during persistDedup: {}", e.getMessage());
-            }
-        }
-
-        List<Weather> persisted = new ArrayList<>(existed.size() + toSave.size());
-        persisted.addAll(existed);
-        persisted.addAll(toSave);
-        return persisted;
-    }
-
-    private static String key(Instant forecastAt, Instant forecastedAt) {
-        return forecastAt.toString() + "|" + (forecastedAt != null ? forecastedAt.toString() : "");
+            .orElse(null);
     }
 
     private WeatherLocation resolveLocationEntity(WeatherLocationResponse dto) {
+        // 격자 인덱스에 있으면 ID만으로 참조(프록시) → DB 왕복 없음
+        Optional<WeatherLocationGridIndex.Cell> cell = gridIndex.find(dto.x(), dto.y());
+        if (cell.isPresent()) {
+            return locationRepository.getReferenceById(cell.get().locationId());
+        }
         return locationRepository.findFirstByXAndY(dto.x(), dto.y())
             .orElseGet(() -> locationRepository.findFirstByLatitudeAndLongitude(
                 BigDecimal.valueOf(dto.latitude()),
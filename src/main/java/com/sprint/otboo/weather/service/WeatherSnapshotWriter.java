@@ -0,0 +1,72 @@
+package com.sprint.otboo.weather.service;
+
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.repository.WeatherRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 예보 스냅샷 중복 방지 저장.
+ * <p>
+ * 기존 행을 읽어 비교하지 않고 {@code INSERT ... ON CONFLICT DO NOTHING} JDBC 배치로 저장한다.
+ * 중복 판정은 uq_weathers_loc_target_ver 제약이 보장하며, 이전 발표본 정리는 배치 잡에서 한 번에 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherSnapshotWriter {
+
+    private final WeatherRepository weatherRepository;
+
+    /**
+     * 별도 트랜잭션(REQUIRES_NEW)으로 커밋하므로, 호출이 끝나면 다른 요청/인스턴스에서도 바로 조회된다.
+     * @return 새로 저장된 스냅샷(id 포함). 모두 이미 있었으면 빈 목록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Weather> persistDedup(UUID locationId, List<Weather> snapshots) {
+        if (snapshots.isEmpty()) return List.of();
+
+        try {
+            return insertNew(snapshots);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Insert failed during persistDedup. location={}, cause={}", locationId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 호출자 트랜잭션(배치 청크 등)에 참여해 신규 발표본만 저장한다.
+     * @return 새로 저장한 스냅샷 수
+     */
+    @Transactional
+    public int appendNewVersions(UUID locationId, List<Weather> snapshots) {
+        if (snapshots.isEmpty()) return 0;
+        return insertNew(snapshots).size();
+    }
+
+    private List<Weather> insertNew(List<Weather> snapshots) {
+        Instant now = Instant.now();
+        List<Weather> rows = snapshots.stream()
+            .map(w -> w.toBuilder()
+                .id(UUID.randomUUID())
+                .createdAt(w.getCreatedAt() != null ? w.getCreatedAt() : now)
+                .build())
+            .toList();
+
+        boolean[] inserted = weatherRepository.insertIgnoringDuplicates(rows);
+
+        List<Weather> saved = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (inserted[i]) saved.add(rows.get(i));
+        }
+        return saved;
+    }
+}
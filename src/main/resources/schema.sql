@@ -15,6 +15,7 @@ DROP TABLE IF EXISTS user_profiles CASCADE;
 DROP TABLE IF EXISTS direct_messages CASCADE;
 DROP TABLE IF EXISTS follows CASCADE;
 DROP TABLE IF EXISTS notifications CASCADE;
+DROP TABLE IF EXISTS weather_daily_summaries CASCADE;
 DROP TABLE IF EXISTS weathers CASCADE;
 DROP TABLE IF EXISTS weather_locations CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
@@ -59,9 +60,13 @@ CREATE TABLE IF NOT EXISTS weather_locations
     CONSTRAINT uq_weather_locations_lat_lng UNIQUE (latitude, longitude)
 );
 
+-- forecast_at 기준 일(KST) 단위 범위 파티션. 일 파티션은 애플리케이션(WeatherPartitionRepository)이 미리 만들고,
+-- 보존 기간이 지나면 통째로 DETACH/DROP 한다. PK/유니크 키는 파티션 키(forecast_at)를 포함해야 하므로
+-- weathers(id)를 참조하는 FK(feeds/recommendations.weather_id)는 둘 수 없고, 참조 중인 행은 삭제 전에 아카이브 파티션으로
+-- 옮겨 보존한다. 끊긴 참조가 생기지 않았는지는 보존 작업(WeatherRetentionService)이 매번 점검한다.
 CREATE TABLE IF NOT EXISTS weathers
 (
-    id            UUID PRIMARY KEY,
+    id            UUID        NOT NULL,
     forecasted_at TIMESTAMPTZ NOT NULL,
     forecast_at   TIMESTAMPTZ NOT NULL,
     sky_status    VARCHAR(20) NOT NULL,
@@ -86,8 +91,31 @@ CREATE TABLE IF NOT EXISTS weathers
     CONSTRAINT ck_weathers_hum_range CHECK (current_pct IS NULL OR
                                             (current_pct >= 0 AND current_pct <= 100)),
     CONSTRAINT ck_weathers_wind_nonneg CHECK (speed_ms IS NULL OR speed_ms >= 0),
+    CONSTRAINT pk_weathers PRIMARY KEY (id, forecast_at),
     CONSTRAINT fk_weathers_location FOREIGN KEY (location_id) REFERENCES weather_locations (id) ON DELETE RESTRICT,
     CONSTRAINT uq_weathers_loc_target_ver UNIQUE (location_id, forecast_at, forecasted_at)
+) PARTITION BY RANGE (forecast_at);
+
+-- 기본 파티션: 아직 일 파티션이 없는 구간의 행 (일 파티션을 만들 때 옮겨 담는다)
+CREATE TABLE IF NOT EXISTS weathers_default PARTITION OF weathers DEFAULT;
+
+-- 아카이브: 삭제된 일 파티션 중 추천/피드가 참조하던 행만 남는다.
+-- 상한은 보존 작업이 일 파티션을 삭제할 때마다 그 다음 날 00:00(KST)로 넓힌다
+CREATE TABLE IF NOT EXISTS weathers_archive PARTITION OF weathers
+    FOR VALUES FROM (MINVALUE) TO ('2000-01-01T00:00+09:00');
+
+-- 일자별 대표 예보(배치 산출). 조회 시각(KST 시)별로 날짜마다 대표 행을 가리킨다 (파생 값은 weathers 행에 기록)
+CREATE TABLE IF NOT EXISTS weather_daily_summaries
+(
+    id            UUID PRIMARY KEY,
+    created_at    TIMESTAMPTZ NOT NULL,
+    location_id   UUID        NOT NULL,
+    target_hour   INTEGER     NOT NULL,
+    forecast_date DATE        NOT NULL,
+    weather_id    UUID        NOT NULL,
+    CONSTRAINT ck_weather_daily_summaries_hour CHECK (target_hour BETWEEN 0 AND 23),
+    CONSTRAINT fk_weather_daily_summaries_location FOREIGN KEY (location_id) REFERENCES weather_locations (id) ON DELETE CASCADE,
+    CONSTRAINT uq_weather_daily_summaries_loc_hour_date UNIQUE (location_id, target_hour, forecast_date)
 );
 
 -- 3) User Profiles & OAuth
@@ -105,6 +133,8 @@ CREATE TABLE IF NOT EXISTS user_profiles
     CONSTRAINT fk_user_profiles_user
         FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
 );
+-- 예보 배치 후 추천 예열: 갱신된 격자의 사용자 조회
+CREATE INDEX IF NOT EXISTS idx_user_profiles_grid ON user_profiles (x, y);
 
 -- 4) Clothes
 CREATE TABLE IF NOT EXISTS clothes_attributes_def
@@ -156,9 +186,10 @@ CREATE TABLE IF NOT EXISTS feeds
     author_id     UUID        NOT NULL,
     weather_id    UUID        NOT NULL,
     deleted       BOOLEAN     NOT NULL DEFAULT false,
-    CONSTRAINT fk_feeds_author FOREIGN KEY (author_id) REFERENCES users (id) ON DELETE CASCADE,
-    CONSTRAINT fk_feeds_weather FOREIGN KEY (weather_id) REFERENCES weathers (id)
+    -- weather_id: 파티션 테이블이라 FK 없음 (보존 작업이 참조 행을 아카이브)
+    CONSTRAINT fk_feeds_author FOREIGN KEY (author_id) REFERENCES users (id) ON DELETE CASCADE
 );
+CREATE INDEX IF NOT EXISTS idx_feeds_weather ON feeds (weather_id);
 
 CREATE TABLE IF NOT EXISTS comments
 (
@@ -199,9 +230,10 @@ CREATE TABLE IF NOT EXISTS recommendations
     user_id    UUID        NOT NULL,
     weather_id UUID        NOT NULL,
     created_at TIMESTAMPTZ NOT NULL,
-    CONSTRAINT fk_recommendations_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
-    CONSTRAINT fk_recommendations_weather FOREIGN KEY (weather_id) REFERENCES weathers (id)
+    -- weather_id: 파티션 테이블이라 FK 없음 (보존 작업이 참조 행을 아카이브)
+    CONSTRAINT fk_recommendations_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
 );
+CREATE INDEX IF NOT EXISTS idx_recommendations_weather ON recommendations (weather_id);
 
 CREATE TABLE IF NOT EXISTS recommendation_clothes
 (
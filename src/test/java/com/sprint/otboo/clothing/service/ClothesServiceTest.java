@@ -19,6 +19,7 @@ import com.sprint.otboo.clothing.entity.Clothes;
 import com.sprint.otboo.clothing.entity.ClothesAttribute;
 import com.sprint.otboo.clothing.entity.ClothesAttributeDef;
 import com.sprint.otboo.clothing.entity.ClothesType;
+import com.sprint.otboo.clothing.event.ClothesChangedEvent;
 import com.sprint.otboo.clothing.exception.ClothesValidationException;
 import com.sprint.otboo.clothing.mapper.ClothesAttributeMapper;
 import com.sprint.otboo.clothing.mapper.ClothesMapper;
@@ -48,6 +49,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,6 +71,9 @@ public class ClothesServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ClothesServiceImpl clothesService;
 
@@ -117,7 +122,8 @@ public class ClothesServiceTest {
             new TestClothesAttributeMapper(),
             fileStorageService,
             userRepository,
-            defRepository
+            defRepository,
+            eventPublisher
         );
     }
 
@@ -581,8 +587,9 @@ public class ClothesServiceTest {
         // when: 서비스 메서드 호출
         clothesService.deleteClothes(clothesId);
 
-        // then: delete 메서드가 정확히 한 번 호출되었는지 검증
+        // then: delete 메서드가 정확히 한 번 호출되고, 소유자 옷장 변경 이벤트 발행
         verify(clothesRepository, times(1)).delete(clothes);
+        verify(eventPublisher).publishEvent(new ClothesChangedEvent(user.getId()));
     }
 
     @Test
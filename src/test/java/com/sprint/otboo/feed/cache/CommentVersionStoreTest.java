@@ -0,0 +1,68 @@
+package com.sprint.otboo.feed.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentVersionStore 테스트")
+class CommentVersionStoreTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private CommentVersionStore store;
+
+    private final UUID feedId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        store = new CommentVersionStore(redisTemplate);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    void 댓글이_바뀐_적_없으면_0을_반환한다() {
+        // given
+        given(valueOperations.get(CommentVersionStore.key(feedId))).willReturn(null);
+
+        // when
+        long version = store.current(feedId);
+
+        // then
+        assertThat(version).isZero();
+    }
+
+    @Test
+    void Redis_조회_실패시_UNKNOWN을_반환한다() {
+        // given
+        given(valueOperations.get(CommentVersionStore.key(feedId)))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        long version = store.current(feedId);
+
+        // then
+        assertThat(version).isEqualTo(CommentVersionStore.UNKNOWN);
+    }
+
+    @Test
+    void 댓글이_바뀌면_피드_version을_올린다() {
+        // when
+        store.bump(feedId);
+
+        // then
+        then(valueOperations).should().increment("comment:version:" + feedId);
+    }
+}
@@ -56,7 +56,7 @@ class FeedControllerReadTest {
             false, 2L, "createdAt", "DESCENDING");
 
         given(feedService.getFeeds(any(), any(), anyInt(), anyString(), anyString(),
-            any(), any(), any(), any()))
+            any(), any(), any(), any(), any()))
             .willReturn(resp);
 
         // When & Then
@@ -99,7 +99,7 @@ class FeedControllerReadTest {
 
         given(feedService.getFeeds(
             any(), any(), anyInt(), anyString(), anyString(),
-            any(), any(), any(), any()
+            any(), any(), any(), any(), any()
         )).willReturn(resp);
 
         // When & Then
@@ -147,7 +147,7 @@ class FeedControllerReadTest {
             "DESCENDING"
         );
         given(feedService.getFeeds(any(), any(), anyInt(), anyString(), anyString(),
-            any(), any(), any(), any()))
+            any(), any(), any(), any(), any()))
             .willReturn(resp);
 
         // When & Then
@@ -175,7 +175,7 @@ class FeedControllerReadTest {
     void limit가_0이면_400을_반환한다() throws Exception {
         // Given
         given(feedService.getFeeds(any(), any(), anyInt(), anyString(), anyString(),
-            any(), any(), any(), any()))
+            any(), any(), any(), any(), any()))
             .willThrow(new InvalidPagingParamException(ErrorCode.INVALID_PAGING_LIMIT));
 
         // When & Then
@@ -195,7 +195,7 @@ class FeedControllerReadTest {
     void sortBy가_지원되지_않으면_400을_반환한다() throws Exception {
         // Given
         given(feedService.getFeeds(any(), any(), anyInt(), anyString(), anyString(),
-            any(), any(), any(), any()))
+            any(), any(), any(), any(), any()))
             .willThrow(new InvalidPagingParamException(ErrorCode.INVALID_SORT_BY));
 
         // When & Then
@@ -215,7 +215,7 @@ class FeedControllerReadTest {
     void sortDirection이_지원되지_않으면_400을_반환한다() throws Exception {
         // Given
         given(feedService.getFeeds(any(), any(), anyInt(), anyString(), anyString(),
-            any(), any(), any(), any()))
+            any(), any(), any(), any(), any()))
             .willThrow(new InvalidPagingParamException(ErrorCode.INVALID_SORT_DIRECTION));
 
         // When & Then
@@ -0,0 +1,73 @@
+package com.sprint.otboo.feed.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FeedLikeCounter 테스트")
+class FeedLikeCounterTest {
+
+    private final FeedLikeCounter counter = new FeedLikeCounter();
+    private final UUID feedId = UUID.randomUUID();
+
+    @Test
+    void drain하면_누적된_증감을_반환하고_0으로_초기화한다() {
+        // given
+        counter.add(feedId, 1);
+        counter.add(feedId, 1);
+        counter.add(feedId, -1);
+
+        // when
+        Map<UUID, Long> drained = counter.drain();
+
+        // then
+        assertThat(drained).containsEntry(feedId, 1L).hasSize(1);
+        assertThat(counter.pending(feedId)).isZero();
+        assertThat(counter.drain()).isEmpty();
+    }
+
+    @Test
+    void 동시에_누적해도_증감이_유실되지_않는다() throws InterruptedException {
+        // given
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // when: 누적과 drain을 섞어서 실행
+        long drainedSum = 0;
+        for (int i = 0; i < 8; i++) {
+            pool.submit(() -> {
+                for (int j = 0; j < 10_000; j++) counter.add(feedId, 1);
+            });
+        }
+        for (int i = 0; i < 50; i++) {
+            drainedSum += counter.drain().getOrDefault(feedId, 0L);
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        drainedSum += counter.drain().getOrDefault(feedId, 0L);
+        drainedSum += counter.drain().getOrDefault(feedId, 0L);
+
+        // then
+        assertThat(drainedSum).isEqualTo(80_000L);
+    }
+
+    @Test
+    void restore하면_다음_drain에_다시_포함된다() {
+        // given
+        counter.add(feedId, 3);
+        Map<UUID, Long> drained = counter.drain();
+
+        // when: DB 반영 실패
+        counter.restore(drained);
+        counter.add(feedId, 1);
+
+        // then
+        assertThat(counter.pending(feedId)).isEqualTo(4L);
+        assertThat(counter.drain()).containsEntry(feedId, 4L);
+    }
+}
@@ -5,12 +5,16 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 import com.sprint.otboo.common.dto.CursorPageResponse;
 import com.sprint.otboo.common.exception.feed.FeedNotFoundException;
 import com.sprint.otboo.common.exception.user.UserNotFoundException;
+import com.sprint.otboo.feed.cache.CommentPageCache;
+import com.sprint.otboo.feed.cache.CommentVersionStore;
 import com.sprint.otboo.feed.entity.Comment;
 import com.sprint.otboo.feed.entity.Feed;
+import com.sprint.otboo.feed.event.CommentChangedEvent;
 import com.sprint.otboo.feed.event.FeedCommentedEvent;
 import com.sprint.otboo.feed.mapper.CommentMapper;
 import com.sprint.otboo.feed.repository.CommentRepository;
@@ -35,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -53,6 +58,10 @@ public class CommentServiceTest {
     FeedRepository feedRepository;
     @Mock
     ApplicationEventPublisher eventPublisher;
+    @Mock
+    CommentVersionStore commentVersionStore;
+    @Spy
+    CommentPageCache commentPageCache = new CommentPageCache(60, 100);
 
     @InjectMocks
     CommentServiceImpl commentService;
@@ -102,10 +111,12 @@ public class CommentServiceTest {
             then(userRepository).should().findById(commentAuthorId);
             then(feedRepository).should().findById(feedId);
             then(commentRepository).should().save(any(Comment.class));
+            then(feedRepository).should().incrementCommentCount(feedId);
             then(commentMapper).should().toDto(saved);
             then(eventPublisher).should().publishEvent(new FeedCommentedEvent(
                 feedAuthorId, commentAuthorId, commentId
             ));
+            then(eventPublisher).should().publishEvent(new CommentChangedEvent(feedId));
         }
 
         @Test
@@ -155,6 +166,7 @@ public class CommentServiceTest {
 
             User author = UserFixture.create(UUID.randomUUID(), "홍길동", "profile.png");
             Feed feed = FeedFixture.createWithId(feedId);
+            ReflectionTestUtils.setField(feed, "commentCount", 3L);
 
             Comment c1 = CommentFixture.create(UUID.randomUUID(), author, feed, "첫 댓글", t3);
             Comment c2 = CommentFixture.create(UUID.randomUUID(), author, feed, "둘째 댓글", t2);
@@ -176,8 +188,6 @@ public class CommentServiceTest {
             given(commentRepository.findByFeedId(feedId, null, null, limit))
                 .willReturn(List.of(c1, c2, c3));
 
-            given(commentRepository.countByFeedId(feedId)).willReturn(3L);
-
             given(commentMapper.toDto(c1)).willReturn(d1);
             given(commentMapper.toDto(c2)).willReturn(d2);
 
@@ -188,13 +198,13 @@ public class CommentServiceTest {
             // Then
             assertThat(result.data()).containsExactly(d1, d2);
             assertThat(result.hasNext()).isTrue();
+            assertThat(result.totalCount()).isEqualTo(3L);
 
             assertThat(result.nextCursor()).isEqualTo(c2.getCreatedAt().toString());
             assertThat(result.nextIdAfter()).isEqualTo(c2.getId().toString());
 
             then(feedRepository).should().findById(feedId);
             then(commentRepository).should().findByFeedId(feedId, null, null, limit);
-            then(commentRepository).should().countByFeedId(feedId);
             then(commentMapper).should().toDto(c1);
             then(commentMapper).should().toDto(c2);
             then(commentRepository).shouldHaveNoMoreInteractions();
@@ -212,7 +222,6 @@ public class CommentServiceTest {
             given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
             given(commentRepository.findByFeedId(feedId, null, null, limit))
                 .willReturn(List.of());
-            given(commentRepository.countByFeedId(feedId)).willReturn(0L);
 
             // When
             CursorPageResponse<CommentDto> result =
@@ -226,9 +235,48 @@ public class CommentServiceTest {
 
             then(feedRepository).should().findById(feedId);
             then(commentRepository).should().findByFeedId(feedId, null, null, limit);
-            then(commentRepository).should().countByFeedId(feedId);
             then(commentMapper).shouldHaveNoInteractions();
             then(commentRepository).shouldHaveNoMoreInteractions();
         }
+
+        @Test
+        void 첫_페이지는_댓글_version이_바뀌기_전까지_캐시에서_응답한다() {
+            // Given: 두 번째 조회 이후 다른 인스턴스에서 댓글이 생성되어 version 증가
+            UUID feedId = UUID.randomUUID();
+            int limit = 10;
+
+            given(commentVersionStore.current(feedId)).willReturn(0L, 0L, 1L);
+            given(feedRepository.findById(feedId)).willReturn(Optional.of(FeedFixture.createWithId(feedId)));
+            given(commentRepository.findByFeedId(feedId, null, null, limit)).willReturn(List.of());
+
+            // When
+            CursorPageResponse<CommentDto> first = commentService.getComments(feedId, null, null, limit);
+            CursorPageResponse<CommentDto> second = commentService.getComments(feedId, null, null, limit);
+            commentService.getComments(feedId, null, null, limit);
+
+            // Then
+            assertThat(second).isSameAs(first);
+            then(feedRepository).should(times(2)).findById(feedId);
+            then(commentRepository).should(times(2)).findByFeedId(feedId, null, null, limit);
+        }
+
+        @Test
+        void 댓글_version을_알_수_없으면_캐시를_사용하지_않는다() {
+            // Given: Redis 장애
+            UUID feedId = UUID.randomUUID();
+            int limit = 10;
+
+            given(commentVersionStore.current(feedId)).willReturn(CommentVersionStore.UNKNOWN);
+            given(feedRepository.findById(feedId)).willReturn(Optional.of(FeedFixture.createWithId(feedId)));
+            given(commentRepository.findByFeedId(feedId, null, null, limit)).willReturn(List.of());
+
+            // When
+            commentService.getComments(feedId, null, null, limit);
+            commentService.getComments(feedId, null, null, limit);
+
+            // Then
+            then(commentRepository).should(times(2)).findByFeedId(feedId, null, null, limit);
+            then(commentPageCache).shouldHaveNoInteractions();
+        }
     }
 }
@@ -6,11 +6,16 @@ import static org.mockito.BDDMockito.then;
 
 import com.sprint.otboo.clothing.entity.ClothesType;
 import com.sprint.otboo.common.dto.CursorPageResponse;
+import com.sprint.otboo.feed.counter.FeedLikeCounter;
 import com.sprint.otboo.feed.dto.data.FeedDto;
 import com.sprint.otboo.feed.entity.Feed;
 import com.sprint.otboo.feed.mapper.FeedMapper;
+import com.sprint.otboo.feed.repository.FeedLikeRepository;
 import com.sprint.otboo.feed.repository.FeedRepository;
+import com.sprint.otboo.feedsearch.dto.FeedDoc;
+import com.sprint.otboo.feedsearch.dto.FeedVersion;
 import com.sprint.otboo.feedsearch.repository.FeedSearchRepository;
+import com.sprint.otboo.fixture.FeedDocFixture;
 import com.sprint.otboo.fixture.FeedFixture;
 import com.sprint.otboo.fixture.UserFixture;
 import com.sprint.otboo.fixture.WeatherFixture;
@@ -19,6 +24,7 @@ import com.sprint.otboo.weather.entity.SkyStatus;
 import com.sprint.otboo.weather.entity.Weather;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,7 +35,9 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +50,10 @@ class FeedServiceReadTest {
     FeedSearchRepository esFeedRepository;
     @Mock
     FeedMapper feedMapper;
+    @Mock
+    FeedLikeRepository feedLikeRepository;
+    @Spy
+    FeedLikeCounter feedLikeCounter = new FeedLikeCounter();
     @InjectMocks
     FeedServiceImpl feedService;
 
@@ -125,7 +137,7 @@ class FeedServiceReadTest {
 
             // When
             CursorPageResponse<FeedDto> result =
-                feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null);
+                feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null, null);
 
             // Then
             assertThat(result.totalCount()).isEqualTo(1L);
@@ -172,7 +184,7 @@ class FeedServiceReadTest {
             // When
             CursorPageResponse<FeedDto> result =
                 feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, filterStatus, null,
-                    null);
+                    null, null);
 
             // Then
             assertThat(result.data()).containsExactly(clearDto);
@@ -197,7 +209,7 @@ class FeedServiceReadTest {
             // When
             CursorPageResponse<FeedDto> result =
                 feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, filterStatus, null,
-                    null);
+                    null, null);
 
             // Then
             assertThat(result.data()).isEmpty();
@@ -252,7 +264,7 @@ class FeedServiceReadTest {
 
             // When
             CursorPageResponse<FeedDto> result =
-                feedService.getFeeds(null, null, LIMIT, sortBy, dir, null, null, null, null);
+                feedService.getFeeds(null, null, LIMIT, sortBy, dir, null, null, null, null, null);
 
             // Then
             if ("DESCENDING".equalsIgnoreCase(dir)) {
@@ -297,7 +309,7 @@ class FeedServiceReadTest {
 
             // When
             CursorPageResponse<FeedDto> result =
-                feedService.getFeeds(null, null, LIMIT, sortBy, dir, null, null, null, null);
+                feedService.getFeeds(null, null, LIMIT, sortBy, dir, null, null, null, null, null);
 
             // Then
             if ("DESCENDING".equalsIgnoreCase(dir)) {
@@ -308,4 +320,166 @@ class FeedServiceReadTest {
             assertThat(result.totalCount()).isEqualTo(2L);
         }
     }
+
+    @Nested
+    @DisplayName("검색 문서 기반 조회")
+    class IndexHydrateTests {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(feedService, "hydrateFromIndex", true);
+        }
+
+        @Test
+        void 완전한_문서는_DB_조회_없이_DTO로_변환한다() {
+            // Given
+            FeedDoc first = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            FeedDoc second = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            FeedDto firstDto = newDtoFrom(newFeed(first.id(), "첫번째"), "맑음", "없음", 0L, 0);
+            FeedDto secondDto = newDtoFrom(newFeed(second.id(), "두번째"), "맑음", "없음", 0L, 0);
+
+            given(esFeedRepository.searchDocs(
+                null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null
+            )).willReturn(new CursorPageResponse<>(
+                List.of(first, second), "1", second.id().toString(), true, 0L, SORT_BY, SORT_DIR
+            ));
+            given(esFeedRepository.countByFilters(null, null, null, null)).willReturn(5L);
+            given(feedMapper.toDto(first)).willReturn(firstDto);
+            given(feedMapper.toDto(second)).willReturn(secondDto);
+
+            // When
+            CursorPageResponse<FeedDto> result =
+                feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null, null);
+
+            // Then: 검색 순서 유지, 커서는 검색 결과 그대로
+            assertThat(result.data()).containsExactly(firstDto, secondDto);
+            assertThat(result.nextCursor()).isEqualTo("1");
+            assertThat(result.nextIdAfter()).isEqualTo(second.id().toString());
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.totalCount()).isEqualTo(5L);
+            then(feedRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 불완전한_문서만_DB에서_다시_읽는다() {
+            // Given: 두번째 문서는 작성자 정보가 없는 이전 형식
+            FeedDoc complete = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            FeedDoc base = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            FeedDoc stale = new FeedDoc(base.id(), base.createdAt(), base.updatedAt(), null, base.weather(),
+                base.ootds(), base.content(), base.likeCount(), base.commentCount(), false);
+
+            Feed staleFeed = newFeed(stale.id(), "이전 형식");
+            FeedDto completeDto = newDtoFrom(newFeed(complete.id(), "완전"), "맑음", "없음", 0L, 0);
+            FeedDto staleDto = newDtoFrom(staleFeed, "맑음", "없음", 0L, 0);
+
+            given(esFeedRepository.searchDocs(
+                null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null
+            )).willReturn(new CursorPageResponse<>(
+                List.of(stale, complete), null, null, false, 0L, SORT_BY, SORT_DIR
+            ));
+            given(esFeedRepository.countByFilters(null, null, null, null)).willReturn(2L);
+            given(feedRepository.findAllById(List.of(stale.id()))).willReturn(List.of(staleFeed));
+            given(feedMapper.toDto(staleFeed)).willReturn(staleDto);
+            given(feedMapper.toDto(complete)).willReturn(completeDto);
+
+            // When
+            CursorPageResponse<FeedDto> result =
+                feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null, null);
+
+            // Then
+            assertThat(result.data()).containsExactly(staleDto, completeDto);
+            then(feedRepository).should().findAllById(List.of(stale.id()));
+        }
+
+        @Test
+        void 버전_검사를_켜면_DB보다_오래된_문서는_DB에서_다시_읽고_삭제된_피드는_제외한다() {
+            // Given: 수정 후 아직 재색인되지 않은 문서, 삭제 후 아직 색인에서 빠지지 않은 문서
+            ReflectionTestUtils.setField(feedService, "verifyIndexVersion", true);
+            FeedDoc outdated = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            FeedDoc deleted = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            Feed updatedFeed = newFeed(outdated.id(), "수정된 내용");
+            FeedDto updatedDto = newDtoFrom(updatedFeed, "맑음", "없음", 0L, 0);
+
+            given(esFeedRepository.searchDocs(
+                null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null
+            )).willReturn(new CursorPageResponse<>(
+                List.of(outdated, deleted), null, null, false, 0L, SORT_BY, SORT_DIR
+            ));
+            given(esFeedRepository.countByFilters(null, null, null, null)).willReturn(1L);
+            given(feedRepository.findVersionsByIdIn(List.of(outdated.id(), deleted.id())))
+                .willReturn(List.of(new FeedVersion(outdated.id(), outdated.updatedAt().plusSeconds(30))));
+            given(feedRepository.findAllById(List.of(outdated.id()))).willReturn(List.of(updatedFeed));
+            given(feedMapper.toDto(updatedFeed)).willReturn(updatedDto);
+
+            // When
+            CursorPageResponse<FeedDto> result =
+                feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null, null);
+
+            // Then: 오래된 문서만 DB 값으로 대체, 삭제된 피드는 응답에서 제외
+            assertThat(result.data()).containsExactly(updatedDto);
+            then(feedRepository).should().findAllById(List.of(outdated.id()));
+            then(feedMapper).should().toDto(updatedFeed);
+            then(feedMapper).shouldHaveNoMoreInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 여부 조회")
+    class LikedByMeTests {
+
+        @Test
+        void 조회자가_있으면_페이지_단위로_한_번만_조회한다() {
+            // Given
+            FeedDoc liked = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            FeedDoc notLiked = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            FeedDto likedDto = newDtoFrom(newFeed(liked.id(), "좋아요"), "맑음", "없음", 1L, 0);
+            FeedDto notLikedDto = newDtoFrom(newFeed(notLiked.id(), "기본"), "맑음", "없음", 0L, 0);
+            UUID viewerId = UUID.randomUUID();
+
+            ReflectionTestUtils.setField(feedService, "hydrateFromIndex", true);
+            given(esFeedRepository.searchDocs(
+                null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null
+            )).willReturn(new CursorPageResponse<>(
+                List.of(liked, notLiked), null, null, false, 0L, SORT_BY, SORT_DIR
+            ));
+            given(esFeedRepository.countByFilters(null, null, null, null)).willReturn(2L);
+            given(feedMapper.toDto(liked)).willReturn(likedDto);
+            given(feedMapper.toDto(notLiked)).willReturn(notLikedDto);
+            given(feedLikeRepository.findLikedFeedIds(viewerId, List.of(liked.id(), notLiked.id())))
+                .willReturn(Set.of(liked.id()));
+
+            // When
+            CursorPageResponse<FeedDto> result =
+                feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null, viewerId);
+
+            // Then
+            assertThat(result.data()).extracting(FeedDto::likedByMe).containsExactly(true, false);
+            then(feedLikeRepository).should().findLikedFeedIds(viewerId, List.of(liked.id(), notLiked.id()));
+            then(feedLikeRepository).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        void 아직_반영되지_않은_좋아요_증감을_likeCount에_더한다() {
+            // Given: DB(검색 문서) likeCount는 1, 반영 대기 중인 증감 +2
+            FeedDoc doc = FeedDocFixture.createWithDefault(UUID.randomUUID());
+            FeedDto dto = newDtoFrom(newFeed(doc.id(), "인기"), "맑음", "없음", 1L, 0);
+            feedLikeCounter.add(doc.id(), 2);
+
+            ReflectionTestUtils.setField(feedService, "hydrateFromIndex", true);
+            given(esFeedRepository.searchDocs(
+                null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null
+            )).willReturn(new CursorPageResponse<>(
+                List.of(doc), null, null, false, 0L, SORT_BY, SORT_DIR
+            ));
+            given(esFeedRepository.countByFilters(null, null, null, null)).willReturn(1L);
+            given(feedMapper.toDto(doc)).willReturn(dto);
+
+            // When
+            CursorPageResponse<FeedDto> result =
+                feedService.getFeeds(null, null, LIMIT, SORT_BY, SORT_DIR, null, null, null, null, null);
+
+            // Then
+            assertThat(result.data()).extracting(FeedDto::likeCount).containsExactly(3L);
+        }
+    }
 }
@@ -3,17 +3,16 @@ package com.sprint.otboo.feed.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.sprint.otboo.common.exception.feed.FeedNotFoundException;
 import com.sprint.otboo.common.exception.user.UserNotFoundException;
-import com.sprint.otboo.feed.entity.Feed;
-import com.sprint.otboo.feed.entity.FeedLike;
+import com.sprint.otboo.feed.counter.FeedLikeCounter;
 import com.sprint.otboo.feed.event.FeedLikedEvent;
 import com.sprint.otboo.feed.repository.FeedLikeRepository;
 import com.sprint.otboo.feed.repository.FeedRepository;
-import com.sprint.otboo.user.entity.User;
 import com.sprint.otboo.user.repository.UserRepository;
 import java.time.Instant;
 import java.util.Optional;
@@ -24,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -37,6 +37,8 @@ public class LikeServiceTest {
     private FeedRepository feedRepository;
     @Mock
     private FeedLikeRepository feedLikeRepository;
+    @Spy
+    private FeedLikeCounter feedLikeCounter = new FeedLikeCounter();
     @Mock
     private ApplicationEventPublisher eventPublisher;
     @InjectMocks
@@ -47,39 +49,44 @@ public class LikeServiceTest {
     class FeedLikeCreateTests {
 
         @Test
-        void 좋아요를_등록하면_likeCount가_1_증가한다() {
+        void 좋아요를_등록하면_likeCount_증감이_1_누적된다() {
             // Given
             UUID feedId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
+            UUID authorId = UUID.randomUUID();
 
-            User liker = User.builder().id(userId).build();
-            Feed feed = Feed.builder()
-                .id(feedId)
-                .author(User.builder().id(UUID.randomUUID()).build())
-                .content("hi")
-                .likeCount(0L)
-                .commentCount(0)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .build();
-
-            given(userRepository.findById(userId)).willReturn(Optional.of(liker));
-            given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
-            given(feedLikeRepository.existsByFeedIdAndUserId(feedId, userId)).willReturn(false);
-            given(feedLikeRepository.save(any(FeedLike.class))).willAnswer(
-                inv -> inv.getArgument(0));
+            given(feedRepository.findAuthorIdById(feedId)).willReturn(Optional.of(authorId));
+            given(feedLikeRepository.insertIfAbsent(any(UUID.class), eq(feedId), eq(userId), any(Instant.class)))
+                .willReturn(1);
 
             // When
             likeService.addLike(feedId, userId);
 
-            // Then
-            assertThat(feed.getLikeCount()).isEqualTo(1L);
-            then(feedLikeRepository).shouldHaveNoMoreInteractions();
-            then(feedRepository).should().findById(feedId);
+            // Then: 피드 행은 갱신하지 않고 증감만 누적
+            assertThat(feedLikeCounter.pending(feedId)).isEqualTo(1L);
+            then(feedRepository).should().findAuthorIdById(feedId);
             then(feedRepository).shouldHaveNoMoreInteractions();
-            then(userRepository).should().findById(userId);
-            then(userRepository).shouldHaveNoMoreInteractions();
-            then(eventPublisher).should().publishEvent(any(FeedLikedEvent.class));
+            then(userRepository).shouldHaveNoInteractions();
+            then(eventPublisher).should().publishEvent(new FeedLikedEvent(authorId, userId));
+        }
+
+        @Test
+        void 이미_좋아요한_피드면_증감과_알림이_없다() {
+            // Given
+            UUID feedId = UUID.randomUUID();
+            UUID userId = UUID.randomUUID();
+
+            given(feedRepository.findAuthorIdById(feedId)).willReturn(Optional.of(UUID.randomUUID()));
+            given(feedLikeRepository.insertIfAbsent(any(UUID.class), eq(feedId), eq(userId), any(Instant.class)))
+                .willReturn(0);
+            given(userRepository.existsById(userId)).willReturn(true);
+
+            // When
+            likeService.addLike(feedId, userId);
+
+            // Then
+            assertThat(feedLikeCounter.pending(feedId)).isZero();
+            then(eventPublisher).shouldHaveNoInteractions();
         }
 
         @Test
@@ -88,12 +95,13 @@ public class LikeServiceTest {
             UUID feedId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
-            given(feedRepository.findById(feedId)).willReturn(Optional.empty());
+            given(feedRepository.findAuthorIdById(feedId)).willReturn(Optional.empty());
 
             // When / Then
             assertThatThrownBy(() -> likeService.addLike(feedId, userId))
                 .isInstanceOf(FeedNotFoundException.class)
                 .hasMessageContaining("피드를 찾을 수 없습니다.");
+            then(feedLikeRepository).shouldHaveNoInteractions();
         }
 
         @Test
@@ -102,20 +110,15 @@ public class LikeServiceTest {
             UUID feedId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
-            Feed feed = Feed.builder()
-                .id(feedId)
-                .author(User.builder().id(UUID.randomUUID()).build())
-                .content("hi")
-                .likeCount(0L)
-                .commentCount(0L)
-                .build();
-
-            given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            given(feedRepository.findAuthorIdById(feedId)).willReturn(Optional.of(UUID.randomUUID()));
+            given(feedLikeRepository.insertIfAbsent(any(UUID.class), eq(feedId), eq(userId), any(Instant.class)))
+                .willReturn(0);
+            given(userRepository.existsById(userId)).willReturn(false);
 
             // When & Then
             assertThatThrownBy(() -> likeService.addLike(feedId, userId))
                 .isInstanceOf(UserNotFoundException.class);
+            assertThat(feedLikeCounter.pending(feedId)).isZero();
         }
     }
 
@@ -124,39 +127,22 @@ public class LikeServiceTest {
     class FeedLikeDeleteTests {
 
         @Test
-        void 좋아요를_삭제하면_likeCount가_1_감소한다() {
+        void 좋아요를_삭제하면_likeCount_증감이_1_감소한다() {
             // Given
             UUID feedId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
-            User liker = User.builder().id(userId).build();
-            Feed feed = Feed.builder()
-                .id(feedId)
-                .author(User.builder().id(UUID.randomUUID()).build())
-                .content("hi")
-                .likeCount(1L)
-                .commentCount(0)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .build();
-
-            given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
-            given(userRepository.findById(userId)).willReturn(Optional.of(liker));
-            given(feedLikeRepository.existsByFeedIdAndUserId(feedId, userId)).willReturn(true);
             given(feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId)).willReturn(1);
 
             // When
             likeService.removeLike(feedId, userId);
 
             // Then
-            assertThat(feed.getLikeCount()).isEqualTo(0L);
-            then(feedRepository).should().findById(feedId);
-            then(userRepository).should().findById(userId);
-            then(feedLikeRepository).should().existsByFeedIdAndUserId(feedId, userId);
+            assertThat(feedLikeCounter.pending(feedId)).isEqualTo(-1L);
             then(feedLikeRepository).should().deleteByFeedIdAndUserId(feedId, userId);
-            then(feedRepository).shouldHaveNoMoreInteractions();
-            then(userRepository).shouldHaveNoMoreInteractions();
             then(feedLikeRepository).shouldHaveNoMoreInteractions();
+            then(feedRepository).shouldHaveNoInteractions();
+            then(userRepository).shouldHaveNoInteractions();
         }
 
         @Test
@@ -165,14 +151,14 @@ public class LikeServiceTest {
             UUID feedId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
-            given(feedRepository.findById(feedId)).willReturn(Optional.empty());
+            given(feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId)).willReturn(0);
+            given(feedRepository.existsById(feedId)).willReturn(false);
 
             // When & Then
             assertThatThrownBy(() -> likeService.removeLike(feedId, userId))
                 .isInstanceOf(FeedNotFoundException.class)
                 .hasMessageContaining("피드를 찾을 수 없습니다.");
-            then(feedRepository).should().findById(feedId);
-            then(feedLikeRepository).shouldHaveNoMoreInteractions();
+            then(userRepository).shouldHaveNoInteractions();
         }
 
         @Test
@@ -181,27 +167,15 @@ public class LikeServiceTest {
             UUID feedId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
 
-            Feed feed = Feed.builder()
-                .id(feedId)
-                .author(User.builder().id(UUID.randomUUID()).build())
-                .content("hi")
-                .likeCount(1L)
-                .commentCount(0)
-                .createdAt(Instant.now())
-                .updatedAt(Instant.now())
-                .build();
-
-            given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            given(feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId)).willReturn(0);
+            given(feedRepository.existsById(feedId)).willReturn(true);
+            given(userRepository.existsById(userId)).willReturn(false);
 
             // When & Then
             assertThatThrownBy(() -> likeService.removeLike(feedId, userId))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("사용자를 찾을 수 없습니다.");
-            then(feedRepository).should().findById(feedId);
-            then(userRepository).should().findById(userId);
-            then(feedLikeRepository).shouldHaveNoMoreInteractions();
-            then(userRepository).shouldHaveNoMoreInteractions();
+            assertThat(feedLikeCounter.pending(feedId)).isZero();
         }
     }
 }
@@ -0,0 +1,68 @@
+package com.sprint.otboo.feedsearch.batch;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+import com.sprint.otboo.feed.repository.FeedRepository;
+import com.sprint.otboo.feedsearch.dto.FeedCounters;
+import com.sprint.otboo.feedsearch.event.FeedCountersChangedEvent;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedCounterIndexDebouncer 테스트")
+class FeedCounterIndexDebouncerTest {
+
+    @Mock
+    FeedRepository feedRepository;
+    @Mock
+    FeedIndexer feedIndexer;
+    @InjectMocks
+    FeedCounterIndexDebouncer debouncer;
+
+    @Test
+    void 같은_피드의_연속_변경은_한_번의_부분_갱신으로_합쳐진다() throws IOException {
+        // given
+        UUID feedId = UUID.randomUUID();
+        List<FeedCounters> counters = List.of(new FeedCounters(feedId, 1000L, 3L));
+        for (int i = 0; i < 1000; i++) {
+            debouncer.onCountersChanged(new FeedCountersChangedEvent(feedId));
+        }
+        given(feedRepository.findCountersByIdIn(List.of(feedId))).willReturn(counters);
+
+        // when
+        debouncer.flush();
+        debouncer.flush();
+
+        // then: 두 번째 주기에는 변경이 없어 색인하지 않는다
+        then(feedIndexer).should(times(1)).bulkUpdateCounters(counters);
+        then(feedRepository).should(times(1)).findCountersByIdIn(anyList());
+    }
+
+    @Test
+    void 색인에_실패하면_다음_주기에_다시_시도한다() throws IOException {
+        // given
+        UUID feedId = UUID.randomUUID();
+        List<FeedCounters> counters = List.of(new FeedCounters(feedId, 1L, 0L));
+        debouncer.onCountersChanged(new FeedCountersChangedEvent(feedId));
+        given(feedRepository.findCountersByIdIn(List.of(feedId))).willReturn(counters);
+        willThrow(new IOException()).willDoNothing().given(feedIndexer).bulkUpdateCounters(counters);
+
+        // when
+        debouncer.flush();
+        debouncer.flush();
+
+        // then
+        then(feedIndexer).should(times(2)).bulkUpdateCounters(counters);
+    }
+}
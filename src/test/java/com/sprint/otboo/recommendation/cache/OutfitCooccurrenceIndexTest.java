@@ -0,0 +1,125 @@
+package com.sprint.otboo.recommendation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.otboo.clothing.dto.data.OotdDto;
+import com.sprint.otboo.clothing.entity.Clothes;
+import com.sprint.otboo.clothing.entity.ClothesAttribute;
+import com.sprint.otboo.clothing.entity.ClothesAttributeDef;
+import com.sprint.otboo.clothing.entity.ClothesType;
+import com.sprint.otboo.clothing.entity.attribute.Season;
+import com.sprint.otboo.clothing.entity.attribute.Thickness;
+import com.sprint.otboo.recommendation.entity.TemperatureCategory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OutfitCooccurrenceIndex 테스트")
+class OutfitCooccurrenceIndexTest {
+
+    private static final int WINTER_LOW = OutfitCooccurrenceIndex.bucket(Season.WINTER, TemperatureCategory.LOW);
+    private static final int SUMMER_HIGH = OutfitCooccurrenceIndex.bucket(Season.SUMMER, TemperatureCategory.HIGH);
+
+    private final ClothesAttributeDef thicknessDef =
+        ClothesAttributeDef.builder().id(UUID.randomUUID()).name("thickness").build();
+
+    @Test
+    void 이미_고른_의상과_자주_함께_입은_후보를_고른다() {
+        // given: 0 두꺼운 상의 / 1 얇은 아우터 / 2 두꺼운 아우터
+        WardrobeIndex wardrobe = wardrobe(
+            clothes(ClothesType.TOP, Thickness.HEAVY),
+            clothes(ClothesType.OUTER, Thickness.LIGHT),
+            clothes(ClothesType.OUTER, Thickness.HEAVY)
+        );
+        int heavyTop = OutfitCooccurrenceIndex.feature(wardrobe, 0);
+        int lightOuter = OutfitCooccurrenceIndex.feature(wardrobe, 1);
+        int heavyOuter = OutfitCooccurrenceIndex.feature(wardrobe, 2);
+
+        // 얇은 아우터가 단독으로는 더 자주 등장하지만, 두꺼운 상의와는 두꺼운 아우터가 함께 등장
+        OutfitCooccurrenceIndex index = OutfitCooccurrenceIndex.builder()
+            .addFeed(WINTER_LOW, new int[]{heavyTop, heavyOuter})
+            .addFeed(WINTER_LOW, new int[]{heavyTop, heavyOuter})
+            .addFeed(WINTER_LOW, new int[]{lightOuter})
+            .addFeed(WINTER_LOW, new int[]{lightOuter})
+            .addFeed(WINTER_LOW, new int[]{lightOuter})
+            .build(5);
+
+        // when
+        int filled = index.fill(WINTER_LOW, ClothesType.OUTER, wardrobe, new int[]{1, 2},
+            new ArrayList<>(List.of(0)), new Random(1));
+
+        // then
+        assertThat(index.covers(WINTER_LOW)).isTrue();
+        assertThat(index.count(WINTER_LOW, heavyTop, heavyOuter)).isEqualTo(2);
+        assertThat(index.count(WINTER_LOW, lightOuter, lightOuter)).isEqualTo(3);
+        assertThat(filled).isEqualTo(2);
+    }
+
+    @Test
+    void 버킷에_없는_타입은_채우지_않는다() {
+        // given: 여름 피드에는 스카프가 한 번도 없음
+        WardrobeIndex wardrobe = wardrobe(clothes(ClothesType.TOP, Thickness.LIGHT), clothes(ClothesType.SCARF, null));
+        OutfitCooccurrenceIndex index = OutfitCooccurrenceIndex.builder()
+            .addFeed(SUMMER_HIGH, new int[]{OutfitCooccurrenceIndex.feature(wardrobe, 0)})
+            .build(1);
+
+        // when
+        int filled = index.fill(SUMMER_HIGH, ClothesType.SCARF, wardrobe, new int[]{1}, List.of(0), new Random(1));
+
+        // then
+        assertThat(filled).isEqualTo(-1);
+    }
+
+    @Test
+    void 피드가_부족한_버킷은_사용하지_않는다() {
+        // given
+        OutfitCooccurrenceIndex index = OutfitCooccurrenceIndex.builder()
+            .addFeed(WINTER_LOW, new int[]{OutfitCooccurrenceIndex.feature(ClothesType.TOP.ordinal(), 0, 0)})
+            .build(2);
+
+        // then
+        assertThat(index.covers(WINTER_LOW)).isFalse();
+        assertThat(index.covers(SUMMER_HIGH)).isFalse();
+        assertThat(OutfitCooccurrenceIndex.empty().covers(WINTER_LOW)).isFalse();
+    }
+
+    @Test
+    void 키가_많아져도_모든_횟수를_유지한다() {
+        // given: 테이블 확장이 여러 번 일어나도록 서로 다른 특징 조합을 다수 적재
+        OutfitCooccurrenceIndex.Builder builder = OutfitCooccurrenceIndex.builder();
+        for (int type = 0; type < ClothesType.values().length; type++) {
+            for (int season = 0; season < 16; season++) {
+                builder.addFeed(WINTER_LOW, new int[]{
+                    OutfitCooccurrenceIndex.feature(type, season, 1),
+                    OutfitCooccurrenceIndex.feature(type, season, 2)
+                });
+            }
+        }
+        OutfitCooccurrenceIndex index = builder.build(1);
+
+        // then
+        for (int type = 0; type < ClothesType.values().length; type++) {
+            for (int season = 0; season < 16; season++) {
+                int a = OutfitCooccurrenceIndex.feature(type, season, 1);
+                int b = OutfitCooccurrenceIndex.feature(type, season, 2);
+                assertThat(index.count(WINTER_LOW, a, b)).isEqualTo(1);
+                assertThat(index.count(WINTER_LOW, b, b)).isEqualTo(1);
+            }
+        }
+        assertThat(index.feeds(WINTER_LOW)).isEqualTo(ClothesType.values().length * 16);
+    }
+
+    private WardrobeIndex wardrobe(Clothes... clothes) {
+        return WardrobeIndex.of(0L, List.of(clothes), c -> new OotdDto(c.getId(), c.getName(), null, c.getType(), List.of()));
+    }
+
+    private Clothes clothes(ClothesType type, Thickness thickness) {
+        List<ClothesAttribute> attributes = thickness == null
+            ? List.of()
+            : List.of(ClothesAttribute.create(null, thicknessDef, thickness.name()));
+        return Clothes.builder().id(UUID.randomUUID()).name(type.name()).type(type).attributes(attributes).build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.sprint.otboo.recommendation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.sprint.otboo.clothing.entity.ClothesType;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecentRecommendationWindow 테스트")
+class RecentRecommendationWindowTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ZSetOperations<String, String> zSetOperations;
+
+    private RecentRecommendationWindow window;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        window = new RecentRecommendationWindow(redisTemplate, 10);
+    }
+
+    @Test
+    void 기록된_member를_추천_시각_의상_타입으로_복원한다() {
+        // given
+        RecentRecommendation dress = new RecentRecommendation(2_000L, UUID.randomUUID(), ClothesType.DRESS);
+        RecentRecommendation top = new RecentRecommendation(1_000L, UUID.randomUUID(), ClothesType.TOP);
+        LinkedHashSet<String> members = new LinkedHashSet<>(List.of(
+            RecentRecommendationWindow.toMember(dress),
+            "malformed",
+            RecentRecommendationWindow.toMember(top)
+        ));
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore(eq(RecentRecommendationWindow.key(userId)), anyDouble(), anyDouble()))
+            .willReturn(members);
+
+        // when
+        List<RecentRecommendation> recent = window.recent(userId, 3_000L);
+
+        // then: 잘못된 member는 건너뛰고 최신순 유지
+        assertThat(recent).containsExactly(dress, top);
+    }
+
+    @Test
+    void Redis_조회_실패시_빈_윈도우로_처리한다() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore(eq(RecentRecommendationWindow.key(userId)), anyDouble(), anyDouble()))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        List<RecentRecommendation> recent = window.recent(userId, 3_000L);
+
+        // then
+        assertThat(recent).isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+package com.sprint.otboo.recommendation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.otboo.clothing.dto.data.OotdDto;
+import com.sprint.otboo.clothing.entity.Clothes;
+import com.sprint.otboo.clothing.entity.ClothesType;
+import com.sprint.otboo.recommendation.util.RankedSlots;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecommendationResultCache 테스트")
+class RecommendationResultCacheTest {
+
+    private RecommendationResultCache cache;
+    private WardrobeIndex wardrobe;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID weatherId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecommendationResultCache(60, 90, 100);
+        // 0, 1: TOP / 2: BOTTOM / 3: SHOES(순위 밖 Fallback)
+        wardrobe = WardrobeIndex.of(0L, List.of(
+            clothes(ClothesType.TOP), clothes(ClothesType.TOP), clothes(ClothesType.BOTTOM), clothes(ClothesType.SHOES)
+        ), c -> new OotdDto(c.getId(), c.getName(), null, c.getType(), List.of()));
+    }
+
+    @Test
+    void 적중할_때마다_타입별_대안을_순환한다() {
+        // given: TOP 순위 [0, 1], BOTTOM 순위 [2], 최종 추천 [0, 2, 3]
+        RecommendationResultCache.Key key = key(wardrobe.version());
+        cache.put(key, ranked(), new int[]{0, 2, 3});
+
+        // when
+        RecommendationResultCache.Hit first = cache.next(key, wardrobe);
+        RecommendationResultCache.Hit second = cache.next(key, wardrobe);
+
+        // then: TOP만 대안으로 순환, 대안이 없는 BOTTOM과 순위 밖 SHOES는 유지
+        assertThat(first.positions()).containsExactly(1, 2, 3);
+        assertThat(second.positions()).containsExactly(0, 2, 3);
+        assertThat(first.firstShown()).isFalse();
+    }
+
+    @Test
+    void 예열된_결과는_첫_적중에_대표_추천을_반환한다() {
+        // given
+        RecommendationResultCache.Key key = key(wardrobe.version());
+        cache.putPrewarmed(key, ranked(), new int[]{0, 2});
+
+        // when
+        RecommendationResultCache.Hit first = cache.next(key, wardrobe);
+        RecommendationResultCache.Hit second = cache.next(key, wardrobe);
+
+        // then: 첫 적중만 첫 노출로 표시
+        assertThat(cache.contains(key)).isTrue();
+        assertThat(first.positions()).containsExactly(0, 2);
+        assertThat(first.firstShown()).isTrue();
+        assertThat(second.positions()).containsExactly(1, 2);
+        assertThat(second.firstShown()).isFalse();
+    }
+
+    @Test
+    void 옷장_version이_다르면_적중하지_않는다() {
+        // given
+        cache.put(key(wardrobe.version()), ranked(), new int[]{0, 2});
+
+        // when: 의상 변경으로 옷장 version이 올라간 경우
+        RecommendationResultCache.Hit result = cache.next(key(wardrobe.version() + 1), wardrobe);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    private RecommendationResultCache.Key key(long wardrobeVersion) {
+        return new RecommendationResultCache.Key(userId, weatherId, wardrobeVersion, 0);
+    }
+
+    private RankedSlots ranked() {
+        int[][] slots = new int[ClothesType.values().length][];
+        slots[ClothesType.TOP.ordinal()] = new int[]{0, 1};
+        slots[ClothesType.BOTTOM.ordinal()] = new int[]{2};
+        return new RankedSlots(slots);
+    }
+
+    private Clothes clothes(ClothesType type) {
+        return Clothes.builder().id(UUID.randomUUID()).name(type.name()).type(type).build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.sprint.otboo.recommendation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WardrobeVersionStore 테스트")
+class WardrobeVersionStoreTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private WardrobeVersionStore store;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        store = new WardrobeVersionStore(redisTemplate);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    void 사용자_version과_속성_정의_version의_합을_반환한다() {
+        // given: 속성 정의는 바뀐 적 없음
+        given(valueOperations.multiGet(List.of(WardrobeVersionStore.key(userId), WardrobeVersionStore.DEFINITIONS_KEY)))
+            .willReturn(Arrays.asList("3", null));
+
+        // when
+        long version = store.current(userId);
+
+        // then
+        assertThat(version).isEqualTo(3L);
+    }
+
+    @Test
+    void Redis_조회_실패시_UNKNOWN을_반환한다() {
+        // given
+        given(valueOperations.multiGet(List.of(WardrobeVersionStore.key(userId), WardrobeVersionStore.DEFINITIONS_KEY)))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        long version = store.current(userId);
+
+        // then
+        assertThat(version).isEqualTo(WardrobeVersionStore.UNKNOWN);
+    }
+
+    @Test
+    void 의상이_바뀌면_사용자_version을_올린다() {
+        // when
+        store.bump(userId);
+
+        // then
+        then(valueOperations).should().increment(WardrobeVersionStore.key(userId));
+    }
+}
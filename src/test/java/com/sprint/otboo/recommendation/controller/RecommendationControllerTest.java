@@ -333,6 +333,48 @@ public class RecommendationControllerTest {
         assertThat(result).isEqualTo(userId);
     }
 
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void 다일_추천_조회_API_성공() throws Exception {
+        // given: 날씨 2건에 대한 추천 결과
+        UUID userId = UUID.randomUUID();
+        UUID day1 = UUID.randomUUID();
+        UUID day2 = UUID.randomUUID();
+        when(recommendationService.getRecommendations(eq(userId), eq(List.of(day1, day2))))
+            .thenReturn(List.of(
+                new RecommendationDto(day1, userId, List.of()),
+                new RecommendationDto(day2, userId, List.of())
+            ));
+
+        // when: weatherIds로 API 호출
+        ResultActions result = mockMvc.perform(get("/api/recommendations/batch")
+            .param("weatherIds", day1.toString(), day2.toString())
+            .with(user(userId.toString()).roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON));
+
+        // then: 요청 순서대로 날씨별 결과 반환
+        result.andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].weatherId").value(day1.toString()))
+            .andExpect(jsonPath("$[1].weatherId").value(day2.toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void 다일_추천_조회_API_기준_누락_실패() throws Exception {
+        // given: weatherIds, locationId 모두 누락
+        UUID userId = UUID.randomUUID();
+
+        // when: API 호출
+        ResultActions result = mockMvc.perform(get("/api/recommendations/batch")
+            .with(user(userId.toString()).roles("USER"))
+            .contentType(MediaType.APPLICATION_JSON));
+
+        // then: 400 Bad Request
+        result.andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("INVALID_INPUT"));
+    }
+
     @Test
     void extractUserId_알수없는_타입_예외() throws Exception {
         // given: 예상치 못한 타입의 principal
@@ -0,0 +1,123 @@
+package com.sprint.otboo.recommendation.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.otboo.recommendation.repository.RecommendationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationHistoryWriter 테스트")
+class RecommendationHistoryWriterTest {
+
+    @Mock private RecommendationRepository recommendationRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RecommendationHistoryWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) writer.stop();
+    }
+
+    @Test
+    void batch_size만큼_모이면_한_번에_저장한다() {
+        // given: 주기는 길게, 배치 크기 3
+        writer = writer(100, 3, 60_000);
+        writer.start();
+
+        // when
+        writer.enqueue(history());
+        writer.enqueue(history());
+        writer.enqueue(history());
+
+        // then
+        verify(recommendationRepository, timeout(2_000))
+            .insertHistories(argThat(batch -> batch.size() == 3));
+    }
+
+    @Test
+    void 종료시_남은_이력을_저장한다() {
+        // given: 주기/배치 크기 모두 도달하지 않는 설정
+        writer = writer(100, 100, 60_000);
+        writer.start();
+        writer.enqueue(history());
+        writer.enqueue(history());
+
+        // when
+        writer.stop();
+
+        // then
+        verify(recommendationRepository).insertHistories(argThat(batch -> batch.size() == 2));
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(meterRegistry.counter("recommendation.history.written").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 큐가_가득_차면_이력을_버리고_지표에_남긴다() throws Exception {
+        // given: 용량 1, 첫 저장이 끝나지 않도록 대기
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch flushing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await();
+            return null;
+        }).when(recommendationRepository).insertHistories(anyList());
+
+        writer = writer(1, 1, 10);
+        writer.start();
+        writer.enqueue(history());
+        flushing.await();
+
+        // when: 큐 1건 + 초과 1건
+        writer.enqueue(history());
+        writer.enqueue(history());
+
+        // then
+        assertThat(meterRegistry.counter("recommendation.history.dropped").count()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    void 기동_전에는_바로_저장한다() {
+        // given
+        writer = writer(100, 100, 60_000);
+        RecommendationHistory history = history();
+
+        // when
+        writer.enqueue(history);
+
+        // then
+        verify(recommendationRepository).insertHistories(List.of(history));
+    }
+
+    private RecommendationHistoryWriter writer(int capacity, int batchSize, long flushIntervalMs) {
+        return new RecommendationHistoryWriter(
+            recommendationRepository, transactionManager, meterRegistry,
+            capacity, batchSize, flushIntervalMs, 5_000
+        );
+    }
+
+    private RecommendationHistory history() {
+        return new RecommendationHistory(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), Instant.now(), List.of(UUID.randomUUID())
+        );
+    }
+}
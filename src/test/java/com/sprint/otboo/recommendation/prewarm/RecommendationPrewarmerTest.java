@@ -0,0 +1,130 @@
+package com.sprint.otboo.recommendation.prewarm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sprint.otboo.recommendation.service.RecommendationService;
+import com.sprint.otboo.user.entity.UserProfile;
+import com.sprint.otboo.user.repository.UserProfileRepository;
+import com.sprint.otboo.weather.cache.WeatherLocationGridIndex;
+import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import com.sprint.otboo.weather.repository.WeatherLocationRepository;
+import com.sprint.otboo.weather.repository.WeatherRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationPrewarmer 테스트")
+class RecommendationPrewarmerTest {
+
+    @Mock private WeatherLocationRepository locationRepository;
+    @Mock private WeatherLocationGridIndex gridIndex;
+    @Mock private WeatherRepository weatherRepository;
+    @Mock private UserProfileRepository userProfileRepository;
+    @Mock private RecommendationService recommendationService;
+
+    private RecommendationPrewarmer prewarmer;
+
+    private final Instant forecastedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @BeforeEach
+    void setUp() {
+        prewarmer = new RecommendationPrewarmer(
+            locationRepository, gridIndex, weatherRepository, userProfileRepository, recommendationService,
+            true, 1000
+        );
+    }
+
+    @Test
+    void 갱신된_격자의_사용자를_대표_위치의_오늘_날씨로_예열한다() {
+        // given: 같은 격자의 위치 2곳 → 격자 대표 위치 1곳으로 합침
+        UUID representativeId = UUID.randomUUID();
+        when(locationRepository.findRefreshedInUserProfileGrids(forecastedAt))
+            .thenReturn(List.of(location(60, 127), location(60, 127)));
+        when(gridIndex.find(60, 127))
+            .thenReturn(Optional.of(new WeatherLocationGridIndex.Cell(representativeId, null)));
+
+        // 현재/다음 시각 대표 행이 같으면 1건만 예열
+        Weather today = Weather.builder().id(UUID.randomUUID()).forecastAt(Instant.now()).build();
+        when(weatherRepository.findDailyRepresentatives(eq(representativeId), anyInt(), any()))
+            .thenReturn(List.of(today));
+
+        UserProfile profile = UserProfile.builder().userId(UUID.randomUUID()).x(60).y(127).build();
+        when(userProfileRepository.findAllByXAndY(60, 127)).thenReturn(List.of(profile));
+        when(recommendationService.prewarm(profile.getUserId(), 0, today)).thenReturn(true);
+
+        // when
+        int warmed = prewarmer.prewarm(forecastedAt);
+
+        // then: 온도 민감도 미설정은 0으로 예열
+        assertThat(warmed).isEqualTo(1);
+        verify(recommendationService, times(1)).prewarm(any(), anyInt(), any());
+    }
+
+    @Test
+    void 사용자별_실패는_건너뛰고_나머지를_예열한다() {
+        // given
+        WeatherLocation location = location(98, 76);
+        when(locationRepository.findRefreshedInUserProfileGrids(forecastedAt)).thenReturn(List.of(location));
+        when(gridIndex.find(98, 76)).thenReturn(Optional.empty());
+
+        Weather today = Weather.builder().id(UUID.randomUUID()).forecastAt(Instant.now()).build();
+        when(weatherRepository.findDailyRepresentatives(eq(location.getId()), anyInt(), any()))
+            .thenReturn(List.of(today));
+
+        UserProfile failing = UserProfile.builder().userId(UUID.randomUUID()).temperatureSensitivity(2).build();
+        UserProfile ok = UserProfile.builder().userId(UUID.randomUUID()).temperatureSensitivity(3).build();
+        when(userProfileRepository.findAllByXAndY(98, 76)).thenReturn(List.of(failing, ok));
+        when(recommendationService.prewarm(failing.getUserId(), 2, today)).thenThrow(new IllegalStateException("boom"));
+        when(recommendationService.prewarm(ok.getUserId(), 3, today)).thenReturn(true);
+
+        // when
+        int warmed = prewarmer.prewarm(forecastedAt);
+
+        // then
+        assertThat(warmed).isEqualTo(1);
+    }
+
+    @Test
+    void 오늘_예보가_없는_격자는_사용자를_조회하지_않는다() {
+        // given: 대표 행이 내일 예보뿐
+        WeatherLocation location = location(55, 124);
+        when(locationRepository.findRefreshedInUserProfileGrids(forecastedAt)).thenReturn(List.of(location));
+        when(gridIndex.find(55, 124)).thenReturn(Optional.empty());
+
+        Weather tomorrow = Weather.builder().id(UUID.randomUUID()).forecastAt(Instant.now().plus(1, ChronoUnit.DAYS)).build();
+        when(weatherRepository.findDailyRepresentatives(eq(location.getId()), anyInt(), any()))
+            .thenReturn(List.of(tomorrow));
+
+        // when
+        int warmed = prewarmer.prewarm(forecastedAt);
+
+        // then
+        assertThat(warmed).isZero();
+        verify(userProfileRepository, never()).findAllByXAndY(any(), any());
+    }
+
+    private WeatherLocation location(int x, int y) {
+        WeatherLocation location = WeatherLocation.builder().build();
+        location.setId(UUID.randomUUID());
+        location.setX(x);
+        location.setY(y);
+        return location;
+    }
+}
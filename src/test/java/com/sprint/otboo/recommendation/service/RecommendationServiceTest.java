@@ -5,27 +5,39 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyDouble;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.sprint.otboo.clothing.dto.data.ClothesAttributeWithDefDto;
 import com.sprint.otboo.clothing.dto.data.OotdDto;
 import com.sprint.otboo.clothing.entity.Clothes;
 import com.sprint.otboo.clothing.entity.ClothesAttribute;
+import com.sprint.otboo.clothing.entity.ClothesAttributeDef;
 import com.sprint.otboo.clothing.entity.ClothesType;
 import com.sprint.otboo.clothing.entity.attribute.Season;
-import com.sprint.otboo.clothing.repository.ClothesRepository;
+import com.sprint.otboo.clothing.entity.attribute.Thickness;
+import com.sprint.otboo.common.exception.CustomException;
+import com.sprint.otboo.common.exception.ErrorCode;
+import com.sprint.otboo.recommendation.cache.OutfitCooccurrenceCache;
+import com.sprint.otboo.recommendation.cache.OutfitCooccurrenceIndex;
+import com.sprint.otboo.recommendation.cache.RecentRecommendation;
+import com.sprint.otboo.recommendation.cache.RecentRecommendationWindow;
+import com.sprint.otboo.recommendation.cache.RecommendationResultCache;
+import com.sprint.otboo.recommendation.cache.WardrobeIndex;
+import com.sprint.otboo.recommendation.cache.WardrobeIndexCache;
+import com.sprint.otboo.recommendation.cache.WardrobeVersionStore;
 import com.sprint.otboo.recommendation.dto.data.RecommendationDto;
-import com.sprint.otboo.recommendation.entity.Recommendation;
-import com.sprint.otboo.recommendation.entity.RecommendationClothes;
 import com.sprint.otboo.recommendation.entity.TemperatureCategory;
-import com.sprint.otboo.recommendation.mapper.RecommendationMapper;
-import com.sprint.otboo.recommendation.repository.RecommendationRepository;
+import com.sprint.otboo.recommendation.event.RecommendationCreatedEvent;
+import com.sprint.otboo.recommendation.history.RecommendationHistoryWriter;
+import com.sprint.otboo.recommendation.util.RankedSlots;
 import com.sprint.otboo.recommendation.util.RecommendationEngine;
 import com.sprint.otboo.recommendation.util.WeatherUtils;
 import com.sprint.otboo.user.entity.User;
@@ -38,38 +50,52 @@ import com.sprint.otboo.weather.entity.WindStrength;
 import com.sprint.otboo.weather.repository.WeatherRepository;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("의상 추천 서비스 테스트")
 public class RecommendationServiceTest {
 
     @Mock
-    private RecommendationRepository recommendationRepository;
+    private WeatherRepository weatherRepository;
 
     @Mock
-    private RecommendationMapper recommendationMapper;
+    private UserProfileRepository userProfileRepository;
 
     @Mock
-    private ClothesRepository clothesRepository;
+    private RecommendationEngine recommendationEngine;
 
     @Mock
-    private WeatherRepository weatherRepository;
+    private WardrobeIndexCache wardrobeIndexCache;
 
     @Mock
-    private UserProfileRepository userProfileRepository;
+    private RecommendationResultCache recommendationResultCache;
+
+    @Spy
+    private OutfitCooccurrenceCache outfitCooccurrenceCache = new OutfitCooccurrenceCache();
 
     @Mock
-    private RecommendationEngine recommendationEngine;
+    private RecentRecommendationWindow recentRecommendationWindow;
+
+    @Mock
+    private RecommendationHistoryWriter historyWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private RecommendationServiceImpl recommendationService;
@@ -107,32 +133,13 @@ public class RecommendationServiceTest {
             .type(ClothesType.TOP)
             .build();
 
-        // clothesRepository stub
-        when(clothesRepository.findByUserIdWithAttributes(any(UUID.class)))
-            .thenReturn(List.of(clothes));
-
-        UserProfile profile = UserProfile.builder()
-            .userId(userId)
-            .user(User.builder().id(userId).build())
-            .temperatureSensitivity(0)
-            .build();
-
-        // userProfileRepository stub
-        when(userProfileRepository.findByUserId(any(UUID.class)))
-            .thenReturn(Optional.of(profile));
-
-        // recommendationEngine stub
-        when(recommendationEngine.recommend(anyList(), anyDouble(), any(Weather.class), anyBoolean()))
-            .thenReturn(List.of(clothes));
-
-        // Mapper stub
+        // 옷장 인덱스 stub (응답 DTO 포함)
         ClothesAttributeWithDefDto attrDto = new ClothesAttributeWithDefDto(
             UUID.randomUUID(),
             "Color",
             List.of("Red", "Blue"),
             "Red"
         );
-
         OotdDto ootdDto = new OotdDto(
             clothes.getId(),
             "셔츠",
@@ -140,12 +147,21 @@ public class RecommendationServiceTest {
             ClothesType.TOP,
             List.of(attrDto)
         );
+        when(wardrobeIndexCache.get(any(UUID.class)))
+            .thenReturn(WardrobeIndex.of(0L, List.of(clothes), c -> ootdDto));
 
-        RecommendationDto expected = new RecommendationDto(weatherId, userId, List.of(ootdDto));
+        UserProfile profile = UserProfile.builder()
+            .userId(userId)
+            .user(User.builder().id(userId).build())
+            .temperatureSensitivity(0)
+            .build();
+
+        // userProfileRepository stub
+        when(userProfileRepository.findByUserId(any(UUID.class)))
+            .thenReturn(Optional.of(profile));
 
-        // recommendationMapper stub
-        when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenReturn(expected);
+        // recommendationEngine stub
+        givenEngineReturns(0);
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
@@ -161,6 +177,14 @@ public class RecommendationServiceTest {
         assertThat(resultOotd.type()).isEqualTo(ClothesType.TOP);
         assertThat(resultOotd.attributes()).hasSize(1);
         assertThat(resultOotd.attributes().get(0).value()).isEqualTo("Red");
+
+        // 커밋 후 최근 추천 윈도우 기록용 이벤트 발행
+        verify(eventPublisher).publishEvent(argThat((Object e) ->
+            e instanceof RecommendationCreatedEvent created
+                && created.userId().equals(userId)
+                && created.clothes().size() == 1
+                && created.clothes().get(0).clothesId().equals(clothes.getId())
+        ));
     }
 
     @Test
@@ -199,7 +223,14 @@ public class RecommendationServiceTest {
             .type(ClothesType.OUTER)
             .attributes(List.of())
             .build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(clothes));
+        OotdDto ootdDto = new OotdDto(
+            clothes.getId(),
+            "패딩",
+            "image.jpg",
+            ClothesType.OUTER,
+            List.of(thicknessAttrDto)
+        );
+        when(wardrobeIndexCache.get(userId)).thenReturn(WardrobeIndex.of(0L, List.of(clothes), c -> ootdDto));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -209,19 +240,8 @@ public class RecommendationServiceTest {
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
         // Engine: 조건 충족 -> 추천 반환
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(clothes));
-
-        // Mapper Mock
-        OotdDto ootdDto = new OotdDto(
-            clothes.getId(),
-            "패딩",
-            "image.jpg",
-            ClothesType.OUTER,
-            List.of(thicknessAttrDto)
-        );
-        RecommendationDto expected = new RecommendationDto(weatherId, userId, List.of(ootdDto));
-        when(recommendationMapper.toDto(any(Recommendation.class))).thenReturn(expected);
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(0));
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
@@ -253,21 +273,17 @@ public class RecommendationServiceTest {
             .build();
         when(weatherRepository.findByIdWithLocation(weatherId)).thenReturn(Optional.of(weather));
 
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of());
-
-        // Mapper stub: 빈 Recommendation → 빈 DTO 반환
-        lenient().when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenAnswer(invocation -> {
-                Recommendation r = invocation.getArgument(0);
-                return new RecommendationDto(r.getWeather().getId(), r.getUser().getId(), List.of());
-            });
+        when(wardrobeIndexCache.get(userId)).thenReturn(WardrobeIndex.empty());
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
-        // then: 추천 실패 → 추천 목록이 빈 리스트
+        // then: 추천 실패 → 추천 목록이 빈 리스트, 이력 저장 없음
         assertThat(result).isNotNull();
+        assertThat(result.weatherId()).isEqualTo(weatherId);
+        assertThat(result.userId()).isEqualTo(userId);
         assertThat(result.clothes()).isEmpty();
+        verify(historyWriter, never()).enqueue(any());
     }
 
     @Test
@@ -290,7 +306,7 @@ public class RecommendationServiceTest {
             .type(ClothesType.OUTER)
             .attributes(List.of(ClothesAttribute.create(null, null, "HEAVY")))
             .build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(thickOuter));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(thickOuter));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -298,18 +314,8 @@ public class RecommendationServiceTest {
             .build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        when(recommendationEngine.recommend(eq(List.of(thickOuter)), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(thickOuter));
-
-        OotdDto ootdDto = new OotdDto(
-            thickOuter.getId(),
-            "두꺼운 패딩",
-            "image.jpg",
-            ClothesType.OUTER,
-            List.of()
-        );
-        RecommendationDto expected = new RecommendationDto(weatherId, userId, List.of(ootdDto));
-        when(recommendationMapper.toDto(any())).thenReturn(expected);
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(0));
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
@@ -339,7 +345,7 @@ public class RecommendationServiceTest {
             .type(ClothesType.TOP)
             .attributes(List.of(ClothesAttribute.create(null, null, "LIGHT")))
             .build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(lightTop));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(lightTop));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -347,18 +353,8 @@ public class RecommendationServiceTest {
             .build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        when(recommendationEngine.recommend(eq(List.of(lightTop)), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(lightTop));
-
-        OotdDto ootdDto = new OotdDto(
-            lightTop.getId(),
-            "얇은 셔츠",
-            "image.jpg",
-            ClothesType.TOP,
-            List.of()
-        );
-        RecommendationDto expected = new RecommendationDto(weatherId, userId, List.of(ootdDto));
-        when(recommendationMapper.toDto(any())).thenReturn(expected);
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(0));
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
@@ -453,6 +449,7 @@ public class RecommendationServiceTest {
             .isLessThan((maxTemp + minTemp) / 2.0);
     }
 
+
     @Test
     void 날씨_상태_필터링_구름많고_비_얇은옷_제외() {
         // given: 구름 많고 비오는 날씨, 얇은 티셔츠 존재
@@ -466,22 +463,20 @@ public class RecommendationServiceTest {
         Clothes thinTop = Clothes.builder().id(UUID.randomUUID())
             .name("얇은 티셔츠").type(ClothesType.TOP)
             .attributes(List.of(ClothesAttribute.create(null, null, "LIGHT"))).build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(thinTop));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(thinTop));
 
         UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        // Engine은 필터링 결과: 빈 리스트 반환
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of());
-
-        when(recommendationMapper.toDto(any())).thenReturn(new RecommendationDto(weatherId, userId, List.of()));
+        // Engine은 필터링 결과: 빈 배열 반환
+        givenEngineReturns();
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
-        // then: 얇은 티셔츠 제외 -> 추천 리스트 빔
-        assertThat(result.clothes()).isEmpty();
+        // then: 엔진 결과에서 얇은 티셔츠 제외 → 확률적 Fallback 외에는 추천 없음
+        assertThat(result.clothes()).hasSizeLessThanOrEqualTo(1);
+        verify(recommendationEngine).rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong());
     }
 
     @Test
@@ -494,23 +489,12 @@ public class RecommendationServiceTest {
         Clothes cardigan = Clothes.builder().id(UUID.randomUUID())
             .name("가디건").type(ClothesType.OUTER)
             .attributes(List.of(ClothesAttribute.create(null, null, "LIGHT"))).build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(cardigan));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(cardigan));
 
         UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(cardigan));
-
-        OotdDto ootdDto = new OotdDto(
-            cardigan.getId(),
-            "가디건",
-            "image.jpg",
-            ClothesType.OUTER,
-            List.of()
-        );
-        RecommendationDto expected = new RecommendationDto(weatherId, userId, List.of(ootdDto));
-        when(recommendationMapper.toDto(any())).thenReturn(expected);
+        givenEngineReturns(0);
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
@@ -528,21 +512,20 @@ public class RecommendationServiceTest {
         Clothes heavyCoat = Clothes.builder().id(UUID.randomUUID())
             .name("두꺼운 코트").type(ClothesType.OUTER)
             .attributes(List.of(ClothesAttribute.create(null, null, "HEAVY"))).build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(heavyCoat));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(heavyCoat));
 
         UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        // Engine 필터링 결과 : 조건 불만족 -> 빈 리스트 반환
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of());
-        when(recommendationMapper.toDto(any())).thenReturn(new RecommendationDto(weatherId, userId, List.of()));
+        // Engine 필터링 결과 : 조건 불만족 -> 빈 배열 반환
+        givenEngineReturns();
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
-        // then: 추천 리스트 비어있음
-        assertThat(result.clothes()).isEmpty();
+        // then: 엔진 추천 없음 → 확률적 Fallback 외에는 추천 없음
+        assertThat(result.clothes()).hasSizeLessThanOrEqualTo(1);
+        verify(recommendationEngine).rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong());
     }
 
     @Test
@@ -553,22 +536,12 @@ public class RecommendationServiceTest {
 
         Clothes outer = Clothes.builder().id(UUID.randomUUID())
             .name("자켓").type(ClothesType.OUTER).attributes(List.of()).build(); // 속성 없음
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(outer));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(outer));
 
         UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(outer));
-
-        OotdDto ootdDto = new OotdDto(
-            outer.getId(),
-            "자켓",
-            "image.jpg",
-            ClothesType.OUTER,
-            List.of()
-        );
-        when(recommendationMapper.toDto(any())).thenReturn(new RecommendationDto(weatherId, userId, List.of(ootdDto)));
+        givenEngineReturns(0);
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
@@ -589,31 +562,19 @@ public class RecommendationServiceTest {
         Clothes heavyOuter = Clothes.builder().id(UUID.randomUUID())
             .name("두꺼운 패딩").type(ClothesType.OUTER)
             .attributes(List.of(ClothesAttribute.create(null, null, "HEAVY"))).build();
-
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(noValueOuter, heavyOuter));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(noValueOuter, heavyOuter));
 
         UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        // Engine 결과: 미상 두께 외투( noValueOuter ) 제외, 두꺼운 패팅( heavyOuter ) 추천
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(heavyOuter));
-
-        OotdDto ootdDto = new OotdDto(
-            heavyOuter.getId(),
-            "두꺼운 패딩",
-            "image.jpg",
-            ClothesType.OUTER,
-            List.of()
-        );
-        when(recommendationMapper.toDto(any()))
-            .thenReturn(new RecommendationDto(weatherId, userId, List.of(ootdDto)));
+        // Engine 결과: 미상 두께 외투( noValueOuter ) 제외, 두꺼운 패딩( heavyOuter ) 추천
+        givenEngineReturns(1);
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
         // then: 두꺼운 패딩 추천
-        assertThat(result.clothes()).extracting(OotdDto::name).contains("두꺼운 패딩");
+        assertThat(result.clothes()).extracting(OotdDto::name).containsExactly("두꺼운 패딩");
     }
 
     @Test
@@ -641,7 +602,7 @@ public class RecommendationServiceTest {
             .name("셔츠")
             .type(ClothesType.TOP)
             .build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(dress, top));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(dress, top));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -650,35 +611,18 @@ public class RecommendationServiceTest {
             .build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        Recommendation recentRecommendation = Recommendation.builder()
-            .user(User.builder().id(userId).build())
-            .weather(weather)
-            .build();
-        recentRecommendation.addRecommendationClothes(
-            RecommendationClothes.builder().clothes(dress).recommendation(recentRecommendation).build()
-        );
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
-            .thenReturn(List.of(recentRecommendation));
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
+            .thenReturn(List.of(recent(dress, 5)));
 
         // Engine 동작: 필터링 후 Dress 제외 → Top 추천
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(top));
-
-        OotdDto ootdDto = new OotdDto(
-            top.getId(),
-            "셔츠",
-            "image.jpg",
-            ClothesType.TOP,
-            List.of()
-        );
-        when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenReturn(new RecommendationDto(weatherId, userId, List.of(ootdDto)));
+        givenEngineReturns(1);
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
-        // then: Dress는 제외되고 Top만 추천
-        assertThat(result.clothes()).hasSize(1);
+        // then: 최근 추천된 Dress는 엔진 후보에서 제외되고 Top이 추천
+        verify(recommendationEngine).rank(any(WardrobeIndex.class), argThat(c -> Arrays.equals(c, new int[]{1})),
+            anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong());
         assertThat(result.clothes().get(0).type()).isEqualTo(ClothesType.TOP);
     }
 
@@ -712,7 +656,7 @@ public class RecommendationServiceTest {
             .type(ClothesType.BOTTOM)
             .build();
 
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(top, bottom));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(top, bottom));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -722,42 +666,19 @@ public class RecommendationServiceTest {
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
         // 최근 10분 내 추천된 옷 = top
-        Recommendation recent = Recommendation.builder()
-            .user(User.builder().id(userId).build())
-            .weather(weather)
-            .createdAt(Instant.now().minus(5, ChronoUnit.MINUTES)) // Instant 기준 10분 내
-            .build();
-        recent.addRecommendationClothes(
-            RecommendationClothes.builder().clothes(top).recommendation(recent).build()
-        );
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
+            .thenReturn(List.of(recent(top, 5)));
 
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
-            .thenReturn(List.of(recent));
-
-        // Engine은 제외된 top을 제거하고 bottom만 추천하도록 설정
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenAnswer(invocation -> {
-                List<Clothes> clothes = invocation.getArgument(0);
-                return clothes.stream()
-                    .filter(c -> c.getType() == ClothesType.BOTTOM)
-                    .toList();
-            });
-
-        OotdDto ootdDto = new OotdDto(
-            bottom.getId(),
-            "바지",
-            "image.jpg",
-            ClothesType.BOTTOM,
-            List.of()
-        );
-        when(recommendationMapper.toDto(any()))
-            .thenReturn(new RecommendationDto(weatherId, userId, List.of(ootdDto)));
+        // Engine은 전달받은 후보(top 제외)를 그대로 추천
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(invocation -> slots(invocation.getArgument(0), invocation.getArgument(1)));
 
         // when: 추천 요청 실행
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
-        // then: 10분 내 추천된 top은 제외되고 bottom만 추천
-        assertThat(result.clothes()).hasSize(1);
+        // then: 10분 내 추천된 top은 엔진 후보에서 제외되고 bottom이 추천
+        verify(recommendationEngine).rank(any(WardrobeIndex.class), argThat(c -> Arrays.equals(c, new int[]{1})),
+            anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong());
         assertThat(result.clothes().get(0).name()).isEqualTo("바지");
     }
 
@@ -784,7 +705,7 @@ public class RecommendationServiceTest {
             .name("맨투맨")
             .type(ClothesType.TOP)
             .build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(top));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(top));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -793,32 +714,12 @@ public class RecommendationServiceTest {
             .build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        // 10분이 지난 추천 이력
-        Recommendation oldRec = Recommendation.builder()
-            .user(User.builder().id(userId).build())
-            .weather(weather)
-            .createdAt(Instant.now().minus(15, ChronoUnit.MINUTES)) // 10분 초과
-            .build();
-        oldRec.addRecommendationClothes(
-            RecommendationClothes.builder().clothes(top).recommendation(oldRec).build()
-        );
-
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
             .thenReturn(List.of()); // 10분 초과 → 조회 시점에서 비포함
 
         // Engine은 top 추천 반환
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(top));
-
-        OotdDto ootdDto = new OotdDto(
-            top.getId(),
-            "맨투맨",
-            "image.jpg",
-            ClothesType.TOP,
-            List.of()
-        );
-        when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenReturn(new RecommendationDto(weatherId, userId, List.of(ootdDto)));
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(0));
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
@@ -830,7 +731,7 @@ public class RecommendationServiceTest {
 
     @Test
     void 첫번째추천엔진결과없을때_Fallback으로_전체의상재추천() {
-        // given: 날씨, 사용자, 의상 2벌, 추천엔진 1차 실패 → Fallback 내부 재보충
+        // given: 날씨, 사용자, 의상 2벌, 추천엔진 1차 결과는 bottom만 → 나머지는 Fallback 내부 보충
         UUID weatherId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
 
@@ -856,7 +757,7 @@ public class RecommendationServiceTest {
             .name("청바지")
             .type(ClothesType.BOTTOM)
             .build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(top, bottom));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(top, bottom));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -866,28 +767,25 @@ public class RecommendationServiceTest {
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
         // 최근 추천 없음
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
             .thenReturn(List.of());
 
-        // recommend() 한 번만 호출 → 빈 결과면 서비스 내부 Fallback 보충
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(bottom));
-
-        OotdDto ootdDto = new OotdDto(bottom.getId(), "청바지", "image.jpg", ClothesType.BOTTOM, List.of());
-        when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenReturn(new RecommendationDto(weatherId, userId, List.of(ootdDto)));
+        // rank() 한 번만 호출 → 누락 타입은 서비스 내부 Fallback 보충
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(1));
 
         // when: 추천 요청 실행
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
         // then
-        // 1) 첫 번째 recommend 호출 결과가 빈 리스트였을 경우
-        // 2) 서비스 내부 Fallback 로직으로 보충되어 최종적으로 bottom 추천됨
-        assertThat(result.clothes()).hasSize(1);
+        // 1) 엔진 결과(bottom)가 먼저 유지되고
+        // 2) 누락된 top은 확률적 Fallback으로만 보충됨
         assertThat(result.clothes().get(0).name()).isEqualTo("청바지");
+        assertThat(result.clothes()).extracting(OotdDto::type)
+            .isSubsetOf(ClothesType.BOTTOM, ClothesType.TOP);
 
         verify(recommendationEngine, times(1))
-            .recommend(anyList(), anyDouble(), eq(weather), anyBoolean());
+            .rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong());
     }
 
     @Test
@@ -910,7 +808,7 @@ public class RecommendationServiceTest {
 
         Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
         Clothes dress = Clothes.builder().id(UUID.randomUUID()).name("원피스").type(ClothesType.DRESS).build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(top, dress));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(top, dress));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -920,44 +818,32 @@ public class RecommendationServiceTest {
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
         // 최근 추천에 top 포함 (10분 내)
-        Recommendation recent = Recommendation.builder()
-            .user(User.builder().id(userId).build())
-            .weather(weather)
-            .createdAt(Instant.now().minus(5, ChronoUnit.MINUTES))
-            .build();
-        recent.addRecommendationClothes(RecommendationClothes.builder().clothes(top).recommendation(recent).build());
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
-            .thenReturn(List.of(recent));
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
+            .thenReturn(List.of(recent(top, 5)));
 
-        // Engine: filtered clothes empty → fallback으로 Dress 반환
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
+        // Engine: 전달받은 후보 중 Dress 제외 옵션이 꺼져 있으면 그대로 반환
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
             .thenAnswer(invocation -> {
-                List<Clothes> clothes = invocation.getArgument(0);
-                boolean excludeDress = invocation.getArgument(3);
-                // filtered clothes가 empty이면 fallback으로 dress 반환
-                if (clothes.isEmpty() && excludeDress) {
-                    return List.of(dress);
-                }
-                return clothes.stream()
-                    .filter(c -> !excludeDress || c.getType() != ClothesType.DRESS)
-                    .toList();
+                WardrobeIndex wardrobe = invocation.getArgument(0);
+                int[] candidates = invocation.getArgument(1);
+                boolean excludeDress = invocation.getArgument(4);
+                return slots(wardrobe, Arrays.stream(candidates)
+                    .filter(i -> !excludeDress || wardrobe.type(i) != ClothesType.DRESS)
+                    .toArray());
             });
 
-        OotdDto ootdDto = new OotdDto(dress.getId(), "원피스", "image.jpg", ClothesType.DRESS, List.of());
-        when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenReturn(new RecommendationDto(weatherId, userId, List.of(ootdDto)));
-
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
-        // then: fallback 적용으로 Dress 추천, Top 제외
-        assertThat(result.clothes()).hasSize(1);
+        // then: 엔진 결과로 Dress 추천, Top은 엔진 후보에서 제외
+        verify(recommendationEngine).rank(any(WardrobeIndex.class), argThat(c -> Arrays.equals(c, new int[]{1})),
+            anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong());
         assertThat(result.clothes().get(0).type()).isEqualTo(ClothesType.DRESS);
     }
 
     @Test
     void FallBack_적용후_Dress와_TopBottom_상호배타적_유지() {
-        // given: 최근 추천은 Dress, Fallback 적용 후 새 추천은 Top/Bottom으로 대체됨
+        // given: 최근 추천 2회는 Dress, Fallback 적용 후 새 추천은 Top/Bottom으로 대체됨
         UUID weatherId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
 
@@ -976,7 +862,7 @@ public class RecommendationServiceTest {
         Clothes dress = Clothes.builder().id(UUID.randomUUID()).name("원피스").type(ClothesType.DRESS).build();
         Clothes top = Clothes.builder().id(UUID.randomUUID()).name("반팔 티셔츠").type(ClothesType.TOP).build();
         Clothes bottom = Clothes.builder().id(UUID.randomUUID()).name("린넨 팬츠").type(ClothesType.BOTTOM).build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(dress, top, bottom));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(dress, top, bottom));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -985,31 +871,16 @@ public class RecommendationServiceTest {
             .build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        Recommendation recent = Recommendation.builder()
-            .user(User.builder().id(userId).build())
-            .weather(weather)
-            .createdAt(Instant.now().minus(5, ChronoUnit.MINUTES))
-            .build();
-        recent.addRecommendationClothes(
-            RecommendationClothes.builder().clothes(dress).recommendation(recent).build()
-        );
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
-            .thenReturn(List.of(recent));
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
+            .thenReturn(List.of(recent(dress, 2), recent(dress, 5)));
 
-        when(recommendationEngine.recommend(anyList(), anyDouble(), any(Weather.class), anyBoolean()))
-            .thenReturn(List.of(top, bottom));
-
-        List<OotdDto> ootds = List.of(
-            new OotdDto(top.getId(), "반팔 티셔츠", "image.jpg", ClothesType.TOP, List.of()),
-            new OotdDto(bottom.getId(), "린넨 팬츠", "image.jpg", ClothesType.BOTTOM, List.of())
-        );
-        when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenReturn(new RecommendationDto(weatherId, userId, ootds));
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), any(Weather.class), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(1, 2));
 
         // when: 추천 요청 실행
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
-        // then: Dress는 제외되고 Top & Bottom 조합만 남음
+        // then: Fallback으로 Dress가 보충되더라도 상호 배타 규칙으로 제외되고 Top & Bottom 조합만 남음
         assertThat(result.clothes())
             .extracting(OotdDto::type)
             .containsExactlyInAnyOrder(ClothesType.TOP, ClothesType.BOTTOM);
@@ -1035,8 +906,8 @@ public class RecommendationServiceTest {
 
         Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
         Clothes bottom = Clothes.builder().id(UUID.randomUUID()).name("바지").type(ClothesType.BOTTOM).build();
-        // HAT은 사용자의 의상 목록에 없음
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(top, bottom));
+        Clothes hat = Clothes.builder().id(UUID.randomUUID()).name("모자").type(ClothesType.HAT).build();
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(top, bottom, hat));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -1045,47 +916,23 @@ public class RecommendationServiceTest {
             .build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
-        // 이전 추천: Top, Bottom, HAT (10분 내)
-        Recommendation recent = Recommendation.builder()
-            .user(User.builder().id(userId).build())
-            .weather(weather)
-            .createdAt(Instant.now().minus(5, ChronoUnit.MINUTES))
-            .build();
-        recent.addRecommendationClothes(RecommendationClothes.builder().clothes(top).recommendation(recent).build());
-        recent.addRecommendationClothes(RecommendationClothes.builder().clothes(bottom).recommendation(recent).build());
-
-        // FallBack으로 추천될 HAT
-        Clothes fallbackHat = Clothes.builder().id(UUID.randomUUID()).name("모자").type(ClothesType.HAT).build();
-
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
-            .thenReturn(List.of(recent));
+        // 이전 추천: Top, Bottom (10분 내)
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
+            .thenReturn(List.of(recent(top, 5), recent(bottom, 5)));
 
-        // Engine 스텁: filtered clothes에 HAT이 없으면 FallBack으로 HAT 반환
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenAnswer(invocation -> {
-                List<Clothes> clothes = invocation.getArgument(0);
-                boolean excludeDress = invocation.getArgument(3);
-                if (clothes.stream().noneMatch(c -> c.getType() == ClothesType.HAT)) {
-                    return List.of(fallbackHat);
-                }
-                return clothes;
-            });
-
-        List<OotdDto> ootds = List.of(
-            new OotdDto(top.getId(), "셔츠", "image.jpg", ClothesType.TOP, List.of()),
-            new OotdDto(bottom.getId(), "바지", "image.jpg", ClothesType.BOTTOM, List.of()),
-            new OotdDto(fallbackHat.getId(), "모자", "image.jpg", ClothesType.HAT, List.of())
-        );
-        when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenReturn(new RecommendationDto(weatherId, userId, ootds));
+        // Engine 스텁: 남은 후보(HAT) 추천
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(2));
 
         // when: 추천 서비스 호출
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
-        // then: Top, Bottom은 기존 추천 유지, HAT은 FallBack으로 추천
+        // then: HAT은 엔진 추천으로 유지, Top/Bottom은 타입별 Fallback으로만 보충
+        assertThat(result.clothes().get(0).type()).isEqualTo(ClothesType.HAT);
         assertThat(result.clothes())
             .extracting(OotdDto::type)
-            .containsExactlyInAnyOrder(ClothesType.TOP, ClothesType.BOTTOM, ClothesType.HAT);
+            .isSubsetOf(ClothesType.TOP, ClothesType.BOTTOM, ClothesType.HAT)
+            .doesNotHaveDuplicates();
     }
 
     @Test
@@ -1111,7 +958,7 @@ public class RecommendationServiceTest {
             .name("드레스")
             .type(ClothesType.DRESS)
             .build();
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(top, dress));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(top, dress));
 
         UserProfile profile = UserProfile.builder()
             .userId(userId)
@@ -1120,14 +967,8 @@ public class RecommendationServiceTest {
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
         // 추천 엔진 결과: TOP만 존재
-        when(recommendationEngine.recommend(anyList(), anyDouble(), any(), anyBoolean()))
-            .thenReturn(List.of(top));
-
-        List<OotdDto> ootds = List.of(
-            new OotdDto(top.getId(), "셔츠", "image.jpg", ClothesType.TOP, List.of())
-        );
-        when(recommendationMapper.toDto(any(Recommendation.class)))
-            .thenReturn(new RecommendationDto(weatherId, userId, ootds));
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), any(), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(0));
 
         // when: 추천 요청
         RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
@@ -1158,39 +999,28 @@ public class RecommendationServiceTest {
         Clothes top = Clothes.builder().id(UUID.randomUUID()).type(ClothesType.TOP).build();
         Clothes bottom = Clothes.builder().id(UUID.randomUUID()).type(ClothesType.BOTTOM).build();
 
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(dress, top, bottom));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(dress, top, bottom));
 
         UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
         // 최근 추천 2회 모두 Dress 포함
-        Recommendation rec1 = Recommendation.builder()
-            .createdAt(Instant.now().minus(5, ChronoUnit.MINUTES))
-            .build();
-        rec1.addRecommendationClothes(RecommendationClothes.builder().clothes(dress).recommendation(rec1).build());
-
-        Recommendation rec2 = Recommendation.builder()
-            .createdAt(Instant.now().minus(2, ChronoUnit.MINUTES))
-            .build();
-        rec2.addRecommendationClothes(RecommendationClothes.builder().clothes(dress).recommendation(rec2).build());
-
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
-            .thenReturn(List.of(rec1, rec2));
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
+            .thenReturn(List.of(recent(dress, 2), recent(dress, 5)));
 
         // 이번 추천에서는 Dress, Top, Bottom 모두 추천될 예정
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(dress, top, bottom));
-
-        RecommendationDto expectedDto = new RecommendationDto(weatherId, userId, List.of());
-        when(recommendationMapper.toDto(any())).thenReturn(expectedDto);
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(0, 1, 2));
 
         // when: 추천 요청 실행
-        recommendationService.getRecommendation(userId, weatherId);
+        RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
 
         // then: 최근 Dress 과다 추천으로 이번 추천에서는 Dress 제외
-        verify(recommendationMapper).toDto(argThat(r ->
-            r.getRecommendationClothes().stream()
-                .noneMatch(rc -> rc.getClothes().getType() == ClothesType.DRESS)
+        assertThat(result.clothes())
+            .extracting(OotdDto::type)
+            .containsExactlyInAnyOrder(ClothesType.TOP, ClothesType.BOTTOM);
+        verify(historyWriter).enqueue(argThat(h ->
+            h.userId().equals(userId) && h.clothesIds().size() == 2
         ));
     }
 
@@ -1207,44 +1037,344 @@ public class RecommendationServiceTest {
         Clothes top = Clothes.builder().id(UUID.randomUUID()).type(ClothesType.TOP).build();
         Clothes bottom = Clothes.builder().id(UUID.randomUUID()).type(ClothesType.BOTTOM).build();
 
-        when(clothesRepository.findByUserIdWithAttributes(userId)).thenReturn(List.of(dress, top, bottom));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(dress, top, bottom));
 
         UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
         when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
 
         // 최근 추천 2회 모두 Top & Bottom 포함
-        Recommendation rec1 = Recommendation.builder()
-            .createdAt(Instant.now().minus(5, ChronoUnit.MINUTES))
-            .build();
-        rec1.addRecommendationClothes(
-            RecommendationClothes.builder().clothes(top).recommendation(rec1).build()
+        when(recentRecommendationWindow.recent(eq(userId), anyLong()))
+            .thenReturn(List.of(recent(bottom, 2), recent(top, 5)));
+
+        // 이번 추천에서는 Dress, Top, Bottom 모두 추천됨
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), eq(weather), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(0, 1, 2));
+
+        // when: 추천 서비스 실행
+        RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
+
+        // then: 최근 Top & Bottom 과다 추천으로 이번 추천에서는 Top과 Bottom 제외
+        assertThat(result.clothes())
+            .extracting(OotdDto::type)
+            .containsExactly(ClothesType.DRESS);
+    }
+
+    @Test
+    void 결과_캐시_적중시_엔진과_이력저장을_생략한다() {
+        // given: 같은 조건의 캐시된 결과 존재
+        Weather weather = Weather.builder().id(weatherId).currentC(20.0).build();
+        when(weatherRepository.findByIdWithLocation(weatherId)).thenReturn(Optional.of(weather));
+
+        Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        Clothes bottom = Clothes.builder().id(UUID.randomUUID()).name("바지").type(ClothesType.BOTTOM).build();
+        WardrobeIndex wardrobe = wardrobe(top, bottom);
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe);
+
+        UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(2).build();
+        when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
+
+        RecommendationResultCache.Key key =
+            new RecommendationResultCache.Key(userId, weatherId, wardrobe.version(), 2);
+        when(recommendationResultCache.next(key, wardrobe)).thenReturn(new RecommendationResultCache.Hit(new int[]{1, 0}, false));
+
+        // when
+        RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
+
+        // then: 캐시된 위치 그대로 응답, 엔진/최근 이력/이력 저장/이벤트 모두 생략
+        assertThat(result.clothes())
+            .extracting(OotdDto::name)
+            .containsExactly("바지", "셔츠");
+        verify(recommendationEngine, never())
+            .rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), any(Weather.class), anyBoolean(), anyInt(), anyLong());
+        verify(recentRecommendationWindow, never()).recent(any(UUID.class), anyLong());
+        verify(historyWriter, never()).enqueue(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void 예열된_결과의_첫_적중이면_이력과_최근_윈도우를_기록한다() {
+        // given: 예열로 캐시된 결과를 처음 보여주는 회차
+        Weather weather = Weather.builder().id(weatherId).currentC(20.0).build();
+        when(weatherRepository.findByIdWithLocation(weatherId)).thenReturn(Optional.of(weather));
+
+        Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        Clothes bottom = Clothes.builder().id(UUID.randomUUID()).name("바지").type(ClothesType.BOTTOM).build();
+        WardrobeIndex wardrobe = wardrobe(top, bottom);
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe);
+
+        UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
+        when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
+
+        RecommendationResultCache.Key key =
+            new RecommendationResultCache.Key(userId, weatherId, wardrobe.version(), 0);
+        when(recommendationResultCache.next(key, wardrobe)).thenReturn(new RecommendationResultCache.Hit(new int[]{0, 1}, true));
+
+        // when
+        recommendationService.getRecommendation(userId, weatherId);
+
+        // then: 엔진은 생략하고 보여준 추천을 이력/최근 윈도우에 기록
+        verify(recommendationEngine, never())
+            .rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), any(Weather.class), anyBoolean(), anyInt(), anyLong());
+        verify(historyWriter).enqueue(argThat(history ->
+            history.weatherId().equals(weatherId) && history.clothesIds().equals(List.of(top.getId(), bottom.getId()))));
+        verify(eventPublisher).publishEvent(any(RecommendationCreatedEvent.class));
+    }
+
+    @Test
+    void 결과_캐시_미스시_추천_결과를_저장한다() {
+        // given
+        Weather weather = Weather.builder().id(weatherId).currentC(20.0).build();
+        when(weatherRepository.findByIdWithLocation(weatherId)).thenReturn(Optional.of(weather));
+
+        Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        WardrobeIndex wardrobe = wardrobe(top);
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe);
+
+        UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
+        when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
+        givenEngineReturns(0);
+
+        // when
+        recommendationService.getRecommendation(userId, weatherId);
+
+        // then: (사용자, 날씨, 옷장 version, 민감도) 키로 최종 추천 저장
+        verify(recommendationResultCache).put(
+            eq(new RecommendationResultCache.Key(userId, weatherId, wardrobe.version(), 0)),
+            any(RankedSlots.class),
+            argThat(positions -> Arrays.equals(positions, new int[]{0}))
         );
+    }
 
-        Recommendation rec2 = Recommendation.builder()
-            .createdAt(Instant.now().minus(2, ChronoUnit.MINUTES))
-            .build();
-        rec2.addRecommendationClothes(
-            RecommendationClothes.builder().clothes(bottom).recommendation(rec2).build()
+    @Test
+    void 옷장_version을_알_수_없으면_결과_캐시를_사용하지_않는다() {
+        // given: Redis 장애로 옷장 version 조회 실패
+        Weather weather = Weather.builder().id(weatherId).currentC(20.0).build();
+        when(weatherRepository.findByIdWithLocation(weatherId)).thenReturn(Optional.of(weather));
+
+        Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        WardrobeIndex wardrobe = WardrobeIndex.of(WardrobeVersionStore.UNKNOWN, List.of(top), c ->
+            new OotdDto(c.getId(), c.getName(), "image.jpg", c.getType(), List.of()));
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe);
+
+        UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
+        when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
+        givenEngineReturns(0);
+
+        // when
+        RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
+
+        // then: 엔진으로 추천하고 결과 캐시는 조회/저장하지 않음
+        assertThat(result.clothes()).extracting(OotdDto::name).containsExactly("셔츠");
+        verifyNoInteractions(recommendationResultCache);
+    }
+
+    @Test
+    void 동시_등장_인덱스가_있으면_함께_입은_의상으로_빈_타입을_채운다() {
+        // given: 상의 1벌, 신발 2벌(속성 없음 / 얇음)
+        Weather weather = Weather.builder().id(weatherId).currentC(20.0).build();
+        when(weatherRepository.findByIdWithLocation(weatherId)).thenReturn(Optional.of(weather));
+
+        ClothesAttributeDef thickness = ClothesAttributeDef.builder().id(UUID.randomUUID()).name("두께").build();
+        Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        Clothes plainShoes = Clothes.builder().id(UUID.randomUUID()).name("운동화").type(ClothesType.SHOES).build();
+        Clothes lightShoes = Clothes.builder().id(UUID.randomUUID()).name("샌들").type(ClothesType.SHOES)
+            .attributes(List.of(ClothesAttribute.create(null, thickness, "LIGHT"))).build();
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(top, plainShoes, lightShoes));
+
+        UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
+        when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
+        givenEngineReturns(0);
+
+        // 같은 날씨 버킷의 피드마다 상의 + 얇은 신발 착장
+        double perceivedTemp = WeatherUtils.calculatePerceivedTemperature(20.0, 0.0, 0.8, 0);
+        Season season = WeatherUtils.classifySeason(perceivedTemp);
+        int bucket = OutfitCooccurrenceIndex.bucket(season, WeatherUtils.classifyTemperatureCategory(season, perceivedTemp));
+        int[] outfit = {
+            OutfitCooccurrenceIndex.feature(ClothesType.TOP.ordinal(), 0, 0),
+            OutfitCooccurrenceIndex.feature(ClothesType.SHOES.ordinal(), 0, WardrobeIndex.bit(Thickness.LIGHT))
+        };
+        outfitCooccurrenceCache.replace(OutfitCooccurrenceIndex.builder()
+            .addFeed(bucket, outfit)
+            .addFeed(bucket, outfit)
+            .build(2));
+
+        // when
+        RecommendationDto result = recommendationService.getRecommendation(userId, weatherId);
+
+        // then: 신발 슬롯은 항상(등장 비율 100%) 함께 입은 얇은 신발로 채움
+        assertThat(result.clothes())
+            .extracting(OotdDto::clothesId)
+            .containsExactly(top.getId(), lightShoes.getId());
+    }
+
+    @Test
+    void 예열시_이력_저장_없이_결과_캐시에만_저장한다() {
+        // given
+        Weather weather = Weather.builder().id(weatherId).currentC(20.0).build();
+        Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        WardrobeIndex wardrobe = wardrobe(top);
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe);
+        givenEngineReturns(0);
+
+        // when
+        boolean warmed = recommendationService.prewarm(userId, 0, weather);
+
+        // then: 예열 전용 저장, 이력/최근 윈도우 기록 없음, 프로필은 호출자가 전달
+        assertThat(warmed).isTrue();
+        verify(recommendationResultCache).putPrewarmed(
+            eq(new RecommendationResultCache.Key(userId, weatherId, wardrobe.version(), 0)),
+            any(RankedSlots.class),
+            argThat(positions -> Arrays.equals(positions, new int[]{0}))
         );
+        verify(historyWriter, never()).enqueue(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(userProfileRepository, never()).findByUserId(any());
+        verify(wardrobeIndexCache).retain(eq(userId), any());
+    }
+
+    @Test
+    void 이미_캐시된_결과는_다시_예열하지_않는다() {
+        // given
+        Weather weather = Weather.builder().id(weatherId).currentC(20.0).build();
+        Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        WardrobeIndex wardrobe = wardrobe(top);
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe);
+        when(recommendationResultCache.contains(new RecommendationResultCache.Key(userId, weatherId, wardrobe.version(), 0)))
+            .thenReturn(true);
 
-        when(recommendationRepository.findByUser_IdAndCreatedAtAfter(eq(userId), any()))
-            .thenReturn(List.of(rec1, rec2));
+        // when
+        boolean warmed = recommendationService.prewarm(userId, 0, weather);
 
-        // 이번 추천에서는 Dress, Top, Bottom 모두 추천됨
-        when(recommendationEngine.recommend(anyList(), anyDouble(), eq(weather), anyBoolean()))
-            .thenReturn(List.of(dress, top, bottom));
+        // then
+        assertThat(warmed).isFalse();
+        verify(recommendationEngine, never()).rank(any(), any(), anyDouble(), any(), anyBoolean(), anyInt(), anyLong());
+    }
 
-        RecommendationDto expectedDto = new RecommendationDto(weatherId, userId, List.of());
-        when(recommendationMapper.toDto(any())).thenReturn(expectedDto);
+    @Test
+    void 다일_추천시_옷장과_프로필은_한번만_조회한다() {
+        // given: 날씨 2건, 의상 1벌
+        Weather day1 = Weather.builder().id(UUID.randomUUID()).currentC(20.0).build();
+        Weather day2 = Weather.builder().id(UUID.randomUUID()).currentC(5.0).build();
+        when(weatherRepository.findAllByIdInWithLocation(List.of(day1.getId(), day2.getId())))
+            .thenReturn(List.of(day2, day1));
 
-        // when: 추천 서비스 실행
-        recommendationService.getRecommendation(userId, weatherId);
+        Clothes top = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(top));
 
-        // then: 최근 Top & Bottom 과다 추천으로 이번 추천에서는 Top과 Bottom 제외
-        verify(recommendationMapper).toDto(argThat(r ->
-            r.getRecommendationClothes().stream()
-                .noneMatch(rc -> rc.getClothes().getType() == ClothesType.TOP
-                    || rc.getClothes().getType() == ClothesType.BOTTOM)
+        UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
+        when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
+        when(recentRecommendationWindow.recent(eq(userId), anyLong())).thenReturn(List.of());
+        givenEngineReturns(0);
+
+        // when: 중복 ID 포함 요청
+        List<RecommendationDto> results = recommendationService.getRecommendations(
+            userId, List.of(day1.getId(), day2.getId(), day1.getId()));
+
+        // then: 요청 순서대로 날씨별 결과, 옷장/프로필/최근 이력은 1회 조회
+        assertThat(results)
+            .extracting(RecommendationDto::weatherId)
+            .containsExactly(day1.getId(), day2.getId());
+        verify(wardrobeIndexCache, times(1)).get(userId);
+        verify(userProfileRepository, times(1)).findByUserId(userId);
+        verify(recentRecommendationWindow, times(1)).recent(eq(userId), anyLong());
+        verify(recommendationEngine, times(2))
+            .rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), any(Weather.class), anyBoolean(), anyInt(), anyLong());
+        verify(historyWriter, times(2)).enqueue(any());
+    }
+
+    @Test
+    void 다일_추천시_앞_날짜에_추천한_의상은_다음_날짜에서_제외하고_윈도우에는_한_회차로_기록한다() {
+        // given: 날씨 2건, 상의 2벌, 엔진은 후보 중 첫 번째를 선택
+        Weather day1 = Weather.builder().id(UUID.randomUUID()).currentC(20.0).build();
+        Weather day2 = Weather.builder().id(UUID.randomUUID()).currentC(20.0).build();
+        when(weatherRepository.findAllByIdInWithLocation(List.of(day1.getId(), day2.getId())))
+            .thenReturn(List.of(day1, day2));
+
+        Clothes shirt = Clothes.builder().id(UUID.randomUUID()).name("셔츠").type(ClothesType.TOP).build();
+        Clothes knit = Clothes.builder().id(UUID.randomUUID()).name("니트").type(ClothesType.TOP).build();
+        when(wardrobeIndexCache.get(userId)).thenReturn(wardrobe(shirt, knit));
+
+        UserProfile profile = UserProfile.builder().userId(userId).temperatureSensitivity(0).build();
+        when(userProfileRepository.findByUserId(userId)).thenReturn(Optional.of(profile));
+        when(recentRecommendationWindow.recent(eq(userId), anyLong())).thenReturn(List.of());
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), any(Weather.class), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(invocation -> slots(invocation.getArgument(0), new int[]{((int[]) invocation.getArgument(1))[0]}));
+
+        // when
+        List<RecommendationDto> results = recommendationService.getRecommendations(
+            userId, List.of(day1.getId(), day2.getId()));
+
+        // then: 둘째 날은 첫째 날 추천(셔츠)을 제외한 후보로 평가
+        assertThat(results)
+            .extracting(r -> r.clothes().get(0).clothesId())
+            .containsExactly(shirt.getId(), knit.getId());
+        verify(recommendationEngine).rank(any(WardrobeIndex.class), argThat((int[] c) -> Arrays.equals(c, new int[]{1})),
+            anyDouble(), eq(day2), anyBoolean(), anyInt(), anyLong());
+
+        // 윈도우 기록은 두 날짜 추천을 같은 시각의 한 회차로 1회만 발행
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object e) ->
+            e instanceof RecommendationCreatedEvent created
+                && created.clothes().size() == 2
+                && created.clothes().stream().map(RecentRecommendation::recommendedAt).distinct().count() == 1
         ));
+        verify(historyWriter, times(2)).enqueue(any());
+    }
+
+    @Test
+    void 다일_추천시_없는_날씨가_있으면_예외() {
+        // given: 요청 2건 중 1건만 존재
+        Weather day1 = Weather.builder().id(UUID.randomUUID()).currentC(20.0).build();
+        UUID missingId = UUID.randomUUID();
+        when(weatherRepository.findAllByIdInWithLocation(List.of(day1.getId(), missingId)))
+            .thenReturn(List.of(day1));
+
+        // when & then
+        assertThatThrownBy(() -> recommendationService.getRecommendations(userId, List.of(day1.getId(), missingId)))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.WEATHER_NOT_FOUND);
+        verify(wardrobeIndexCache, never()).get(any(UUID.class));
+    }
+
+    @Test
+    void 다일_추천_최대_일수_초과시_예외() {
+        // given: 8일치 날씨 ID
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(8).toList();
+
+        // when & then
+        assertThatThrownBy(() -> recommendationService.getRecommendations(userId, ids))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_INPUT);
+        verify(weatherRepository, never()).findAllByIdInWithLocation(any());
+    }
+
+    private WardrobeIndex wardrobe(Clothes... clothes) {
+        return WardrobeIndex.of(0L, List.of(clothes), c ->
+            new OotdDto(c.getId(), c.getName(), "image.jpg", c.getType(), List.of()));
+    }
+
+    private RecentRecommendation recent(Clothes clothes, long minutesAgo) {
+        long recommendedAt = Instant.now().minus(minutesAgo, ChronoUnit.MINUTES).toEpochMilli();
+        return new RecentRecommendation(recommendedAt, clothes.getId(), clothes.getType());
+    }
+
+    private void givenEngineReturns(int... positions) {
+        when(recommendationEngine.rank(any(WardrobeIndex.class), any(int[].class), anyDouble(), any(Weather.class), anyBoolean(), anyInt(), anyLong()))
+            .thenAnswer(ranked(positions));
+    }
+
+    // 엔진 stub: 주어진 위치를 타입별 1위로 하는 순위 반환
+    private Answer<RankedSlots> ranked(int... positions) {
+        return invocation -> slots(invocation.getArgument(0), positions);
+    }
+
+    private RankedSlots slots(WardrobeIndex wardrobe, int[] positions) {
+        int[][] slots = new int[ClothesType.values().length][];
+        for (int position : positions) {
+            int type = wardrobe.typeOrdinal(position);
+            if (slots[type] == null) slots[type] = new int[]{position};
+        }
+        return new RankedSlots(slots);
     }
-}
\ No newline at end of file
+}
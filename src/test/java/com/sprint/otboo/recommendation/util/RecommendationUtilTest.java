@@ -3,28 +3,31 @@ package com.sprint.otboo.recommendation.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import com.sprint.otboo.clothing.dto.data.OotdDto;
 import com.sprint.otboo.clothing.entity.Clothes;
 import com.sprint.otboo.clothing.entity.ClothesAttribute;
 import com.sprint.otboo.clothing.entity.ClothesAttributeDef;
 import com.sprint.otboo.clothing.entity.ClothesType;
 import com.sprint.otboo.clothing.entity.attribute.Season;
 import com.sprint.otboo.clothing.entity.attribute.Thickness;
+import com.sprint.otboo.recommendation.cache.WardrobeIndex;
 import com.sprint.otboo.recommendation.entity.TemperatureCategory;
-import com.sprint.otboo.weather.dto.data.WeatherDto;
 import com.sprint.otboo.weather.entity.PrecipitationType;
 import com.sprint.otboo.weather.entity.SkyStatus;
 import com.sprint.otboo.weather.entity.Weather;
-import com.sprint.otboo.weather.entity.WeatherLocation;
-import com.sprint.otboo.weather.entity.WindStrength;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -250,8 +253,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 실행
-        RecommendationEngine engine = new RecommendationEngineImpl();
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 의상이 추천 목록에 포함되는지 검증
         assertThat(recommended).contains(springTop);
@@ -394,7 +396,7 @@ public class RecommendationUtilTest {
 
         // when: 추천할 체감온도를 직접 지정하여 테스트
         double perceivedTemp = 18.0;
-        List<Clothes> recommended = new RecommendationEngineImpl().recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 추천된 의상 ID 기준으로 검증
         List<UUID> recommendedIds = recommended.stream().map(Clothes::getId).toList();
@@ -456,10 +458,8 @@ public class RecommendationUtilTest {
         double perceivedTemp = WeatherUtils.calculatePerceivedTemperature(
             weather.getMaxC(), weather.getMinC(), weather.getSpeedMs(), 0.8, 2);
 
-        RecommendationEngine engine = new RecommendationEngineImpl();
-
         // when: 체감 온도 계산 및 추천 실행
-        List<Clothes> recommended = engine.recommend(List.of(springTop), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(springTop), perceivedTemp, weather, true);
 
         // then: 추천 목록에 의상 포함
         assertThat(recommended).contains(springTop);
@@ -489,8 +489,7 @@ public class RecommendationUtilTest {
         // when: 체감 온도 계산 및 추천 실행
         double perceivedTemp = WeatherUtils.calculatePerceivedTemperature(
             weather.getMaxC(), weather.getMinC(), weather.getSpeedMs(), 0.8, 3);
-        RecommendationEngine engine = new RecommendationEngineImpl();
-        List<Clothes> recommended = engine.recommend(List.of(summerTop), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(summerTop), perceivedTemp, weather, true);
 
         // then: 추천 목록에 의상 포함
         assertThat(recommended).contains(summerTop);
@@ -526,7 +525,7 @@ public class RecommendationUtilTest {
             weather.getSpeedMs(), 0.8,
             2
         );
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 외투가 추천 목록에 포함
         assertThat(recommended).contains(fallOuter);
@@ -557,8 +556,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = WeatherUtils.calculatePerceivedTemperature(
             weather.getMaxC(), weather.getMinC(), weather.getSpeedMs(), 0.8, 2);
 
-        RecommendationEngine engine = new RecommendationEngineImpl();
-        List<Clothes> recommended = engine.recommend(List.of(winterScarf), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(winterScarf), perceivedTemp, weather, true);
 
         // then: 스카프가 추천 목록에 포함
         assertThat(recommended).contains(winterScarf);
@@ -589,7 +587,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = WeatherUtils.calculatePerceivedTemperature(
             weather.getMaxC(), weather.getMinC(), weather.getSpeedMs(), 0.8, 2
         );
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(fallOuterHeavy), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(fallOuterHeavy), perceivedTemp, weather, true);
 
         // then: 의상이 추천 목록에 포함되지 않음
         assertThat(recommended).doesNotContain(fallOuterHeavy);
@@ -620,7 +618,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = WeatherUtils.calculatePerceivedTemperature(
             weather.getMaxC(), weather.getMinC(), weather.getSpeedMs(), 0.8, 2
         );
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 외투가 추천 목록에 포함되어야 함
         assertThat(recommended).contains(outer);
@@ -648,7 +646,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 16.0; // SPRING 범위 강제
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(springTop), perceivedTemp, weather,true);
+        List<Clothes> recommended = recommend(List.of(springTop), perceivedTemp, weather,true);
 
         // then: 의상이 추천 목록에 포함
         assertThat(recommended).extracting(Clothes::getId).contains(springTop.getId());
@@ -676,7 +674,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 16.0; // SPRING으로 분류
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(springTop), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(springTop), perceivedTemp, weather, true);
 
         // then: 의상이 추천 목록에 포함
         assertThat(recommended).extracting(Clothes::getId).contains(springTop.getId());
@@ -707,7 +705,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 의상이 추천 목록에 포함
         assertThat(recommended).contains(topWithThickness);
@@ -735,7 +733,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 16.0;
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(mediumTop), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(mediumTop), perceivedTemp, weather, true);
 
         // then: 의상이 추천 목록에 포함
         assertThat(recommended).extracting(Clothes::getId).contains(mediumTop.getId());
@@ -766,7 +764,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 16.0;
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(springMediumTop), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(springMediumTop), perceivedTemp, weather, true);
 
         // then: 의상이 추천 목록에 포함
         assertThat(recommended).extracting(Clothes::getId).contains(springMediumTop.getId());
@@ -794,7 +792,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 16.0; // SPRING 범위
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(summerTop), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(summerTop), perceivedTemp, weather, true);
 
         // then: 의상이 추천 목록에 포함되지 않음
         assertThat(recommended).extracting(Clothes::getId).doesNotContain(summerTop.getId());
@@ -826,7 +824,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 알고리즘 실행
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 외투가 추천 목록에 포함되어야 함 (OUTER 규칙)
         assertThat(recommended).contains(outer);
@@ -857,7 +855,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = WeatherUtils.calculatePerceivedTemperature(
             weather.getMaxC(), weather.getMinC(), weather.getSpeedMs(), 1.0, 0
         );
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 기본 추천 규칙 통과 확인
         assertThat(recommended).contains(outer);
@@ -888,7 +886,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = WeatherUtils.calculatePerceivedTemperature(
             weather.getMaxC(), weather.getMinC(), weather.getSpeedMs(), 1.0, 0
         );
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 기본 추천 규칙 통과 확인
         assertThat(recommended).contains(outer);
@@ -919,7 +917,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 수행
-        List<Clothes> recommended = recommendationEngine.recommend(
+        List<Clothes> recommended = recommend(
             List.of(springDress),
             perceivedTemp,
             weather,
@@ -957,7 +955,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 수행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(springDress), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(springDress), perceivedTemp, weather, false);
 
         // then: 추천 결과에 포함되지 않음
         assertThat(recommended).doesNotContain(springDress);
@@ -988,7 +986,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 수행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(summerDress), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(summerDress), perceivedTemp, weather, false);
 
         // then: 추천 결과에 포함되지 않음
         assertThat(recommended).doesNotContain(summerDress);
@@ -1019,7 +1017,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 수행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(fallDress), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(fallDress), perceivedTemp, weather, false);
 
         // then: 추천 결과에 포함되지 않음
         assertThat(recommended).doesNotContain(fallDress);
@@ -1050,7 +1048,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 수행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(winterDress), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(winterDress), perceivedTemp, weather, false);
 
         // then: 추천 결과에 포함되지 않음
         assertThat(recommended).doesNotContain(winterDress);
@@ -1081,7 +1079,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 수행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(summerDress), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(summerDress), perceivedTemp, weather, false);
 
         // then: 추천 결과에 포함
         assertThat(recommended).contains(summerDress);
@@ -1108,7 +1106,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 19.0; // 봄 HIGH 구간
 
         // when: 추천 알고리즘 실행
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: HAT 규칙에 따라 추천되어야 함
         assertThat(recommended).contains(hat);
@@ -1140,7 +1138,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 알고리즘 실행
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: SCARF 규칙에 따라 추천되어야 함
         assertThat(recommended).contains(scarf);
@@ -1169,7 +1167,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 알고리즘 실행
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 모든 타입이 규칙에 따라 추천되어야 함
         assertThat(recommended).containsExactlyInAnyOrder(outer, hat, scarf);
@@ -1194,7 +1192,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 18.0;
 
         // when: 추천 엔진 호출
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(basic), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(basic), perceivedTemp, weather, false);
 
         // then: 추천 결과에 포함
         assertThat(recommended).contains(basic);
@@ -1222,7 +1220,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 22.0; // SPRING
 
         // when: 추천 엔진 호출
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(unknownSeason), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(unknownSeason), perceivedTemp, weather, false);
 
         // then: 추천 통과
         assertThat(recommended).contains(unknownSeason);
@@ -1252,7 +1250,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 28.0; // SUMMER
 
         // when: 추천 엔진 호출
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(dress, top), perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(List.of(dress, top), perceivedTemp, weather, true);
 
         // then: DRESS 제외, TOP 포함
         assertThat(recommended).doesNotContain(dress);
@@ -1278,7 +1276,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 20.0; // SPRING, LOW/HIGH 상관없이 일교차 7도
 
         // when: 추천 엔진 호출
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(outer), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(outer), perceivedTemp, weather, false);
 
         // then: 추천 결과에 포함
         assertThat(recommended).contains(outer);
@@ -1308,7 +1306,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = -3.0; // WINTER, LOW
 
         // when: 추천 엔진 호출
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(winterTop), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(winterTop), perceivedTemp, weather, false);
 
         // then: 추천에서 제외
         assertThat(recommended).doesNotContain(winterTop);
@@ -1333,7 +1331,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 20.0;
 
         // when: 추천 엔진 호출
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(top), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(top), perceivedTemp, weather, false);
 
         // then: 추천 결과 포함
         assertThat(recommended).contains(top);
@@ -1353,7 +1351,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 18.0;
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(userClothes, perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, false);
 
         // then: 결과는 빈 리스트
         assertThat(recommended).isEmpty();
@@ -1381,7 +1379,7 @@ public class RecommendationUtilTest {
         double perceivedTemp = 16.0;
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(basic), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(basic), perceivedTemp, weather, false);
 
         // then: 기본 추천 통과
         assertThat(recommended).contains(basic);
@@ -1412,7 +1410,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 엔진 실행
-        List<Clothes> recommendedLow = recommendationEngine.recommend(List.of(outer), perceivedTempLow, weatherLow, false);
+        List<Clothes> recommendedLow = recommend(List.of(outer), perceivedTempLow, weatherLow, false);
 
         // then: LOW/HIGH 경계값 의상이 추천 목록에 포함되어야 함
         assertThat(recommendedLow).contains(outer);
@@ -1442,7 +1440,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(outer), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(outer), perceivedTemp, weather, false);
 
         // then: 강제추천 포함 확인
         assertThat(recommended).contains(outer);
@@ -1472,7 +1470,7 @@ public class RecommendationUtilTest {
         );
 
         // when: 추천 실행
-        List<Clothes> recommended = recommendationEngine.recommend(List.of(outer), perceivedTemp, weather, false);
+        List<Clothes> recommended = recommend(List.of(outer), perceivedTemp, weather, false);
 
         // then: 속성이 없어도 강제추천 포함 확인
         assertThat(recommended).contains(outer);
@@ -1495,22 +1493,10 @@ public class RecommendationUtilTest {
             .minC(0.0)
             .build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        // private 필드 windSpeed에 접근하기 위한 리플렉션 설정
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-
-        // 테스트 대상 엔진 인스턴스에 현재 날씨의 풍속(ms 단위)을 주입
-        windField.set(engine, weather.getSpeedMs());
-
-        // private 메서드 isForcedOuterRecommendation(...) 호출을 위한 리플렉션 설정
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.SPRING, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: OUTER 강제 추천 true
         assertThat(result).isTrue();
@@ -1528,18 +1514,10 @@ public class RecommendationUtilTest {
             .skyStatus(SkyStatus.CLEAR)
             .type(PrecipitationType.NONE).build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.SPRING, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 추천되어야 함
         assertThat(result).isTrue();
@@ -1557,18 +1535,10 @@ public class RecommendationUtilTest {
             .skyStatus(SkyStatus.CLEAR)
             .type(PrecipitationType.NONE).build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.SPRING, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 추천되어야 함
         assertThat(result).isTrue();
@@ -1586,18 +1556,10 @@ public class RecommendationUtilTest {
             .skyStatus(SkyStatus.CLEAR)
             .type(PrecipitationType.NONE).build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.SPRING, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 추천되지 않아야 함
         assertThat(result).isFalse();
@@ -1615,18 +1577,10 @@ public class RecommendationUtilTest {
             .skyStatus(SkyStatus.CLEAR)
             .type(PrecipitationType.NONE).build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.SPRING, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 추천되지 않아야 함
         assertThat(result).isFalse();
@@ -1649,18 +1603,10 @@ public class RecommendationUtilTest {
             .minC(0.0)
             .build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.FALL, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.FALL, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: OUTER 강제 추천 true
         assertThat(result).isTrue();
@@ -1678,18 +1624,10 @@ public class RecommendationUtilTest {
             .skyStatus(SkyStatus.CLOUDY)
             .type(PrecipitationType.NONE).build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.FALL, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.FALL, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 추천되어야 함
         assertThat(result).isTrue();
@@ -1707,18 +1645,10 @@ public class RecommendationUtilTest {
             .skyStatus(SkyStatus.MOSTLY_CLOUDY)
             .type(PrecipitationType.NONE).build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.FALL, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.FALL, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 추천되어야 함
         assertThat(result).isTrue();
@@ -1740,14 +1670,10 @@ public class RecommendationUtilTest {
             .type(PrecipitationType.NONE)
             .build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.FALL, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.FALL, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 조건 미충족 → 추천되지 않아야 함
         assertThat(result).isFalse();
@@ -1765,18 +1691,10 @@ public class RecommendationUtilTest {
             .skyStatus(SkyStatus.MOSTLY_CLOUDY)
             .type(PrecipitationType.NONE).build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.FALL, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.FALL, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 조건 미충족 → 추천되지 않아야 함
         assertThat(result).isFalse();
@@ -1795,18 +1713,10 @@ public class RecommendationUtilTest {
             .type(PrecipitationType.NONE)
             .build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
-        // given: 일교차 7도, 바람 약함, 맑음
-        boolean result = (Boolean) method.invoke(engine, outer, Season.SPRING, weather);
+        // when: OUTER 타입, 봄 기준 호출
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 일교차가 커서 OUTER 추천 true
         assertThat(result).isTrue();
@@ -1825,18 +1735,10 @@ public class RecommendationUtilTest {
             .type(PrecipitationType.NONE)
             .build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: OUTER 타입, 가을 기준 호출
-        boolean result = (Boolean) method.invoke(engine, outer, Season.FALL, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.FALL, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 조건 충족으로 OUTER 추천 true
         assertThat(result).isTrue();
@@ -1848,13 +1750,10 @@ public class RecommendationUtilTest {
         Clothes top = Clothes.builder().type(ClothesType.TOP).build();
         Weather weather = Weather.builder().currentC(12.0).build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: OUTER가 아닌 의상으로 호출
-        boolean result = (Boolean) method.invoke(engine, top, Season.SPRING, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(top.getType());
 
         // then: 즉시 false 반환
         assertThat(result).isFalse();
@@ -1873,18 +1772,10 @@ public class RecommendationUtilTest {
             .type(PrecipitationType.NONE)
             .build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.SUMMER, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SUMMER, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 봄/가을이 아니므로 추천되지 않아야 함
         assertThat(result).isFalse();
@@ -1903,18 +1794,10 @@ public class RecommendationUtilTest {
             .type(PrecipitationType.NONE)
             .build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.FALL, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.FALL, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 풍속과 구름 조건 미달 → 추천되지 않아야 함
         assertThat(result).isFalse();
@@ -1933,18 +1816,10 @@ public class RecommendationUtilTest {
             .type(PrecipitationType.NONE)
             .build();
 
-        RecommendationEngineImpl engine = (RecommendationEngineImpl) recommendationEngine;
-
-        Field windField = RecommendationEngineImpl.class.getDeclaredField("windSpeed");
-        windField.setAccessible(true);
-        windField.set(engine, weather.getSpeedMs());
-
-        Method method = RecommendationEngineImpl.class
-            .getDeclaredMethod("isForcedOuterRecommendation", Clothes.class, Season.class, Weather.class);
-        method.setAccessible(true);
-
         // when: 강제 추천 여부 판단
-        boolean result = (Boolean) method.invoke(engine, outer, Season.SPRING, weather);
+        boolean result = RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType());
 
         // then: 최고최저온도로 rule1과 rule2 조건 계산 → 추천되어야 함
         assertThat(result).isTrue();
@@ -2138,10 +2013,8 @@ public class RecommendationUtilTest {
             weather.getMaxC(), weather.getMinC(), weather.getSpeedMs(), 0.8, 2
         );
 
-        RecommendationEngine engine = new RecommendationEngineImpl();
-
         // when: 추천 실행
-        List<Clothes> recommended = engine.recommend(userClothes, perceivedTemp, weather, true);
+        List<Clothes> recommended = recommend(userClothes, perceivedTemp, weather, true);
 
         // then: 필터링 결과 확인
         Set<UUID> recommendedIds = recommended.stream()
@@ -2168,101 +2041,170 @@ public class RecommendationUtilTest {
     }
 
     @Test
-    void WeatherDto_정상매핑_검증() throws Exception {
-        // given: WeatherLocation + Weather 구성
-        WeatherLocation location = WeatherLocation.builder()
-            .id(UUID.randomUUID())
-            .latitude(new BigDecimal("37.5665"))
-            .longitude(new BigDecimal("126.9780"))
-            .x(60)
-            .y(127)
-            .locationNames("서울/중구/태평로1가")
-            .createdAt(Instant.now())
-            .build();
-
-        Weather weather = Weather.builder()
-            .id(UUID.randomUUID())
-            .forecastedAt(Instant.parse("2025-10-20T03:00:00Z"))
-            .forecastAt(Instant.parse("2025-10-21T03:00:00Z"))
-            .location(location)
-            .skyStatus(SkyStatus.CLOUDY)
-            .asWord(WindStrength.MODERATE)
-            .type(PrecipitationType.RAIN)
-            .speedMs(3.2)
-            .currentPct(55.0)
-            .comparedPct(-10.0)
-            .currentC(18.5)
-            .comparedC(-1.5)
-            .minC(16.0)
-            .maxC(22.0)
-            .amountMm(2.5)
-            .probability(80.0)
-            .build();
-
-        // when: private 메서드 toWeatherDto 호출
-        Method method = RecommendationEngineImpl.class.getDeclaredMethod("toWeatherDto", Weather.class);
-        method.setAccessible(true);
-        WeatherDto dto = (WeatherDto) method.invoke(recommendationEngine, weather);
-
-        // then: BigDecimal 안전 변환 + 매핑 검증
-        assertThat(dto.id()).isEqualTo(weather.getId());
-        assertThat(dto.skyStatus()).isEqualTo("CLOUDY");
-        assertThat(dto.location().latitude()).isEqualTo(37.5665);
-        assertThat(dto.location().longitude()).isEqualTo(126.9780);
-        assertThat(dto.location().x()).isEqualTo(60);
-        assertThat(dto.location().y()).isEqualTo(127);
-        assertThat(dto.location().locationNames()).containsExactly("서울", "중구", "태평로1가");
-        assertThat(dto.precipitation().type()).isEqualTo("RAIN");
-        assertThat(dto.temperature().max()).isEqualTo(22.0);
-        assertThat(dto.humidity().current()).isEqualTo(55.0);
-        assertThat(dto.windSpeed().asWord()).isEqualTo("MODERATE");
-    }
-
-    @Test
-    void WeatherDto_null안전_검증() throws Exception {
-        // given: 일부 null 필드 포함한 Weather 엔티티
-        WeatherLocation location = WeatherLocation.builder()
-            .latitude(null)
-            .longitude(null)
-            .x(null)
-            .y(null)
-            .locationNames(null)
-            .createdAt(Instant.now())
-            .build();
-
+    void 날씨_필드가_모두_null이어도_결정테이블_컴파일() {
+        // given: 하늘 상태/강수/풍속/기온이 모두 null인 날씨, OUTER 의상
         Weather weather = Weather.builder()
-            .location(location)
             .forecastedAt(Instant.now())
             .forecastAt(Instant.now())
             .skyStatus(null)
             .asWord(null)
             .type(null)
             .speedMs(null)
-            .currentPct(null)
-            .comparedPct(null)
             .currentC(null)
-            .comparedC(null)
             .minC(null)
             .maxC(null)
-            .amountMm(null)
-            .probability(null)
             .build();
+        Clothes outer = Clothes.builder().type(ClothesType.OUTER).build();
 
-        // when: 변환 수행
-        Method method = RecommendationEngineImpl.class.getDeclaredMethod("toWeatherDto", Weather.class);
-        method.setAccessible(true);
-        WeatherDto dto = (WeatherDto) method.invoke(recommendationEngine, weather);
-
-        // then: null-safe 결과 확인
-        assertThat(dto.location().latitude()).isZero();
-        assertThat(dto.location().longitude()).isZero();
-        assertThat(dto.location().x()).isZero();
-        assertThat(dto.location().y()).isZero();
-        assertThat(dto.location().locationNames()).isEmpty();
-        assertThat(dto.skyStatus()).isEmpty();
-        assertThat(dto.precipitation().type()).isEqualTo("NONE");
-        assertThat(dto.temperature().max()).isZero();
-        assertThat(dto.humidity().current()).isZero();
-        assertThat(dto.windSpeed().asWord()).isEmpty();
+        // when & then: 예외 없이 컴파일되고, 강제 추천 조건은 충족하지 않음
+        assertThatCode(() -> RecommendationEngineImpl.RuleTable.compile(Season.SPRING, TemperatureCategory.LOW, weather))
+            .doesNotThrowAnyException();
+        assertThat(RecommendationEngineImpl.RuleTable
+            .compile(Season.SPRING, TemperatureCategory.LOW, weather)
+            .isForced(outer.getType())).isFalse();
+        assertThat(recommend(List.of(outer), 0.0, weather, false)).contains(outer); // WINTER
+    }
+
+    @Test
+    void 동시_추천_요청간_날씨_조건이_섞이지_않음() throws Exception {
+        // given: 같은 엔진 인스턴스, 강풍 날씨(DRESS 제외)와 무풍 날씨(DRESS 추천)
+        Clothes dress = Clothes.builder()
+            .id(UUID.randomUUID())
+            .type(ClothesType.DRESS)
+            .build();
+        Weather windy = Weather.builder()
+            .speedMs(6.0)
+            .skyStatus(SkyStatus.CLEAR)
+            .type(PrecipitationType.NONE)
+            .build();
+        Weather calm = Weather.builder()
+            .speedMs(0.0)
+            .skyStatus(SkyStatus.CLEAR)
+            .type(PrecipitationType.NONE)
+            .build();
+        double perceivedTemp = 15.0; // SPRING
+
+        // when: 두 날씨로 번갈아 동시에 추천
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                boolean useWindy = i % 2 == 0;
+                results.add(executor.submit(() -> {
+                    List<Clothes> recommended = recommend(
+                        List.of(dress), perceivedTemp, useWindy ? windy : calm, false);
+                    return recommended.contains(dress) == !useWindy;
+                }));
+            }
+
+            // then: 모든 요청이 자신의 날씨 기준으로 판정됨
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 점수순위_속성으로_확인된_의상이_우선() {
+        // given: 봄 LOW(16°C), 속성 없는 상의 / 계절만 일치 / 계절+두께(MEDIUM) 일치
+        Clothes plainTop = Clothes.builder().id(UUID.randomUUID()).type(ClothesType.TOP).build();
+        Clothes springTop = topWith(ClothesAttribute.create(null,
+            ClothesAttributeDef.builder().name("season").build(), "SPRING"));
+        Clothes springMediumTop = topWith(
+            ClothesAttribute.create(null, ClothesAttributeDef.builder().name("season").build(), "SPRING"),
+            ClothesAttribute.create(null, ClothesAttributeDef.builder().name("thickness").build(), "MEDIUM"));
+        WardrobeIndex wardrobe = indexOf(plainTop, springTop, springMediumTop);
+
+        // when: 타입별 상위 3개
+        RankedSlots ranked = recommendationEngine.rank(
+            wardrobe, new int[]{0, 1, 2}, 16.0, calmWeather(), false, 3, 42L);
+
+        // then: 속성으로 적합함이 확인된 순서대로 정렬
+        assertThat(ranked.alternates(ClothesType.TOP)).containsExactly(2, 1, 0);
+        assertThat(ranked.best()).containsExactly(2);
+    }
+
+    @Test
+    void 점수순위_같은_시드면_후보_순서와_무관하게_동일() {
+        // given: 점수가 같은 상의 5벌
+        WardrobeIndex wardrobe = indexOf(plainTops(5).toArray(Clothes[]::new));
+
+        // when: 같은 시드, 후보 순서만 다르게
+        RankedSlots forward = recommendationEngine.rank(
+            wardrobe, new int[]{0, 1, 2, 3, 4}, 16.0, calmWeather(), false, 5, 7L);
+        RankedSlots reversed = recommendationEngine.rank(
+            wardrobe, new int[]{4, 3, 2, 1, 0}, 16.0, calmWeather(), false, 5, 7L);
+
+        // then: 동점 순서가 시드로만 결정됨
+        assertThat(reversed.alternates(ClothesType.TOP)).containsExactly(forward.alternates(ClothesType.TOP));
+        assertThat(forward.alternates(ClothesType.TOP)).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void 점수순위_k개만_유지하고_규칙_불일치는_제외() {
+        // given: 속성 없는 상의 5벌 + 여름 상의 1벌 (봄 날씨에서 계절 불일치)
+        List<Clothes> clothes = new ArrayList<>(plainTops(5));
+        clothes.add(topWith(ClothesAttribute.create(null,
+            ClothesAttributeDef.builder().name("season").build(), "SUMMER")));
+        WardrobeIndex wardrobe = indexOf(clothes.toArray(Clothes[]::new));
+
+        // when: 타입별 상위 2개
+        RankedSlots ranked = recommendationEngine.rank(
+            wardrobe, new int[]{0, 1, 2, 3, 4, 5}, 16.0, calmWeather(), false, 2, 1L);
+
+        // then: 상의 슬롯은 2개, 여름 상의와 없는 타입은 제외
+        assertThat(ranked.alternates(ClothesType.TOP)).hasSize(2).doesNotContain(5);
+        assertThat(ranked.alternates(ClothesType.DRESS)).isEmpty();
+        assertThat(ranked.best()).hasSize(1);
+    }
+
+    /**
+     * 서비스와 같은 진입점({@link RecommendationEngine#rank})으로 타입별 대표 의상만 추출
+     * <p>
+     * 동점 순서 계산에 의상 ID가 필요하므로, ID 없이 만든 테스트 의상은 같은 타입/속성의 임시 의상으로 인덱싱한다.
+     */
+    private List<Clothes> recommend(List<Clothes> clothes, double perceivedTemp, Weather weather, boolean excludeDress) {
+        List<Clothes> typed = clothes.stream().filter(c -> c.getType() != null).toList();
+        WardrobeIndex wardrobe = indexOf(typed.stream()
+            .map(c -> c.getId() != null ? c
+                : Clothes.builder().id(UUID.randomUUID()).type(c.getType()).attributes(c.getAttributes()).build())
+            .toArray(Clothes[]::new));
+        int[] candidates = IntStream.range(0, wardrobe.size()).toArray();
+
+        RankedSlots ranked = recommendationEngine.rank(wardrobe, candidates, perceivedTemp, weather, excludeDress, 1, 0L);
+        return Arrays.stream(ranked.best()).mapToObj(typed::get).toList();
+    }
+
+    private Clothes topWith(ClothesAttribute... attributes) {
+        return Clothes.builder()
+            .id(UUID.randomUUID())
+            .type(ClothesType.TOP)
+            .attributes(List.of(attributes))
+            .build();
+    }
+
+    private List<Clothes> plainTops(int count) {
+        List<Clothes> tops = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tops.add(Clothes.builder().id(UUID.randomUUID()).type(ClothesType.TOP).build());
+        }
+        return tops;
+    }
+
+    private WardrobeIndex indexOf(Clothes... clothes) {
+        return WardrobeIndex.of(0L, List.of(clothes), c ->
+            new OotdDto(c.getId(), c.getName(), null, c.getType(), List.of()));
+    }
+
+    private Weather calmWeather() {
+        return Weather.builder()
+            .maxC(17.0)
+            .minC(15.0)
+            .speedMs(1.0)
+            .skyStatus(SkyStatus.CLEAR)
+            .type(PrecipitationType.NONE)
+            .build();
     }
 }
\ No newline at end of file
@@ -8,7 +8,7 @@ import com.sprint.otboo.weather.entity.SkyStatus;
 import com.sprint.otboo.weather.entity.WindStrength;
 import com.sprint.otboo.weather.entity.Weather;
 import com.sprint.otboo.weather.entity.WeatherLocation;
-import com.sprint.otboo.weather.integration.spi.WeatherDataClient;
+import com.sprint.otboo.weather.integration.owm.client.OwmClientAdapter;
 import com.sprint.otboo.weather.integration.spi.WeatherDataClient.CollectedForecast;
 import com.sprint.otboo.weather.repository.WeatherLocationRepository;
 import com.sprint.otboo.weather.repository.WeatherRepository;
@@ -23,7 +23,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.test.JobLauncherTestUtils;
@@ -34,22 +37,25 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
 
 @SpringBatchTest
 @SpringBootTest(properties = {
     "spring.main.allow-bean-definition-overriding=true",
     "weather.owm.enabled=true",
     "weather.kma.enabled=false",
+    // 조회 기록(Redis) 없이 전체 위치 갱신
+    "weather.refresh.demand-driven=false",
     // DB 제약(0..1)에 맞춰 확률을 0..1로 저장
     "weather.owm.probability-percent=false"
 })
 @Import({
     JpaAuditingConfig.class,
-    WeatherCollectTaskletOwmTest.TestStubConfig.class
+    WeatherForecastJobOwmTest.TestStubConfig.class
 })
 @ActiveProfiles("test")
-@DisplayName("WeatherCollectTaskletOwm 테스트")
-class WeatherCollectTaskletOwmTest {
+@DisplayName("WeatherForecastJob(OWM) 테스트")
+class WeatherForecastJobOwmTest {
 
     @Autowired Job weatherForecastJob;
     @Autowired JobLauncherTestUtils jobLauncherTestUtils;
@@ -104,7 +110,8 @@ class WeatherCollectTaskletOwmTest {
             .toJobParameters();
 
         jobLauncherTestUtils.setJob(weatherForecastJob);
-        jobLauncherTestUtils.launchJob(params);
+        JobExecution execution = jobLauncherTestUtils.launchJob(params);
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
 
         long afterCount = weatherRepository.count();
         assertThat(afterCount).isGreaterThanOrEqualTo(beforeCount);
@@ -143,12 +150,34 @@ class WeatherCollectTaskletOwmTest {
         assertThat(weatherRepository.count()).isZero();
     }
 
+    @Test
+    void 파티션별_처리량이_스텝_메타데이터에_기록된다() throws Exception {
+        JobParameters params = new JobParametersBuilder()
+            .addLong("executionTime", System.currentTimeMillis())
+            .toJobParameters();
+
+        jobLauncherTestUtils.setJob(weatherForecastJob);
+        JobExecution execution = jobLauncherTestUtils.launchJob(params);
+
+        List<StepExecution> workers = execution.getStepExecutions().stream()
+            .filter(se -> se.getStepName().startsWith("collectForecastWorkerStep"))
+            .toList();
+
+        assertThat(workers).isNotEmpty();
+        assertThat(workers).allSatisfy(se -> {
+            assertThat(se.getExecutionContext().containsKey("elapsed.ms")).isTrue();
+            assertThat(se.getExecutionContext().containsKey("throughput.locationsPerSec")).isTrue();
+        });
+        assertThat(workers.stream().mapToLong(StepExecution::getWriteCount).sum()).isPositive();
+    }
+
     static class TestStubConfig {
 
+        // 동기(WeatherDataClient)/비동기(ReactiveWeatherDataClient) 주입 지점 모두 스텁으로 대체
         @Bean
         @Primary
-        WeatherDataClient stubWeatherDataClient() {
-            WeatherDataClient stub = Mockito.mock(WeatherDataClient.class);
+        OwmClientAdapter stubWeatherDataClient() {
+            OwmClientAdapter stub = Mockito.mock(OwmClientAdapter.class);
             Instant fixedForecastAt = Instant.parse("2025-10-23T06:00:00Z");
 
             List<CollectedForecast> fake = List.of(
@@ -160,6 +189,8 @@ class WeatherCollectTaskletOwmTest {
 
             Mockito.when(stub.fetch(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.any(Locale.class)))
                 .thenReturn(fake);
+            Mockito.when(stub.fetchAsync(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.any(Locale.class)))
+                .thenReturn(Mono.just(fake));
             return stub;
         }
 
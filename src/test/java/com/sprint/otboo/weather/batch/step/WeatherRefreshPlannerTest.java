@@ -0,0 +1,110 @@
+package com.sprint.otboo.weather.batch.step;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import com.sprint.otboo.weather.batch.step.WeatherRefreshPlanner.RefreshPlan;
+import com.sprint.otboo.weather.cache.WeatherLocationAccessTracker;
+import com.sprint.otboo.weather.repository.WeatherLocationRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeatherRefreshPlanner 테스트")
+class WeatherRefreshPlannerTest {
+
+    // KST 09:30 → 9 % 3 == 0 (warm 포함), KST 10:30 → warm 제외
+    private static final Instant WARM_RUN = Instant.parse("2025-10-20T00:30:00Z");
+    private static final Instant HOT_ONLY_RUN = Instant.parse("2025-10-20T01:30:00Z");
+
+    @Mock private WeatherLocationAccessTracker accessTracker;
+    @Mock private WeatherLocationRepository locationRepository;
+
+    private WeatherRefreshPlanner planner;
+
+    private final UUID hot = UUID.randomUUID();
+    private final UUID warmAccessed = UUID.randomUUID();
+    private final UUID profileCell = UUID.randomUUID();
+    private final UUID cold = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        planner = new WeatherRefreshPlanner(accessTracker, locationRepository, true, 24, 7, 3);
+    }
+
+    @Test
+    void warm_주기_실행이면_hot과_warm을_모두_갱신하고_cold는_제외한다() {
+        // given
+        stubAccess(WARM_RUN);
+
+        // when
+        RefreshPlan plan = planner.planFor(WARM_RUN);
+
+        // then
+        assertThat(plan.isDue(hot)).isTrue();
+        assertThat(plan.isDue(warmAccessed)).isTrue();
+        assertThat(plan.isDue(profileCell)).isTrue();
+        assertThat(plan.isDue(cold)).isFalse();
+    }
+
+    @Test
+    void warm_주기가_아니면_hot만_갱신한다() {
+        // given
+        stubAccess(HOT_ONLY_RUN);
+
+        // when
+        RefreshPlan plan = planner.planFor(HOT_ONLY_RUN);
+
+        // then
+        assertThat(plan.isDue(hot)).isTrue();
+        assertThat(plan.isDue(warmAccessed)).isFalse();
+        assertThat(plan.isDue(profileCell)).isFalse();
+        assertThat(plan.isDue(cold)).isFalse();
+    }
+
+    @Test
+    void 같은_실행시각이면_계획을_한_번만_계산한다() {
+        // given
+        stubAccess(WARM_RUN);
+
+        // when
+        RefreshPlan first = planner.planFor(WARM_RUN);
+        RefreshPlan second = planner.planFor(WARM_RUN);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void 조회_기록을_읽지_못하면_전체_갱신으로_폴백한다() {
+        // given
+        given(accessTracker.accessedSince(anyLong()))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        RefreshPlan plan = planner.planFor(WARM_RUN);
+
+        // then
+        assertThat(plan.all()).isTrue();
+        assertThat(plan.isDue(cold)).isTrue();
+    }
+
+    private void stubAccess(Instant executionTime) {
+        given(accessTracker.accessedSince(anyLong())).willReturn(Map.of(
+            hot, executionTime.minus(2, ChronoUnit.HOURS).toEpochMilli(),
+            warmAccessed, executionTime.minus(3, ChronoUnit.DAYS).toEpochMilli()
+        ));
+        given(locationRepository.findIdsInUserProfileGrids()).willReturn(List.of(profileCell));
+    }
+}
@@ -0,0 +1,136 @@
+package com.sprint.otboo.weather.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.otboo.weather.dto.response.WeatherLocationResponse;
+import com.sprint.otboo.weather.entity.WeatherLocation;
+import com.sprint.otboo.weather.mapper.WeatherMapper;
+import com.sprint.otboo.weather.repository.WeatherLocationRepository;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("WeatherLocationGridIndex 테스트")
+@ExtendWith(MockitoExtension.class)
+class WeatherLocationGridIndexTest {
+
+    @Mock
+    private WeatherLocationRepository repository;
+
+    @Mock
+    private WeatherMapper mapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WeatherLocationGridIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WeatherLocationGridIndex(repository, mapper, transactionManager);
+        given(mapper.toLocationResponse(any(WeatherLocation.class))).willAnswer(inv -> {
+            WeatherLocation e = inv.getArgument(0);
+            return new WeatherLocationResponse(
+                e.getLatitude().doubleValue(), e.getLongitude().doubleValue(), e.getX(), e.getY(), List.of());
+        });
+    }
+
+    @Test
+    void 기동시_저장된_위치로_채워지고_격자당_먼저_생성된_위치가_대표가_된다() {
+        // given
+        WeatherLocation older = location(60, 127, Instant.parse("2025-01-01T00:00:00Z"));
+        WeatherLocation newer = location(60, 127, Instant.parse("2025-02-01T00:00:00Z"));
+        given(repository.findAll()).willReturn(List.of(newer, older));
+
+        // when
+        index.warmUp();
+
+        // then
+        assertThat(index.find(60, 127)).get()
+            .extracting(WeatherLocationGridIndex.Cell::locationId)
+            .isEqualTo(older.getId());
+        assertThat(index.find(61, 127)).isEmpty();
+        assertThat(index.find(-1, 600)).isEmpty();
+    }
+
+    @Test
+    void 같은_격자의_동시_생성_요청은_한_번만_저장한다() throws Exception {
+        // given
+        given(repository.findFirstByXAndY(anyInt(), anyInt())).willReturn(Optional.empty());
+        given(repository.save(any(WeatherLocation.class))).willAnswer(inv -> inv.getArgument(0));
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<WeatherLocationGridIndex.Cell>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return index.getOrCreate(60, 127, () -> {
+                        created.incrementAndGet();
+                        return location(60, 127, Instant.now());
+                    });
+                }));
+            }
+            start.countDown();
+
+            // then
+            UUID first = futures.get(0).get().locationId();
+            for (Future<WeatherLocationGridIndex.Cell> f : futures) {
+                assertThat(f.get().locationId()).isEqualTo(first);
+            }
+            assertThat(created.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 다른_인스턴스가_이미_만든_격자는_새로_저장하지_않고_재사용한다() {
+        // given
+        WeatherLocation existing = location(98, 76, Instant.now());
+        given(repository.findFirstByXAndY(98, 76)).willReturn(Optional.of(existing));
+
+        // when
+        WeatherLocationGridIndex.Cell cell = index.getOrCreate(98, 76, () -> {
+            throw new AssertionError("factory must not be called");
+        });
+
+        // then
+        assertThat(cell.locationId()).isEqualTo(existing.getId());
+        assertThat(index.find(98, 76)).isPresent();
+        verify(repository, never()).save(any());
+    }
+
+    private static WeatherLocation location(int x, int y, Instant createdAt) {
+        WeatherLocation wl = WeatherLocation.builder().build();
+        wl.setId(UUID.randomUUID());
+        wl.setLatitude(BigDecimal.valueOf(37.5665));
+        wl.setLongitude(BigDecimal.valueOf(126.9780));
+        wl.setX(x);
+        wl.setY(y);
+        wl.setCreatedAt(createdAt);
+        return wl;
+    }
+}
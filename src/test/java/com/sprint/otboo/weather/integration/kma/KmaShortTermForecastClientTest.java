@@ -10,11 +10,14 @@ import com.sprint.otboo.weather.integration.kma.dto.KmaForecastItem;
 import com.sprint.otboo.weather.integration.kma.dto.KmaForecastResponse;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -191,4 +194,35 @@ class KmaShortTermForecastClientTest {
         Map<String,String> params = builder.toParams(37.5665,126.9780, Instant.parse("2025-09-24T10:05:00Z"));
         assertThrows(RuntimeException.class, () -> client.getVilageFcst(params));
     }
+
+    @Test
+    @DisplayName("totalCount가 여러 페이지면 나머지 페이지를 모두 조회해 페이지 순서대로 병합해야 한다")
+    void 다중_페이지_병합() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String pageNo = request.getRequestUrl().queryParameter("pageNo");
+                String body = """
+                    { "response": { "header": { "resultCode": "00" }, "body": { "items": { "item": [
+                      { "category": "TMP", "fcstDate": "20250924", "fcstTime": "%s00", "fcstValue": "20" },
+                      { "category": "REH", "fcstDate": "20250924", "fcstTime": "%s00", "fcstValue": "60" }
+                    ] }, "totalCount": 6 } } }
+                    """.formatted(pageNo, pageNo);
+                return new MockResponse()
+                    .setBody(body)
+                    .addHeader("Content-Type", "application/json")
+                    .setResponseCode(200);
+            }
+        });
+
+        Map<String, String> params = new LinkedHashMap<>(
+            builder.toParams(37.5665, 126.9780, Instant.parse("2025-09-24T10:05:00Z")));
+        params.put("numOfRows", "2");
+        KmaForecastResponse resp = client.getVilageFcst(params);
+
+        assertThat(server.getRequestCount()).isEqualTo(3);
+        assertThat(resp.getItems()).hasSize(6);
+        assertThat(resp.getItems()).extracting(KmaForecastItem::getFcstTime)
+            .containsExactly("100", "100", "200", "200", "300", "300");
+    }
 }
@@ -0,0 +1,165 @@
+package com.sprint.otboo.weather.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 운영 스키마(schema.sql)의 파티션 DDL과 보존 작업 SQL을 실제 PostgreSQL에서 검증
+ */
+@Testcontainers
+@DisplayName("WeatherPartitionRepository PostgreSQL 테스트")
+class WeatherPartitionRepositoryTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private WeatherPartitionRepository repository;
+    private UUID locationId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()
+        );
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new WeatherPartitionRepository(jdbcTemplate);
+
+        locationId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO weather_locations (id, latitude, longitude, x, y, location_names, created_at)
+            VALUES (?, 37.5665, 126.9780, 60, 127, '서울특별시 중구', now())
+            """, locationId);
+        userId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO users (id, email, name, role, created_at, provider)
+            VALUES (?, 'user@test.com', 'user', 'USER', now(), 'GENERAL')
+            """, userId);
+    }
+
+    @Test
+    void 운영_스키마의_weathers는_파티션_테이블이고_기본_파티션과_아카이브가_분리되어_있다() {
+        assertThat(repository.isPartitioned()).isTrue();
+        assertThat(partitions()).containsExactlyInAnyOrder(
+            WeatherPartitionRepository.DEFAULT_PARTITION, WeatherPartitionRepository.ARCHIVE_PARTITION
+        );
+    }
+
+    @Test
+    void 일_파티션을_만들면_기본_파티션에_있던_해당_일_행을_옮긴다() {
+        // given: 파티션이 없는 날의 행은 기본 파티션에 들어간다
+        LocalDate day = LocalDate.of(2025, 10, 26);
+        UUID weatherId = insertWeather(day);
+        assertThat(partitionOf(weatherId)).isEqualTo(WeatherPartitionRepository.DEFAULT_PARTITION);
+
+        // when
+        boolean created = repository.createDailyPartition(day);
+
+        // then
+        assertThat(created).isTrue();
+        assertThat(repository.createDailyPartition(day)).isFalse();
+        assertThat(repository.findDailyPartitionDays()).containsExactly(day);
+        assertThat(partitionOf(weatherId)).isEqualTo(WeatherPartitionRepository.partitionName(day));
+    }
+
+    @Test
+    void 일_파티션을_삭제하면_참조_행만_아카이브에_남고_아카이브_범위가_넓어진다() {
+        // given: 일 파티션의 행 2개 중 1개는 피드가 참조, 파티션 없이 기본 파티션에 남은 과거 행 2개 중 1개는 추천이 참조
+        LocalDate day = LocalDate.of(2025, 10, 26);
+        repository.createDailyPartition(day);
+        UUID referenced = insertWeather(day);
+        UUID unreferenced = insertWeather(day);
+        insertFeed(referenced);
+
+        UUID oldReferenced = insertWeather(day.minusDays(3));
+        UUID oldUnreferenced = insertWeather(day.minusDays(3));
+        insertRecommendation(oldReferenced);
+
+        // when
+        int archived = repository.archiveAndDropDailyPartition(day);
+
+        // then
+        assertThat(archived).isEqualTo(2);
+        assertThat(repository.findDailyPartitionDays()).isEmpty();
+        assertThat(partitionOf(referenced)).isEqualTo(WeatherPartitionRepository.ARCHIVE_PARTITION);
+        assertThat(partitionOf(oldReferenced)).isEqualTo(WeatherPartitionRepository.ARCHIVE_PARTITION);
+        assertThat(partitionOf(unreferenced)).isNull();
+        assertThat(partitionOf(oldUnreferenced)).isNull();
+        assertThat(repository.countDanglingWeatherReferences()).isZero();
+
+        // 아카이브 범위 밖(다음 날)은 다시 기본 파티션으로 들어간다
+        UUID nextDay = insertWeather(day.plusDays(1));
+        assertThat(partitionOf(nextDay)).isEqualTo(WeatherPartitionRepository.DEFAULT_PARTITION);
+    }
+
+    @Test
+    void 예보를_잃은_피드와_추천을_센다() {
+        insertFeed(UUID.randomUUID());
+        insertRecommendation(UUID.randomUUID());
+        insertRecommendation(insertWeather(LocalDate.of(2025, 10, 26)));
+
+        assertThat(repository.countDanglingWeatherReferences()).isEqualTo(2);
+    }
+
+    private UUID insertWeather(LocalDate day) {
+        UUID id = UUID.randomUUID();
+        Instant forecastAt = day.atTime(9, 0).atZone(KST).toInstant();
+        jdbcTemplate.update("""
+            INSERT INTO weathers (
+                id, forecasted_at, forecast_at, sky_status, created_at, location_id,
+                as_word, current_c, type, probability
+            ) VALUES (?, ?, ?, 'CLEAR', now(), ?, 'WEAK', 20, 'NONE', 0)
+            """, id, Timestamp.from(forecastAt.minusSeconds(3600)), Timestamp.from(forecastAt), locationId);
+        return id;
+    }
+
+    private void insertFeed(UUID weatherId) {
+        jdbcTemplate.update("""
+            INSERT INTO feeds (id, content, created_at, author_id, weather_id)
+            VALUES (?, 'content', now(), ?, ?)
+            """, UUID.randomUUID(), userId, weatherId);
+    }
+
+    private void insertRecommendation(UUID weatherId) {
+        jdbcTemplate.update("""
+            INSERT INTO recommendations (id, user_id, weather_id, created_at)
+            VALUES (?, ?, ?, now())
+            """, UUID.randomUUID(), userId, weatherId);
+    }
+
+    private String partitionOf(UUID weatherId) {
+        List<String> names = jdbcTemplate.queryForList(
+            "SELECT tableoid::regclass::text FROM weathers WHERE id = ?", String.class, weatherId
+        );
+        return names.isEmpty() ? null : names.get(0);
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass('weathers')
+            """, String.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.sprint.otboo.weather.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.sprint.otboo.weather.entity.Weather;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeatherRepositoryImpl 배치 INSERT 결과 해석 테스트")
+class WeatherRepositoryImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @InjectMocks
+    private WeatherRepositoryImpl repository;
+
+    @Test
+    void SUCCESS_NO_INFO면_신규_id가_저장되었는지_다시_확인한다() {
+        // given
+        Weather stored = Weather.builder().id(UUID.randomUUID()).build();
+        Weather skipped = Weather.builder().id(UUID.randomUUID()).build();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class)))
+            .willReturn(new int[][]{{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}});
+        given(jdbcTemplate.queryForList(anyString(), eq(UUID.class), any(Object[].class)))
+            .willReturn(List.of(stored.getId()));
+
+        // when
+        boolean[] inserted = repository.insertIgnoringDuplicates(List.of(stored, skipped));
+
+        // then
+        assertThat(inserted).containsExactly(true, false);
+    }
+
+    @Test
+    void 행별_결과가_있으면_추가_조회하지_않는다() {
+        // given
+        Weather stored = Weather.builder().id(UUID.randomUUID()).build();
+        Weather skipped = Weather.builder().id(UUID.randomUUID()).build();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class)))
+            .willReturn(new int[][]{{1, 0}});
+
+        // when
+        boolean[] inserted = repository.insertIgnoringDuplicates(List.of(stored, skipped));
+
+        // then
+        assertThat(inserted).containsExactly(true, false);
+        then(jdbcTemplate).should().batchUpdate(anyString(), anyList(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        then(jdbcTemplate).shouldHaveNoMoreInteractions();
+    }
+}
@@ -9,11 +9,13 @@ import com.sprint.otboo.weather.entity.PrecipitationType;
 import com.sprint.otboo.weather.entity.SkyStatus;
 import com.sprint.otboo.weather.entity.WindStrength;
 import com.sprint.otboo.weather.entity.Weather;
+import com.sprint.otboo.weather.entity.WeatherDailySummary;
 import com.sprint.otboo.weather.entity.WeatherLocation;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,6 +48,7 @@ class WeatherRepositoryTest {
 
     @Autowired private WeatherRepository weatherRepository;
     @Autowired private WeatherLocationRepository locationRepository;
+    @Autowired private EntityManager em;
 
     private WeatherLocation saveLocation(double lat, double lon, int x, int y, String names) {
         WeatherLocation location = WeatherLocation.builder().build();
@@ -305,4 +308,144 @@ class WeatherRepositoryTest {
         assertThat(weather.getLocation().getId()).isEqualTo(location.getId());
         assertThat(weather.getLocation().getLocationNames()).isEqualTo("Seoul");
     }
+
+    @Test
+    void 배치_INSERT는_이미_있는_발표본을_건너뛰고_신규만_저장한다() {
+        WeatherLocation location = saveLocation(37.5665, 126.9780, 60, 127, "서울특별시 중구");
+        Instant at = Instant.parse("2025-09-26T00:00:00Z");
+        Instant released = Instant.parse("2025-09-25T23:00:00Z");
+        saveWeather(location, at, released);
+
+        Weather duplicate = newWeather(location, at, released);
+        Weather fresh = newWeather(location, at, Instant.parse("2025-09-25T23:30:00Z"));
+
+        boolean[] inserted = weatherRepository.insertIgnoringDuplicates(List.of(duplicate, fresh));
+
+        assertThat(inserted).containsExactly(false, true);
+        List<Weather> list = weatherRepository
+            .findAllByLocationIdAndForecastAtBetweenOrderByForecastAtAscForecastedAtDesc(location.getId(), at, at);
+        assertThat(list).hasSize(2);
+        assertThat(list.get(0).getId()).isEqualTo(fresh.getId());
+    }
+
+    @Test
+    void 이전_발표본_정리는_최신본만_남기고_기준시각_이전은_건드리지_않는다() {
+        WeatherLocation location = saveLocation(37.5665, 126.9780, 60, 127, "서울특별시 중구");
+        Instant past = Instant.parse("2025-09-20T00:00:00Z");
+        Instant target = Instant.parse("2025-09-26T00:00:00Z");
+
+        saveWeather(location, past, Instant.parse("2025-09-19T20:00:00Z"));
+        saveWeather(location, past, Instant.parse("2025-09-19T23:00:00Z"));
+        saveWeather(location, target, Instant.parse("2025-09-25T20:00:00Z"));
+        Weather latest = saveWeather(location, target, Instant.parse("2025-09-25T23:00:00Z"));
+
+        int deleted = weatherRepository.deleteSupersededVersionsSince(Instant.parse("2025-09-25T00:00:00Z"));
+
+        assertThat(deleted).isEqualTo(1);
+        List<Weather> remainAtTarget = weatherRepository
+            .findAllByLocationIdAndForecastAtBetweenOrderByForecastAtAscForecastedAtDesc(location.getId(), target, target);
+        assertThat(remainAtTarget).extracting(Weather::getId).containsExactly(latest.getId());
+        assertThat(weatherRepository.findTop2ByLocationIdAndForecastAtOrderByForecastedAtDesc(location.getId(), past))
+            .hasSize(2);
+    }
+
+    @Test
+    void 일자별_요약을_저장하면_조회_시각의_대표_행만_날짜순으로_조회된다() {
+        WeatherLocation location = saveLocation(37.5665, 126.9780, 60, 127, "서울특별시 중구");
+        Instant released = Instant.parse("2025-09-25T23:00:00Z");
+        Weather day1At9 = saveWeather(location, Instant.parse("2025-09-26T00:00:00Z"), released);   // KST 09시
+        Weather day2At9 = saveWeather(location, Instant.parse("2025-09-27T00:00:00Z"), released);
+        Weather day2At15 = saveWeather(location, Instant.parse("2025-09-27T06:00:00Z"), released);  // KST 15시
+        LocalDate day1 = LocalDate.of(2025, 9, 26);
+        LocalDate day2 = LocalDate.of(2025, 9, 27);
+
+        int written = weatherRepository.upsertDailySummaries(location.getId(), List.of(
+            newSummary(location, 9, day2, day2At9),
+            newSummary(location, 9, day1, day1At9),
+            newSummary(location, 15, day2, day2At15)
+        ));
+
+        assertThat(written).isEqualTo(3);
+        assertThat(weatherRepository.findDailyRepresentatives(location.getId(), 9, day1))
+            .extracting(Weather::getId)
+            .containsExactly(day1At9.getId(), day2At9.getId());
+        assertThat(weatherRepository.findDailyRepresentatives(location.getId(), 15, day1))
+            .extracting(Weather::getId)
+            .containsExactly(day2At15.getId());
+    }
+
+    @Test
+    void 요약_upsert는_대표_행이_바뀐_요약만_갱신한다() {
+        WeatherLocation location = saveLocation(37.5665, 126.9780, 60, 127, "서울특별시 중구");
+        Instant released = Instant.parse("2025-09-25T23:00:00Z");
+        Weather at9 = saveWeather(location, Instant.parse("2025-09-26T00:00:00Z"), released);
+        Weather at12 = saveWeather(location, Instant.parse("2025-09-26T03:00:00Z"), released);
+        LocalDate day = LocalDate.of(2025, 9, 26);
+
+        weatherRepository.upsertDailySummaries(location.getId(), List.of(
+            newSummary(location, 9, day, at9),
+            newSummary(location, 12, day, at12)
+        ));
+
+        // 같은 대표 행은 다시 쓰지 않고, 대표 행이 바뀐 요약만 UPDATE
+        int written = weatherRepository.upsertDailySummaries(location.getId(), List.of(
+            newSummary(location, 9, day, at9),
+            newSummary(location, 12, day, at9)
+        ));
+        em.clear();
+
+        assertThat(written).isEqualTo(1);
+        assertThat(weatherRepository.findDailyRepresentatives(location.getId(), 12, day))
+            .extracting(Weather::getId)
+            .containsExactly(at9.getId());
+    }
+
+    @Test
+    void 파생_값을_행에_기록하면_id로_조회해도_같은_값을_본다() {
+        WeatherLocation location = saveLocation(37.5665, 126.9780, 60, 127, "서울특별시 중구");
+        Weather at9 = saveWeather(location, Instant.parse("2025-09-26T00:00:00Z"), Instant.parse("2025-09-25T23:00:00Z"));
+        LocalDate day = LocalDate.of(2025, 9, 26);
+        weatherRepository.upsertDailySummaries(location.getId(), List.of(newSummary(location, 9, day, at9)));
+
+        weatherRepository.updateDerivedValues(List.of(
+            at9.toBuilder().minC(12.0).maxC(24.5).comparedC(-1.5).comparedPct(3.0).build()
+        ));
+        em.clear();
+
+        Weather byId = weatherRepository.findById(at9.getId()).orElseThrow();
+        assertThat(byId.getMinC()).isEqualTo(12.0);
+        assertThat(byId.getMaxC()).isEqualTo(24.5);
+        assertThat(byId.getComparedC()).isEqualTo(-1.5);
+        assertThat(byId.getComparedPct()).isEqualTo(3.0);
+
+        Weather representative = weatherRepository.findDailyRepresentatives(location.getId(), 9, day).get(0);
+        assertThat(representative.getMinC()).isEqualTo(byId.getMinC());
+        assertThat(representative.getComparedC()).isEqualTo(byId.getComparedC());
+    }
+
+    private WeatherDailySummary newSummary(WeatherLocation location, int hour, LocalDate date, Weather weather) {
+        return WeatherDailySummary.builder()
+            .id(UUID.randomUUID())
+            .createdAt(Instant.now())
+            .location(location)
+            .targetHour(hour)
+            .forecastDate(date)
+            .weather(weather)
+            .build();
+    }
+
+    private Weather newWeather(WeatherLocation location, Instant forecastAt, Instant forecastedAt) {
+        return Weather.builder()
+            .id(UUID.randomUUID())
+            .createdAt(Instant.now())
+            .location(location)
+            .forecastAt(forecastAt)
+            .forecastedAt(forecastedAt)
+            .skyStatus(SkyStatus.CLEAR)
+            .asWord(WindStrength.MODERATE)
+            .type(PrecipitationType.NONE)
+            .currentC(20.0)
+            .probability(0.0)
+            .build();
+    }
 }
@@ -0,0 +1,84 @@
+package com.sprint.otboo.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.otboo.weather.entity.PrecipitationType;
+import com.sprint.otboo.weather.entity.SkyStatus;
+import com.sprint.otboo.weather.entity.Weather;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("WeatherDailySummaryCalculator 테스트")
+class WeatherDailySummaryCalculatorTest {
+
+    private static final Instant RELEASED = Instant.parse("2025-09-25T12:00:00Z");
+
+    @Test
+    void 같은_예보시각은_최신_발표본만_남긴다() {
+        Instant at = Instant.parse("2025-09-26T00:00:00Z");
+        Weather old = weather(at, RELEASED, 20.0, 50.0);
+        Weather latest = weather(at, RELEASED.plusSeconds(3600), 21.0, 50.0);
+
+        List<Weather> out = WeatherDailySummaryCalculator.latestPerForecastAt(List.of(old, latest));
+
+        assertThat(out).containsExactly(latest);
+    }
+
+    @Test
+    void 대표_행은_정시_일치를_우선하고_없으면_가장_가까운_시각을_고른다() {
+        Weather at9 = weather(Instant.parse("2025-09-26T00:00:00Z"), RELEASED, 20.0, 50.0);   // KST 09시
+        Weather at12 = weather(Instant.parse("2025-09-26T03:00:00Z"), RELEASED, 23.0, 40.0);  // KST 12시
+        List<Weather> day = List.of(at9, at12);
+
+        assertThat(WeatherDailySummaryCalculator.representative(day, 12)).isSameAs(at12);
+        assertThat(WeatherDailySummaryCalculator.representative(day, 10)).isSameAs(at9);
+        assertThat(WeatherDailySummaryCalculator.representative(day, 0)).isSameAs(at9);
+    }
+
+    @Test
+    void 파생_값은_일_최저최고와_전일_같은_시각_대비_차이로_계산한다() {
+        List<Weather> latest = List.of(
+            weather(Instant.parse("2025-09-26T00:00:00Z"), RELEASED, 20.0, 50.0),  // 9/26 09시
+            weather(Instant.parse("2025-09-26T06:00:00Z"), RELEASED, 26.0, 40.0),  // 9/26 15시
+            weather(Instant.parse("2025-09-27T00:00:00Z"), RELEASED, 17.0, 60.0),  // 9/27 09시
+            weather(Instant.parse("2025-09-27T06:00:00Z"), RELEASED, 23.0, 45.0)   // 9/27 15시
+        );
+
+        TreeMap<LocalDate, List<Weather>> byDay = WeatherDailySummaryCalculator.withDerivedValues(latest);
+
+        List<Weather> first = byDay.get(LocalDate.of(2025, 9, 26));
+        assertThat(first).allSatisfy(w -> {
+            assertThat(w.getMinC()).isEqualTo(20.0);
+            assertThat(w.getMaxC()).isEqualTo(26.0);
+            assertThat(w.getComparedC()).isNull();
+        });
+
+        List<Weather> second = byDay.get(LocalDate.of(2025, 9, 27));
+        assertThat(second.get(0).getMinC()).isEqualTo(17.0);
+        assertThat(second.get(0).getMaxC()).isEqualTo(23.0);
+        assertThat(second.get(0).getComparedC()).isEqualTo(-3.0);
+        assertThat(second.get(0).getComparedPct()).isEqualTo(10.0);
+        assertThat(second.get(1).getComparedC()).isEqualTo(-3.0);
+        assertThat(second.get(1).getComparedPct()).isEqualTo(5.0);
+        // 원본 id 유지 (요약이 가리키는 행)
+        assertThat(second.get(0).getId()).isEqualTo(latest.get(2).getId());
+    }
+
+    private static Weather weather(Instant forecastAt, Instant forecastedAt, double tempC, double humidity) {
+        return Weather.builder()
+            .id(UUID.randomUUID())
+            .forecastAt(forecastAt)
+            .forecastedAt(forecastedAt)
+            .skyStatus(SkyStatus.CLEAR)
+            .type(PrecipitationType.NONE)
+            .currentC(tempC)
+            .currentPct(humidity)
+            .probability(0.0)
+            .build();
+    }
+}
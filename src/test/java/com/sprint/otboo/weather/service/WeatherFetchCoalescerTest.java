@@ -0,0 +1,137 @@
+package com.sprint.otboo.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.otboo.feedsearch.redis.RedisLockHelper;
+import com.sprint.otboo.weather.entity.Weather;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("WeatherFetchCoalescer 테스트")
+@ExtendWith(MockitoExtension.class)
+class WeatherFetchCoalescerTest {
+
+    @Mock
+    private RedisLockHelper lockHelper;
+
+    private WeatherFetchCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new WeatherFetchCoalescer(lockHelper, 10, 2000);
+    }
+
+    @Test
+    void 같은_위치의_동시_요청은_수집을_한_번만_실행하고_결과를_공유한다() throws Exception {
+        // given
+        given(lockHelper.acquire(anyString(), any(Duration.class))).willReturn("token");
+        UUID locationId = UUID.randomUUID();
+        List<Weather> result = List.of(Weather.builder().build());
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<List<Weather>> leader = pool.submit(() -> coalescer.execute(locationId, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return result;
+            }));
+            started.await(1, TimeUnit.SECONDS);
+
+            List<Future<List<Weather>>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(pool.submit(() -> coalescer.execute(locationId, () -> {
+                    calls.incrementAndGet();
+                    return List.of();
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(leader.get(1, TimeUnit.SECONDS)).isSameAs(result);
+            for (Future<List<Weather>> f : followers) {
+                assertThat(f.get(1, TimeUnit.SECONDS)).isSameAs(result);
+            }
+            assertThat(calls.get()).isEqualTo(1);
+            verify(lockHelper).release(anyString(), any());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 다른_인스턴스가_락을_잡고_있으면_수집하지_않고_빈_결과를_반환한다() {
+        // given
+        given(lockHelper.acquire(anyString(), any(Duration.class))).willReturn(null);
+        given(lockHelper.isHeld(anyString())).willReturn(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        List<Weather> out = coalescer.execute(UUID.randomUUID(), () -> {
+            calls.incrementAndGet();
+            return List.of(Weather.builder().build());
+        });
+
+        // then
+        assertThat(out).isEmpty();
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void Redis_장애시_로컬에서_수집한다() {
+        // given
+        given(lockHelper.acquire(anyString(), any(Duration.class)))
+            .willThrow(new IllegalStateException("redis down"));
+        List<Weather> result = List.of(Weather.builder().build());
+
+        // when
+        List<Weather> out = coalescer.execute(UUID.randomUUID(), () -> result);
+
+        // then
+        assertThat(out).isSameAs(result);
+    }
+
+    @Test
+    void 수집_실패는_호출자에게_전파된다() {
+        // given
+        given(lockHelper.acquire(anyString(), any(Duration.class))).willReturn("token");
+
+        // when & then
+        assertThatThrownBy(() -> coalescer.execute(UUID.randomUUID(), () -> {
+            throw new IllegalStateException("upstream");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(lockHelper).release(anyString(), any());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,16 +2,22 @@ package com.sprint.otboo.weather.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.sprint.otboo.weather.cache.WeatherLocationAccessTracker;
+import com.sprint.otboo.weather.cache.WeatherLocationGridIndex;
+import com.sprint.otboo.weather.cache.WeatherLocationGridIndex.Cell;
 import com.sprint.otboo.weather.dto.response.WeatherLocationResponse;
 import com.sprint.otboo.weather.entity.WeatherLocation;
-import com.sprint.otboo.weather.mapper.WeatherMapper;
-import com.sprint.otboo.weather.repository.WeatherLocationRepository;
-import java.math.BigDecimal;
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,82 +30,54 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class WeatherLocationQueryServiceTest {
 
     @Mock
-    private WeatherLocationRepository repo;
+    private WeatherLocationGridIndex gridIndex;
 
     @Mock
     private LocationNameResolver resolver;
 
     @Mock
-    private WeatherMapper mapper;
+    private WeatherLocationAccessTracker accessTracker;
 
     private WeatherLocationQueryService service;
 
     @BeforeEach
     void setUp() {
-        service = new WeatherLocationQueryServiceImpl(repo, resolver, mapper);
+        service = new WeatherLocationQueryServiceImpl(gridIndex, resolver, accessTracker);
     }
 
     @Test
-    void 저장된_위치가_있으면_DB_저장값으로_응답해야_한다() {
-        // given: (lat,lon) 선조회가 Optional.of(...)를 반환
-        WeatherLocation wl = WeatherLocation.builder().build();
-        wl.setLatitude(new BigDecimal("37.5665"));
-        wl.setLongitude(new BigDecimal("126.9780"));
-        wl.setX(60);
-        wl.setY(127);
-        wl.setLocationNames("서울특별시 중구 태평로1가");
-        wl.setCreatedAt(Instant.now());
-
-        given(repo.findFirstByLatitudeAndLongitude(any(BigDecimal.class), any(BigDecimal.class)))
-            .willReturn(Optional.of(wl));
-
-        given(mapper.toLocationResponse(any(WeatherLocation.class))).willAnswer(inv -> {
-            WeatherLocation e = inv.getArgument(0);
-            List<String> names = (e.getLocationNames() == null || e.getLocationNames().isBlank())
-                ? List.of()
-                : List.of(e.getLocationNames().split("\\s+"));
-            return new WeatherLocationResponse(
-                e.getLatitude().doubleValue(),
-                e.getLongitude().doubleValue(),
-                e.getX(), e.getY(), names
-            );
-        });
+    void 격자_인덱스에_있으면_저장된_위치로_응답해야_한다() {
+        // given: 서울 시청 인근 격자(60,127)가 인덱스에 존재
+        WeatherLocationResponse stored = new WeatherLocationResponse(
+            37.5665, 126.9780, 60, 127, List.of("서울특별시", "중구", "태평로1가"));
+        UUID locationId = UUID.randomUUID();
+        given(gridIndex.find(60, 127)).willReturn(Optional.of(new Cell(locationId, stored)));
 
         // when
         WeatherLocationResponse dto = service.getWeatherLocation(37.5665, 126.9780);
 
-        // then
-        assertThat(dto.x()).isEqualTo(60);
-        assertThat(dto.y()).isEqualTo(127);
-        assertThat(dto.locationNames()).containsExactly("서울특별시", "중구", "태평로1가");
+        // then: 조회 기록(배치 갱신 주기 판단용)도 남긴다
+        assertThat(dto).isSameAs(stored);
+        verify(accessTracker).recordAccess(locationId);
+        verify(gridIndex, never()).getOrCreate(anyInt(), anyInt(), any());
+        verify(resolver, never()).resolve(anyDouble(), anyDouble());
     }
 
     @Test
-    void 저장된_위치가_없으면_격자_선조회후_미존재시_Resolver_결과로_신규저장한_응답이어야_한다() {
-        // given: (lat,lon) 조회 = empty
-        given(repo.findFirstByLatitudeAndLongitude(any(BigDecimal.class), any(BigDecimal.class)))
-            .willReturn(Optional.empty());
-
-        // given: (x,y) 조회도 empty → 신규 저장 경로
-        given(repo.findFirstByXAndY(60, 127)).willReturn(Optional.empty());
-
-        // given: resolver 정상 동작
+    @SuppressWarnings("unchecked")
+    void 격자_인덱스에_없으면_Resolver_결과로_신규_위치를_생성해야_한다() {
+        // given: 인덱스 MISS → getOrCreate가 factory로 엔티티 생성
+        given(gridIndex.find(60, 127)).willReturn(Optional.empty());
         given(resolver.resolve(37.5665, 126.9780))
             .willReturn(List.of("서울특별시", "중구", "태평로1가"));
-
-        // 저장되는 엔티티를 그대로 돌려주도록 스텁(간단화)
-        given(repo.save(any(WeatherLocation.class))).willAnswer(invocation -> invocation.getArgument(0));
-
-        given(mapper.toLocationResponse(any(WeatherLocation.class))).willAnswer(inv -> {
-            WeatherLocation e = inv.getArgument(0);
-            List<String> names = (e.getLocationNames() == null || e.getLocationNames().isBlank())
-                ? List.of()
-                : List.of(e.getLocationNames().split("\\s+"));
-            return new WeatherLocationResponse(
+        given(gridIndex.getOrCreate(eq(60), eq(127), any())).willAnswer(inv -> {
+            WeatherLocation e = ((Supplier<WeatherLocation>) inv.getArgument(2)).get();
+            return new Cell(UUID.randomUUID(), new WeatherLocationResponse(
                 e.getLatitude().doubleValue(),
                 e.getLongitude().doubleValue(),
-                e.getX(), e.getY(), names
-            );
+                e.getX(), e.getY(),
+                List.of(e.getLocationNames().split("\\s+"))
+            ));
         });
 
         // when
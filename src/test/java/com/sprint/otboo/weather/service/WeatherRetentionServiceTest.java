@@ -0,0 +1,76 @@
+package com.sprint.otboo.weather.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.otboo.weather.repository.WeatherPartitionRepository;
+import com.sprint.otboo.weather.repository.WeatherRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeatherRetentionService 테스트")
+class WeatherRetentionServiceTest {
+
+    @Mock private WeatherPartitionRepository partitionRepository;
+    @Mock private WeatherRepository weatherRepository;
+
+    private WeatherRetentionService service;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        service = new WeatherRetentionService(partitionRepository, weatherRepository, 7, 2);
+        today = Instant.now().atZone(ZoneId.of("Asia/Seoul")).toLocalDate();
+    }
+
+    @Test
+    void 파티션_환경에서는_보존기간이_지난_일_파티션만_삭제하고_부족한_미래_파티션을_만든다() {
+        // given: 8일 전(만료), 7일 전(보존), 어제~오늘만 존재
+        given(partitionRepository.isPartitioned()).willReturn(true);
+        given(partitionRepository.findDailyPartitionDays()).willReturn(List.of(
+            today.minusDays(8), today.minusDays(7), today.minusDays(1), today
+        ));
+        given(partitionRepository.createDailyPartition(any())).willReturn(true);
+
+        // when
+        service.runRetention();
+
+        // then
+        verify(partitionRepository).archiveAndDropDailyPartition(today.minusDays(8));
+        verify(partitionRepository, never()).archiveAndDropDailyPartition(today.minusDays(7));
+        verify(partitionRepository).createDailyPartition(today.plusDays(1));
+        verify(partitionRepository).createDailyPartition(today.plusDays(2));
+        verify(partitionRepository, times(2)).createDailyPartition(any());
+        verify(partitionRepository).countDanglingWeatherReferences();
+        verify(weatherRepository, never()).deletePastForecastsBefore(any());
+        verify(weatherRepository).deleteDailySummariesBefore(today.minusDays(7));
+    }
+
+    @Test
+    void 파티션이_없는_환경에서는_기준시각_이전_행을_삭제한다() {
+        // given
+        given(partitionRepository.isPartitioned()).willReturn(false);
+
+        // when
+        service.runRetention();
+
+        // then
+        Instant cutoff = today.minusDays(7).atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant();
+        verify(weatherRepository).deletePastForecastsBefore(cutoff);
+        verify(partitionRepository, never()).createDailyPartition(any());
+        verify(partitionRepository, never()).archiveAndDropDailyPartition(any());
+        verify(partitionRepository, never()).countDanglingWeatherReferences();
+    }
+}
@@ -9,7 +9,6 @@ import com.sprint.otboo.weather.repository.WeatherLocationRepository;
 import com.sprint.otboo.weather.repository.WeatherRepository;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
-import java.time.Instant;
 import java.util.*;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
@@ -106,20 +105,6 @@ class WeatherServiceImplTest {
         }).isInstanceOf(RuntimeException.class);
     }
 
-    @Test
-    void key_메서드는_null과_값이_있는_경우를_구분한다() throws Exception {
-        Class<?> impl = Class.forName("com.sprint.otboo.weather.service.WeatherServiceImpl");
-        Method key = declared(impl, "key", Instant.class, Instant.class);
-
-        String k1 = (String) key.invoke(null, Instant.parse("2025-01-01T00:00:00Z"), null);
-        String k2 = (String) key.invoke(null,
-            Instant.parse("2025-01-01T00:00:00Z"),
-            Instant.parse("2025-01-02T03:00:00Z"));
-
-        Assertions.assertThat(k1).isEqualTo("2025-01-01T00:00:00Z|");
-        Assertions.assertThat(k2).isEqualTo("2025-01-01T00:00:00Z|2025-01-02T03:00:00Z");
-    }
-
     // ===== helpers =====
 
     private static Object wrapHit(Class<?> returnType, Object element) {
@@ -2,12 +2,17 @@ package com.sprint.otboo.weather.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sprint.otboo.weather.cache.WeatherForecastCache;
+import com.sprint.otboo.weather.cache.WeatherLocationGridIndex;
 import com.sprint.otboo.weather.dto.data.WeatherDto;
 import com.sprint.otboo.weather.dto.response.WeatherLocationResponse;
 import com.sprint.otboo.weather.entity.PrecipitationType;
@@ -26,16 +31,19 @@ import com.sprint.otboo.weather.mapper.WeatherMapper;
 import com.sprint.otboo.weather.repository.WeatherLocationRepository;
 import com.sprint.otboo.weather.repository.WeatherRepository;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,15 +52,20 @@ class WeatherServiceTest {
 
     @Mock private WeatherLocationQueryService locationQueryService;
     @Mock private WeatherLocationRepository locationRepository;
+    @Mock private WeatherLocationGridIndex gridIndex;
     @Mock private WeatherRepository weatherRepository;
     @Mock private WeatherMapper weatherMapper;
     @Mock private WeatherDataClient weatherDataClient; // OWM 목
+    @Spy private WeatherForecastCache forecastCache = new WeatherForecastCache("0 30 * * * *", 10);
+    @Mock private WeatherFetchCoalescer fetchCoalescer;
+    @Mock private WeatherSnapshotWriter snapshotWriter;
+    @Mock private WeatherDailySummaryWriter summaryWriter;
 
     @InjectMocks
     private WeatherServiceImpl weatherService;
 
     @Test
-    void 위경도_입력시_OWM이_비면_캐시로_폴백하여_DTO_1건을_반환한다() {
+    void 저장소에_최신_수집본이_있으면_OWM을_호출하지_않고_DTO를_반환한다() {
         // given: 위치/좌표
         double lat = 37.5665, lon = 126.9780;
         when(locationQueryService.getWeatherLocation(lat, lon))
@@ -63,10 +76,7 @@ class WeatherServiceTest {
         location.setX(60); location.setY(127);
         when(locationRepository.findFirstByXAndY(60, 127)).thenReturn(Optional.of(location));
 
-        // OWM → 빈 목록(폴백 유도)
-        when(weatherDataClient.fetch(eq(lat), eq(lon), any())).thenReturn(List.of());
-
-        // 캐시(저장소)에서 최근 범위 1건 반환
+        // 배치가 방금 수집·요약한 최신 대표 행이 저장소에 존재
         Instant now = Instant.now();
         Weather cached = Weather.builder()
             .location(location)
@@ -77,7 +87,7 @@ class WeatherServiceTest {
             .currentC(22.0)
             .probability(10.0)
             .build();
-        when(weatherRepository.findRangeOrdered(eq(location.getId()), any(), any()))
+        when(weatherRepository.findDailyRepresentatives(eq(location.getId()), anyInt(), any()))
             .thenReturn(List.of(cached));
 
         when(weatherMapper.toWeatherDto(any(Weather.class)))
@@ -86,12 +96,15 @@ class WeatherServiceTest {
         // when
         List<WeatherDto> out = weatherService.getWeather(lat, lon);
 
-        // then
+        // then: 읽기 경로에서는 저장(쓰기)이 일어나지 않는다
         assertThat(out).hasSize(1);
+        verify(weatherDataClient, never()).fetch(anyDouble(), anyDouble(), any());
+        verify(weatherRepository, never()).saveAll(anyList());
+        verify(summaryWriter, never()).refreshAndCommit(any());
     }
 
     @Test
-    void 동일_스냅샷이_이미_존재해도_캐시_폴백으로_DTO_1건을_반환한다() {
+    void 저장소가_오래되어_OWM을_호출했지만_비면_저장소로_폴백하여_DTO_1건을_반환한다() {
         // given: 위치/좌표
         double lat = 35.1796, lon = 129.0756;
         when(locationQueryService.getWeatherLocation(lat, lon))
@@ -103,20 +116,22 @@ class WeatherServiceTest {
         when(locationRepository.findFirstByXAndY(98, 76)).thenReturn(Optional.of(location));
 
         // OWM → 빈 목록(항상 폴백)
+        when(fetchCoalescer.execute(eq(location.getId()), any()))
+            .thenAnswer(inv -> inv.<Supplier<List<Weather>>>getArgument(1).get());
         when(weatherDataClient.fetch(eq(lat), eq(lon), any())).thenReturn(List.of());
 
-        // 캐시에서 1건 반환
+        // 요약에는 이전 주기에 수집된 대표 1건만 존재
         Instant now = Instant.now();
         Weather cached = Weather.builder()
             .location(location)
             .forecastAt(now.plusSeconds(7200))
-            .forecastedAt(now.plusSeconds(300))
+            .forecastedAt(now.minus(3, ChronoUnit.HOURS))
             .skyStatus(SkyStatus.MOSTLY_CLOUDY)
             .type(PrecipitationType.NONE)
             .currentC(24.0)
             .probability(0.0)
             .build();
-        when(weatherRepository.findRangeOrdered(eq(location.getId()), any(), any()))
+        when(weatherRepository.findDailyRepresentatives(eq(location.getId()), anyInt(), any()))
             .thenReturn(List.of(cached));
 
         when(weatherMapper.toWeatherDto(any(Weather.class)))
@@ -127,5 +142,45 @@ class WeatherServiceTest {
 
         // then
         assertThat(out).hasSize(1);
+        verify(weatherDataClient).fetch(eq(lat), eq(lon), any());
+        verify(snapshotWriter, never()).persistDedup(any(), anyList());
+        verify(summaryWriter, never()).refreshAndCommit(any());
+    }
+
+    @Test
+    void 같은_격자_재요청시_캐시에서_반환하고_저장소를_다시_조회하지_않는다() {
+        // given
+        double lat = 37.5665, lon = 126.9780;
+        when(locationQueryService.getWeatherLocation(lat, lon))
+            .thenReturn(new WeatherLocationResponse(lat, lon, 60, 127, List.of("서울특별시", "중구")));
+
+        WeatherLocation location = WeatherLocation.builder().build();
+        location.setId(UUID.randomUUID());
+        location.setX(60); location.setY(127);
+        when(locationRepository.findFirstByXAndY(60, 127)).thenReturn(Optional.of(location));
+
+        Instant now = Instant.now();
+        Weather stored = Weather.builder()
+            .location(location)
+            .forecastAt(now.plusSeconds(3600))
+            .forecastedAt(now)
+            .skyStatus(SkyStatus.CLEAR)
+            .type(PrecipitationType.NONE)
+            .currentC(22.0)
+            .probability(10.0)
+            .build();
+        when(weatherRepository.findDailyRepresentatives(eq(location.getId()), anyInt(), any()))
+            .thenReturn(List.of(stored));
+        when(weatherMapper.toWeatherDto(any(Weather.class)))
+            .thenReturn(new WeatherDto(UUID.randomUUID(), now, now, null, "CLEAR", null, null, null, null));
+
+        // when
+        List<WeatherDto> first = weatherService.getWeather(lat, lon);
+        List<WeatherDto> second = weatherService.getWeather(lat, lon);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(weatherRepository, times(1)).findDailyRepresentatives(eq(location.getId()), anyInt(), any());
+        verify(weatherDataClient, never()).fetch(anyDouble(), anyDouble(), any());
     }
 }
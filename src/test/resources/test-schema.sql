@@ -15,6 +15,7 @@ DROP TABLE IF EXISTS user_profiles CASCADE;
 DROP TABLE IF EXISTS direct_messages CASCADE;
 DROP TABLE IF EXISTS follows CASCADE;
 DROP TABLE IF EXISTS notifications CASCADE;
+DROP TABLE IF EXISTS weather_daily_summaries CASCADE;
 DROP TABLE IF EXISTS weathers CASCADE;
 DROP TABLE IF EXISTS weather_locations CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
@@ -89,6 +90,20 @@ CREATE TABLE IF NOT EXISTS weathers
     CONSTRAINT uq_weathers_loc_target_ver UNIQUE (location_id, forecast_at, forecasted_at)
 );
 
+-- 일자별 대표 예보(배치 산출). 조회 시각(KST 시)별로 날짜마다 대표 행을 가리킨다 (파생 값은 weathers 행에 기록)
+CREATE TABLE IF NOT EXISTS weather_daily_summaries
+(
+    id            UUID PRIMARY KEY,
+    created_at    TIMESTAMPTZ NOT NULL,
+    location_id   UUID        NOT NULL,
+    target_hour   INTEGER     NOT NULL,
+    forecast_date DATE        NOT NULL,
+    weather_id    UUID        NOT NULL,
+    CONSTRAINT ck_weather_daily_summaries_hour CHECK (target_hour BETWEEN 0 AND 23),
+    CONSTRAINT fk_weather_daily_summaries_location FOREIGN KEY (location_id) REFERENCES weather_locations (id) ON DELETE CASCADE,
+    CONSTRAINT uq_weather_daily_summaries_loc_hour_date UNIQUE (location_id, target_hour, forecast_date)
+);
+
 -- 3) User Profiles & OAuth
 CREATE TABLE IF NOT EXISTS user_profiles
 (
@@ -155,8 +170,8 @@ CREATE TABLE IF NOT EXISTS feeds
     author_id     UUID        NOT NULL,
     weather_id    UUID        NOT NULL,
     deleted       BOOLEAN     NOT NULL DEFAULT false,
-    CONSTRAINT fk_feeds_author FOREIGN KEY (author_id) REFERENCES users (id) ON DELETE CASCADE,
-    CONSTRAINT fk_feeds_weather FOREIGN KEY (weather_id) REFERENCES weathers (id)
+    -- 운영 스키마와 동일하게 weather_id FK 없음 (weathers는 운영에서 파티션 테이블)
+    CONSTRAINT fk_feeds_author FOREIGN KEY (author_id) REFERENCES users (id) ON DELETE CASCADE
 );
 
 CREATE TABLE IF NOT EXISTS comments
@@ -198,8 +213,8 @@ CREATE TABLE IF NOT EXISTS recommendations
     user_id    UUID        NOT NULL,
     weather_id UUID        NOT NULL,
     created_at TIMESTAMP NOT NULL,
-    CONSTRAINT fk_recommendations_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
-    CONSTRAINT fk_recommendations_weather FOREIGN KEY (weather_id) REFERENCES weathers (id)
+    -- 운영 스키마와 동일하게 weather_id FK 없음 (weathers는 운영에서 파티션 테이블)
+    CONSTRAINT fk_recommendations_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
 );
 
 CREATE TABLE IF NOT EXISTS recommendation_clothes